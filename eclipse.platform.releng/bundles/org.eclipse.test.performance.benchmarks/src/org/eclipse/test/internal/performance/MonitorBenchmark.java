@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of taking a snapshot of the operating system counters, which is paid twice per measured iteration. This benchmark is in
+ * the package of the monitors since they are not public.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonitorBenchmark {
+
+    private PerformanceMonitor fMonitor;
+    private long[]             fCounters;
+    private OSPerformanceMeter fMeter;
+
+    @Setup
+    public void setUp() {
+        fMonitor = PerformanceMonitor.getPerformanceMonitor();
+        fCounters = new long[fMonitor.getCounterDimensions().length];
+    }
+
+    @Setup(Level.Iteration)
+    public void createMeter() {
+        fMeter = new OSPerformanceMeter("benchmark"); //$NON-NLS-1$
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeMeter() {
+        fMeter.dispose();
+    }
+
+    /**
+     * The counters collected into a map of scalars, as by {@link OSPerformanceMeter}.
+     */
+    @Benchmark
+    public HashMap<Dim, Scalar> collectOperatingSystemCounters() {
+        HashMap<Dim, Scalar> scalars = new HashMap<>();
+        fMonitor.collectOperatingSystemCounters(scalars);
+        return scalars;
+    }
+
+    /**
+     * The counters collected into an array without allocating, as by the columnar meters.
+     */
+    @Benchmark
+    public long[] collectOperatingSystemCountersIntoArray() {
+        fMonitor.collectOperatingSystemCounters(fCounters, 0);
+        return fCounters;
+    }
+
+    /**
+     * A measured iteration of an empty scenario.
+     */
+    @Benchmark
+    public void startStop() {
+        fMeter.start();
+        fMeter.stop();
+    }
+}
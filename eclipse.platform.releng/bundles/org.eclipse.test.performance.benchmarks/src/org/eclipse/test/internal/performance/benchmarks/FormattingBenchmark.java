@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.Unit;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The cost of the string conversions done for every stored sample and every reported value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormattingBenchmark {
+
+    private Variations fVariations;
+
+    @Setup
+    public void setUp() {
+        fVariations = new Variations();
+        fVariations.put(PerformanceTestPlugin.CONFIG, "linux.gtk.x86_64"); //$NON-NLS-1$
+        fVariations.put(PerformanceTestPlugin.BUILD, "I20260101-1800"); //$NON-NLS-1$
+        fVariations.put("jvm", "17"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * The key of the variations of a sample, as used by the database, the raw data files and the reference store.
+     */
+    @Benchmark
+    public String toExactMatchString() {
+        return fVariations.toExactMatchString();
+    }
+
+    /**
+     * A sub-millisecond time, a time, a byte count and a count formatted for display.
+     */
+    @Benchmark
+    public void getDisplayValue1(Blackhole blackhole) {
+        blackhole.consume(Unit.SECOND.getDisplayValue1(0.000125));
+        blackhole.consume(Unit.SECOND.getDisplayValue1(83.25));
+        blackhole.consume(Unit.BYTE.getDisplayValue1(123456789));
+        blackhole.consume(Unit.CARDINAL.getDisplayValue1(4200));
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.benchmarks;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.RawDataWriter;
+import org.eclipse.test.internal.performance.data.ResultsData;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of importing the raw data file of a build for the results table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultsDataBenchmark {
+
+    private static final String CURRENT    = "I20260102-1800"; //$NON-NLS-1$
+    private static final String BASELINE   = "R-4.33-202409030240"; //$NON-NLS-1$
+    private static final int    ITERATIONS = 20;
+
+    @Param({ "100", "2000" })
+    public int                  scenarios;
+
+    private Path                fFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        fFile = Files.createTempFile("benchmark", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try (RawDataWriter writer = new RawDataWriter(new BufferedOutputStream(new FileOutputStream(fFile.toFile())))) {
+            for (String build : new String[] { CURRENT, BASELINE }) {
+                Variations variations = new Variations();
+                variations.put(PerformanceTestPlugin.CONFIG, "linux.gtk.x86_64"); //$NON-NLS-1$
+                variations.put(PerformanceTestPlugin.BUILD, build);
+                String key = variations.toExactMatchString();
+                for (int i = 0; i < scenarios; i++) {
+                    String scenarioId = "org.eclipse.jdt.text.tests.performance.Scenario" + i; //$NON-NLS-1$
+                    writer.write(scenarioId, key, Samples.create(scenarioId, ITERATIONS, i));
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(fFile);
+    }
+
+    @Benchmark
+    public ResultsData importData() {
+        ResultsData results = new ResultsData(CURRENT, BASELINE);
+        results.importData(fFile);
+        return results;
+    }
+}
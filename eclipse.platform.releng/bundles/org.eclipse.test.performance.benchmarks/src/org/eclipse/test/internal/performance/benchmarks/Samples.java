@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+
+/**
+ * Creates deterministic samples shaped like those of the OS performance meter.
+ */
+final class Samples {
+
+    static final Dim[] DIMENSIONS = { InternalDimensions.CPU_TIME, InternalDimensions.ELAPSED_PROCESS,
+            InternalDimensions.KERNEL_TIME, InternalDimensions.USED_JAVA_HEAP, InternalDimensions.WORKING_SET,
+            InternalDimensions.SOFT_PAGE_FAULTS, InternalDimensions.SYSTEM_TIME };
+
+    private Samples() {
+        // static only
+    }
+
+    /**
+     * @param scenarioId
+     *            the scenario id
+     * @param iterations
+     *            the number of before/after pairs
+     * @param seed
+     *            the seed of the values
+     * @return the sample
+     */
+    static Sample create(String scenarioId, int iterations, long seed) {
+        return new Sample(scenarioId, 0, new HashMap<>(), createDataPoints(iterations, seed));
+    }
+
+    static DataPoint[] createDataPoints(int iterations, long seed) {
+        Random random = new Random(seed);
+        DataPoint[] dataPoints = new DataPoint[iterations * 2];
+        long[] values = new long[DIMENSIONS.length];
+        for (int i = 0; i < iterations; i++) {
+            dataPoints[2 * i] = createDataPoint(InternalPerformanceMeter.BEFORE, values);
+            for (int j = 0; j < values.length; j++)
+                values[j] += 100 + random.nextInt(20);
+            dataPoints[2 * i + 1] = createDataPoint(InternalPerformanceMeter.AFTER, values);
+        }
+        return dataPoints;
+    }
+
+    private static DataPoint createDataPoint(int step, long[] values) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        for (int i = 0; i < DIMENSIONS.length; i++)
+            scalars.put(DIMENSIONS[i], new Scalar(DIMENSIONS[i], values[i]));
+        return new DataPoint(step, scalars);
+    }
+}
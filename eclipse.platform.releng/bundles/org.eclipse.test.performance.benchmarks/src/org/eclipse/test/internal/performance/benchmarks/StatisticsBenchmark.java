@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of the statistics of large samples, as computed by every evaluation and report.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int          iterations;
+
+    private DataPoint[] fDataPoints;
+    private Sample[]    fSamples;
+
+    @Setup
+    public void setUp() {
+        fDataPoints = Samples.createDataPoints(iterations, 1);
+        fSamples = new Sample[10];
+        for (int i = 0; i < fSamples.length; i++)
+            fSamples[i] = Samples.create("scenario", iterations / fSamples.length, i); //$NON-NLS-1$
+    }
+
+    /**
+     * The statistics of the data points of one sample.
+     */
+    @Benchmark
+    public double dataPoints() {
+        return summarize(new StatisticsSession(fDataPoints));
+    }
+
+    /**
+     * The statistics pooled over several samples, as for the reference data of a scenario.
+     */
+    @Benchmark
+    public double samples() {
+        return summarize(new StatisticsSession(fSamples));
+    }
+
+    private static double summarize(StatisticsSession session) {
+        double sum = 0;
+        for (Dim dimension : Samples.DIMENSIONS)
+            sum += session.getAverage(dimension) + session.getStddev(dimension);
+        return sum;
+    }
+}
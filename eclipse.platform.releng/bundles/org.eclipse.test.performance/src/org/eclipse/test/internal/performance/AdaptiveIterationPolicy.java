@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+/**
+ * Decides how often a scenario is run. The scenario first runs warm-up iterations until at least the minimum number of warm-up
+ * iterations is done and the coefficient of variation of the last iterations drops below a threshold (steady state), or until the
+ * maximum number of warm-up iterations is reached. Measured iterations then run until the number of measurements is large enough
+ * to detect an effect of the given relative size, see {@link InternalPerformanceMeter#getRequiredSampleSize(double, double, double)},
+ * bounded by a minimum and maximum number of iterations.
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <pre>
+ * AdaptiveIterationPolicy policy = new AdaptiveIterationPolicy(5, 50, 5, 0.1, 5, 50, 0.05);
+ * policy.run(performanceMeter, () -&gt; myOperation());
+ * performanceMeter.commit();
+ * </pre>
+ *
+ * @since 3.21
+ */
+public class AdaptiveIterationPolicy {
+
+    /**
+     * One iteration of a scenario.
+     */
+    public interface Iteration {
+        void run() throws Throwable;
+    }
+
+    private final int      fMinWarmup;
+    private final int      fMaxWarmup;
+    private final double   fMaxCoefficientOfVariation;
+    private final int      fMinIterations;
+    private final int      fMaxIterations;
+    private final double   fRelativeEffect;
+
+    /** ring buffer with the durations of the last warm-up iterations */
+    private final double[] fWindow;
+    private int            fWarmupCount;
+    private boolean        fSteady;
+
+    private int            fCount;
+    private double         fMean;
+    private double         fM2;
+
+    /**
+     * @param minWarmup
+     *            the minimum number of warm-up iterations
+     * @param maxWarmup
+     *            the maximum number of warm-up iterations, when reached the measurement starts even without steady state
+     * @param window
+     *            the number of recent warm-up iterations used to determine the steady state
+     * @param maxCoefficientOfVariation
+     *            the coefficient of variation (stdev / mean) of the window below which the scenario is considered steady
+     * @param minIterations
+     *            the minimum number of measured iterations
+     * @param maxIterations
+     *            the maximum number of measured iterations
+     * @param relativeEffect
+     *            the effect relative to the mean that the measurements must be able to detect, e.g. <code>0.05</code>
+     */
+    public AdaptiveIterationPolicy(int minWarmup, int maxWarmup, int window, double maxCoefficientOfVariation, int minIterations,
+            int maxIterations, double relativeEffect) {
+        if (window < 2)
+            throw new IllegalArgumentException("window must be at least 2"); //$NON-NLS-1$
+        if (minIterations < 1 || maxIterations < minIterations)
+            throw new IllegalArgumentException("invalid iteration bounds: " + minIterations + ", " + maxIterations); //$NON-NLS-1$ //$NON-NLS-2$
+        fMinWarmup = Math.max(minWarmup, 0);
+        fMaxWarmup = Math.max(maxWarmup, fMinWarmup);
+        fWindow = new double[window];
+        fMaxCoefficientOfVariation = maxCoefficientOfVariation;
+        fMinIterations = minIterations;
+        fMaxIterations = maxIterations;
+        fRelativeEffect = relativeEffect;
+    }
+
+    /**
+     * Returns whether the next iteration is a warm-up iteration, i.e. must not be measured.
+     *
+     * @return <code>true</code> while warming up
+     */
+    public boolean isWarmingUp() {
+        if (fCount > 0 || fWarmupCount >= fMaxWarmup)
+            return false;
+        return fWarmupCount < fMinWarmup || !fSteady;
+    }
+
+    /**
+     * Returns whether no more iterations are needed.
+     *
+     * @return <code>true</code> if done
+     */
+    public boolean isDone() {
+        if (isWarmingUp() || fCount < fMinIterations)
+            return false;
+        if (fCount >= fMaxIterations)
+            return true;
+        double stdev = getStddev();
+        if (stdev == 0)
+            return true;
+        return fCount >= InternalPerformanceMeter.getRequiredSampleSize(fMean, stdev, fRelativeEffect);
+    }
+
+    /**
+     * Records the duration of an iteration.
+     *
+     * @param duration
+     *            the duration, in any unit
+     */
+    public void record(double duration) {
+        if (isWarmingUp()) {
+            fWindow[fWarmupCount % fWindow.length] = duration;
+            fWarmupCount++;
+            fSteady = fWarmupCount >= fWindow.length && getCoefficientOfVariation(fWindow) <= fMaxCoefficientOfVariation;
+        } else {
+            // Welford's online algorithm
+            fCount++;
+            double delta = duration - fMean;
+            fMean += delta / fCount;
+            fM2 += delta * (duration - fMean);
+        }
+    }
+
+    /**
+     * Runs <code>iteration</code> until this policy is done. Iterations after the warm-up are measured with <code>meter</code>.
+     *
+     * @param meter
+     *            the performance meter, it is neither committed nor disposed
+     * @param iteration
+     *            the iteration to run
+     * @throws Throwable
+     *             if an iteration fails
+     */
+    public void run(PerformanceMeter meter, Iteration iteration) throws Throwable {
+        while (!isDone()) {
+            boolean measured = !isWarmingUp();
+            if (measured)
+                meter.start();
+            long start = System.nanoTime();
+            iteration.run();
+            long duration = System.nanoTime() - start;
+            if (measured)
+                meter.stop();
+            record(duration);
+        }
+    }
+
+    /**
+     * Returns whether the warm-up ended in steady state rather than by reaching the maximum number of warm-up iterations.
+     *
+     * @return <code>true</code> if a steady state was reached
+     */
+    public boolean reachedSteadyState() {
+        return fSteady;
+    }
+
+    public int getWarmupCount() {
+        return fWarmupCount;
+    }
+
+    public int getCount() {
+        return fCount;
+    }
+
+    public double getMean() {
+        return fMean;
+    }
+
+    public double getStddev() {
+        return fCount > 1 ? Math.sqrt(fM2 / (fCount - 1)) : 0;
+    }
+
+    static double getCoefficientOfVariation(double[] values) {
+        double sum = 0;
+        for (double value : values)
+            sum += value;
+        double mean = sum / values.length;
+        if (mean == 0)
+            return 0;
+        double squares = 0;
+        for (double value : values)
+            squares += (value - mean) * (value - mean);
+        return Math.sqrt(squares / (values.length - 1)) / Math.abs(mean);
+    }
+}
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.db.Variations;
+
+/**
+ * Writes samples to other sinks in a background thread, so that committing a performance meter does not block on I/O. Samples are
+ * kept in a bounded queue; when it is full, {@link #write(String, Variations, Sample)} blocks until the writer thread has caught
+ * up. The writer thread takes the queued samples in batches and flushes the sinks after each batch. Pending samples are written
+ * when the sink is closed, at the latest in a shutdown hook.
+ * <p>
+ * Errors of the underlying sinks are logged and do not fail the test.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class AsyncResultSink implements IResultSink {
+
+    public static final int             DEFAULT_CAPACITY = 1024;
+
+    private static final int            MAX_BATCH_SIZE   = 64;
+    private static final long           SHUTDOWN_TIMEOUT = 10000;
+
+    private static final class Entry {
+        final String         fScenarioId;
+        final Variations     fVariations;
+        final Sample         fSample;
+        final CountDownLatch fFlushed;
+
+        Entry(String scenarioId, Variations variations, Sample sample, CountDownLatch flushed) {
+            fScenarioId = scenarioId;
+            fVariations = variations;
+            fSample = sample;
+            fFlushed = flushed;
+        }
+
+        boolean isMarker() {
+            return fSample == null;
+        }
+    }
+
+    private final IResultSink[]         fSinks;
+    private final BlockingQueue<Entry>  fQueue;
+    private final Thread                fWriter;
+    private final Thread                fShutdownHook;
+    /** Taken to enqueue, so that no entry is enqueued after the end marker. */
+    private final ReentrantLock         fPutLock         = new ReentrantLock();
+    private boolean                     fClosed;
+
+    /**
+     * @param sinks
+     *            the sinks the samples are written to
+     * @param capacity
+     *            the maximum number of queued samples
+     */
+    public AsyncResultSink(IResultSink[] sinks, int capacity) {
+        fSinks = sinks.clone();
+        fQueue = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        fWriter = new Thread(this::drain, "Performance result writer"); //$NON-NLS-1$
+        fWriter.setDaemon(true);
+        fWriter.start();
+        fShutdownHook = new Thread(this::closeQuietly, "Performance result writer shutdown"); //$NON-NLS-1$
+        Runtime.getRuntime().addShutdownHook(fShutdownHook);
+    }
+
+    @Override
+    public void write(String scenarioId, Variations variations, Sample sample) throws IOException {
+        if (sample == null)
+            throw new IllegalArgumentException();
+        put(new Entry(scenarioId, variations, sample, null));
+    }
+
+    /**
+     * Waits until all samples written so far have been passed to the sinks and the sinks have been flushed.
+     */
+    @Override
+    public void flush() throws IOException {
+        CountDownLatch flushed = new CountDownLatch(1);
+        put(new Entry(null, null, null, flushed));
+        try {
+            flushed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while flushing performance results", e); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Writes the pending samples, stops the writer thread and closes the sinks.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            Runtime.getRuntime().removeShutdownHook(fShutdownHook);
+        } catch (IllegalStateException e) {
+            // the VM is shutting down
+        }
+        close(0);
+    }
+
+    private void close(long timeoutMillis) {
+        Entry end = new Entry(null, null, null, null);
+        boolean interrupted = false;
+        boolean locked = false;
+        try {
+            while (!locked) {
+                try {
+                    if (timeoutMillis == 0) {
+                        fPutLock.lockInterruptibly();
+                        locked = true;
+                    } else if (fPutLock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                        locked = true;
+                    } else {
+                        return; // a write is blocked on a hanging sink
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            boolean posted = false;
+            try {
+                if (fClosed)
+                    return;
+                fClosed = true;
+                while (true) {
+                    try {
+                        if (timeoutMillis == 0) {
+                            fQueue.put(end);
+                            posted = true;
+                        } else {
+                            posted = fQueue.offer(end, timeoutMillis, TimeUnit.MILLISECONDS);
+                        }
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                fPutLock.unlock();
+            }
+            while (posted) {
+                try {
+                    fWriter.join(timeoutMillis);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    private void put(Entry entry) throws IOException {
+        try {
+            fPutLock.lockInterruptibly();
+            try {
+                if (fClosed)
+                    throw new IOException("result sink is closed"); //$NON-NLS-1$
+                fQueue.put(entry); // blocks while the writer thread is behind
+            } finally {
+                fPutLock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while writing performance results", e); //$NON-NLS-1$
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(fQueue.take());
+            } catch (InterruptedException e) {
+                continue; // only close() stops the writer
+            }
+            fQueue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            boolean done = false;
+            for (Entry entry : batch) {
+                if (!entry.isMarker()) {
+                    for (IResultSink sink : fSinks) {
+                        try {
+                            sink.write(entry.fScenarioId, entry.fVariations, entry.fSample);
+                        } catch (IOException | RuntimeException e) {
+                            PerformanceTestPlugin.log(e);
+                        }
+                    }
+                } else if (entry.fFlushed != null) {
+                    flushSinks();
+                    entry.fFlushed.countDown();
+                } else {
+                    done = true;
+                }
+            }
+            batch.clear();
+            flushSinks();
+            if (done)
+                break;
+        }
+        for (IResultSink sink : fSinks) {
+            try {
+                sink.close();
+            } catch (IOException | RuntimeException e) {
+                PerformanceTestPlugin.log(e);
+            }
+        }
+    }
+
+    private void flushSinks() {
+        for (IResultSink sink : fSinks) {
+            try {
+                sink.flush();
+            } catch (IOException | RuntimeException e) {
+                PerformanceTestPlugin.log(e);
+            }
+        }
+    }
+
+    private void closeQuietly() {
+        // don't block the shutdown of the VM on a hanging sink
+        close(SHUTDOWN_TIMEOUT);
+        if (fWriter.isAlive())
+            PerformanceTestPlugin.logWarning("not all performance results were written"); //$NON-NLS-1$
+    }
+}
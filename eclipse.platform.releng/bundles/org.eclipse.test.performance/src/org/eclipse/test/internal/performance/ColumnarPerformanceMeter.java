@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.util.HashMap;
+
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Histogram;
+import org.eclipse.test.internal.performance.data.Sample;
+
+/**
+ * Performance meter that records {@link System#nanoTime()} and the operating system counters into primitive columns. Apart from
+ * growing the columns, {@link #start()} and {@link #stop()} do not allocate; the {@link Sample} is built on demand, including a
+ * {@link Histogram} of the elapsed times.
+ *
+ * @since 3.21
+ */
+public class ColumnarPerformanceMeter extends InternalPerformanceMeter {
+
+    private static final int   DEFAULT_INITIAL_CAPACITY = 64;
+
+    private PerformanceMonitor fPerformanceMonitor;
+    private long               fStartTime;
+    private MeasurementColumns fColumns;
+    private long[]             fRow;
+
+    /**
+     * @param scenarioId
+     *            the scenario id
+     */
+    public ColumnarPerformanceMeter(String scenarioId) {
+        this(scenarioId, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param scenarioId
+     *            the scenario id
+     * @param initialCapacity
+     *            the initial capacity in the number of measurements
+     */
+    public ColumnarPerformanceMeter(String scenarioId, int initialCapacity) {
+        super(scenarioId);
+        fPerformanceMonitor = PerformanceMonitor.getPerformanceMonitor();
+        Dim[] counterDimensions = fPerformanceMonitor.getCounterDimensions();
+        Dim[] dimensions = PerformanceMonitor.concat(new Dim[] { InternalDimensions.ELAPSED_TIME }, counterDimensions);
+        fColumns = new MeasurementColumns(dimensions, 2 * initialCapacity);
+        fRow = new long[dimensions.length];
+        fStartTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void dispose() {
+        fPerformanceMonitor = null;
+        fColumns = null;
+        fRow = null;
+        super.dispose();
+    }
+
+    @Override
+    public void start() {
+        // take the time last, so collecting the counters is not measured
+        fPerformanceMonitor.collectOperatingSystemCounters(fRow, 1);
+        fRow[0] = System.nanoTime();
+        fColumns.add(BEFORE, fRow);
+    }
+
+    @Override
+    public void stop() {
+        fRow[0] = System.nanoTime();
+        fPerformanceMonitor.collectOperatingSystemCounters(fRow, 1);
+        fColumns.add(AFTER, fRow);
+    }
+
+    /**
+     * Returns the raw measurements. Callers must not modify the columns.
+     *
+     * @return the columns, or <code>null</code> if the meter has been disposed
+     */
+    public MeasurementColumns getColumns() {
+        return fColumns;
+    }
+
+    @Override
+    public Sample getSample() {
+        if (fColumns != null) {
+            HashMap<String, String> runProperties = new HashMap<>();
+            fPerformanceMonitor.collectGlobalPerformanceInfo(runProperties);
+            Sample sample = new Sample(getScenarioName(), fStartTime, runProperties, fColumns.toDataPoints());
+            sample.setHistogram(InternalDimensions.ELAPSED_TIME, getElapsedTimeHistogram());
+            return sample;
+        }
+        return null;
+    }
+
+    private Histogram getElapsedTimeHistogram() {
+        Histogram histogram = new Histogram();
+        MeasurementColumns columns = fColumns;
+        for (int row = 1; row < columns.size(); row++) {
+            if (columns.getStep(row - 1) == BEFORE && columns.getStep(row) == AFTER)
+                histogram.record(Math.max(0, columns.get(row, 0) - columns.get(row - 1, 0)));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+/**
+ * Creates {@link ColumnarPerformanceMeter}s. Select it with
+ * <code>-DPerformanceMeterFactory=org.eclipse.test.performance:org.eclipse.test.internal.performance.ColumnarPerformanceMeterFactory</code>.
+ *
+ * @since 3.21
+ */
+public class ColumnarPerformanceMeterFactory extends PerformanceMeterFactory {
+
+    @Override
+    protected PerformanceMeter doCreatePerformanceMeter(String scenario) {
+        return new ColumnarPerformanceMeter(scenario);
+    }
+}
@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Histogram;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.db.Variations;
+
+/**
+ * Performance meter for scenarios which run operations in several threads at once. Each worker thread records the latencies of
+ * its operations in its own {@link Recorder}, without locking or shared writes. When the meter is stopped, the recorders are merged
+ * into the throughput, operation count, mean and maximum latency of the measured interval, next to the elapsed time and the
+ * counters of the {@link PerformanceMonitor}. The latencies of all operations are also collected in a {@link Histogram}, which is
+ * attached to the sample for the {@link InternalDimensions#MEAN_LATENCY mean latency} dimension.
+ * <p>
+ * The concurrency level is added to the variations of the committed sample under the key {@link PerformanceTestPlugin#CONCURRENCY},
+ * so that the results of a scenario at different levels can be compared.
+ * </p>
+ * <p>
+ * {@link #run(int, Operation)} runs a complete measurement. Tests which manage their worker threads themselves call
+ * {@link #getRecorder()} in each worker, and must make sure that no operation is running when {@link #start()} and {@link #stop()}
+ * are called, e.g. by joining the workers before stopping the meter. A worker which ends calls {@link #releaseRecorder()}, so that
+ * its recorder does not outlive it; the workers of {@link #run(int, Operation)} do so.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class ConcurrentPerformanceMeter extends InternalPerformanceMeter {
+
+    /**
+     * An operation run concurrently by the worker threads.
+     */
+    public interface Operation {
+        void run() throws Throwable;
+    }
+
+    /**
+     * Collects the latencies of the operations of one thread. A recorder must only be used by the thread which obtained it from
+     * {@link ConcurrentPerformanceMeter#getRecorder()}.
+     */
+    public static final class Recorder {
+
+        private long            fCount;
+        private long            fTotal;
+        private long            fMax;
+        private final Histogram fLatencies = new Histogram();
+
+        Recorder() {
+            // created by the meter
+        }
+
+        /**
+         * Returns the start time of an operation, to be passed to {@link #end(long)}.
+         *
+         * @return the current value of {@link System#nanoTime()}
+         */
+        public long begin() {
+            return System.nanoTime();
+        }
+
+        /**
+         * Records an operation which started at <code>begin</code>.
+         *
+         * @param begin
+         *            the value returned by {@link #begin()}
+         */
+        public void end(long begin) {
+            record(System.nanoTime() - begin);
+        }
+
+        /**
+         * Records an operation.
+         *
+         * @param latency
+         *            the latency of the operation in nanoseconds
+         */
+        public void record(long latency) {
+            fCount++;
+            fTotal += latency;
+            if (latency > fMax)
+                fMax = latency;
+            fLatencies.record(latency);
+        }
+
+        void add(Recorder other) {
+            fCount += other.fCount;
+            fTotal += other.fTotal;
+            fMax = Math.max(fMax, other.fMax);
+            fLatencies.add(other.fLatencies);
+        }
+
+        void reset() {
+            fCount = 0;
+            fTotal = 0;
+            fMax = 0;
+            fLatencies.reset();
+        }
+    }
+
+    private static final Dim[]          DIMENSIONS  = { InternalDimensions.ELAPSED_TIME, InternalDimensions.THROUGHPUT,
+            InternalDimensions.OPERATION_COUNT, InternalDimensions.MEAN_LATENCY, InternalDimensions.MAX_LATENCY };
+
+    private final int                   fConcurrency;
+    private final ThreadFactory         fThreadFactory;
+    private final List<Recorder>        fRecorders  = new ArrayList<>();
+    private final ThreadLocal<Recorder> fRecorder   = ThreadLocal.withInitial(this::createRecorder);
+    /** The operations of the released recorders since the last start. */
+    private final Recorder              fReleased   = new Recorder();
+
+    private final Histogram             fLatencies  = new Histogram();
+
+    private PerformanceMonitor          fPerformanceMonitor;
+    private long                        fStartTime;
+    private MeasurementColumns          fColumns;
+    private long[]                      fRow;
+
+    /**
+     * Creates a meter whose workers are platform threads.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @param concurrency
+     *            the number of worker threads
+     */
+    public ConcurrentPerformanceMeter(String scenarioId, int concurrency) {
+        this(scenarioId, concurrency, null);
+    }
+
+    /**
+     * @param scenarioId
+     *            the scenario id
+     * @param concurrency
+     *            the number of worker threads
+     * @param threadFactory
+     *            creates the worker threads of {@link #run(int, Operation)}, e.g. a factory of virtual threads; or
+     *            <code>null</code> for platform threads
+     */
+    public ConcurrentPerformanceMeter(String scenarioId, int concurrency, ThreadFactory threadFactory) {
+        super(scenarioId);
+        if (concurrency < 1)
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency); //$NON-NLS-1$
+        fConcurrency = concurrency;
+        fThreadFactory = threadFactory;
+        fPerformanceMonitor = PerformanceMonitor.getPerformanceMonitor();
+        Dim[] dimensions = PerformanceMonitor.concat(DIMENSIONS, fPerformanceMonitor.getCounterDimensions());
+        fColumns = new MeasurementColumns(dimensions, 16);
+        fRow = new long[dimensions.length];
+        fStartTime = System.currentTimeMillis();
+    }
+
+    public int getConcurrency() {
+        return fConcurrency;
+    }
+
+    /**
+     * Returns the recorder of the calling thread.
+     *
+     * @return the recorder
+     */
+    public Recorder getRecorder() {
+        return fRecorder.get();
+    }
+
+    /**
+     * Releases the recorder of the calling thread, e.g. at the end of a worker. Its operations still count for the current
+     * measurement.
+     */
+    public void releaseRecorder() {
+        Recorder recorder = fRecorder.get();
+        fRecorder.remove();
+        synchronized (fRecorders) {
+            fRecorders.remove(recorder);
+            fReleased.add(recorder);
+        }
+    }
+
+    @Override
+    public void start() {
+        synchronized (fRecorders) {
+            for (Recorder recorder : fRecorders)
+                recorder.reset();
+            fReleased.reset();
+        }
+        fPerformanceMonitor.collectOperatingSystemCounters(fRow, DIMENSIONS.length);
+        for (int i = 1; i < DIMENSIONS.length; i++)
+            fRow[i] = 0;
+        fRow[0] = System.nanoTime();
+        fColumns.add(BEFORE, fRow);
+    }
+
+    @Override
+    public void stop() {
+        long now = System.nanoTime();
+        long elapsed = now - fColumns.get(fColumns.size() - 1, 0);
+        fRow[0] = now;
+        fPerformanceMonitor.collectOperatingSystemCounters(fRow, DIMENSIONS.length);
+
+        long count = 0;
+        long total = 0;
+        long max = 0;
+        synchronized (fRecorders) {
+            for (Recorder recorder : fRecorders) {
+                count += recorder.fCount;
+                total += recorder.fTotal;
+                max = Math.max(max, recorder.fMax);
+                fLatencies.add(recorder.fLatencies);
+            }
+            count += fReleased.fCount;
+            total += fReleased.fTotal;
+            max = Math.max(max, fReleased.fMax);
+            fLatencies.add(fReleased.fLatencies);
+        }
+        // throughput in thousandths of operations per second
+        fRow[1] = elapsed > 0 ? (long) (count * 1e12 / elapsed) : 0;
+        fRow[2] = count;
+        fRow[3] = count > 0 ? total / count : 0;
+        fRow[4] = max;
+        fColumns.add(AFTER, fRow);
+    }
+
+    /**
+     * Runs <code>operation</code> <code>operationsPerThread</code> times in each of the worker threads and measures the interval
+     * from the moment all workers are ready until the last one has finished.
+     *
+     * @param operationsPerThread
+     *            the number of operations each worker runs
+     * @param operation
+     *            the operation
+     * @throws Throwable
+     *             the first failure of an operation, after all workers have finished
+     */
+    public void run(int operationsPerThread, Operation operation) throws Throwable {
+        CountDownLatch ready = new CountDownLatch(fConcurrency);
+        CountDownLatch go = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(fConcurrency);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            try {
+                Recorder recorder = getRecorder();
+                ready.countDown();
+                go.await();
+                for (int i = 0; i < operationsPerThread && failure.get() == null; i++) {
+                    long begin = recorder.begin();
+                    operation.run();
+                    recorder.end(begin);
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                releaseRecorder();
+                done.countDown();
+            }
+        };
+        for (int i = 0; i < fConcurrency; i++) {
+            Thread thread;
+            if (fThreadFactory != null) {
+                thread = fThreadFactory.newThread(worker);
+            } else {
+                thread = new Thread(worker, getScenarioName() + " worker " + i); //$NON-NLS-1$
+                thread.setDaemon(true);
+            }
+            thread.start();
+        }
+        ready.await();
+        start();
+        go.countDown();
+        done.await();
+        stop();
+        Throwable t = failure.get();
+        if (t != null)
+            throw t;
+    }
+
+    @Override
+    public Sample getSample() {
+        if (fColumns != null) {
+            HashMap<String, String> runProperties = new HashMap<>();
+            fPerformanceMonitor.collectGlobalPerformanceInfo(runProperties);
+            Sample sample = new Sample(getScenarioName(), fStartTime, runProperties, fColumns.toDataPoints());
+            // the distribution of the latencies of all measured operations
+            Histogram latencies = new Histogram();
+            latencies.add(fLatencies);
+            sample.setHistogram(InternalDimensions.MEAN_LATENCY, latencies);
+            return sample;
+        }
+        return null;
+    }
+
+    @Override
+    public Variations getVariations() {
+        Variations variations = super.getVariations();
+        variations.setProperty(PerformanceTestPlugin.CONCURRENCY, Integer.toString(fConcurrency));
+        return variations;
+    }
+
+    @Override
+    public void dispose() {
+        fPerformanceMonitor = null;
+        fColumns = null;
+        fRow = null;
+        synchronized (fRecorders) {
+            fRecorders.clear();
+            fReleased.reset();
+        }
+        super.dispose();
+    }
+
+    private Recorder createRecorder() {
+        Recorder recorder = new Recorder();
+        synchronized (fRecorders) {
+            fRecorders.add(recorder);
+        }
+        return recorder;
+    }
+}
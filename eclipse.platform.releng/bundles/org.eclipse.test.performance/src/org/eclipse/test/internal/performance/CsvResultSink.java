@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.db.Variations;
+
+/**
+ * Writes samples as tab separated values, one line per measurement. The file is opened once and truncated when the sink is
+ * created.
+ *
+ * @since 3.21
+ */
+public class CsvResultSink implements IResultSink {
+
+    private final PrintStream fStream;
+
+    /**
+     * @param file
+     *            the output file
+     * @throws IOException
+     *             if the file cannot be opened
+     */
+    public CsvResultSink(File file) throws IOException {
+        fStream = new PrintStream(new BufferedOutputStream(new FileOutputStream(file)));
+    }
+
+    @Override
+    public void write(String scenarioId, Variations variations, Sample sample) throws IOException {
+        InternalPerformanceMeter.printSampleCSV(fStream, sample);
+        if (fStream.checkError())
+            throw new IOException("cannot write performance results"); //$NON-NLS-1$
+    }
+
+    @Override
+    public void flush() {
+        fStream.flush();
+    }
+
+    @Override
+    public void close() {
+        fStream.close();
+    }
+}
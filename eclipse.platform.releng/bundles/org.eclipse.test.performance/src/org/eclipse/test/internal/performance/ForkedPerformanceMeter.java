@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import org.eclipse.test.internal.performance.data.Sample;
+
+/**
+ * Performance meter of a scenario that is run in a forked VM by {@link ForkedScenarioExecutor}. The sample measured in the forked
+ * VM is set with {@link #setSample(Sample)} and then committed and evaluated like any other sample.
+ * <p>
+ * Scenarios which are not run by the {@link ForkedScenarioExecutor}, e.g. tests calling {@link #start()} and {@link #stop()}
+ * themselves, are measured in this VM with an {@link OSPerformanceMeter}.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class ForkedPerformanceMeter extends InternalPerformanceMeter {
+
+    private Sample             fSample;
+    private OSPerformanceMeter fInProcessMeter;
+
+    /**
+     * @param scenarioId
+     *            the scenario id
+     */
+    public ForkedPerformanceMeter(String scenarioId) {
+        super(scenarioId);
+    }
+
+    /**
+     * Sets the sample measured in the forked VM.
+     *
+     * @param sample
+     *            the sample
+     */
+    public void setSample(Sample sample) {
+        fSample = sample;
+    }
+
+    @Override
+    public void start() {
+        getInProcessMeter().start();
+    }
+
+    @Override
+    public void stop() {
+        getInProcessMeter().stop();
+    }
+
+    @Override
+    public Sample getSample() {
+        if (fSample != null)
+            return fSample;
+        if (fInProcessMeter != null)
+            return fInProcessMeter.getSample();
+        return null;
+    }
+
+    @Override
+    public void dispose() {
+        if (fInProcessMeter != null) {
+            fInProcessMeter.dispose();
+            fInProcessMeter = null;
+        }
+        fSample = null;
+        super.dispose();
+    }
+
+    private OSPerformanceMeter getInProcessMeter() {
+        if (fInProcessMeter == null)
+            fInProcessMeter = new OSPerformanceMeter(getScenarioName());
+        return fInProcessMeter;
+    }
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+/**
+ * Selects the forked VM isolation mode for {@link org.eclipse.test.performance.PerformanceScenario performance scenarios}.
+ *
+ * @see ForkedScenarioExecutor
+ * @since 3.21
+ */
+public class ForkedPerformanceMeterFactory extends PerformanceMeterFactory {
+
+    @Override
+    protected PerformanceMeter doCreatePerformanceMeter(String scenario) {
+        return new ForkedPerformanceMeter(scenario);
+    }
+}
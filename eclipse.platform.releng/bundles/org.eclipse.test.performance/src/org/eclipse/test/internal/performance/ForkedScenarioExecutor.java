@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.SampleCodec;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.namespace.HostNamespace;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * Runs {@link org.eclipse.test.performance.PerformanceScenario performance scenarios} in forked VMs, so that JIT profiles, heap
+ * state and loaded classes of one scenario do not influence the next one. The forked VM runs the {@link ForkedScenarioRunner}; the
+ * scenarios to run are sent to it over its standard input and the measured samples come back over its standard output, encoded
+ * with {@link SampleCodec}.
+ * <p>
+ * The mode is enabled by selecting the {@link ForkedPerformanceMeterFactory} or by setting the system property
+ * <code>eclipse.perf.fork</code>. Its value is the number of scenarios run by one forked VM before it is replaced by a fresh one
+ * (default 1). Further system properties:
+ * </p>
+ * <ul>
+ * <li><code>eclipse.perf.fork.vmargs</code>: the VM arguments of the forked VM, default <code>-Xms512m -Xmx512m</code></li>
+ * <li><code>eclipse.perf.fork.classpath</code>: the class path of the forked VM. By default it is the class path of this VM plus the
+ * locations of the test classes, or, when running in OSGi, the files of the bundles of the test classes and of all bundles wired
+ * to them. Starting the forked VM fails if a bundle cannot be put on a class path, e.g. because it contains nested jars. A forked
+ * VM is replaced when a scenario of a test class from a location which is not on its class path is run, so scenarios from
+ * several bundles can share one executor.</li>
+ * <li><code>eclipse.perf.fork.meterFactory</code>: the class name of the {@link PerformanceMeterFactory} used in the forked VM,
+ * default {@link OSPerformanceMeterFactory}</li>
+ * </ul>
+ * All other <code>eclipse.perf.*</code> system properties are passed to the forked VM.
+ *
+ * @since 3.21
+ */
+public class ForkedScenarioExecutor {
+
+    public static final String            FORK_PROPERTY          = "eclipse.perf.fork";                //$NON-NLS-1$
+    static final String                   VMARGS_PROPERTY        = "eclipse.perf.fork.vmargs";         //$NON-NLS-1$
+    static final String                   CLASSPATH_PROPERTY     = "eclipse.perf.fork.classpath";      //$NON-NLS-1$
+    static final String                   METER_FACTORY_PROPERTY = "eclipse.perf.fork.meterFactory";   //$NON-NLS-1$
+
+    private static final String           DEFAULT_VMARGS         = "-Xms512m -Xmx512m";                //$NON-NLS-1$
+
+    // protocol
+    static final int                      REQUEST                = 1;
+    static final int                      RESULT                 = 2;
+    static final int                      FAILURE                = 3;
+
+    private static ForkedScenarioExecutor fgDefault;
+
+    private final int                     fBatchSize;
+    private Process                       fProcess;
+    private DataOutputStream              fToChild;
+    private DataInputStream               fFromChild;
+    private int                           fScenarioCount;
+    private Thread                        fShutdownHook;
+    /** The test classes of all scenarios run so far, one per location. */
+    private final Map<String, Class<?>>   fTestClasses           = new LinkedHashMap<>();
+
+    /**
+     * Returns whether the forked mode is requested through the system property <code>eclipse.perf.fork</code>.
+     *
+     * @return <code>true</code> if scenarios should run in forked VMs
+     */
+    public static boolean isForkRequested() {
+        return System.getProperty(FORK_PROPERTY) != null;
+    }
+
+    public static synchronized ForkedScenarioExecutor getDefault() {
+        if (fgDefault == null)
+            fgDefault = new ForkedScenarioExecutor(getBatchSize());
+        return fgDefault;
+    }
+
+    /**
+     * @param batchSize
+     *            the number of scenarios run by one forked VM
+     */
+    public ForkedScenarioExecutor(int batchSize) {
+        fBatchSize = Math.max(batchSize, 1);
+    }
+
+    /**
+     * Runs a scenario in a forked VM and returns the measured sample.
+     *
+     * @param method
+     *            the test method annotated with {@link org.eclipse.test.performance.PerformanceScenario}
+     * @param scenarioId
+     *            the scenario id
+     * @return the sample measured in the forked VM
+     * @throws IOException
+     *             if the communication with the forked VM fails
+     * @throws AssertionError
+     *             if the scenario failed in the forked VM
+     */
+    public synchronized Sample run(Method method, String scenarioId) throws IOException {
+        String location = getLocation(method.getDeclaringClass());
+        boolean newLocation = location != null && fTestClasses.putIfAbsent(location, method.getDeclaringClass()) == null;
+        if (newLocation && fProcess != null && System.getProperty(CLASSPATH_PROPERTY) == null)
+            stop(); // the class path of the forked VM lacks the test class
+        if (fProcess == null)
+            start();
+        try {
+            fToChild.writeByte(REQUEST);
+            fToChild.writeUTF(method.getDeclaringClass().getName());
+            fToChild.writeUTF(method.getName());
+            fToChild.writeUTF(scenarioId);
+            fToChild.flush();
+
+            int reply = fFromChild.readUnsignedByte();
+            if (reply == RESULT)
+                return SampleCodec.read(fFromChild);
+            if (reply == FAILURE) {
+                String exception = fFromChild.readUTF();
+                String message = fFromChild.readUTF();
+                String stackTrace = fFromChild.readUTF();
+                throw new AssertionError("Scenario '" + scenarioId + "' failed in forked VM: " + exception + ": " + message //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                        + System.lineSeparator() + stackTrace);
+            }
+            throw new IOException("unexpected reply from forked VM: " + reply); //$NON-NLS-1$
+        } catch (IOException e) {
+            // the forked VM is unusable, e.g. it crashed
+            stop();
+            throw e;
+        } finally {
+            if (fProcess != null && ++fScenarioCount >= fBatchSize)
+                stop();
+        }
+    }
+
+    /**
+     * Stops the forked VM, if any.
+     */
+    public synchronized void stop() {
+        if (fProcess == null)
+            return;
+        try {
+            fToChild.close(); // the forked VM terminates at the end of its input
+            if (!fProcess.waitFor(10, TimeUnit.SECONDS))
+                fProcess.destroyForcibly();
+        } catch (IOException e) {
+            fProcess.destroyForcibly();
+        } catch (InterruptedException e) {
+            fProcess.destroyForcibly();
+            Thread.currentThread().interrupt();
+        } finally {
+            fProcess = null;
+            fToChild = null;
+            fFromChild = null;
+            fScenarioCount = 0;
+        }
+    }
+
+    private void start() throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        StringTokenizer vmArgs = new StringTokenizer(System.getProperty(VMARGS_PROPERTY, DEFAULT_VMARGS));
+        while (vmArgs.hasMoreTokens())
+            command.add(vmArgs.nextToken());
+        for (Map.Entry<Object, Object> entry : System.getProperties().entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            if (key.startsWith("eclipse.perf.") && !key.startsWith(FORK_PROPERTY)) //$NON-NLS-1$
+                command.add("-D" + key + '=' + entry.getValue()); //$NON-NLS-1$
+        }
+        // the forked VMs share the calibration of this VM
+        if (HostCalibration.isEnabled() && System.getProperty(HostCalibration.TIMES_PROPERTY) == null)
+            command.add(HostCalibration.getTimesArgument());
+        String meterFactory = System.getProperty(METER_FACTORY_PROPERTY);
+        if (meterFactory != null)
+            command.add("-D" + METER_FACTORY_PROPERTY + '=' + meterFactory); //$NON-NLS-1$
+        // ELAPSED_PROCESS is measured from the start of the forked VM
+        command.add("-Declipse.startTime=" + System.currentTimeMillis()); //$NON-NLS-1$
+        command.add("-cp"); //$NON-NLS-1$
+        command.add(getClassPath(fTestClasses.values()));
+        command.add(ForkedScenarioRunner.class.getName());
+
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        fProcess = builder.start();
+        fToChild = new DataOutputStream(new BufferedOutputStream(fProcess.getOutputStream()));
+        fFromChild = new DataInputStream(new BufferedInputStream(fProcess.getInputStream()));
+
+        if (fShutdownHook == null) {
+            fShutdownHook = new Thread(this::stop, "Forked performance scenario shutdown"); //$NON-NLS-1$
+            Runtime.getRuntime().addShutdownHook(fShutdownHook);
+        }
+    }
+
+    private static String getClassPath(Collection<Class<?>> testClasses) throws IOException {
+        String classPath = System.getProperty(CLASSPATH_PROPERTY);
+        if (classPath != null)
+            return classPath;
+
+        Set<String> entries = new LinkedHashSet<>();
+        StringTokenizer tokenizer = new StringTokenizer(System.getProperty("java.class.path", ""), File.pathSeparator); //$NON-NLS-1$ //$NON-NLS-2$
+        while (tokenizer.hasMoreTokens())
+            entries.add(tokenizer.nextToken());
+        Bundle bundle = FrameworkUtil.getBundle(ForkedScenarioExecutor.class);
+        if (bundle == null) {
+            for (Class<?> testClass : testClasses) {
+                String location = getLocation(testClass);
+                if (location != null)
+                    entries.add(location);
+            }
+        } else {
+            // the class path is the launcher only: add the bundles the scenarios need
+            Set<Bundle> bundles = new LinkedHashSet<>();
+            addWiredBundles(bundle, bundles);
+            for (Class<?> testClass : testClasses) {
+                Bundle testBundle = FrameworkUtil.getBundle(testClass);
+                if (testBundle != null)
+                    addWiredBundles(testBundle, bundles);
+            }
+            for (Bundle b : bundles)
+                addBundleClassPath(b, entries);
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static void addWiredBundles(Bundle bundle, Set<Bundle> bundles) {
+        if (!bundles.add(bundle))
+            return;
+        BundleWiring wiring = bundle.adapt(BundleWiring.class);
+        if (wiring == null)
+            return;
+        for (BundleWire wire : wiring.getRequiredWires(null))
+            addWiredBundles(wire.getProvider().getBundle(), bundles);
+        for (BundleWire wire : wiring.getProvidedWires(HostNamespace.HOST_NAMESPACE))
+            addWiredBundles(wire.getRequirer().getBundle(), bundles); // fragments
+    }
+
+    private static void addBundleClassPath(Bundle bundle, Set<String> entries) throws IOException {
+        if (bundle.getBundleId() == 0) {
+            // the framework, its classes are loaded from the launcher class path or from its own file
+            String location = getLocation(Bundle.class);
+            if (location != null)
+                entries.add(location);
+            return;
+        }
+        Optional<File> file = FileLocator.getBundleFileLocation(bundle);
+        if (!file.isPresent())
+            throw cannotFork(bundle, "it is not a local file"); //$NON-NLS-1$
+        String bundleClassPath = bundle.getHeaders("").get(Constants.BUNDLE_CLASSPATH); //$NON-NLS-1$
+        StringTokenizer paths = new StringTokenizer(bundleClassPath != null ? bundleClassPath : ".", ","); //$NON-NLS-1$ //$NON-NLS-2$
+        if (file.get().isDirectory()) {
+            // a bundle of the workspace, its classes are in the output folders
+            for (String devPath : getDevClassPath(bundle))
+                entries.add(new File(file.get(), devPath).getPath());
+            while (paths.hasMoreTokens())
+                entries.add(new File(file.get(), getPath(paths.nextToken())).getPath());
+            return;
+        }
+        while (paths.hasMoreTokens()) {
+            String path = getPath(paths.nextToken());
+            if (!".".equals(path)) //$NON-NLS-1$
+                throw cannotFork(bundle, "it contains the nested jar " + path); //$NON-NLS-1$
+        }
+        entries.add(file.get().getPath());
+    }
+
+    /*
+     * The output folders of a bundle in development mode, given by the osgi.dev property either as a comma separated list or as
+     * the URL of a properties file with a list per bundle.
+     */
+    private static List<String> getDevClassPath(Bundle bundle) throws IOException {
+        List<String> devPaths = new ArrayList<>();
+        String dev = System.getProperty("osgi.dev"); //$NON-NLS-1$
+        if (dev == null || dev.isEmpty())
+            return devPaths;
+        try {
+            URL url = new URI(dev).toURL();
+            Properties properties = new Properties();
+            try (InputStream in = url.openStream()) {
+                properties.load(in);
+            }
+            dev = properties.getProperty(bundle.getSymbolicName(), properties.getProperty("*")); //$NON-NLS-1$
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // a list of output folders for all bundles
+        }
+        if (dev != null) {
+            StringTokenizer tokenizer = new StringTokenizer(dev, ","); //$NON-NLS-1$
+            while (tokenizer.hasMoreTokens())
+                devPaths.add(tokenizer.nextToken().trim());
+        }
+        return devPaths;
+    }
+
+    private static String getPath(String bundleClassPathEntry) {
+        int parameters = bundleClassPathEntry.indexOf(';');
+        return (parameters >= 0 ? bundleClassPathEntry.substring(0, parameters) : bundleClassPathEntry).trim();
+    }
+
+    private static IOException cannotFork(Bundle bundle, String reason) {
+        return new IOException("Cannot put bundle " + bundle.getSymbolicName() + " on the class path of the forked VM because " //$NON-NLS-1$ //$NON-NLS-2$
+                + reason + ", set the system property " + CLASSPATH_PROPERTY); //$NON-NLS-1$
+    }
+
+    private static String getLocation(Class<?> c) {
+        CodeSource codeSource = c.getProtectionDomain().getCodeSource();
+        if (codeSource == null)
+            return null;
+        URL location = codeSource.getLocation();
+        if (location == null)
+            return null;
+        try {
+            return Paths.get(location.toURI()).toString();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            PerformanceTestPlugin.logWarning("cannot add " + location + " to the class path of the forked VM"); //$NON-NLS-1$ //$NON-NLS-2$
+            return null;
+        }
+    }
+
+    private static int getBatchSize() {
+        String batchSize = System.getProperty(FORK_PROPERTY);
+        if (batchSize == null || batchSize.isEmpty() || "true".equals(batchSize)) //$NON-NLS-1$
+            return 1;
+        try {
+            return Integer.parseInt(batchSize);
+        } catch (NumberFormatException e) {
+            PerformanceTestPlugin.logWarning("invalid value for " + FORK_PROPERTY + ": " + batchSize); //$NON-NLS-1$ //$NON-NLS-2$
+            return 1;
+        }
+    }
+}
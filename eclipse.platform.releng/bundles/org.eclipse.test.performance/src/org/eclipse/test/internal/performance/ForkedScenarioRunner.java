@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.SampleCodec;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.test.performance.PerformanceScenario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Main class of the VMs forked by {@link ForkedScenarioExecutor}. Reads scenarios from standard input, runs each of them in a new
+ * instance of its test class, and writes the measured samples to standard output. Output of the scenarios is redirected to
+ * standard error. Lifecycle methods annotated with {@link BeforeEach} or {@link AfterEach} which have no parameters are called
+ * around the iterations.
+ *
+ * @since 3.21
+ */
+public class ForkedScenarioRunner {
+
+    private static final int MAX_STACK_TRACE = 16 * 1024;
+
+    public static void main(String[] args) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(FileDescriptor.in)));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        // standard output belongs to the protocol
+        System.setOut(System.err);
+
+        PerformanceMeterFactory factory = createPerformanceMeterFactory();
+        while (true) {
+            int request;
+            try {
+                request = in.readUnsignedByte();
+            } catch (EOFException e) {
+                break; // the parent closed the pipe
+            }
+            if (request != ForkedScenarioExecutor.REQUEST)
+                throw new IOException("unexpected request: " + request); //$NON-NLS-1$
+            String className = in.readUTF();
+            String methodName = in.readUTF();
+            String scenarioId = in.readUTF();
+
+            Sample sample;
+            try {
+                sample = runScenario(factory, className, methodName, scenarioId);
+            } catch (Throwable t) {
+                out.writeByte(ForkedScenarioExecutor.FAILURE);
+                out.writeUTF(t.getClass().getName());
+                out.writeUTF(truncate(String.valueOf(t.getMessage())));
+                StringWriter stackTrace = new StringWriter();
+                t.printStackTrace(new PrintWriter(stackTrace));
+                out.writeUTF(truncate(stackTrace.toString()));
+                out.flush();
+                continue;
+            }
+            out.writeByte(ForkedScenarioExecutor.RESULT);
+            SampleCodec.write(out, sample);
+            out.flush();
+        }
+        System.exit(0);
+    }
+
+    private static Sample runScenario(PerformanceMeterFactory factory, String className, String methodName, String scenarioId)
+            throws Throwable {
+        Class<?> testClass = Class.forName(className);
+        Method method = findScenarioMethod(testClass, methodName);
+        PerformanceScenario scenario = method.getAnnotation(PerformanceScenario.class);
+
+        InternalPerformanceMeter meter = (InternalPerformanceMeter) factory.createPerformanceMeter(scenarioId);
+        try {
+            Object[] arguments = new Object[method.getParameterCount()];
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < arguments.length; i++) {
+                if (parameterTypes[i] != PerformanceMeter.class)
+                    throw new IllegalArgumentException("unsupported parameter type in forked mode: " + parameterTypes[i].getName()); //$NON-NLS-1$
+                arguments[i] = meter;
+            }
+
+            Constructor<?> constructor = testClass.getDeclaredConstructor();
+            constructor.setAccessible(true); // e.g. a private nested class of scenarios which are not run by JUnit
+            Object target = constructor.newInstance();
+            invokeLifecycleMethods(target, BeforeEach.class);
+            try {
+                AdaptiveIterationPolicy policy = new AdaptiveIterationPolicy(scenario.warmupIterations(),
+                        scenario.maxWarmupIterations(), scenario.steadyStateWindow(), scenario.maxCoefficientOfVariation(),
+                        scenario.minIterations(), scenario.maxIterations(), scenario.relativeEffect());
+                method.setAccessible(true);
+                policy.run(meter, () -> invoke(method, target, arguments));
+                if (!policy.reachedSteadyState() && scenario.maxWarmupIterations() > 0)
+                    PerformanceTestPlugin.logWarning("Scenario '" + scenarioId + "' did not reach a steady state after " //$NON-NLS-1$ //$NON-NLS-2$
+                            + policy.getWarmupCount() + " warm-up iterations"); //$NON-NLS-1$
+            } finally {
+                invokeLifecycleMethods(target, AfterEach.class);
+            }
+            // committing is up to the parent VM
+            return meter.getSample();
+        } finally {
+            meter.dispose();
+        }
+    }
+
+    private static Method findScenarioMethod(Class<?> testClass, String methodName) throws NoSuchMethodException {
+        for (Class<?> c = testClass; c != null; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (method.getName().equals(methodName) && method.isAnnotationPresent(PerformanceScenario.class))
+                    return method;
+            }
+        }
+        throw new NoSuchMethodException(testClass.getName() + '.' + methodName);
+    }
+
+    private static void invokeLifecycleMethods(Object target, Class<? extends Annotation> annotation) throws Throwable {
+        for (Method method : target.getClass().getMethods()) {
+            if (method.isAnnotationPresent(annotation) && method.getParameterCount() == 0)
+                invoke(method, target, new Object[0]);
+        }
+    }
+
+    private static void invoke(Method method, Object target, Object[] arguments) throws Throwable {
+        try {
+            method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static PerformanceMeterFactory createPerformanceMeterFactory() {
+        String className = System.getProperty(ForkedScenarioExecutor.METER_FACTORY_PROPERTY);
+        if (className != null) {
+            try {
+                return (PerformanceMeterFactory) Class.forName(className).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                PerformanceTestPlugin.log(e);
+            }
+        }
+        return new OSPerformanceMeterFactory();
+    }
+
+    private static String truncate(String s) {
+        // DataOutput.writeUTF is limited to 64K bytes
+        return s.length() > MAX_STACK_TRACE ? s.substring(0, MAX_STACK_TRACE) : s;
+    }
+}
@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+
+/**
+ * A short, deterministic calibration benchmark of the host, run once per JVM. It measures the integer and floating point
+ * throughput, the memory bandwidth, an allocation heavy loop and a file I/O loop; the times are stored with the global performance
+ * info of every sample, see {@link PerformanceMonitor#collectGlobalPerformanceInfo(Map)}.
+ * <p>
+ * The {@link InternalDimensions#HOST_SPEED_INDEX speed index} is the geometric mean of the speed-ups of the CPU and memory
+ * benchmarks over the nominal host; the file I/O time is recorded but not part of the index since it depends more on the file
+ * system than on the host. Times of samples taken on different hosts become comparable by {@link #normalize(Sample) normalizing}
+ * them to the nominal host, which reports and evaluators do if the system property <code>eclipse.perf.normalize</code> is
+ * <code>true</code>.
+ * </p>
+ * <p>
+ * The benchmark takes about a second and is only run if the system property <code>eclipse.perf.calibration</code> is
+ * <code>true</code>. A VM forked by the {@link ForkedScenarioExecutor} takes the times of its parent from the system property
+ * <code>eclipse.perf.calibration.times</code> instead of running the benchmark again.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class HostCalibration {
+
+    public static final String  CALIBRATION_PROPERTY = "eclipse.perf.calibration"; //$NON-NLS-1$
+    public static final String  NORMALIZE_PROPERTY   = "eclipse.perf.normalize"; //$NON-NLS-1$
+    static final String         TIMES_PROPERTY       = "eclipse.perf.calibration.times"; //$NON-NLS-1$
+
+    /** The dimensions of the benchmark times, the first {@link #INDEX_KERNELS} make up the speed index. */
+    public static final Dim[]   KERNEL_DIMENSIONS    = { InternalDimensions.CALIBRATION_INTEGER,
+            InternalDimensions.CALIBRATION_FLOATING_POINT, InternalDimensions.CALIBRATION_MEMORY,
+            InternalDimensions.CALIBRATION_ALLOCATION, InternalDimensions.CALIBRATION_FILE_IO };
+
+    /** The dimensions of times which are normalized. */
+    public static final Dim[]   NORMALIZED_DIMENSIONS = { InternalDimensions.CPU_TIME, InternalDimensions.ELAPSED_PROCESS,
+            InternalDimensions.KERNEL_TIME, InternalDimensions.THREAD_CPU_TIME };
+
+    static final int            INDEX_KERNELS        = 4;
+
+    /** The benchmark times of the nominal host in nanoseconds. */
+    static final long[]         NOMINAL_TIMES        = { 10000000, 15000000, 25000000, 10000000, 10000000 };
+
+    private static final int    RUNS                 = 3;
+    private static final int    OPERATIONS           = 1 << 22;
+    private static final int    MEMORY_LENGTH        = 1 << 21;
+    private static final int    MEMORY_PASSES        = 4;
+    private static final int    ALLOCATIONS          = 1 << 21;
+    private static final int    FILE_SIZE            = 1 << 22;
+    private static final int    FILE_CHUNK           = 1 << 16;
+
+    private static long[]       fgTimes;
+    private static long         fgSpeedIndex;
+
+    /** Keeps the results of the benchmarks alive. */
+    static volatile long        fgSink;
+
+    private HostCalibration() {
+        // static only
+    }
+
+    /**
+     * Adds the benchmark times and the speed index to the global performance info, running the benchmark on first use.
+     *
+     * @param scalars
+     *            the global performance info
+     */
+    public static void addTo(Map<? super Dim, ? super Scalar> scalars) {
+        if (!isEnabled())
+            return;
+        long[] times = getTimes();
+        long speedIndex;
+        synchronized (HostCalibration.class) {
+            speedIndex = fgSpeedIndex;
+        }
+        for (int i = 0; i < KERNEL_DIMENSIONS.length; i++) {
+            if (times[i] > 0)
+                scalars.put(KERNEL_DIMENSIONS[i], new Scalar(KERNEL_DIMENSIONS[i], times[i]));
+        }
+        if (speedIndex > 0)
+            scalars.put(InternalDimensions.HOST_SPEED_INDEX, new Scalar(InternalDimensions.HOST_SPEED_INDEX, speedIndex));
+    }
+
+    /**
+     * @return whether the calibration benchmark runs, see the class comment
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(CALIBRATION_PROPERTY);
+    }
+
+    /**
+     * @return whether reports and evaluators normalize the times of samples, see the class comment
+     */
+    public static boolean isNormalizing() {
+        return Boolean.getBoolean(NORMALIZE_PROPERTY);
+    }
+
+    /**
+     * Returns the benchmark times of this JVM, in the order of {@link #KERNEL_DIMENSIONS}. The benchmark runs on the first call
+     * unless the times were passed by the parent VM.
+     *
+     * @return the times in nanoseconds, 0 for a benchmark which failed
+     */
+    public static synchronized long[] getTimes() {
+        if (fgTimes == null) {
+            fgTimes = parseTimes(System.getProperty(TIMES_PROPERTY));
+            if (fgTimes == null)
+                fgTimes = run();
+            fgSpeedIndex = Math.round(computeSpeedIndex(fgTimes) * InternalDimensions.HOST_SPEED_INDEX.getMultiplier());
+            PerformanceTestPlugin.logInfo("host speed index: " + fgSpeedIndex / (double) InternalDimensions.HOST_SPEED_INDEX.getMultiplier()); //$NON-NLS-1$
+        }
+        return fgTimes.clone();
+    }
+
+    /**
+     * Returns the system property which passes the benchmark times of this JVM to a forked VM, running the benchmark if needed.
+     *
+     * @return the <code>-D</code> argument of the forked VM
+     */
+    static String getTimesArgument() {
+        StringBuilder buffer = new StringBuilder("-D").append(TIMES_PROPERTY).append('='); //$NON-NLS-1$
+        long[] times = getTimes();
+        for (int i = 0; i < times.length; i++) {
+            if (i > 0)
+                buffer.append(',');
+            buffer.append(times[i]);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Parses the benchmark times passed by the parent VM.
+     *
+     * @param value
+     *            the value of the system property <code>eclipse.perf.calibration.times</code>, may be <code>null</code>
+     * @return the times, or <code>null</code> if none or invalid times were passed
+     */
+    public static long[] parseTimes(String value) {
+        if (value == null)
+            return null;
+        String[] tokens = value.split(","); //$NON-NLS-1$
+        if (tokens.length == KERNEL_DIMENSIONS.length) {
+            try {
+                long[] times = new long[tokens.length];
+                for (int i = 0; i < tokens.length; i++)
+                    times[i] = Long.parseLong(tokens[i].trim());
+                return times;
+            } catch (NumberFormatException e) {
+                // logged below
+            }
+        }
+        PerformanceTestPlugin.logWarning("invalid value for " + TIMES_PROPERTY + ": " + value); //$NON-NLS-1$ //$NON-NLS-2$
+        return null;
+    }
+
+    /**
+     * Returns the speed of the host of a sample relative to the nominal host.
+     *
+     * @param sample
+     *            the sample
+     * @return the speed index, greater than 1 for a faster host, or <code>NaN</code> if the host of the sample was not calibrated
+     */
+    public static double getSpeedIndex(Sample sample) {
+        Scalar speedIndex = sample.getScalarProperty(InternalDimensions.HOST_SPEED_INDEX);
+        if (speedIndex == null || speedIndex.getMagnitude() <= 0)
+            return Double.NaN;
+        return speedIndex.getMagnitude() / (double) InternalDimensions.HOST_SPEED_INDEX.getMultiplier();
+    }
+
+    /**
+     * Returns a sample with the times of {@link #NORMALIZED_DIMENSIONS} scaled to the nominal host, see
+     * {@link Sample#withDataPoints(DataPoint[])}.
+     *
+     * @param sample
+     *            the sample
+     * @return the normalized sample, or <code>sample</code> if its host was not calibrated
+     */
+    public static Sample normalize(Sample sample) {
+        double speedIndex = getSpeedIndex(sample);
+        if (Double.isNaN(speedIndex))
+            return sample;
+        DataPoint[] dataPoints = sample.getDataPoints();
+        for (int i = 0; i < dataPoints.length; i++) {
+            Scalar[] scalars = dataPoints[i].getScalars();
+            Map<Dim, Scalar> normalized = new HashMap<>();
+            for (Scalar scalar : scalars) {
+                Dim dimension = scalar.getDimension();
+                if (isNormalized(dimension))
+                    scalar = new Scalar(dimension, Math.round(scalar.getMagnitude() * speedIndex));
+                normalized.put(dimension, scalar);
+            }
+            dataPoints[i] = new DataPoint(dataPoints[i].getStep(), normalized);
+        }
+        return sample.withDataPoints(dataPoints);
+    }
+
+    /**
+     * @return the sample normalized if {@link #isNormalizing()}, otherwise <code>sample</code>
+     */
+    public static Sample normalizeIfConfigured(Sample sample) {
+        return isNormalizing() ? normalize(sample) : sample;
+    }
+
+    private static boolean isNormalized(Dim dimension) {
+        for (Dim normalized : NORMALIZED_DIMENSIONS) {
+            if (normalized == dimension)
+                return true;
+        }
+        return false;
+    }
+
+    static double computeSpeedIndex(long[] times) {
+        double logSum = 0;
+        for (int i = 0; i < INDEX_KERNELS; i++) {
+            if (times[i] <= 0)
+                return 0;
+            logSum += Math.log(NOMINAL_TIMES[i] / (double) times[i]);
+        }
+        return Math.exp(logSum / INDEX_KERNELS);
+    }
+
+    private static long[] run() {
+        long[] times = new long[KERNEL_DIMENSIONS.length];
+        for (int kernel = 0; kernel < times.length; kernel++) {
+            try {
+                runKernel(kernel); // warm-up
+                long best = Long.MAX_VALUE;
+                for (int i = 0; i < RUNS; i++) {
+                    long start = System.nanoTime();
+                    runKernel(kernel);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                times[kernel] = Math.max(best, 1);
+            } catch (IOException e) {
+                PerformanceTestPlugin.logWarning("host calibration failed: " + e); //$NON-NLS-1$
+            }
+        }
+        return times;
+    }
+
+    private static void runKernel(int kernel) throws IOException {
+        switch (kernel) {
+            case 0:
+                fgSink += integerKernel();
+                break;
+            case 1:
+                fgSink += Double.doubleToLongBits(floatingPointKernel());
+                break;
+            case 2:
+                fgSink += memoryKernel();
+                break;
+            case 3:
+                fgSink += allocationKernel();
+                break;
+            default:
+                fgSink += fileKernel();
+                break;
+        }
+    }
+
+    static long integerKernel() {
+        long x = 88172645463325252L;
+        long sum = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+            sum += x % 1021;
+        }
+        return sum;
+    }
+
+    static double floatingPointKernel() {
+        double x = 0.5;
+        double sum = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            x = 3.9 * x * (1 - x); // logistic map, stays in (0, 1)
+            sum += x / (1 + x);
+        }
+        return sum;
+    }
+
+    static long memoryKernel() {
+        long[] source = new long[MEMORY_LENGTH];
+        long[] target = new long[MEMORY_LENGTH];
+        for (int i = 0; i < MEMORY_LENGTH; i++)
+            source[i] = i;
+        long sum = 0;
+        for (int pass = 0; pass < MEMORY_PASSES; pass++) {
+            System.arraycopy(source, 0, target, 0, MEMORY_LENGTH);
+            for (int i = 0; i < MEMORY_LENGTH; i++)
+                sum += target[i];
+            long[] swap = source;
+            source = target;
+            target = swap;
+        }
+        return sum;
+    }
+
+    static long allocationKernel() {
+        Object[] ring = new Object[1024];
+        long sum = 0;
+        for (int i = 0; i < ALLOCATIONS; i++) {
+            int[] array = new int[1 + (i & 7)];
+            array[0] = i;
+            ring[i & (ring.length - 1)] = array;
+            sum += array.length;
+        }
+        return sum + ring.length;
+    }
+
+    static long fileKernel() throws IOException {
+        Path file = Files.createTempFile("calibration", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(FILE_CHUNK);
+            for (int i = 0; i < FILE_CHUNK; i++)
+                buffer.put(i, (byte) i);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                for (int written = 0; written < FILE_SIZE; written += FILE_CHUNK) {
+                    buffer.clear();
+                    while (buffer.hasRemaining())
+                        channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            long sum = 0;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer.clear();
+                while (channel.read(buffer) > 0) {
+                    buffer.flip();
+                    sum += buffer.get(buffer.limit() - 1);
+                    buffer.clear();
+                }
+            }
+            return sum;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.io.IOException;
+
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.db.Variations;
+
+/**
+ * Receives the samples committed by {@link InternalPerformanceMeter}s, e.g. to write them to a file.
+ *
+ * @since 3.21
+ */
+public interface IResultSink {
+
+    /**
+     * Writes a committed sample.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations the sample was measured with
+     * @param sample
+     *            the sample
+     * @throws IOException
+     *             if writing fails
+     */
+    void write(String scenarioId, Variations variations, Sample sample) throws IOException;
+
+    /**
+     * Makes sure that all samples written so far have reached their destination.
+     *
+     * @throws IOException
+     *             if flushing fails
+     */
+    void flush() throws IOException;
+
+    /**
+     * Flushes and releases the resources of this sink. Afterwards no samples must be written.
+     *
+     * @throws IOException
+     *             if closing fails
+     */
+    void close() throws IOException;
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2005 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,7 +30,34 @@ public interface InternalDimensions {
             // USER_TIME= new Dim(10, Unit.SECOND, 1000), // the amount of elapsed user time. "User time"
             KERNEL_TIME = new Dim(11, Unit.SECOND, 1000), // the amount of elapsed kernel time. "Kernel time"
             CPU_TIME = new Dim(20, Unit.SECOND, 1000), // the amount of CPU time we have used so far. "CPU Time"
-            INVOCATION_COUNT = new Dim(52, Unit.INVOCATION, 1); // the number of method invocations. "Invocation Count"
+            INVOCATION_COUNT = new Dim(52, Unit.INVOCATION, 1), // the number of method invocations. "Invocation Count"
+            ELAPSED_TIME = new Dim(53, Unit.SECOND, 1000000000); // System.nanoTime. "Elapsed Time"
+
+    // JVM Counters:
+    Dim THREAD_CPU_TIME = new Dim(54, Unit.SECOND, 1000000000), // ThreadMXBean.getCurrentThreadCpuTime. "Thread CPU Time"
+            ALLOCATED_BYTES = new Dim(55, Unit.BYTE), // bytes allocated by the measuring thread. "Allocated Bytes"
+            GC_COUNT = new Dim(56), // GarbageCollectorMXBean.getCollectionCount, summed over all collectors. "GC Count"
+            GC_TIME = new Dim(57, Unit.SECOND, 1000), // GarbageCollectorMXBean.getCollectionTime, summed. "GC Time"
+            CLASSES_LOADED = new Dim(58), // ClassLoadingMXBean.getTotalLoadedClassCount. "Classes Loaded"
+            JIT_TIME = new Dim(59, Unit.SECOND, 1000); // CompilationMXBean.getTotalCompilationTime. "JIT Time"
+
+    // Concurrent scenarios:
+    Dim THROUGHPUT = new Dim(60, Unit.CARDINAL, 1000), // operations per second, in thousandths. "Throughput"
+            OPERATION_COUNT = new Dim(61), // the number of operations of all worker threads. "Operation Count"
+            MEAN_LATENCY = new Dim(62, Unit.SECOND, 1000000000), // the mean latency of an operation. "Mean Latency"
+            MAX_LATENCY = new Dim(63, Unit.SECOND, 1000000000); // the maximum latency of an operation. "Max Latency"
+
+    // Flight Recorder:
+    Dim ALLOCATION_RATE = new Dim(64, Unit.BYTE), // bytes allocated per second during a recorded scenario. "Allocation Rate"
+            GC_PAUSE_TIME = new Dim(65, Unit.SECOND, 1000000000); // the sum of the GC pauses of a recorded scenario. "GC Pause Time"
+
+    // Host Calibration:
+    Dim CALIBRATION_INTEGER = new Dim(66, Unit.SECOND, 1000000000), // the time of the integer benchmark. "Calibration Integer"
+            CALIBRATION_FLOATING_POINT = new Dim(67, Unit.SECOND, 1000000000), // the time of the floating point benchmark. "Calibration Floating Point"
+            CALIBRATION_MEMORY = new Dim(68, Unit.SECOND, 1000000000), // the time of the memory bandwidth benchmark. "Calibration Memory"
+            CALIBRATION_ALLOCATION = new Dim(69, Unit.SECOND, 1000000000), // the time of the allocation benchmark. "Calibration Allocation"
+            CALIBRATION_FILE_IO = new Dim(70, Unit.SECOND, 1000000000), // the time of the file I/O benchmark. "Calibration File IO"
+            HOST_SPEED_INDEX = new Dim(71, Unit.CARDINAL, 1000); // the speed relative to the nominal host, in thousandths. "Host Speed Index"
 
     // OS Info:
     Dim PHYSICAL_TOTAL = new Dim(24, Unit.BYTE), // the amount of physical memory in bytes. "Physical Memory"
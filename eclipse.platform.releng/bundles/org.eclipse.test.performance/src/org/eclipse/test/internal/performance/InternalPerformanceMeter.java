@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,7 @@
 package org.eclipse.test.internal.performance;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.io.PrintStream;
 import java.text.MessageFormat;
 import java.text.NumberFormat;
@@ -29,6 +27,8 @@ import java.util.List;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.test.internal.performance.data.DataPoint;
 import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Histogram;
+import org.eclipse.test.internal.performance.data.NoiseSummary;
 import org.eclipse.test.internal.performance.data.Sample;
 import org.eclipse.test.internal.performance.db.Variations;
 import org.eclipse.test.internal.performance.eval.StatisticsSession;
@@ -57,6 +57,12 @@ public abstract class InternalPerformanceMeter extends PerformanceMeter {
     protected static final String VERBOSE_PERFORMANCE_METER_PROPERTY = "InternalPrintPerformanceResults"; //$NON-NLS-1$
     protected static final String CSV_PERFORMANCE_METER_PROPERTY = "InternalPrintCsvPerformanceResults"; //$NON-NLS-1$
     private   static final String DUMP_PERFORMANCE_DATA_PROPERTY = "InternalWriteRawPerformanceData"; //$NON-NLS-1$
+    private   static final String RESULT_QUEUE_CAPACITY_PROPERTY = "InternalPerformanceResultQueueCapacity"; //$NON-NLS-1$
+
+    private static final double   FIVE_PERCENT                       = 0.05;
+
+    private static IResultSink    fgResultSink;
+    private static boolean        fgResultSinkInitialized;
 
     private String                fScenarioId;
 
@@ -95,41 +101,113 @@ public abstract class InternalPerformanceMeter extends PerformanceMeter {
             } else if (this.fComment != null) {
                 sample.setComment(this.fCommentType, this.fComment);
             }
-            Variations variations = PerformanceTestPlugin.getVariations();
+            recordNoise(sample);
+            Variations variations = getVariations();
             if (System.getProperty(VERBOSE_PERFORMANCE_METER_PROPERTY) != null) {
                 printSample(System.out, sample);
                 // printSampleCSV(System.out, sample);
             }
-            String property = System.getProperty(CSV_PERFORMANCE_METER_PROPERTY);
-            if (property != null) {
-                File output = new File(property);
-                try (PrintStream ps = new PrintStream(new FileOutputStream(output))) {
-                    printSampleCSV(ps, sample);
+            IResultSink sink = getResultSink();
+            if (sink != null) {
+                try {
+                    sink.write(fScenarioId, variations, sample);
                 } catch (IOException e) {
-                    // It turns out you cannot write.
-                    e.printStackTrace();
+                    PerformanceTestPlugin.log(e);
                 }
             }
-            property = System.getProperty(DUMP_PERFORMANCE_DATA_PROPERTY);
-            if (property != null) {
-                File output = new File(property);
-                try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(output, true))) {
-                    oos.writeObject(fScenarioId);
-                    oos.writeObject(variations);
-                    oos.writeObject(sample);
-                } catch (IOException e) {
-                    // It turns out you cannot write.
-                    e.printStackTrace();
-                }
+        }
+    }
+
+    /**
+     * Records in <code>sample</code> how many outliers the configured filters discarded and how noisy the remaining values were.
+     */
+    private static void recordNoise(Sample sample) {
+        DataPoint[] dataPoints = sample.getDataPoints();
+        if (dataPoints.length == 0)
+            return;
+        StatisticsSession s = new StatisticsSession(sample);
+        for (Dim dimension : dataPoints[0].getDimensions()) {
+            NoiseSummary noise = s.getNoise(dimension);
+            if (noise != null)
+                sample.setNoise(dimension, noise);
+        }
+    }
+
+    /**
+     * Returns the variations committed samples are tagged with.
+     *
+     * @return the variations configured with <code>eclipse.perf.config</code>
+     * @since 3.21
+     */
+    public Variations getVariations() {
+        return PerformanceTestPlugin.getVariations();
+    }
+
+    /**
+     * Returns the sink committed samples are written to. By default the sink writes the files requested with the system properties
+     * <code>InternalPrintCsvPerformanceResults</code> and <code>InternalWriteRawPerformanceData</code> in a background thread. The
+     * capacity of its queue can be set with <code>InternalPerformanceResultQueueCapacity</code>.
+     *
+     * @return the result sink or <code>null</code> if committed samples are not written to files
+     * @since 3.21
+     */
+    public static synchronized IResultSink getResultSink() {
+        if (!fgResultSinkInitialized) {
+            fgResultSinkInitialized = true;
+            fgResultSink = createDefaultResultSink();
+        }
+        return fgResultSink;
+    }
+
+    /**
+     * Replaces the sink committed samples are written to. The previous sink is not closed.
+     *
+     * @param sink
+     *            the new result sink or <code>null</code>
+     * @since 3.21
+     */
+    public static synchronized void setResultSink(IResultSink sink) {
+        fgResultSinkInitialized = true;
+        fgResultSink = sink;
+    }
+
+    private static IResultSink createDefaultResultSink() {
+        List<IResultSink> sinks = new ArrayList<>();
+        String property = System.getProperty(CSV_PERFORMANCE_METER_PROPERTY);
+        if (property != null) {
+            try {
+                sinks.add(new CsvResultSink(new File(property)));
+            } catch (IOException e) {
+                PerformanceTestPlugin.log(e);
+            }
+        }
+        property = System.getProperty(DUMP_PERFORMANCE_DATA_PROPERTY);
+        if (property != null) {
+            try {
+                sinks.add(new RawDataResultSink(new File(property)));
+            } catch (IOException e) {
+                PerformanceTestPlugin.log(e);
+            }
+        }
+        if (sinks.isEmpty())
+            return null;
+        int capacity = AsyncResultSink.DEFAULT_CAPACITY;
+        property = System.getProperty(RESULT_QUEUE_CAPACITY_PROPERTY);
+        if (property != null) {
+            try {
+                capacity = Integer.parseInt(property);
+            } catch (NumberFormatException e) {
+                PerformanceTestPlugin.logWarning("invalid value for " + RESULT_QUEUE_CAPACITY_PROPERTY + ": " + property); //$NON-NLS-1$ //$NON-NLS-2$
             }
         }
+        return new AsyncResultSink(sinks.toArray(new IResultSink[sinks.size()]), capacity);
     }
 
     private void printSample(PrintStream ps, Sample sample) {
         ps.print("Scenario '" + getScenarioName() + "' "); //$NON-NLS-1$ //$NON-NLS-2$
         DataPoint[] dataPoints = sample.getDataPoints();
         if (dataPoints.length > 0) {
-            StatisticsSession s = new StatisticsSession(dataPoints);
+            StatisticsSession s = new StatisticsSession(sample);
             Dim[] dimensions = dataPoints[0].getDimensions();
             Arrays.sort(dimensions, new DimensionComparator());
             if (dimensions.length > 0) {
@@ -183,6 +261,13 @@ public abstract class InternalPerformanceMeter extends PerformanceMeter {
                     ps.print(nameString);
                     ps.print(meanString);
                     ps.println(printBuffer);
+
+                    Histogram histogram = sample.getHistogram(dimension);
+                    if (histogram != null && histogram.getCount() > 0)
+                        ps.println(formatHistogram(dimension, histogram));
+                    NoiseSummary noise = sample.getNoise(dimension);
+                    if (noise != null)
+                        ps.println("    " + noise); //$NON-NLS-1$
                 }
 
                 if (!badDimensions.isEmpty()) {
@@ -200,6 +285,17 @@ public abstract class InternalPerformanceMeter extends PerformanceMeter {
         ps.println();
     }
 
+    private static String formatHistogram(Dim dimension, Histogram histogram) {
+        StringBuilder sb = new StringBuilder("    "); //$NON-NLS-1$
+        for (double percentile : Histogram.REPORTED_PERCENTILES) {
+            sb.append('p').append(Histogram.formatPercentile(percentile)).append(": "); //$NON-NLS-1$
+            sb.append(dimension.getDisplayValue(histogram.getValueAtPercentile(percentile))).append(", "); //$NON-NLS-1$
+        }
+        sb.append("max: ").append(dimension.getDisplayValue(histogram.getMax())); //$NON-NLS-1$
+        sb.append(" (").append(histogram.getCount()).append(" values)"); //$NON-NLS-1$ //$NON-NLS-2$
+        return sb.toString();
+    }
+
     private String checkSampleSize(StatisticsSession s, Sample sample, Dim dimension) throws CoreException {
         long sampleSize = s.getCount(dimension);
         double stdev = s.getStddev(dimension);
@@ -208,21 +304,11 @@ public abstract class InternalPerformanceMeter extends PerformanceMeter {
         if (stdev == 0)
             return ""; //$NON-NLS-1$
 
-        // measurable effect size
-        // sampleSize= 16 * stdev^2 / effect^2
-        double effectSize = 4 * Math.sqrt(stdev * stdev / sampleSize);
-
-        double base;
-        String baseName;
-        if (stdev > Math.abs(mean)) {
-            base = stdev;
-            baseName = "stdev"; //$NON-NLS-1$
-        } else {
-            base = Math.abs(mean);
-            baseName = "mean"; //$NON-NLS-1$
-        }
-        double fivePercentEffect = 0.05 * base;
-        long requiredSampleSizeForFivePercentEffect = Math.round(16 * stdev * stdev / fivePercentEffect / fivePercentEffect + 0.5);
+        double effectSize = getMeasurableEffect(stdev, sampleSize);
+
+        String baseName = stdev > Math.abs(mean) ? "stdev" : "mean"; //$NON-NLS-1$ //$NON-NLS-2$
+        double fivePercentEffect = FIVE_PERCENT * Math.max(stdev, Math.abs(mean));
+        long requiredSampleSizeForFivePercentEffect = getRequiredSampleSize(mean, stdev, FIVE_PERCENT);
 
         // if (requiredSampleSizeForFivePercentEffect > 1000 || Double.isNaN(stdev))
         //			throw new CoreException(new Status(IStatus.OK, "org.eclipse.text.performance", IStatus.OK, "no message", null)); //$NON-NLS-1$ //$NON-NLS-2$
@@ -238,6 +324,40 @@ public abstract class InternalPerformanceMeter extends PerformanceMeter {
         return measurableMsg;
     }
 
+    /**
+     * Returns the smallest effect that can be detected with <code>sampleSize</code> measurements of the given standard deviation
+     * (at a significance level of 5% and a power of 80%).
+     *
+     * @param stdev
+     *            the standard deviation of the measurements
+     * @param sampleSize
+     *            the number of measurements
+     * @return the measurable effect size
+     * @since 3.21
+     */
+    public static double getMeasurableEffect(double stdev, long sampleSize) {
+        // sampleSize= 16 * stdev^2 / effect^2
+        return 4 * Math.sqrt(stdev * stdev / sampleSize);
+    }
+
+    /**
+     * Returns the number of measurements required to detect an effect of <code>relativeEffect</code> times the mean (or times the
+     * standard deviation, if that is larger than the mean).
+     *
+     * @param mean
+     *            the mean of the measurements
+     * @param stdev
+     *            the standard deviation of the measurements
+     * @param relativeEffect
+     *            the effect to detect, relative to the mean, e.g. <code>0.05</code>
+     * @return the required sample size
+     * @since 3.21
+     */
+    public static long getRequiredSampleSize(double mean, double stdev, double relativeEffect) {
+        double effect = relativeEffect * Math.max(stdev, Math.abs(mean));
+        return Math.round(16 * stdev * stdev / effect / effect + 0.5);
+    }
+
     private int firstNonDigit(String string) {
         int length = string.length();
         for (int i = 0; i < length; i++)
@@ -246,7 +366,7 @@ public abstract class InternalPerformanceMeter extends PerformanceMeter {
         return length;
     }
 
-    void printSampleCSV(PrintStream ps, Sample sample) {
+    static void printSampleCSV(PrintStream ps, Sample sample) {
         final char SEPARATOR = '\t';
         DataPoint[] dataPoints = sample.getDataPoints();
         if (dataPoints.length > 0) {
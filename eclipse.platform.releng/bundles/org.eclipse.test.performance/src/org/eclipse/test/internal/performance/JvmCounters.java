@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.test.internal.performance.data.Dim;
+
+/**
+ * Collects the counters the Java virtual machine exposes through its management beans: CPU time and allocated bytes of the
+ * measuring thread, garbage collections, loaded classes and JIT compilation time. Counters which are not supported by the running
+ * VM are left out of {@link #getDimensions()}.
+ */
+class JvmCounters {
+
+    private final ThreadMXBean             fThreadBean;
+    private final boolean                  fHasThreadCpuTime;
+    private final boolean                  fHasAllocatedBytes;
+    private final GarbageCollectorMXBean[] fCollectors;
+    private final ClassLoadingMXBean       fClassLoadingBean;
+    private final CompilationMXBean        fCompilationBean;
+    private final Dim[]                    fDimensions;
+
+    JvmCounters() {
+        List<Dim> dimensions = new ArrayList<>();
+
+        fThreadBean = ManagementFactory.getThreadMXBean();
+        fHasThreadCpuTime = enableThreadCpuTime(fThreadBean);
+        if (fHasThreadCpuTime)
+            dimensions.add(InternalDimensions.THREAD_CPU_TIME);
+        fHasAllocatedBytes = enableAllocatedBytes(fThreadBean);
+        if (fHasAllocatedBytes)
+            dimensions.add(InternalDimensions.ALLOCATED_BYTES);
+
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        fCollectors = collectors.toArray(new GarbageCollectorMXBean[collectors.size()]);
+        dimensions.add(InternalDimensions.GC_COUNT);
+        dimensions.add(InternalDimensions.GC_TIME);
+
+        fClassLoadingBean = ManagementFactory.getClassLoadingMXBean();
+        dimensions.add(InternalDimensions.CLASSES_LOADED);
+
+        CompilationMXBean compilationBean = ManagementFactory.getCompilationMXBean();
+        if (compilationBean != null && compilationBean.isCompilationTimeMonitoringSupported()) {
+            fCompilationBean = compilationBean;
+            dimensions.add(InternalDimensions.JIT_TIME);
+        } else
+            fCompilationBean = null;
+
+        fDimensions = dimensions.toArray(new Dim[dimensions.size()]);
+    }
+
+    /**
+     * Returns the dimensions written by {@link #collect(long[], int)}, in the order in which they are written.
+     *
+     * @return the supported dimensions
+     */
+    Dim[] getDimensions() {
+        return fDimensions;
+    }
+
+    /**
+     * Writes the counters into <code>counters</code> without allocating, starting at <code>index</code>. The thread counters are
+     * taken for the calling thread.
+     *
+     * @param counters
+     *            where to collect the data
+     * @param index
+     *            the first slot to write
+     * @return the index of the slot following the last slot written
+     */
+    int collect(long[] counters, int index) {
+        if (fHasThreadCpuTime)
+            counters[index++] = fThreadBean.getCurrentThreadCpuTime();
+        if (fHasAllocatedBytes)
+            counters[index++] = ((com.sun.management.ThreadMXBean) fThreadBean).getCurrentThreadAllocatedBytes();
+
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean collector : fCollectors) {
+            // -1 means undefined for this collector
+            long c = collector.getCollectionCount();
+            if (c > 0)
+                count += c;
+            long t = collector.getCollectionTime();
+            if (t > 0)
+                time += t;
+        }
+        counters[index++] = count;
+        counters[index++] = time;
+
+        counters[index++] = fClassLoadingBean.getTotalLoadedClassCount();
+        if (fCompilationBean != null)
+            counters[index++] = fCompilationBean.getTotalCompilationTime();
+        return index;
+    }
+
+    private static boolean enableThreadCpuTime(ThreadMXBean threadBean) {
+        try {
+            if (!threadBean.isCurrentThreadCpuTimeSupported())
+                return false;
+            if (!threadBean.isThreadCpuTimeEnabled())
+                threadBean.setThreadCpuTimeEnabled(true);
+            return true;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            PerformanceTestPlugin.logWarning("thread CPU time not available: " + e); //$NON-NLS-1$
+            return false;
+        }
+    }
+
+    private static boolean enableAllocatedBytes(ThreadMXBean threadBean) {
+        try {
+            if (!(threadBean instanceof com.sun.management.ThreadMXBean))
+                return false;
+            com.sun.management.ThreadMXBean sunThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (!sunThreadBean.isThreadAllocatedMemorySupported())
+                return false;
+            if (!sunThreadBean.isThreadAllocatedMemoryEnabled())
+                sunThreadBean.setThreadAllocatedMemoryEnabled(true);
+            return true;
+        } catch (LinkageError | UnsupportedOperationException | SecurityException e) {
+            // com.sun.management is not present on every VM
+            PerformanceTestPlugin.logWarning("allocated bytes not available: " + e); //$NON-NLS-1$
+            return false;
+        }
+    }
+}
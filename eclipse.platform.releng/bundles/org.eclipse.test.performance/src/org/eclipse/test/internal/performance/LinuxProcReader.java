@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the Linux process and machine counters from <code>/proc</code>. The files are kept open and re-read into a reusable
+ * buffer with positional reads, and numbers are parsed in place, so taking a snapshot neither forks nor allocates.
+ * The files stay open for the life of the process.
+ * <p>
+ * Not thread safe, callers have to synchronize.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class LinuxProcReader {
+
+    /**
+     * A <code>/proc</code> file that is kept open and read into a reusable buffer.
+     */
+    private static final class ProcFile {
+
+        private final Path fPath;
+        private FileChannel fChannel;
+        private ByteBuffer fBuffer = ByteBuffer.allocateDirect(8192);
+        private int        fLimit;
+        private int        fCursor;
+
+        ProcFile(Path path) {
+            fPath = path;
+        }
+
+        void load() throws IOException {
+            if (fChannel == null)
+                fChannel = FileChannel.open(fPath, StandardOpenOption.READ);
+            fBuffer.clear();
+            long position = 0;
+            int read;
+            while ((read = fChannel.read(fBuffer, position)) > 0) {
+                position += read;
+                if (!fBuffer.hasRemaining()) {
+                    // rare: file outgrew the buffer, e.g. /proc/meminfo on an exotic kernel
+                    ByteBuffer larger = ByteBuffer.allocateDirect(2 * fBuffer.capacity());
+                    fBuffer.flip();
+                    larger.put(fBuffer);
+                    fBuffer = larger;
+                }
+            }
+            fLimit = (int) position;
+            fCursor = 0;
+        }
+
+        /**
+         * Positions the cursor after the last occurrence of <code>c</code>.
+         */
+        boolean skipPastLast(byte c) {
+            for (int i = fLimit - 1; i >= 0; i--) {
+                if (fBuffer.get(i) == c) {
+                    fCursor = i + 1;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void skipTokens(int count) {
+            for (int n = 0; n < count; n++) {
+                skipBlanks();
+                while (fCursor < fLimit && !isBlank(fBuffer.get(fCursor)))
+                    fCursor++;
+            }
+        }
+
+        /**
+         * Parses the next decimal number, skipping leading blanks.
+         */
+        long nextLong() {
+            skipBlanks();
+            boolean negative = false;
+            if (fCursor < fLimit && fBuffer.get(fCursor) == '-') {
+                negative = true;
+                fCursor++;
+            }
+            long value = 0;
+            while (fCursor < fLimit) {
+                int digit = fBuffer.get(fCursor) - '0';
+                if (digit < 0 || digit > 9)
+                    break;
+                value = value * 10 + digit;
+                fCursor++;
+            }
+            return negative ? -value : value;
+        }
+
+        /**
+         * Returns the value of the first line starting with <code>key</code>, or <code>-1</code> if there is none.
+         */
+        long valueOf(byte[] key) {
+            int line = 0;
+            while (line < fLimit) {
+                if (startsWith(line, key)) {
+                    fCursor = line + key.length;
+                    return nextLong();
+                }
+                while (line < fLimit && fBuffer.get(line) != '\n')
+                    line++;
+                line++;
+            }
+            return -1;
+        }
+
+        private boolean startsWith(int offset, byte[] key) {
+            if (offset + key.length > fLimit)
+                return false;
+            for (int i = 0; i < key.length; i++) {
+                if (fBuffer.get(offset + i) != key[i])
+                    return false;
+            }
+            return true;
+        }
+
+        private void skipBlanks() {
+            while (fCursor < fLimit && isBlank(fBuffer.get(fCursor)))
+                fCursor++;
+        }
+
+        private static boolean isBlank(byte b) {
+            return b == ' ' || b == '\t' || b == '\n';
+        }
+    }
+
+    private static final long     DEFAULT_CLOCK_TICKS = 100;
+    private static final long     DEFAULT_PAGE_SIZE   = 4096;
+
+    // auxiliary vector entry types, see getauxval(3)
+    private static final int      AT_NULL             = 0;
+    private static final int      AT_PAGESZ           = 6;
+    private static final int      AT_CLKTCK           = 17;
+
+    private static final byte[]   MEM_TOTAL           = bytes("MemTotal:");      //$NON-NLS-1$
+    private static final byte[]   MEM_FREE            = bytes("MemFree:");       //$NON-NLS-1$
+    private static final byte[]   BUFFERS             = bytes("Buffers:");       //$NON-NLS-1$
+    private static final byte[]   CACHED              = bytes("Cached:");        //$NON-NLS-1$
+    private static final byte[]   S_RECLAIMABLE       = bytes("SReclaimable:");  //$NON-NLS-1$
+
+    private final ProcFile        fStat;
+    private final ProcFile        fStatm;
+    private final ProcFile        fMeminfo;
+
+    private long                  fClockTicks         = DEFAULT_CLOCK_TICKS;
+    private long                  fPageSize           = DEFAULT_PAGE_SIZE;
+
+    public LinuxProcReader() {
+        this(Paths.get("/proc/self/stat"), Paths.get("/proc/self/statm"), Paths.get("/proc/meminfo")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        readAuxiliaryVector();
+    }
+
+    /**
+     * Creates a reader of files in the formats of <code>/proc/self/stat</code>, <code>/proc/self/statm</code> and
+     * <code>/proc/meminfo</code>, e.g. for tests. The default clock ticks and page size are used.
+     *
+     * @param stat
+     *            the stat file
+     * @param statm
+     *            the statm file
+     * @param meminfo
+     *            the meminfo file
+     */
+    public LinuxProcReader(Path stat, Path statm, Path meminfo) {
+        fStat = new ProcFile(stat);
+        fStatm = new ProcFile(statm);
+        fMeminfo = new ProcFile(meminfo);
+    }
+
+    /**
+     * Returns the number of clock ticks per second (<code>sysconf(_SC_CLK_TCK)</code>).
+     *
+     * @return the clock ticks per second
+     */
+    public long getClockTicks() {
+        return fClockTicks;
+    }
+
+    /**
+     * Returns the page size in bytes.
+     *
+     * @return the page size
+     */
+    public long getPageSize() {
+        return fPageSize;
+    }
+
+    /**
+     * Converts clock ticks into milliseconds.
+     *
+     * @param ticks
+     *            the clock ticks
+     * @return the milliseconds
+     */
+    public long ticksToMillis(long ticks) {
+        return ticks * 1000 / fClockTicks;
+    }
+
+    /**
+     * Reads the status values for this process from /proc/self/stat. The names of the variables match the man proc page.
+     *
+     * @param values
+     *            receives minflt, majflt, utime and stime (in clock ticks)
+     * @return <code>true</code> if the values could be read
+     */
+    public boolean readStat(long[] values) {
+        try {
+            fStat.load();
+        } catch (IOException e) {
+            PerformanceTestPlugin.log(e);
+            return false;
+        }
+        // comm (field 2) is in parentheses and may contain blanks
+        if (!fStat.skipPastLast((byte) ')'))
+            return false;
+        fStat.skipTokens(7); // state, ppid, pgrp, session, tty_nr, tpgid, flags
+        values[0] = fStat.nextLong(); // Minor page faults (didn't need to load a page from disk).
+        fStat.skipTokens(1); // cminflt
+        values[1] = fStat.nextLong(); // Major page faults.
+        fStat.skipTokens(1); // cmajflt
+        values[2] = fStat.nextLong(); // User time in clock ticks.
+        values[3] = fStat.nextLong(); // System time in clock ticks.
+        return true;
+    }
+
+    /**
+     * Reads the status memory values for this process from /proc/self/statm.
+     *
+     * @param values
+     *            receives the resident, text, data/stack and library sizes in pages
+     * @return <code>true</code> if the values could be read
+     */
+    public boolean readStatm(long[] values) {
+        try {
+            fStatm.load();
+        } catch (IOException e) {
+            PerformanceTestPlugin.log(e);
+            return false;
+        }
+        fStatm.skipTokens(1); // int size; // Size of the process in pages
+        values[0] = fStatm.nextLong(); // Resident size in pages.
+        fStatm.skipTokens(1); // int shared; // Shared size in pages.
+        values[1] = fStatm.nextLong(); // Text (code) size in pages.
+        values[2] = fStatm.nextLong(); // Data/Stack size in pages.
+        values[3] = fStatm.nextLong(); // Library size in pages.
+        return true;
+    }
+
+    /**
+     * Reads the machine memory values from /proc/meminfo.
+     *
+     * @param values
+     *            receives total, used, free, buffers and cache in bytes
+     * @return <code>true</code> if the values could be read
+     */
+    public boolean readMeminfo(long[] values) {
+        try {
+            fMeminfo.load();
+        } catch (IOException e) {
+            PerformanceTestPlugin.log(e);
+            return false;
+        }
+        long total = fMeminfo.valueOf(MEM_TOTAL);
+        long free = fMeminfo.valueOf(MEM_FREE);
+        if (total < 0 || free < 0)
+            return false;
+        long buffers = Math.max(fMeminfo.valueOf(BUFFERS), 0);
+        // like free(1): cache includes reclaimable slab memory
+        long cache = Math.max(fMeminfo.valueOf(CACHED), 0) + Math.max(fMeminfo.valueOf(S_RECLAIMABLE), 0);
+        long used = total - free - buffers - cache;
+        if (used < 0)
+            used = total - free;
+        values[0] = total * 1024;
+        values[1] = used * 1024;
+        values[2] = free * 1024;
+        values[3] = buffers * 1024;
+        values[4] = cache * 1024;
+        return true;
+    }
+
+    /**
+     * Determines clock ticks and page size from the auxiliary vector the kernel passed to this process.
+     */
+    private void readAuxiliaryVector() {
+        byte[] auxv;
+        try {
+            auxv = Files.readAllBytes(Paths.get("/proc/self/auxv")); //$NON-NLS-1$
+        } catch (IOException | SecurityException e) {
+            return; // keep the defaults
+        }
+        boolean is32Bit = "32".equals(System.getProperty("sun.arch.data.model")); //$NON-NLS-1$ //$NON-NLS-2$
+        int wordSize = is32Bit ? 4 : 8;
+        ByteBuffer buffer = ByteBuffer.wrap(auxv).order(ByteOrder.nativeOrder());
+        while (buffer.remaining() >= 2 * wordSize) {
+            long type = is32Bit ? buffer.getInt() & 0xFFFFFFFFL : buffer.getLong();
+            long value = is32Bit ? buffer.getInt() & 0xFFFFFFFFL : buffer.getLong();
+            if (type == AT_NULL)
+                break;
+            if (type == AT_CLKTCK && value > 0)
+                fClockTicks = value;
+            else if (type == AT_PAGESZ && value > 0)
+                fPageSize = value;
+        }
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Scalar;
+
+/**
+ * Growable primitive storage for measurements: one <code>long[]</code> column per dimension plus a step column. Recording a row
+ * does not allocate unless the columns have to grow; {@link DataPoint}s are only created by {@link #toDataPoints()}.
+ *
+ * @since 3.21
+ */
+public final class MeasurementColumns {
+
+    private final Dim[] fDimensions;
+    private long[][]    fColumns;
+    private int[]       fSteps;
+    private int         fSize;
+
+    /**
+     * @param dimensions
+     *            the dimensions, one column each
+     * @param initialCapacity
+     *            the initial number of rows
+     */
+    public MeasurementColumns(Dim[] dimensions, int initialCapacity) {
+        fDimensions = dimensions.clone();
+        int capacity = Math.max(initialCapacity, 2);
+        fColumns = new long[fDimensions.length][capacity];
+        fSteps = new int[capacity];
+    }
+
+    public Dim[] getDimensions() {
+        return fDimensions.clone();
+    }
+
+    public int getDimensionCount() {
+        return fDimensions.length;
+    }
+
+    /**
+     * Returns the number of rows recorded so far.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return fSize;
+    }
+
+    /**
+     * Makes sure that at least <code>rows</code> more rows can be added without growing the columns.
+     *
+     * @param rows
+     *            the number of additional rows
+     */
+    public void ensureCapacity(int rows) {
+        int required = fSize + rows;
+        if (required > fSteps.length) {
+            int capacity = Math.max(required, fSteps.length * 2);
+            for (int i = 0; i < fColumns.length; i++)
+                fColumns[i] = Arrays.copyOf(fColumns[i], capacity);
+            fSteps = Arrays.copyOf(fSteps, capacity);
+        }
+    }
+
+    /**
+     * Appends a row whose values are taken from <code>values</code>, which holds one value per dimension in column order.
+     *
+     * @param step
+     *            the step of the row, e.g. {@link InternalPerformanceMeter#BEFORE}
+     * @param values
+     *            the values of the row
+     */
+    public void add(int step, long[] values) {
+        if (fSize == fSteps.length)
+            ensureCapacity(1);
+        int row = fSize++;
+        fSteps[row] = step;
+        for (int i = 0; i < fColumns.length; i++)
+            fColumns[i][row] = values[i];
+    }
+
+    public int getStep(int row) {
+        return fSteps[row];
+    }
+
+    public long get(int row, int column) {
+        return fColumns[column][row];
+    }
+
+    /**
+     * Removes all rows, keeping the allocated capacity.
+     */
+    public void clear() {
+        fSize = 0;
+    }
+
+    /**
+     * Converts the recorded rows into data points.
+     *
+     * @return one data point per row
+     */
+    public DataPoint[] toDataPoints() {
+        DataPoint[] dataPoints = new DataPoint[fSize];
+        for (int row = 0; row < fSize; row++) {
+            Map<Dim, Scalar> scalars = new HashMap<>();
+            for (int i = 0; i < fDimensions.length; i++)
+                scalars.put(fDimensions[i], new Scalar(fDimensions[i], fColumns[i][row]));
+            dataPoints[row] = new DataPoint(fSteps[row], scalars);
+        }
+        return dataPoints;
+    }
+}
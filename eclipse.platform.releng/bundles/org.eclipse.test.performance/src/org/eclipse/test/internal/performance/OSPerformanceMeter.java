@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2005 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.test.internal.performance;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.test.internal.performance.data.DataPoint;
 import org.eclipse.test.internal.performance.data.Dim;
@@ -24,13 +25,15 @@ import org.eclipse.test.internal.performance.data.Sample;
 import org.eclipse.test.internal.performance.data.Scalar;
 
 /**
- * Performance meter that makes its measurements with OS functionality.
+ * Performance meter that makes its measurements with OS functionality. The measured intervals are emitted as Java Flight Recorder
+ * events, and with <code>-Declipse.perf.jfr=&lt;directory&gt;</code> every scenario is recorded, see {@link ScenarioRecorder}.
  */
 public class OSPerformanceMeter extends InternalPerformanceMeter {
 
     private PerformanceMonitor fPerformanceMonitor;
     private long               fStartTime;
     private List<DataPoint>               fDataPoints = new ArrayList<>();
+    private ScenarioRecorder   fRecorder;
 
     /**
      * @param scenarioId
@@ -40,23 +43,43 @@ public class OSPerformanceMeter extends InternalPerformanceMeter {
         super(scenarioId);
         fPerformanceMonitor = PerformanceMonitor.getPerformanceMonitor();
         fStartTime = System.currentTimeMillis();
+        try {
+            fRecorder = ScenarioRecorder.create(scenarioId);
+        } catch (LinkageError e) {
+            // no jdk.jfr module
+        }
     }
 
     @Override
     public void dispose() {
         fPerformanceMonitor = null;
         fDataPoints = null;
+        if (fRecorder != null) {
+            fRecorder.dispose();
+            fRecorder = null;
+        }
         super.dispose();
     }
 
     @Override
     public void start() {
+        if (fRecorder != null)
+            fRecorder.start();
         snapshot(BEFORE);
     }
 
     @Override
     public void stop() {
         snapshot(AFTER);
+        if (fRecorder != null)
+            fRecorder.stop();
+    }
+
+    @Override
+    public void commit() {
+        if (fRecorder != null)
+            fRecorder.commit();
+        super.commit();
     }
 
     @Override
@@ -81,7 +104,9 @@ public class OSPerformanceMeter extends InternalPerformanceMeter {
     /**
      * Write out the run element if it hasn't been written out yet.
      */
-    private void collectRunInfo(HashMap runProperties) {
+    private void collectRunInfo(Map<String, String> runProperties) {
         fPerformanceMonitor.collectGlobalPerformanceInfo(runProperties);
+        if (fRecorder != null)
+            fRecorder.collectResults(runProperties);
     }
 }
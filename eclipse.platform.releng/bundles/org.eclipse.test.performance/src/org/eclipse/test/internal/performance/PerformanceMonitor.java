@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2005 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,11 @@ class PerformanceMonitor {
 
     private static PerformanceMonitor fgPerformanceMonitor;
 
+    private static boolean            fgHasElapsedTime = true;
+    private static long               fgStartupTime;
+
+    private final JvmCounters         fJvmCounters     = new JvmCounters();
+
     public static PerformanceMonitor getPerformanceMonitor() {
         if (fgPerformanceMonitor == null) {
             String os = System.getProperty("os.name"); //$NON-NLS-1$
@@ -40,14 +45,75 @@ class PerformanceMonitor {
         Runtime runtime = Runtime.getRuntime();
         // runtime.gc();
         addScalar(scalars, InternalDimensions.USED_JAVA_HEAP, runtime.totalMemory() - runtime.freeMemory());
+
+        Dim[] dimensions = fJvmCounters.getDimensions();
+        long[] values = new long[dimensions.length];
+        fJvmCounters.collect(values, 0);
+        for (int i = 0; i < dimensions.length; i++)
+            addScalar(scalars, dimensions[i], values[i]);
+    }
+
+    /**
+     * Returns the dimensions written by {@link #collectOperatingSystemCounters(long[], int)}, in the order in which they are
+     * written. The result must not change over the lifetime of the monitor.
+     *
+     * @return the counter dimensions of this monitor
+     */
+    protected Dim[] getCounterDimensions() {
+        return concat(new Dim[] { InternalDimensions.USED_JAVA_HEAP }, fJvmCounters.getDimensions());
+    }
+
+    /**
+     * Writes the operating system counters into <code>counters</code> without allocating, starting at <code>index</code>. Subclasses
+     * write their own counters first and then call the super implementation, matching the order of
+     * {@link #getCounterDimensions()}.
+     *
+     * @param counters
+     *            where to collect the data
+     * @param index
+     *            the first slot to write
+     * @return the index of the slot following the last slot written
+     */
+    protected int collectOperatingSystemCounters(long[] counters, int index) {
+        Runtime runtime = Runtime.getRuntime();
+        counters[index++] = runtime.totalMemory() - runtime.freeMemory();
+        return fJvmCounters.collect(counters, index);
     }
 
+    @SuppressWarnings("unchecked")
     protected void collectGlobalPerformanceInfo(Map scalars) {
-        // no default implementation
+        HostCalibration.addTo(scalars);
     }
 
     @SuppressWarnings("unchecked")
     void addScalar(Map scalars, Dim dimension, long value) {
         scalars.put(dimension, new Scalar(dimension, value));
     }
+
+    /**
+     * Returns the process start time taken from the system property "eclipse.startTime".
+     *
+     * @return the start time in milliseconds or <code>-1</code> if it is not available
+     */
+    static long getStartupTime() {
+        if (fgHasElapsedTime && fgStartupTime == 0) {
+            String t = System.getProperty("eclipse.startTime"); //$NON-NLS-1$
+            if (t != null) {
+                try {
+                    fgStartupTime = Long.parseLong(t);
+                } catch (NumberFormatException e) {
+                    fgHasElapsedTime = false;
+                }
+            } else
+                fgHasElapsedTime = false;
+        }
+        return fgHasElapsedTime ? fgStartupTime : -1;
+    }
+
+    static Dim[] concat(Dim[] own, Dim[] inherited) {
+        Dim[] all = new Dim[own.length + inherited.length];
+        System.arraycopy(own, 0, all, 0, own.length);
+        System.arraycopy(inherited, 0, all, own.length, inherited.length);
+        return all;
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2005 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,14 +16,13 @@ package org.eclipse.test.internal.performance;
 
 import java.util.Map;
 
+import org.eclipse.test.internal.performance.data.Dim;
+
 /**
  * The Mac OS X version of the performance monitor. (Uses default implementation for now).
  */
 class PerformanceMonitorMac extends PerformanceMonitor {
 
-    private static boolean      fgHasElapsedTime    = true;
-    private static long         fgStartupTime;
-
     /**
      * name of the library that implements the native methods.
      */
@@ -34,6 +33,9 @@ class PerformanceMonitorMac extends PerformanceMonitor {
      */
     private static int          fgIsLoaded          = 0;
 
+    private final int[]         fCounters           = new int[18];
+    private Dim[]               fCounterDimensions;
+
     /**
      * Answer true if the native library for this class has been successfully loaded. If the load has not been attempted yet, try to
      * load it.
@@ -64,7 +66,7 @@ class PerformanceMonitorMac extends PerformanceMonitor {
     protected void collectOperatingSystemCounters(Map scalars) {
         synchronized (this) {
             if (isLoaded()) {
-                int[] counters = new int[18];
+                int[] counters = fCounters;
                 if (getrusage(0, counters) == 0) {
 
                     int user_time = counters[0] * 1000 + counters[1] / 1000;
@@ -79,26 +81,50 @@ class PerformanceMonitorMac extends PerformanceMonitor {
 
             addScalar(scalars, InternalDimensions.SYSTEM_TIME, currentTime);
 
-            if (fgHasElapsedTime) {
-                if (fgStartupTime == 0) {
-                    String t = System.getProperty("eclipse.startTime"); //$NON-NLS-1$
-                    if (t != null) {
-                        try {
-                            fgStartupTime = Long.parseLong(t);
-                        } catch (NumberFormatException e) {
-                            fgHasElapsedTime = false;
-                        }
-                    } else
-                        fgHasElapsedTime = false;
-                }
-                if (fgHasElapsedTime)
-                    addScalar(scalars, InternalDimensions.ELAPSED_PROCESS, currentTime - fgStartupTime);
-            }
+            long startupTime = getStartupTime();
+            if (startupTime != -1)
+                addScalar(scalars, InternalDimensions.ELAPSED_PROCESS, currentTime - startupTime);
 
             super.collectOperatingSystemCounters(scalars);
         }
     }
 
+    @Override
+    protected Dim[] getCounterDimensions() {
+        if (fCounterDimensions == null) {
+            Dim[] own;
+            if (getStartupTime() != -1)
+                own = new Dim[] { InternalDimensions.KERNEL_TIME, InternalDimensions.CPU_TIME, InternalDimensions.SYSTEM_TIME,
+                        InternalDimensions.ELAPSED_PROCESS };
+            else
+                own = new Dim[] { InternalDimensions.KERNEL_TIME, InternalDimensions.CPU_TIME, InternalDimensions.SYSTEM_TIME };
+            fCounterDimensions = concat(own, super.getCounterDimensions());
+        }
+        return fCounterDimensions;
+    }
+
+    @Override
+    protected int collectOperatingSystemCounters(long[] counters, int index) {
+        synchronized (this) {
+            long user_time = 0;
+            long kernel_time = 0;
+            if (isLoaded() && getrusage(0, fCounters) == 0) {
+                user_time = fCounters[0] * 1000L + fCounters[1] / 1000;
+                kernel_time = fCounters[2] * 1000L + fCounters[3] / 1000;
+            }
+            counters[index++] = kernel_time;
+            counters[index++] = user_time + kernel_time;
+
+            long currentTime = System.currentTimeMillis();
+            counters[index++] = currentTime;
+            long startupTime = getStartupTime();
+            if (startupTime != -1)
+                counters[index++] = currentTime - startupTime;
+
+            return super.collectOperatingSystemCounters(counters, index);
+        }
+    }
+
     // struct rusage {
     // 0,1 struct timeval ru_utime; /* user time used */
     // 2,3 struct timeval ru_stime; /* system time used */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2016 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,11 @@
 
 package org.eclipse.test.internal.performance;
 
+import java.util.Arrays;
 import java.util.Map;
 
+import org.eclipse.test.internal.performance.data.Dim;
+
 /**
  * The PerformanceMonitor for Windows.
  */
@@ -23,11 +26,14 @@ class PerformanceMonitorWindows extends PerformanceMonitor {
 
     private boolean fgNativeGetPerformanceInfoNotAvailable;
 
+    private final long[] fCounters = new long[14];
+    private Dim[]        fCounterDimensions;
+
     @Override
     protected void collectOperatingSystemCounters(Map scalars) {
         synchronized (this) {
             if (org.eclipse.perfmsr.core.PerformanceMonitor.isLoaded()) {
-                long[] counters = new long[14];
+                long[] counters = fCounters;
                 if (org.eclipse.perfmsr.core.PerformanceMonitor.nativeGetPerformanceCounters(counters)) {
                     addScalar(scalars, InternalDimensions.WORKING_SET, counters[0]);
                     addScalar(scalars, InternalDimensions.WORKING_SET_PEAK, counters[1]);
@@ -52,6 +58,40 @@ class PerformanceMonitorWindows extends PerformanceMonitor {
         }
     }
 
+    @Override
+    protected Dim[] getCounterDimensions() {
+        if (fCounterDimensions == null) {
+            Dim[] own;
+            if (org.eclipse.perfmsr.core.PerformanceMonitor.isLoaded())
+                own = new Dim[] { InternalDimensions.WORKING_SET, InternalDimensions.WORKING_SET_PEAK, InternalDimensions.ELAPSED_PROCESS,
+                        InternalDimensions.KERNEL_TIME, InternalDimensions.CPU_TIME, InternalDimensions.PAGE_FAULTS,
+                        InternalDimensions.GDI_OBJECTS };
+            else
+                own = new Dim[0];
+            fCounterDimensions = concat(own, super.getCounterDimensions());
+        }
+        return fCounterDimensions;
+    }
+
+    @Override
+    protected int collectOperatingSystemCounters(long[] counters, int index) {
+        synchronized (this) {
+            if (org.eclipse.perfmsr.core.PerformanceMonitor.isLoaded()) {
+                long[] values = fCounters;
+                if (!org.eclipse.perfmsr.core.PerformanceMonitor.nativeGetPerformanceCounters(values))
+                    Arrays.fill(values, 0);
+                counters[index++] = values[0];
+                counters[index++] = values[1];
+                counters[index++] = values[2];
+                counters[index++] = values[4];
+                counters[index++] = values[3] + values[4];
+                counters[index++] = values[5];
+                counters[index++] = values[7];
+            }
+            return super.collectOperatingSystemCounters(counters, index);
+        }
+    }
+
     /**
      * Collect global performance info. This includes things like the total committed memory for the entire system.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,12 @@ public class PerformanceTestPlugin extends Plugin {
 
     public static final String  CONFIG                          = "config"; //$NON-NLS-1$
     public static final String  BUILD                           = "build"; //$NON-NLS-1$
+    /**
+     * Variation key of the number of worker threads of a {@link ConcurrentPerformanceMeter}.
+     *
+     * @since 3.21
+     */
+    public static final String  CONCURRENCY                     = "concurrency"; //$NON-NLS-1$
 
     private static final String DEFAULT_DB_NAME                 = "perfDB"; //$NON-NLS-1$
     private static final String DEFAULT_DB_USER                 = "guest"; //$NON-NLS-1$
@@ -64,11 +70,23 @@ public class PerformanceTestPlugin extends Plugin {
      * <li>{@link Dimension#USED_JAVA_HEAP}</li>
      * <li>{@link Dimension#WORKING_SET_PEAK}</li>
      * <li>{@link Dimension#KERNEL_TIME}</li>
+     * <li>{@link Dimension#THREAD_CPU_TIME}</li>
+     * <li>{@link Dimension#ALLOCATED_BYTES}</li>
+     * <li>{@link Dimension#GC_COUNT}</li>
+     * <li>{@link Dimension#GC_TIME}</li>
+     * <li>{@link Dimension#CLASSES_LOADED}</li>
+     * <li>{@link Dimension#JIT_TIME}</li>
+     * <li>{@link Dimension#THROUGHPUT}</li>
+     * <li>{@link Dimension#OPERATION_COUNT}</li>
+     * <li>{@link Dimension#MEAN_LATENCY}</li>
+     * <li>{@link Dimension#MAX_LATENCY}</li>
      * </ul>
      * </p>
      */
     private static final Dim[]  SUPPORTED_DIMENSIONS            = { InternalDimensions.KERNEL_TIME, InternalDimensions.CPU_TIME, InternalDimensions.WORKING_SET, InternalDimensions.ELAPSED_PROCESS, InternalDimensions.USED_JAVA_HEAP,
-            InternalDimensions.WORKING_SET_PEAK, InternalDimensions.COMITTED, };
+            InternalDimensions.WORKING_SET_PEAK, InternalDimensions.COMITTED, InternalDimensions.THREAD_CPU_TIME, InternalDimensions.ALLOCATED_BYTES,
+            InternalDimensions.GC_COUNT, InternalDimensions.GC_TIME, InternalDimensions.CLASSES_LOADED, InternalDimensions.JIT_TIME,
+            InternalDimensions.THROUGHPUT, InternalDimensions.OPERATION_COUNT, InternalDimensions.MEAN_LATENCY, InternalDimensions.MAX_LATENCY, };
 
     /**
      * Identifiers of the supported dimensions.
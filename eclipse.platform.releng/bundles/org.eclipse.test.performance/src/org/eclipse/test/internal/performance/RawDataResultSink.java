@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.eclipse.test.internal.performance.data.RawDataConverter;
+import org.eclipse.test.internal.performance.data.RawDataReader;
+import org.eclipse.test.internal.performance.data.RawDataWriter;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.db.Variations;
+
+/**
+ * Appends samples to a raw data file as read by {@link org.eclipse.test.internal.performance.data.ResultsData}, in the format of
+ * {@link RawDataWriter}. The file is opened once and kept open. An existing file in the Java serialization format of earlier
+ * versions is converted first.
+ *
+ * @since 3.21
+ */
+public class RawDataResultSink implements IResultSink {
+
+    private final RawDataWriter fWriter;
+
+    /**
+     * @param file
+     *            the output file, samples are appended to its contents
+     * @throws IOException
+     *             if the file cannot be opened
+     */
+    public RawDataResultSink(File file) throws IOException {
+        if (file.length() > 0 && !RawDataReader.isRawDataFile(file.toPath()))
+            RawDataConverter.convertInPlace(file.toPath());
+        fWriter = new RawDataWriter(new BufferedOutputStream(new FileOutputStream(file, true), 64 * 1024));
+    }
+
+    @Override
+    public void write(String scenarioId, Variations variations, Sample sample) throws IOException {
+        fWriter.write(scenarioId, variations != null ? variations.toExactMatchString() : null, sample);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        fWriter.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        fWriter.close();
+    }
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning one measured interval of a performance scenario, from {@link OSPerformanceMeter#start()} to
+ * {@link OSPerformanceMeter#stop()}.
+ */
+@Name("org.eclipse.test.performance.Scenario")
+@Label("Performance Scenario")
+@Category({ "Eclipse", "Performance" })
+@Description("A measured interval of a performance scenario")
+@StackTrace(false)
+class ScenarioEvent extends Event {
+
+    @Label("Scenario")
+    String scenario;
+
+    @Label("Iteration")
+    @Description("The number of the measured interval within the scenario, starting at 0")
+    int    iteration;
+}
@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.eclipse.test.internal.performance.data.Scalar;
+
+/**
+ * Java Flight Recorder support of {@link OSPerformanceMeter}. Every measured interval of a scenario is emitted as a
+ * {@link ScenarioEvent}, so the scenarios can be found in any recording of the test run.
+ * <p>
+ * If the system property <code>eclipse.perf.jfr</code> names a directory, each scenario is additionally recorded in a file of
+ * its own in that directory, with the settings named by <code>eclipse.perf.jfr.settings</code> (default <code>profile</code>).
+ * When the meter is committed, the allocation rate, the total GC pause time and the hottest methods are extracted from the
+ * recording and added to the properties of the sample, together with the path of the recording. Only the events inside the
+ * measured intervals count, so warm-up and the work between the intervals do not distort the results.
+ * </p>
+ * This class must only be loaded if the <code>jdk.jfr</code> module is present, see {@link #create(String)}.
+ */
+class ScenarioRecorder {
+
+    static final String         RECORDING_DIRECTORY_PROPERTY = "eclipse.perf.jfr";             //$NON-NLS-1$
+    static final String         SETTINGS_PROPERTY            = "eclipse.perf.jfr.settings";    //$NON-NLS-1$
+
+    /** Property of the sample with the path of the recording. */
+    static final String         RECORDING_KEY                = "jfr.recording";                //$NON-NLS-1$
+    /** Property of the sample with the hottest methods and their share of the execution samples. */
+    static final String         HOT_METHODS_KEY              = "jfr.hotMethods";               //$NON-NLS-1$
+
+    private static final String DEFAULT_SETTINGS             = "profile";                      //$NON-NLS-1$
+    private static final String SCENARIO_EVENT               = "org.eclipse.test.performance.Scenario"; //$NON-NLS-1$
+    private static final int    HOT_METHOD_COUNT             = 5;
+
+    private final String        fScenarioId;
+    private final Path          fDirectory;
+    private ScenarioEvent       fEvent;
+    private int                 fIteration;
+    private Recording           fRecording;
+    private Map<Object, Object> fResults;
+
+    /**
+     * Returns a recorder for a scenario.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @return the recorder, or <code>null</code> if the flight recorder is not available
+     */
+    static ScenarioRecorder create(String scenarioId) {
+        try {
+            if (!FlightRecorder.isAvailable())
+                return null;
+        } catch (LinkageError e) {
+            return null; // no jdk.jfr module
+        }
+        String directory = System.getProperty(RECORDING_DIRECTORY_PROPERTY);
+        return new ScenarioRecorder(scenarioId, directory != null ? Paths.get(directory) : null);
+    }
+
+    private ScenarioRecorder(String scenarioId, Path directory) {
+        fScenarioId = scenarioId;
+        fDirectory = directory;
+    }
+
+    void start() {
+        if (fDirectory != null && fRecording == null)
+            startRecording();
+        ScenarioEvent event = new ScenarioEvent();
+        if (event.isEnabled()) {
+            event.scenario = fScenarioId;
+            event.iteration = fIteration;
+            event.begin();
+            fEvent = event;
+        }
+        fIteration++;
+    }
+
+    void stop() {
+        ScenarioEvent event = fEvent;
+        if (event != null) {
+            fEvent = null;
+            event.end();
+            if (event.shouldCommit())
+                event.commit();
+        }
+    }
+
+    /**
+     * Stops the recording of the scenario, if any, and extracts its results.
+     */
+    void commit() {
+        if (fRecording == null)
+            return;
+        Recording recording = fRecording;
+        fRecording = null;
+        Map<Object, Object> results = null;
+        try {
+            recording.stop();
+            Files.createDirectories(fDirectory);
+            Path file = fDirectory.resolve(toFileName(fScenarioId));
+            recording.dump(file);
+            results = analyze(file, fScenarioId);
+            results.put(RECORDING_KEY, file.toAbsolutePath().toString());
+        } catch (IOException e) {
+            PerformanceTestPlugin.log(e);
+        } finally {
+            recording.close();
+            // no results of an earlier commit if this one failed
+            fResults = results;
+        }
+    }
+
+    /**
+     * Adds the results of the recording to the properties of the sample: the {@link InternalDimensions#ALLOCATION_RATE} and
+     * {@link InternalDimensions#GC_PAUSE_TIME} as {@link Scalar}s, the hot methods and the recording path as strings.
+     *
+     * @param properties
+     *            the properties of the sample, like for the global performance info they hold strings and scalars
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void collectResults(Map<String, String> properties) {
+        if (fResults != null)
+            ((Map) properties).putAll(fResults);
+    }
+
+    void dispose() {
+        if (fRecording != null) {
+            fRecording.close();
+            fRecording = null;
+        }
+        fEvent = null;
+    }
+
+    private void startRecording() {
+        String settings = System.getProperty(SETTINGS_PROPERTY, DEFAULT_SETTINGS);
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName(fScenarioId);
+            recording.setToDisk(true);
+            // the measured intervals, whatever the settings
+            recording.enable(ScenarioEvent.class);
+            recording.start();
+            fRecording = recording;
+        } catch (IOException | ParseException e) {
+            PerformanceTestPlugin.log(e);
+        }
+    }
+
+    /**
+     * Extracts the results of the events which start inside a measured interval of the scenario. The allocation rate is relative
+     * to the summed length of these intervals.
+     */
+    static Map<Object, Object> analyze(Path file, String scenarioId) throws IOException {
+        Intervals intervals = readIntervals(file, scenarioId);
+        long sampledBytes = 0;
+        long tlabBytes = 0;
+        long pauseNanos = 0;
+        long executionSamples = 0;
+        Map<String, Long> methods = new HashMap<>();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith("jdk.") || !intervals.contains(event.getStartTime())) //$NON-NLS-1$
+                    continue;
+                switch (name) {
+                    case "jdk.ObjectAllocationSample": //$NON-NLS-1$
+                        sampledBytes += event.getLong("weight"); //$NON-NLS-1$
+                        break;
+                    case "jdk.ObjectAllocationInNewTLAB": //$NON-NLS-1$
+                        tlabBytes += event.getLong("tlabSize"); //$NON-NLS-1$
+                        break;
+                    case "jdk.ObjectAllocationOutsideTLAB": //$NON-NLS-1$
+                        tlabBytes += event.getLong("allocationSize"); //$NON-NLS-1$
+                        break;
+                    case "jdk.GarbageCollection": //$NON-NLS-1$
+                        pauseNanos += event.getDuration("sumOfPauses").toNanos(); //$NON-NLS-1$
+                        break;
+                    case "jdk.ExecutionSample": //$NON-NLS-1$
+                        String method = getTopMethod(event.getStackTrace());
+                        if (method != null) {
+                            methods.merge(method, Long.valueOf(1), Long::sum);
+                            executionSamples++;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        Map<Object, Object> results = new HashMap<>();
+        // the allocation samples are weighted to estimate all allocations, the TLAB events are the fallback if they are disabled
+        long allocatedBytes = sampledBytes > 0 ? sampledBytes : tlabBytes;
+        double seconds = intervals.getTotalNanos() / 1e9;
+        if (allocatedBytes > 0 && seconds > 0)
+            results.put(InternalDimensions.ALLOCATION_RATE,
+                    new Scalar(InternalDimensions.ALLOCATION_RATE, Math.round(allocatedBytes / seconds)));
+        results.put(InternalDimensions.GC_PAUSE_TIME, new Scalar(InternalDimensions.GC_PAUSE_TIME, pauseNanos));
+        if (executionSamples > 0)
+            results.put(HOT_METHODS_KEY, formatHotMethods(methods, executionSamples));
+        return results;
+    }
+
+    private static Intervals readIntervals(Path file, String scenarioId) throws IOException {
+        List<RecordedEvent> events = new ArrayList<>();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                if (SCENARIO_EVENT.equals(event.getEventType().getName()) && scenarioId.equals(event.getString("scenario"))) //$NON-NLS-1$
+                    events.add(event);
+            }
+        }
+        return new Intervals(events);
+    }
+
+    private static String getTopMethod(RecordedStackTrace stackTrace) {
+        if (stackTrace == null)
+            return null;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame()) {
+                RecordedMethod method = frame.getMethod();
+                return method.getType().getName() + '.' + method.getName();
+            }
+        }
+        return null;
+    }
+
+    private static String formatHotMethods(Map<String, Long> methods, long total) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(methods.entrySet());
+        entries.sort((e1, e2) -> Long.compare(e2.getValue().longValue(), e1.getValue().longValue()));
+        NumberFormat percent = NumberFormat.getPercentInstance(Locale.ROOT);
+        percent.setMaximumFractionDigits(1);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < entries.size() && i < HOT_METHOD_COUNT; i++) {
+            Map.Entry<String, Long> entry = entries.get(i);
+            if (i > 0)
+                sb.append("; "); //$NON-NLS-1$
+            sb.append(entry.getKey()).append(' ').append(percent.format(entry.getValue().doubleValue() / total));
+        }
+        return sb.toString();
+    }
+
+    private static String toFileName(String scenarioId) {
+        StringBuilder sb = new StringBuilder(scenarioId.length() + 4);
+        for (int i = 0; i < scenarioId.length(); i++) {
+            char c = scenarioId.charAt(i);
+            sb.append(Character.isLetterOrDigit(c) || c == '.' || c == '-' ? c : '_');
+        }
+        return sb.append(".jfr").toString(); //$NON-NLS-1$
+    }
+
+    /**
+     * The measured intervals of a scenario in a recording, sorted by their start.
+     */
+    private static final class Intervals {
+
+        private final long[] fStarts;
+        private final long[] fEnds;
+        private long         fTotalNanos;
+
+        Intervals(List<RecordedEvent> events) {
+            events.sort((e1, e2) -> e1.getStartTime().compareTo(e2.getStartTime()));
+            fStarts = new long[events.size()];
+            fEnds = new long[events.size()];
+            for (int i = 0; i < fStarts.length; i++) {
+                RecordedEvent event = events.get(i);
+                fStarts[i] = toNanos(event.getStartTime());
+                fEnds[i] = toNanos(event.getEndTime());
+                fTotalNanos += fEnds[i] - fStarts[i];
+            }
+        }
+
+        boolean contains(Instant instant) {
+            long nanos = toNanos(instant);
+            int i = Arrays.binarySearch(fStarts, nanos);
+            if (i < 0)
+                i = -i - 2; // the last interval starting before
+            return i >= 0 && nanos <= fEnds[i];
+        }
+
+        long getTotalNanos() {
+            return fTotalNanos;
+        }
+
+        private static long toNanos(Instant instant) {
+            return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+        }
+    }
+}
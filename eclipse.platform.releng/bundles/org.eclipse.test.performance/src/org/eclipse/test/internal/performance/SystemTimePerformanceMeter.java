@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2005 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,8 @@
 
 package org.eclipse.test.internal.performance;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.Assert;
@@ -30,8 +29,10 @@ public class SystemTimePerformanceMeter extends InternalPerformanceMeter {
     private static final int DEFAULT_INITIAL_CAPACITY = 3;
 
     private long             fStartDate;
-    private List<Long>             fStartTime;
-    private List<Long>             fStopTime;
+    private long[]           fStartTime;
+    private long[]           fStopTime;
+    private int              fStartCount;
+    private int              fStopCount;
 
     /**
      * @param scenarioId
@@ -50,29 +51,34 @@ public class SystemTimePerformanceMeter extends InternalPerformanceMeter {
      */
     public SystemTimePerformanceMeter(String scenarioId, int initalCapacity) {
         super(scenarioId);
-        fStartTime = new ArrayList<>(initalCapacity);
-        fStopTime = new ArrayList<>(initalCapacity);
+        fStartTime = new long[Math.max(initalCapacity, 1)];
+        fStopTime = new long[Math.max(initalCapacity, 1)];
     }
 
     @Override
     public void start() {
-        fStartTime.add(Long.valueOf(System.currentTimeMillis()));
+        if (fStartCount == fStartTime.length)
+            fStartTime = Arrays.copyOf(fStartTime, 2 * fStartCount);
+        fStartTime[fStartCount++] = System.currentTimeMillis();
     }
 
     @Override
     public void stop() {
-        fStopTime.add(Long.valueOf(System.currentTimeMillis()));
+        long time = System.currentTimeMillis();
+        if (fStopCount == fStopTime.length)
+            fStopTime = Arrays.copyOf(fStopTime, 2 * fStopCount);
+        fStopTime[fStopCount++] = time;
     }
 
     @Override
     public void commit() {
-        Assert.isTrue(fStartTime.size() == fStopTime.size());
+        Assert.isTrue(fStartCount == fStopCount);
         System.out.println("Scenario: " + getScenarioName()); //$NON-NLS-1$
-        int maxOccurenceLength = String.valueOf(fStartTime.size()).length();
-        for (int i = 0; i < fStartTime.size(); i++) {
+        int maxOccurenceLength = String.valueOf(fStartCount).length();
+        for (int i = 0; i < fStartCount; i++) {
             String occurence = String.valueOf(i + 1);
             System.out
-                    .println("Occurence " + replicate(" ", maxOccurenceLength - occurence.length()) + occurence + ": " + (fStopTime.get(i).longValue() - fStartTime.get(i).longValue())); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    .println("Occurence " + replicate(" ", maxOccurenceLength - occurence.length()) + occurence + ": " + (fStopTime[i] - fStartTime[i])); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
         }
     }
 
@@ -92,17 +98,17 @@ public class SystemTimePerformanceMeter extends InternalPerformanceMeter {
 
     @Override
     public Sample getSample() {
-        Assert.isTrue(fStartTime.size() == fStopTime.size());
+        Assert.isTrue(fStartCount == fStopCount);
 
         Map<String, String> properties = new HashMap<>();
         /*
          * properties.put(DRIVER_PROPERTY, PerformanceTestPlugin.getBuildId()); properties.put(HOSTNAME_PROPERTY, getHostName());
          */
 
-        DataPoint[] data = new DataPoint[2 * fStartTime.size()];
-        for (int i = 0; i < fStartTime.size(); i++) {
-            data[2 * i] = createDataPoint(BEFORE, InternalDimensions.SYSTEM_TIME, fStartTime.get(i).longValue());
-            data[2 * i + 1] = createDataPoint(AFTER, InternalDimensions.SYSTEM_TIME, fStopTime.get(i).longValue());
+        DataPoint[] data = new DataPoint[2 * fStartCount];
+        for (int i = 0; i < fStartCount; i++) {
+            data[2 * i] = createDataPoint(BEFORE, InternalDimensions.SYSTEM_TIME, fStartTime[i]);
+            data[2 * i + 1] = createDataPoint(AFTER, InternalDimensions.SYSTEM_TIME, fStopTime[i]);
         }
 
         return new Sample(getScenarioName(), fStartDate, properties, data);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,7 +25,14 @@ public class Dim implements Dimension {
 
     private static final long serialVersionUID = 1L;
 
-    private static Dim[] fgRegisteredDimensions = new Dim[100];
+    /**
+     * Dimension ids must be smaller than this value to be registered.
+     *
+     * @since 3.21
+     */
+    public static final int MAX_ID = 100;
+
+    private static Dim[] fgRegisteredDimensions = new Dim[MAX_ID];
 
     private final int    fId;
     private final Unit   fUnit;
@@ -113,4 +120,15 @@ public class Dim implements Dimension {
     public String getDisplayValue(double scalar) {
         return this.fUnit.getDisplayValue1(scalar / this.fMultiplier);
     }
+
+    /**
+     * Replaces a deserialized dimension with the registered one, so that maps keyed by dimensions keep working.
+     *
+     * @return the registered dimension with the same id, or this dimension if there is none
+     * @since 3.21
+     */
+    private Object readResolve() {
+        Dim registered = getDimension(this.fId);
+        return registered != null ? registered : this;
+    }
 }
@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A histogram of non-negative <code>long</code> values, e.g. latencies in nanoseconds, in the style of HdrHistogram. Values below
+ * <code>2^precisionBits</code> are counted exactly; above, the buckets grow exponentially and each power of two is split into
+ * <code>2^(precisionBits-1)</code> linear sub-buckets. A value reported by the histogram therefore differs from a recorded value
+ * by at most a relative error of <code>2^-(precisionBits-1)</code>, and the memory is fixed by the precision, independent of the
+ * number and range of the recorded values. The exact minimum, maximum and sum are tracked in addition.
+ * <p>
+ * Histograms are not thread safe. Concurrent recorders use one histogram per thread and {@link #add(Histogram)} them.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class Histogram implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The default precision, reported values are within 1.6% of the recorded ones. */
+    public static final int   DEFAULT_PRECISION_BITS = 7;
+
+    /** The percentiles reported by {@link #toString()} and in the results of performance meters. */
+    public static final double[] REPORTED_PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final int         fPrecisionBits;
+    private transient long[]  fCounts;
+    private transient long    fTotalCount;
+    private transient long    fMin                   = Long.MAX_VALUE;
+    private transient long    fMax;
+    private transient double  fSum;
+
+    public Histogram() {
+        this(DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * @param precisionBits
+     *            the number of bits of a value that are kept, between 2 and 16
+     */
+    public Histogram(int precisionBits) {
+        if (precisionBits < 2 || precisionBits > 16)
+            throw new IllegalArgumentException("precision out of range: " + precisionBits); //$NON-NLS-1$
+        fPrecisionBits = precisionBits;
+        fCounts = new long[getBucketCount(precisionBits)];
+    }
+
+    private static int getBucketCount(int precisionBits) {
+        // the exact values, then half as many sub-buckets for each of the remaining powers of two up to 2^62
+        return (1 << precisionBits) + (63 - precisionBits) * (1 << (precisionBits - 1));
+    }
+
+    public int getPrecisionBits() {
+        return fPrecisionBits;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value
+     *            the value, must not be negative
+     */
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * Records a value <code>count</code> times.
+     *
+     * @param value
+     *            the value, must not be negative
+     * @param count
+     *            the number of occurrences
+     */
+    public void record(long value, long count) {
+        if (value < 0)
+            throw new IllegalArgumentException("negative value: " + value); //$NON-NLS-1$
+        if (count <= 0)
+            return;
+        fCounts[indexOf(value)] += count;
+        fTotalCount += count;
+        fSum += (double) value * count;
+        if (value < fMin)
+            fMin = value;
+        if (value > fMax)
+            fMax = value;
+    }
+
+    /**
+     * Adds the values recorded by <code>other</code> to this histogram.
+     *
+     * @param other
+     *            a histogram of the same precision
+     */
+    public void add(Histogram other) {
+        if (other.fPrecisionBits != fPrecisionBits)
+            throw new IllegalArgumentException("histograms differ in precision"); //$NON-NLS-1$
+        if (other.fTotalCount == 0)
+            return;
+        long[] counts = other.fCounts;
+        for (int i = 0; i < counts.length; i++)
+            fCounts[i] += counts[i];
+        fTotalCount += other.fTotalCount;
+        fSum += other.fSum;
+        fMin = Math.min(fMin, other.fMin);
+        fMax = Math.max(fMax, other.fMax);
+    }
+
+    public void reset() {
+        Arrays.fill(fCounts, 0);
+        fTotalCount = 0;
+        fSum = 0;
+        fMin = Long.MAX_VALUE;
+        fMax = 0;
+    }
+
+    public long getCount() {
+        return fTotalCount;
+    }
+
+    /**
+     * @return the smallest recorded value, or 0 if the histogram is empty
+     */
+    public long getMin() {
+        return fTotalCount == 0 ? 0 : fMin;
+    }
+
+    /**
+     * @return the largest recorded value, or 0 if the histogram is empty
+     */
+    public long getMax() {
+        return fMax;
+    }
+
+    /**
+     * @return the mean of the recorded values, or 0 if the histogram is empty
+     */
+    public double getMean() {
+        return fTotalCount == 0 ? 0 : fSum / fTotalCount;
+    }
+
+    /**
+     * Returns the value below or at which <code>percentile</code> percent of the recorded values are. The result is the largest
+     * value that falls into the same bucket as that recorded value, bounded by the recorded minimum and maximum.
+     *
+     * @param percentile
+     *            the percentile, between 0 and 100
+     * @return the value at the percentile, or 0 if the histogram is empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("percentile out of range: " + percentile); //$NON-NLS-1$
+        if (fTotalCount == 0)
+            return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * fTotalCount));
+        long cumulative = 0;
+        for (int i = 0; i < fCounts.length; i++) {
+            cumulative += fCounts[i];
+            if (cumulative >= rank)
+                return Math.max(fMin, Math.min(fMax, highestValueOf(i)));
+        }
+        return fMax;
+    }
+
+    int indexOf(long value) {
+        int subBucketCount = 1 << fPrecisionBits;
+        if (value < subBucketCount)
+            return (int) value;
+        int shift = 64 - Long.numberOfLeadingZeros(value) - fPrecisionBits;
+        int halfCount = subBucketCount >> 1;
+        return subBucketCount + (shift - 1) * halfCount + (int) (value >>> shift) - halfCount;
+    }
+
+    long highestValueOf(int index) {
+        int subBucketCount = 1 << fPrecisionBits;
+        if (index < subBucketCount)
+            return index;
+        int halfCount = subBucketCount >> 1;
+        int shift = (index - subBucketCount) / halfCount + 1;
+        long subBucket = (index - subBucketCount) % halfCount + halfCount;
+        long lowest = subBucket << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Writes the histogram in a compact form, only the buckets which are not empty are written.
+     *
+     * @param out
+     *            the output
+     * @throws IOException
+     *             if writing fails
+     */
+    public void write(DataOutput out) throws IOException {
+        SampleCodec.writeVarInt(out, fPrecisionBits);
+        int nonEmpty = 0;
+        for (long count : fCounts) {
+            if (count != 0)
+                nonEmpty++;
+        }
+        SampleCodec.writeVarInt(out, nonEmpty);
+        int previous = 0;
+        for (int i = 0; i < fCounts.length; i++) {
+            if (fCounts[i] != 0) {
+                SampleCodec.writeVarInt(out, i - previous);
+                SampleCodec.writeVarLong(out, fCounts[i]);
+                previous = i;
+            }
+        }
+        SampleCodec.writeVarLong(out, getMin());
+        SampleCodec.writeVarLong(out, fMax);
+        out.writeDouble(fSum);
+    }
+
+    /**
+     * Reads a histogram written by {@link #write(DataOutput)}.
+     *
+     * @param in
+     *            the input
+     * @return the histogram
+     * @throws IOException
+     *             if reading fails or the data is not a valid histogram
+     */
+    public static Histogram read(DataInput in) throws IOException {
+        int precisionBits = SampleCodec.readVarInt(in);
+        if (precisionBits < 2 || precisionBits > 16)
+            throw new IOException("invalid histogram precision: " + precisionBits); //$NON-NLS-1$
+        Histogram histogram = new Histogram(precisionBits);
+        histogram.readCounts(in);
+        return histogram;
+    }
+
+    private void readCounts(DataInput in) throws IOException {
+        int nonEmpty = SampleCodec.readVarInt(in);
+        int index = 0;
+        for (int i = 0; i < nonEmpty; i++) {
+            index += SampleCodec.readVarInt(in);
+            if (index >= fCounts.length)
+                throw new IOException("invalid histogram bucket: " + index); //$NON-NLS-1$
+            long count = SampleCodec.readVarLong(in);
+            fCounts[index] = count;
+            fTotalCount += count;
+        }
+        long min = SampleCodec.readVarLong(in);
+        fMin = fTotalCount == 0 ? Long.MAX_VALUE : min;
+        fMax = SampleCodec.readVarLong(in);
+        fSum = in.readDouble();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // the buckets are mostly empty
+        out.defaultWriteObject();
+        write(out);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (fPrecisionBits < 2 || fPrecisionBits > 16)
+            throw new IOException("invalid histogram precision: " + fPrecisionBits); //$NON-NLS-1$
+        Histogram histogram = read(in);
+        fCounts = histogram.fCounts;
+        fTotalCount = histogram.fTotalCount;
+        fMin = histogram.fMin;
+        fMax = histogram.fMax;
+        fSum = histogram.fSum;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (double percentile : REPORTED_PERCENTILES)
+            sb.append('p').append(formatPercentile(percentile)).append('=').append(getValueAtPercentile(percentile)).append(", "); //$NON-NLS-1$
+        sb.append("max=").append(fMax); //$NON-NLS-1$
+        return sb.toString();
+    }
+
+    /**
+     * Formats a percentile for display, e.g. <code>99.9</code> but <code>50</code>.
+     *
+     * @param percentile
+     *            the percentile
+     * @return the formatted percentile
+     */
+    public static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.text.NumberFormat;
+
+/**
+ * How noisy the values of a dimension in a sample were: the number of values discarded as outliers before the statistics were
+ * computed, and the coefficient of variation of the remaining values.
+ *
+ * @see org.eclipse.test.internal.performance.eval.OutlierFilter
+ * @since 3.21
+ */
+public final class NoiseSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String      fFilter;
+    private final int         fCount;
+    private final int         fDiscarded;
+    private final double      fResidualCV;
+
+    /**
+     * @param filter
+     *            the description of the outlier filter
+     * @param count
+     *            the number of values before filtering
+     * @param discarded
+     *            the number of discarded values
+     * @param residualCV
+     *            the coefficient of variation of the remaining values
+     */
+    public NoiseSummary(String filter, int count, int discarded, double residualCV) {
+        fFilter = filter;
+        fCount = count;
+        fDiscarded = discarded;
+        fResidualCV = residualCV;
+    }
+
+    public String getFilter() {
+        return fFilter;
+    }
+
+    public int getCount() {
+        return fCount;
+    }
+
+    public int getDiscarded() {
+        return fDiscarded;
+    }
+
+    /**
+     * @return the standard deviation of the remaining values divided by their mean
+     */
+    public double getResidualCV() {
+        return fResidualCV;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeUTF(fFilter);
+        SampleCodec.writeVarInt(out, fCount);
+        SampleCodec.writeVarInt(out, fDiscarded);
+        out.writeDouble(fResidualCV);
+    }
+
+    static NoiseSummary read(DataInput in) throws IOException {
+        String filter = in.readUTF();
+        int count = SampleCodec.readVarInt(in);
+        int discarded = SampleCodec.readVarInt(in);
+        return new NoiseSummary(filter, count, discarded, in.readDouble());
+    }
+
+    @Override
+    public String toString() {
+        NumberFormat percent = NumberFormat.getPercentInstance();
+        percent.setMaximumFractionDigits(1);
+        return fDiscarded + " of " + fCount + " values discarded (" + fFilter + "), residual CV: " + percent.format(fResidualCV); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import org.eclipse.test.internal.performance.db.Variations;
+
+/**
+ * Converts raw data files written with Java serialization by earlier versions, i.e. a sequence of object streams each containing a
+ * scenario id, a {@link Variations} and a {@link Sample}, to the format of {@link RawDataWriter}.
+ *
+ * <pre>
+ * java org.eclipse.test.internal.performance.data.RawDataConverter &lt;legacy file&gt; [&lt;output file&gt;]
+ * </pre>
+ *
+ * Without an output file the legacy file is replaced.
+ *
+ * @since 3.21
+ */
+public final class RawDataConverter {
+
+    private RawDataConverter() {
+        // don't instantiate
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("usage: RawDataConverter <legacy file> [<output file>]"); //$NON-NLS-1$
+            System.exit(2);
+        }
+        Path source = Paths.get(args[0]);
+        int count = args.length == 2 ? convert(source, Paths.get(args[1])) : convertInPlace(source);
+        System.out.println("Converted " + count + " samples from " + source); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Converts a legacy raw data file.
+     *
+     * @param source
+     *            the legacy file
+     * @param target
+     *            the file to write, it is overwritten
+     * @return the number of converted samples
+     * @throws IOException
+     *             if reading or writing fails or <code>source</code> is not a legacy raw data file
+     */
+    public static int convert(Path source, Path target) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), 64 * 1024);
+                RawDataWriter writer = new RawDataWriter(out)) {
+            return convert(source, writer);
+        }
+    }
+
+    /**
+     * Converts a legacy raw data file and replaces it with the result.
+     *
+     * @param file
+     *            the legacy file
+     * @return the number of converted samples
+     * @throws IOException
+     *             if reading or writing fails or <code>file</code> is not a legacy raw data file
+     */
+    public static int convertInPlace(Path file) throws IOException {
+        Path target = file.resolveSibling(file.getFileName() + ".converting"); //$NON-NLS-1$
+        try {
+            int count = convert(file, target);
+            Files.move(target, file, StandardCopyOption.REPLACE_EXISTING);
+            return count;
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    private static int convert(Path source, RawDataWriter writer) throws IOException {
+        int count = 0;
+        Variations variations = null;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(source))) {
+            while (true) {
+                ObjectInputStream ois = new ObjectInputStream(in); // one stream per sample
+                String scenarioId = null;
+                Sample sample = null;
+                while (scenarioId == null || sample == null) {
+                    Object o;
+                    try {
+                        o = ois.readObject();
+                    } catch (ClassNotFoundException e) {
+                        throw new IOException(e);
+                    }
+                    if (o instanceof String) {
+                        scenarioId = (String) o;
+                    } else if (o instanceof Variations) {
+                        variations = (Variations) o;
+                    } else if (o instanceof Sample) {
+                        sample = (Sample) o;
+                    } else {
+                        throw new IOException("unexpected object of type " + o.getClass().getName() + " in " + source); //$NON-NLS-1$ //$NON-NLS-2$
+                    }
+                }
+                writer.write(scenarioId, variations != null ? variations.toExactMatchString() : null, sample);
+                count++;
+            }
+        } catch (EOFException e) {
+            // end of the input, an incomplete last sample is dropped like ResultsData did
+        }
+        return count;
+    }
+}
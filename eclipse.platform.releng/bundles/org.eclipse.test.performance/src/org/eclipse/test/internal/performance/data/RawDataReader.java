@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.data;
+
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.test.internal.performance.db.Variations;
+
+/**
+ * Reads a raw data file written by {@link RawDataWriter}. The file is mapped into memory and scanned record by record: the
+ * scenario id and variations of the current record are available without decoding its sample, so records which are not needed
+ * can be skipped cheaply.
+ *
+ * <pre>
+ * try (RawDataReader reader = new RawDataReader(file)) {
+ *     while (reader.next()) {
+ *         if (isInteresting(reader.getScenarioId(), reader.getVariations()))
+ *             process(reader.getSample());
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 3.21
+ */
+public final class RawDataReader implements Closeable {
+
+    private ByteBuffer               fBuffer;
+    private final List<String>       fStrings    = new ArrayList<>();
+    private final List<Variations>   fVariations = new ArrayList<>();
+    private final SampleCodec.Format fFormat    = new SampleCodec.Format() {
+
+        @Override
+        String readString(DataInput in) throws IOException {
+            return string(SampleCodec.readVarInt(in));
+        }
+
+        @Override
+        int readDimensionId(DataInput in) throws IOException {
+            return in.readUnsignedByte();
+        }
+
+        @Override
+        int readFlags(DataInput in) throws IOException {
+            return in.readUnsignedByte();
+        }
+    };
+
+    private int                      fVersion;
+    private String                   fScenarioId;
+    private int                      fVariationsRef;
+    private int                      fRecordStart;
+    private int                      fRecordEnd;
+
+    /**
+     * Returns whether <code>file</code> starts with the header of the raw data format. Files written by earlier versions contain
+     * Java serialization streams instead and can be converted with {@link RawDataConverter}.
+     *
+     * @param file
+     *            the file to check
+     * @return <code>true</code> if the file can be read with a {@link RawDataReader}
+     * @throws IOException
+     *             if reading the file fails
+     */
+    public static boolean isRawDataFile(Path file) throws IOException {
+        byte[] header = new byte[RawDataWriter.MAGIC.length];
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.readNBytes(header, 0, header.length) == header.length && Arrays.equals(header, RawDataWriter.MAGIC);
+        }
+    }
+
+    /**
+     * Maps <code>file</code> into memory.
+     *
+     * @param file
+     *            the raw data file
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    public RawDataReader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("raw data file too large: " + file); //$NON-NLS-1$
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            fBuffer = buffer;
+        }
+    }
+
+    /**
+     * Advances to the next sample.
+     *
+     * @return <code>false</code> at the end of the file
+     * @throws IOException
+     *             if the file is corrupt
+     */
+    public boolean next() throws IOException {
+        ByteBuffer buffer = fBuffer;
+        buffer.position(fRecordEnd);
+        try {
+            while (buffer.hasRemaining()) {
+                int type = buffer.get() & 0xFF;
+                switch (type) {
+                    case RawDataWriter.STRING:
+                        int length = readVarInt(buffer);
+                        byte[] bytes = new byte[length];
+                        buffer.get(bytes);
+                        fStrings.add(new String(bytes, StandardCharsets.UTF_8));
+                        fVariations.add(null);
+                        break;
+                    case RawDataWriter.SAMPLE:
+                        length = readVarInt(buffer);
+                        int start = buffer.position();
+                        if (length > buffer.remaining())
+                            throw new BufferUnderflowException();
+                        fRecordEnd = start + length;
+                        fScenarioId = string(readVarInt(buffer));
+                        fVariationsRef = readVarInt(buffer);
+                        string(fVariationsRef);
+                        fRecordStart = buffer.position();
+                        return true;
+                    case 'E':
+                        readSegmentHeader(buffer);
+                        break;
+                    default:
+                        throw new IOException("unknown record type " + type + " at offset " + (buffer.position() - 1)); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("truncated raw data file", e); //$NON-NLS-1$
+        }
+        fRecordEnd = buffer.limit();
+        fScenarioId = null;
+        return false;
+    }
+
+    /**
+     * @return the scenario id of the current sample
+     */
+    public String getScenarioId() {
+        return fScenarioId;
+    }
+
+    /**
+     * Returns the variations of the current sample. Samples with the same variations share the returned instance, so it must not be
+     * modified.
+     *
+     * @return the variations of the current sample or <code>null</code>
+     */
+    public Variations getVariations() {
+        if (fVariationsRef == 0)
+            return null;
+        Variations variations = fVariations.get(fVariationsRef - 1);
+        if (variations == null) {
+            variations = new Variations();
+            variations.parseDB(fStrings.get(fVariationsRef - 1));
+            fVariations.set(fVariationsRef - 1, variations);
+        }
+        return variations;
+    }
+
+    /**
+     * Decodes the current sample.
+     *
+     * @return the sample
+     * @throws IOException
+     *             if the record is corrupt
+     */
+    public Sample getSample() throws IOException {
+        ByteBuffer buffer = fBuffer.duplicate();
+        buffer.position(fRecordStart).limit(fRecordEnd);
+        try {
+            return SampleCodec.read(new DataInputStream(new ByteBufferInputStream(buffer)), fVersion, fFormat);
+        } catch (EOFException e) {
+            throw new IOException("truncated sample record of scenario " + fScenarioId, e); //$NON-NLS-1$
+        }
+    }
+
+    @Override
+    public void close() {
+        // the mapping is released when the buffer is garbage collected
+        fBuffer = null;
+        fStrings.clear();
+        fVariations.clear();
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer fBuffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            fBuffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return fBuffer.hasRemaining() ? fBuffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+            if (!fBuffer.hasRemaining())
+                return -1;
+            len = Math.min(len, fBuffer.remaining());
+            fBuffer.get(b, off, len);
+            return len;
+        }
+    }
+
+    private void readSegmentHeader(ByteBuffer buffer) throws IOException {
+        for (int i = 1; i < RawDataWriter.MAGIC.length; i++) {
+            if (buffer.get() != RawDataWriter.MAGIC[i])
+                throw new IOException("not a raw data file"); //$NON-NLS-1$
+        }
+        int version = buffer.get() & 0xFF;
+        if (version < 1 || version > RawDataWriter.VERSION)
+            throw new IOException("unsupported raw data version: " + version); //$NON-NLS-1$
+        fVersion = version;
+        // each segment has its own dictionary
+        fStrings.clear();
+        fVariations.clear();
+    }
+
+    private String string(int ref) throws IOException {
+        if (ref == 0)
+            return null;
+        if (ref > fStrings.size())
+            throw new IOException("undefined string reference: " + ref); //$NON-NLS-1$
+        return fStrings.get(ref - 1);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("malformed variable-length int"); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes samples in the raw data format read by {@link RawDataReader}.
+ * <p>
+ * A raw data file is a sequence of segments; each writer appends one segment. A segment starts with the magic bytes
+ * <code>EPRD</code> and a version byte, followed by records. A record is a type byte followed by
+ * </p>
+ * <ul>
+ * <li>{@link #STRING}: a variable-length byte count and the UTF-8 bytes of a string which is added to the dictionary of the
+ * segment,</li>
+ * <li>{@link #SAMPLE}: a variable-length byte count and the encoded scenario id, variations and sample.</li>
+ * </ul>
+ * Samples are encoded like by {@link SampleCodec}, except that strings are references into the dictionary (0 for
+ * <code>null</code>, otherwise the index plus one), dimension ids are single bytes and the summary flags are one byte.
+ * <p>
+ * The reader accepts segments of all earlier versions: version 1 records end with the comment, version 2 added the histograms and
+ * version 3 the noise summaries.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class RawDataWriter implements Closeable {
+
+    static final byte[]                 MAGIC       = { 'E', 'P', 'R', 'D' };
+    /** The records encode their samples like {@link SampleCodec}, so they share its version. */
+    static final int                    VERSION     = SampleCodec.VERSION;
+
+    static final int                    STRING      = 1;
+    static final int                    SAMPLE      = 2;
+
+    private final DataOutputStream      fOut;
+    private final Map<String, Integer>  fDictionary = new HashMap<>();
+    private final ByteArrayOutputStream fRecord     = new ByteArrayOutputStream(1024);
+    private final DataOutputStream      fRecordOut  = new DataOutputStream(fRecord);
+    private final SampleCodec.Format    fFormat     = new SampleCodec.Format() {
+
+        @Override
+        void writeString(DataOutput out, String s) throws IOException {
+            SampleCodec.writeVarInt(out, ref(s));
+        }
+
+        @Override
+        void writeDimension(DataOutput out, int id) throws IOException {
+            out.writeByte(id);
+        }
+
+        @Override
+        void writeFlags(DataOutput out, int flags) throws IOException {
+            out.writeByte(flags);
+        }
+    };
+
+    /**
+     * Starts a new segment on <code>out</code>.
+     *
+     * @param out
+     *            the output, typically appending to a raw data file
+     * @throws IOException
+     *             if writing the segment header fails
+     */
+    public RawDataWriter(OutputStream out) throws IOException {
+        fOut = new DataOutputStream(out);
+        fOut.write(MAGIC);
+        fOut.writeByte(VERSION);
+    }
+
+    /**
+     * Writes a sample.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations in the format of {@link org.eclipse.test.internal.performance.db.Variations#toExactMatchString()}
+     * @param sample
+     *            the sample
+     * @throws IOException
+     *             if writing fails
+     */
+    public void write(String scenarioId, String variations, Sample sample) throws IOException {
+        fRecord.reset();
+        DataOutputStream out = fRecordOut;
+        // new strings are written to the segment before the record that refers to them
+        SampleCodec.writeVarInt(out, ref(scenarioId));
+        SampleCodec.writeVarInt(out, ref(variations));
+        SampleCodec.write(out, sample, fFormat);
+
+        fOut.writeByte(SAMPLE);
+        SampleCodec.writeVarInt(fOut, fRecord.size());
+        fRecord.writeTo(fOut);
+    }
+
+    /**
+     * Flushes the underlying output stream.
+     *
+     * @throws IOException
+     *             if flushing fails
+     */
+    public void flush() throws IOException {
+        fOut.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        fOut.close();
+    }
+
+    private int ref(String s) throws IOException {
+        if (s == null)
+            return 0;
+        Integer index = fDictionary.get(s);
+        if (index == null) {
+            index = Integer.valueOf(fDictionary.size());
+            fDictionary.put(s, index);
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            fOut.writeByte(STRING);
+            SampleCodec.writeVarInt(fOut, bytes.length);
+            fOut.write(bytes);
+        }
+        return index.intValue() + 1;
+    }
+}
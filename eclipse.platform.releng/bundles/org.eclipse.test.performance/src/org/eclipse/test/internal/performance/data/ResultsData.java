@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Samantha Dawley and others.
+ * Copyright (c) 2022, 2026 Samantha Dawley and others.
  *
  * This program and the accompanying materials are made available under the terms of the Eclipse Public License 2.0 which
  * accompanies this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
@@ -11,10 +11,7 @@
  
 package org.eclipse.test.internal.performance.data;
 
-import java.io.EOFException;
-//import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
+import java.io.IOException;
 import java.nio.file.Files;
 //import java.nio.file.Paths;
 import java.nio.file.Path;
@@ -22,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.test.internal.performance.InternalDimensions;
 import org.eclipse.test.internal.performance.db.Variations;
 
 /**
@@ -62,45 +60,46 @@ public class ResultsData{
 
     public void importData(Path inputFile) {
     	System.out.println("INFO: Reading data from " + inputFile);
-		Variations variations = null;
-		try (InputStream is = Files.newInputStream(inputFile)) {
-			while (true) { // loop will end on input stream EOF
-        		ObjectInputStream ois = new ObjectInputStream(is);
-        		String scenarioID = null;
-        		Sample sample = null;
-        		while (scenarioID == null || variations == null || sample == null) {
-          			Object o = ois.readObject();
-          			if (String.class.equals(o.getClass())) {
-            			scenarioID = (String) o;
-          			} else if (Variations.class.equals(o.getClass())) {
-						if (variations == null) { //variations only needs to be captured once
-              				variations = (Variations) o;
-			            }
-          			} else if (Sample.class.equals(o.getClass())) {
-            			sample = (Sample) o;
-          			} else {
-            			System.err.println("WARN: Input contains unexpected object of type " + o.getClass().getCanonicalName());
-          			}
-        		}
-
-        		//System.out.println("DEBUG: Store data for scenario " + scenarioID);
-				String build = variations.getProperty("build");
-				if ((build.equals(CURRENT_BUILD)) && (!CURRENT_SCENARIO_DATA.containsKey(scenarioID))) {
-					CURRENT_SCENARIO_DATA.put(scenarioID, sample);
-				} else if ((build.contains(BASELINE_BUILD)) && (!BASELINE_SCENARIO_DATA.containsKey(scenarioID))) {
-					BASELINE_SCENARIO_DATA.put(scenarioID, sample);
-				} else {
-					System.err.println("WARN: Input contains Data from the wrong build or baseline");
-				}		
-    	    }
-		} catch (EOFException ex) {
-      		// EOFException is the intended way to end the loop
+		Path converted = null;
+		try {
+			Path rawDataFile = inputFile;
+			if (!RawDataReader.isRawDataFile(inputFile)) {
+				// written with Java serialization by an earlier version
+				converted = Files.createTempFile("perf", ".dat");
+				RawDataConverter.convert(inputFile, converted);
+				rawDataFile = converted;
+			}
+			try (RawDataReader reader = new RawDataReader(rawDataFile)) {
+				while (reader.next()) {
+					String scenarioID = reader.getScenarioId();
+					Variations variations = reader.getVariations();
+					String build = variations != null ? variations.getProperty("build") : null;
+					//only samples which are used are decoded
+					if (build == null) {
+						System.err.println("WARN: Input contains Data without build");
+					} else if ((build.equals(CURRENT_BUILD)) && (!CURRENT_SCENARIO_DATA.containsKey(scenarioID))) {
+						CURRENT_SCENARIO_DATA.put(scenarioID, reader.getSample());
+					} else if ((build.contains(BASELINE_BUILD)) && (!BASELINE_SCENARIO_DATA.containsKey(scenarioID))) {
+						BASELINE_SCENARIO_DATA.put(scenarioID, reader.getSample());
+					} else {
+						System.err.println("WARN: Input contains Data from the wrong build or baseline");
+					}
+				}
+			}
 			System.out.println("Finished reading data from " + inputFile);
 		}
 		catch (Exception ex) {
             System.err.println("ERROR: IOException reading: " + inputFile);
             System.exit(1);
-        }
+        } finally {
+			if (converted != null) {
+				try {
+					Files.deleteIfExists(converted);
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
 	}
 
     public String[] getComponents() {
@@ -115,6 +114,26 @@ public class ResultsData{
 		return BASELINE_SCENARIO_DATA.keySet();
 	}
 
+    /**
+     * @param scenarioID
+     *            the scenario id
+     * @return the sample of the current build, or <code>null</code>
+     * @since 3.21
+     */
+    public Sample getCurrentSample(String scenarioID) {
+        return CURRENT_SCENARIO_DATA.get(scenarioID);
+    }
+
+    /**
+     * @param scenarioID
+     *            the scenario id
+     * @return the sample of the baseline build, or <code>null</code>
+     * @since 3.21
+     */
+    public Sample getBaselineSample(String scenarioID) {
+        return BASELINE_SCENARIO_DATA.get(scenarioID);
+    }
+
     public Double[] getData(String build, String scenarioID) {
         Sample sample = null;
 
@@ -133,30 +152,11 @@ public class ResultsData{
             Dim[] dimensions = datum.getDimensions();
             for (Dim dim : dimensions) {
                 if (dim.getName().contains("Elapsed Process")) {
-                    Scalar scalar = datum.getScalar(dim);
-					String value = dim.getDisplayValue(scalar);
-					//check for big values (1.21k etc)
-					if (value.substring(value.length() - 1).equals("K")){
-						value = value.substring(0, value.length()-1);
-						Double decimalValue = Double.parseDouble(value);
-						decimalValue = decimalValue * 1000;
-						elapsedProcess += decimalValue;
-					} else {
-						elapsedProcess += Double.parseDouble(value);
-					}  
+                    elapsedProcess += getTableValue(dim, datum.getScalar(dim));
                 }
-                if (dim.getName().contains("CPU Time")) {
-                    Scalar scalar = datum.getScalar(dim);
-					String value = dim.getDisplayValue(scalar);
-					//check for big values (1.21k etc)
-					if (value.substring(value.length() - 1).equals("K")){
-						value = value.substring(0, value.length()-1);
-						Double decimalValue = Double.parseDouble(value);
-						decimalValue = decimalValue * 1000;
-						cpuTime += decimalValue;
-					} else {
-						cpuTime += Double.parseDouble(value);
-					}  
+                // not "Thread CPU Time" of the JVM counters, which is part of the process' CPU time
+                if (dim == InternalDimensions.CPU_TIME) {
+                    cpuTime += getTableValue(dim, datum.getScalar(dim));
                 }
             }
         }
@@ -164,4 +164,17 @@ public class ResultsData{
         Double[] currentData = {elapsedProcess, cpuTime};
         return currentData;
     }
+
+    /*
+     * The value of a scalar as shown in the tables: times in milliseconds, since their display values carry a unit, other values
+     * as displayed, with big values like 1.21K expanded.
+     */
+    private static double getTableValue(Dim dim, Scalar scalar) {
+        if (dim.getUnit() == Unit.SECOND)
+            return scalar.getMagnitude() * 1000.0 / dim.getMultiplier();
+        String value = dim.getDisplayValue(scalar);
+        if (value.endsWith("K"))
+            return Double.parseDouble(value.substring(0, value.length() - 1)) * 1000;
+        return Double.parseDouble(value);
+    }
 }
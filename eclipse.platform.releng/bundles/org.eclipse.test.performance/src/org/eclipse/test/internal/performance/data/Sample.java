@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0 which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.test.internal.performance.data;
 
 import java.io.Serializable;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -37,6 +38,8 @@ public class Sample implements Serializable {
     Dimension[] fSummaryDimensions;
     int         fCommentType;
     String      fComment;
+    Map<Dim, Histogram> fHistograms;
+    Map<Dim, NoiseSummary> fNoise;
 
     public Sample(String scenarioID, long starttime, Map<String, String> properties, DataPoint[] dataPoints) {
         Assert.assertTrue("scenarioID is null", scenarioID != null); //$NON-NLS-1$
@@ -64,6 +67,103 @@ public class Sample implements Serializable {
         fComment = comment;
     }
 
+    /**
+     * Attaches the distribution of the values of a dimension, e.g. of the single operations measured in a scenario.
+     *
+     * @param dimension
+     *            the dimension
+     * @param histogram
+     *            the histogram
+     * @since 3.21
+     */
+    public void setHistogram(Dim dimension, Histogram histogram) {
+        if (fHistograms == null)
+            fHistograms = new LinkedHashMap<>();
+        fHistograms.put(dimension, histogram);
+    }
+
+    /**
+     * @param dimension
+     *            the dimension
+     * @return the histogram attached for <code>dimension</code>, or <code>null</code>
+     * @since 3.21
+     */
+    public Histogram getHistogram(Dim dimension) {
+        return fHistograms != null ? fHistograms.get(dimension) : null;
+    }
+
+    /**
+     * @return the dimensions with an attached histogram
+     * @since 3.21
+     */
+    public Dim[] getHistogramDimensions() {
+        if (fHistograms == null)
+            return new Dim[0];
+        return fHistograms.keySet().toArray(new Dim[fHistograms.size()]);
+    }
+
+    /**
+     * Records how noisy the values of a dimension were.
+     *
+     * @param dimension
+     *            the dimension
+     * @param noise
+     *            the number of discarded outliers and the residual coefficient of variation
+     * @since 3.21
+     */
+    public void setNoise(Dim dimension, NoiseSummary noise) {
+        if (fNoise == null)
+            fNoise = new LinkedHashMap<>();
+        fNoise.put(dimension, noise);
+    }
+
+    /**
+     * @param dimension
+     *            the dimension
+     * @return the noise recorded for <code>dimension</code>, or <code>null</code>
+     * @since 3.21
+     */
+    public NoiseSummary getNoise(Dim dimension) {
+        return fNoise != null ? fNoise.get(dimension) : null;
+    }
+
+    /**
+     * @return the dimensions with recorded noise
+     * @since 3.21
+     */
+    public Dim[] getNoiseDimensions() {
+        if (fNoise == null)
+            return new Dim[0];
+        return fNoise.keySet().toArray(new Dim[fNoise.size()]);
+    }
+
+    /**
+     * Returns a copy of this sample with other data points, e.g. with scaled values. The properties, the comment, the summary tags,
+     * the recorded noise and the histograms are kept.
+     *
+     * @param dataPoints
+     *            the data points of the copy
+     * @return the copy
+     * @since 3.21
+     */
+    public Sample withDataPoints(DataPoint[] dataPoints) {
+        Sample sample = new Sample(dataPoints);
+        sample.fScenarioID = fScenarioID;
+        sample.fStartTime = fStartTime;
+        sample.fProperties = fProperties;
+        sample.fIsSummary = fIsSummary;
+        sample.fSummaryIsGlobal = fSummaryIsGlobal;
+        sample.fShortName = fShortName;
+        sample.fSummaryDimensions = fSummaryDimensions;
+        sample.fCommentType = fCommentType;
+        sample.fComment = fComment;
+        if (fNoise != null)
+            sample.fNoise = new LinkedHashMap<>(fNoise);
+        if (fHistograms != null)
+            sample.fHistograms = new LinkedHashMap<>(fHistograms);
+        return sample;
+    }
+
     public String getScenarioID() {
         return fScenarioID;
     }
@@ -76,6 +176,22 @@ public class Sample implements Serializable {
         return fProperties.get(name);
     }
 
+    /**
+     * Returns a value measured once for the whole run, e.g. by the performance monitor or the flight recorder. These values are
+     * stored in the properties keyed by their dimension.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the value, or <code>null</code> if it was not measured
+     * @since 3.21
+     */
+    public Scalar getScalarProperty(Dim dimension) {
+        if (fProperties == null)
+            return null;
+        Object value = ((Map<?, ?>) fProperties).get(dimension);
+        return value instanceof Scalar ? (Scalar) value : null;
+    }
+
     public String[] getPropertyKeys() {
         if (fProperties == null)
             return new String[0];
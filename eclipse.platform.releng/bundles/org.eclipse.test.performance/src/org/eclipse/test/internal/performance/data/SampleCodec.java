@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Compact binary encoding of a {@link Sample}, e.g. to send it from a forked VM to the VM running the tests. Numbers are written as
+ * variable-length integers and the magnitude of a scalar is written as the difference to the magnitude of the same dimension in the
+ * previous data point, so that the before/after pairs of a sample encode in a few bytes each.
+ *
+ * @since 3.21
+ */
+public final class SampleCodec {
+
+    /** The version of the encoding {@link #write(DataOutput, Sample)} writes, {@link #read(DataInput)} reads all up to it. */
+    public static final int  VERSION           = 3;
+    /** The first version with histograms, version 1 samples end with the comment. */
+    static final int         HISTOGRAM_VERSION = 2;
+    /** The first version with noise summaries, version 2 samples end with the histograms. */
+    static final int         NOISE_VERSION     = 3;
+
+    static final int         STRING_PROPERTY   = 0;
+    static final int         SCALAR_PROPERTY   = 1;
+
+    static final int         SUMMARY           = 1;
+    static final int         GLOBAL            = 2;
+
+    /**
+     * How strings, dimensions and the summary flags of a sample are encoded, the rest of the encoding is shared with the raw data
+     * format. By default strings are written inline, dimension ids as variable-length integers and the flags as booleans.
+     */
+    static class Format {
+
+        /** The magnitudes of the previous data point, reused for all samples of a format. */
+        final long[] fPrevious = new long[Dim.MAX_ID];
+
+        void writeString(DataOutput out, String s) throws IOException {
+            out.writeBoolean(s != null);
+            if (s != null)
+                out.writeUTF(s);
+        }
+
+        String readString(DataInput in) throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+
+        void writeDimension(DataOutput out, int id) throws IOException {
+            writeVarInt(out, id);
+        }
+
+        int readDimensionId(DataInput in) throws IOException {
+            return readVarInt(in);
+        }
+
+        void writeFlags(DataOutput out, int flags) throws IOException {
+            out.writeBoolean((flags & SUMMARY) != 0);
+            if ((flags & SUMMARY) != 0)
+                out.writeBoolean((flags & GLOBAL) != 0);
+        }
+
+        int readFlags(DataInput in) throws IOException {
+            if (!in.readBoolean())
+                return 0;
+            return SUMMARY | (in.readBoolean() ? GLOBAL : 0);
+        }
+    }
+
+    private SampleCodec() {
+        // don't instantiate
+    }
+
+    /**
+     * Writes <code>sample</code> to <code>out</code>.
+     *
+     * @param out
+     *            the output
+     * @param sample
+     *            the sample
+     * @throws IOException
+     *             if writing fails
+     */
+    public static void write(DataOutput out, Sample sample) throws IOException {
+        writeVarInt(out, VERSION);
+        write(out, sample, new Format());
+    }
+
+    /**
+     * Reads a sample written by {@link #write(DataOutput, Sample)}.
+     *
+     * @param in
+     *            the input
+     * @return the sample
+     * @throws IOException
+     *             if reading fails or the data is not a valid sample
+     */
+    public static Sample read(DataInput in) throws IOException {
+        int version = readVarInt(in);
+        if (version < 1 || version > VERSION)
+            throw new IOException("unsupported sample version: " + version); //$NON-NLS-1$
+        return read(in, version, new Format());
+    }
+
+    static void write(DataOutput out, Sample sample, Format format) throws IOException {
+        format.writeString(out, sample.fScenarioID);
+        writeVarLong(out, sample.fStartTime);
+
+        // the monitors store the global performance info as Dim/Scalar pairs in the properties
+        Map<?, ?> properties = sample.fProperties;
+        writeVarInt(out, properties == null ? 0 : properties.size() + 1);
+        if (properties != null) {
+            for (Map.Entry<?, ?> entry : properties.entrySet()) {
+                if (entry.getKey() instanceof Dim && entry.getValue() instanceof Scalar) {
+                    out.writeByte(SCALAR_PROPERTY);
+                    format.writeDimension(out, id((Dim) entry.getKey()));
+                    writeVarLong(out, ((Scalar) entry.getValue()).getMagnitude());
+                } else {
+                    out.writeByte(STRING_PROPERTY);
+                    format.writeString(out, entry.getKey() != null ? entry.getKey().toString() : null);
+                    format.writeString(out, entry.getValue() != null ? entry.getValue().toString() : null);
+                }
+            }
+        }
+
+        DataPoint[] dataPoints = sample.fDataPoints;
+        writeVarInt(out, dataPoints.length);
+        long[] previous = format.fPrevious;
+        Arrays.fill(previous, 0);
+        for (DataPoint dataPoint : dataPoints) {
+            writeVarLong(out, dataPoint.getStep());
+            Scalar[] scalars = dataPoint.getScalars();
+            writeVarInt(out, scalars.length);
+            for (Scalar scalar : scalars) {
+                int id = id(scalar.getDimension());
+                long magnitude = scalar.getMagnitude();
+                format.writeDimension(out, id);
+                writeVarLong(out, magnitude - previous[id]);
+                previous[id] = magnitude;
+            }
+        }
+
+        format.writeFlags(out, (sample.fIsSummary ? SUMMARY : 0) | (sample.fSummaryIsGlobal ? GLOBAL : 0));
+        if (sample.fIsSummary) {
+            format.writeString(out, sample.fShortName);
+            Dimension[] summaryDimensions = sample.fSummaryDimensions;
+            writeVarInt(out, summaryDimensions == null ? 0 : summaryDimensions.length + 1);
+            if (summaryDimensions != null) {
+                for (Dimension dimension : summaryDimensions)
+                    format.writeDimension(out, id((Dim) dimension));
+            }
+        }
+        writeVarLong(out, sample.fCommentType);
+        format.writeString(out, sample.fComment);
+
+        Map<Dim, Histogram> histograms = sample.fHistograms;
+        writeVarInt(out, histograms == null ? 0 : histograms.size());
+        if (histograms != null) {
+            for (Map.Entry<Dim, Histogram> entry : histograms.entrySet()) {
+                format.writeDimension(out, id(entry.getKey()));
+                entry.getValue().write(out);
+            }
+        }
+
+        Map<Dim, NoiseSummary> noise = sample.fNoise;
+        writeVarInt(out, noise == null ? 0 : noise.size());
+        if (noise != null) {
+            for (Map.Entry<Dim, NoiseSummary> entry : noise.entrySet()) {
+                format.writeDimension(out, id(entry.getKey()));
+                entry.getValue().write(out);
+            }
+        }
+    }
+
+    static Sample read(DataInput in, int version, Format format) throws IOException {
+        String scenarioID = format.readString(in);
+        long startTime = readVarLong(in);
+
+        Map<Object, Object> properties = null;
+        int propertyCount = readVarInt(in) - 1;
+        if (propertyCount >= 0) {
+            properties = new HashMap<>();
+            for (int i = 0; i < propertyCount; i++) {
+                int kind = in.readUnsignedByte();
+                if (kind == SCALAR_PROPERTY) {
+                    Dim dimension = readDimension(in, format);
+                    properties.put(dimension, new Scalar(dimension, readVarLong(in)));
+                } else if (kind == STRING_PROPERTY) {
+                    properties.put(format.readString(in), format.readString(in));
+                } else
+                    throw new IOException("unknown property kind: " + kind); //$NON-NLS-1$
+            }
+        }
+
+        DataPoint[] dataPoints = new DataPoint[readVarInt(in)];
+        long[] previous = format.fPrevious;
+        Arrays.fill(previous, 0);
+        for (int i = 0; i < dataPoints.length; i++) {
+            int step = (int) readVarLong(in);
+            int scalarCount = readVarInt(in);
+            Map<Dim, Scalar> scalars = new HashMap<>();
+            for (int j = 0; j < scalarCount; j++) {
+                Dim dimension = readDimension(in, format);
+                int id = dimension.getId();
+                long magnitude = previous[id] + readVarLong(in);
+                previous[id] = magnitude;
+                scalars.put(dimension, new Scalar(dimension, magnitude));
+            }
+            dataPoints[i] = new DataPoint(step, scalars);
+        }
+
+        Sample sample = scenarioID != null ? new Sample(scenarioID, startTime, toSampleProperties(properties), dataPoints)
+                : new Sample(dataPoints);
+        int flags = format.readFlags(in);
+        if ((flags & SUMMARY) != 0) {
+            String shortName = format.readString(in);
+            Dimension[] summaryDimensions = null;
+            int dimensionCount = readVarInt(in) - 1;
+            if (dimensionCount >= 0) {
+                summaryDimensions = new Dimension[dimensionCount];
+                for (int i = 0; i < dimensionCount; i++)
+                    summaryDimensions[i] = readDimension(in, format);
+            }
+            int commentType = (int) readVarLong(in);
+            sample.tagAsSummary((flags & GLOBAL) != 0, shortName, summaryDimensions, commentType, format.readString(in));
+        } else {
+            int commentType = (int) readVarLong(in);
+            sample.setComment(commentType, format.readString(in));
+        }
+
+        int histogramCount = version >= HISTOGRAM_VERSION ? readVarInt(in) : 0;
+        for (int i = 0; i < histogramCount; i++) {
+            Dim dimension = readDimension(in, format);
+            sample.setHistogram(dimension, Histogram.read(in));
+        }
+
+        int noiseCount = version >= NOISE_VERSION ? readVarInt(in) : 0;
+        for (int i = 0; i < noiseCount; i++) {
+            Dim dimension = readDimension(in, format);
+            sample.setNoise(dimension, NoiseSummary.read(in));
+        }
+        return sample;
+    }
+
+    /*
+     * Besides strings the properties of a sample hold the scalars of the global performance info.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Map<String, String> toSampleProperties(Map<Object, Object> properties) {
+        return (Map) properties;
+    }
+
+    private static int id(Dim dimension) throws IOException {
+        int id = dimension.getId();
+        if (id < 0 || id >= Dim.MAX_ID)
+            throw new IOException("unregistered dimension: " + id); //$NON-NLS-1$
+        return id;
+    }
+
+    private static Dim readDimension(DataInput in, Format format) throws IOException {
+        int id = format.readDimensionId(in);
+        Dim dimension = Dim.getDimension(id);
+        if (dimension == null)
+            throw new IOException("unknown dimension: " + id); //$NON-NLS-1$
+        return dimension;
+    }
+
+    /**
+     * Writes a non-negative <code>int</code> in 1 to 5 bytes, 7 bits per byte.
+     *
+     * @param out
+     *            the output
+     * @param value
+     *            the value, must not be negative
+     * @throws IOException
+     *             if writing fails
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        if (value < 0)
+            throw new IllegalArgumentException("negative value: " + value); //$NON-NLS-1$
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("malformed variable-length int"); //$NON-NLS-1$
+    }
+
+    /**
+     * Writes a <code>long</code> in 1 to 10 bytes, using zig-zag encoding so that numbers of small magnitude need few bytes
+     * regardless of their sign.
+     *
+     * @param out
+     *            the output
+     * @param value
+     *            the value
+     * @throws IOException
+     *             if writing fails
+     */
+    public static void writeVarLong(DataOutput out, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        out.writeByte((int) zigZag);
+    }
+
+    public static long readVarLong(DataInput in) throws IOException {
+        long zigZag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+        }
+        throw new IOException("malformed variable-length long"); //$NON-NLS-1$
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -70,8 +70,12 @@ public class Unit implements Serializable {
 
     public String getDisplayValue1(double magnitude) {
 
-        if (this == SECOND)
-            return formatedTime((long) (magnitude * 1000.0));
+        if (this == SECOND) {
+            double millis = magnitude * 1000.0;
+            if (millis != 0 && Math.abs(millis) < 1)
+                return formatedSubMillisecondTime(millis);
+            return formatedTime((long) millis);
+        }
         return formatEng((long) (magnitude));
 
         /*
@@ -126,6 +130,22 @@ public class Unit implements Serializable {
         return nf.format(sign * d) + "d"; //$NON-NLS-1$
     }
 
+    /**
+     * Answer a formatted string for an elapsed time shorter than a millisecond (microseconds or nanoseconds).
+     *
+     * @param millis
+     *            time in milliseconds, must be less than one in absolute value
+     * @return the formatted time
+     */
+    public static String formatedSubMillisecondTime(double millis) {
+        NumberFormat nf = NumberFormat.getInstance();
+        nf.setMaximumFractionDigits(2);
+        double micros = millis * 1000.0;
+        if (Math.abs(micros) >= 1)
+            return nf.format(micros) + "\u00B5s"; //$NON-NLS-1$
+        return nf.format(micros * 1000.0) + "ns"; //$NON-NLS-1$
+    }
+
     /**
      * Answer a number formatted using engineering conventions, K thousands, M millions, G billions and T trillions.
      *
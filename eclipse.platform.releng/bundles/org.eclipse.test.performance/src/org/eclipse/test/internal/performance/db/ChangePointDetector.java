@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.db;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.eval.RunningStatistics;
+
+/**
+ * Detects step changes in the build history of a scenario and dimension with a two-sided CUSUM chart, and names the first build
+ * after each change.
+ * <p>
+ * Every regime between two changes starts with a calibration phase of a few builds, which yields the mean and the noise of the
+ * regime; they are refined with every later build that is in control. The later builds are standardized with them and
+ * accumulated into an upper and a lower cumulative sum; a sum beyond the threshold signals a change. The change is placed at the
+ * most likely start of the shift among the builds since the sum last left zero, and the builds since then are the calibration of
+ * the next regime. Only these few builds and a few numbers are kept per series, so adding a build costs amortized O(1) however
+ * long the history is.
+ * </p>
+ * <p>
+ * Detectors are kept per scenario, variations and dimension, see {@link #getDetector(String, Variations, Dim)}, and fed with
+ * {@link #update(TimeSeries)} whenever the series has grown. Their state is not persisted: it is derived from the series, which
+ * is read from the database, so a detector in a new VM rebuilds it from the whole series on its first update. For the same reason
+ * only the {@link #MAX_DETECTORS} most recently used detectors are kept, a dropped one is rebuilt when its series is used again.
+ * See {@link DatabaseImporter} for a report of the changes.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class ChangePointDetector {
+
+    /**
+     * A step change in a time series.
+     */
+    public static final class ChangePoint {
+
+        private final int    fIndex;
+        private final String fBuild;
+        private final double fMeanBefore;
+        private final double fMeanAfter;
+
+        ChangePoint(int index, String build, double meanBefore, double meanAfter) {
+            fIndex = index;
+            fBuild = build;
+            fMeanBefore = meanBefore;
+            fMeanAfter = meanAfter;
+        }
+
+        /**
+         * @return the index of the first build after the change
+         */
+        public int getIndex() {
+            return fIndex;
+        }
+
+        /**
+         * @return the name of the first build after the change
+         */
+        public String getBuild() {
+            return fBuild;
+        }
+
+        /**
+         * @return the mean of the builds before the change
+         */
+        public double getMeanBefore() {
+            return fMeanBefore;
+        }
+
+        /**
+         * @return the mean of the builds after the change, up to its detection
+         */
+        public double getMeanAfter() {
+            return fMeanAfter;
+        }
+
+        /**
+         * @return the change relative to the mean before, e.g. <code>0.2</code> for 20% more
+         */
+        public double getRelativeChange() {
+            return (fMeanAfter - fMeanBefore) / fMeanBefore;
+        }
+
+        @Override
+        public String toString() {
+            return "ChangePoint [build=" + fBuild + ", before=" + fMeanBefore + ", after=" + fMeanAfter + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        }
+    }
+
+    public static final int                               DEFAULT_CALIBRATION = 10;
+    public static final double                            DEFAULT_DRIFT       = 1;
+    public static final double                            DEFAULT_THRESHOLD   = 5;
+    public static final int                               MAX_DETECTORS       = 4096;
+
+    private static final Map<String, ChangePointDetector> fgDetectors         = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ChangePointDetector> eldest) {
+            return size() > MAX_DETECTORS;
+        }
+    };
+
+    private final int                                     fCalibration;
+    private final double                                  fDrift;
+    private final double                                  fThreshold;
+    private final List<ChangePoint>                       fChangePoints       = new ArrayList<>();
+
+    private int                                           fBuildCount;
+    private String                                        fLastBuild;
+    // the regime since the last change
+    private RunningStatistics                             fRegime             = new RunningStatistics();
+    private double                                        fStandardErrorSum;
+    private double                                        fMean;
+    private double                                        fSigma;
+    // the cumulative sums and the builds since they left zero
+    private double                                        fUpperSum;
+    private double                                        fLowerSum;
+    private final Run                                     fUpperRun           = new Run();
+    private final Run                                     fLowerRun           = new Run();
+
+    /**
+     * Returns the detector of a series, creating it with the default parameters on first use.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations of the series, without the key that labels the builds, e.g. the config
+     * @param dimension
+     *            the dimension
+     * @return the detector
+     */
+    public static synchronized ChangePointDetector getDetector(String scenarioId, Variations variations, Dim dimension) {
+        String key = scenarioId + '\n' + variations.toExactMatchString() + '\n' + dimension.getId();
+        return fgDetectors.computeIfAbsent(key, k -> new ChangePointDetector());
+    }
+
+    public ChangePointDetector() {
+        this(DEFAULT_CALIBRATION, DEFAULT_DRIFT, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param calibration
+     *            the number of builds that calibrate a regime, at least 2
+     * @param drift
+     *            the allowed drift per build in units of the noise, half the smallest shift to detect
+     * @param threshold
+     *            the threshold of the cumulative sums in units of the noise
+     */
+    public ChangePointDetector(int calibration, double drift, double threshold) {
+        if (calibration < 2)
+            throw new IllegalArgumentException("calibration must be at least 2: " + calibration); //$NON-NLS-1$
+        fCalibration = calibration;
+        fDrift = drift;
+        fThreshold = threshold;
+    }
+
+    /**
+     * Adds the builds of a series that were not added yet. If the builds added so far are not a prefix of the series, e.g. because
+     * builds were deleted from the database, the detector is reset and the whole series is added.
+     *
+     * @param series
+     *            the series
+     * @return the changes detected by the added builds
+     */
+    public synchronized List<ChangePoint> update(TimeSeries series) {
+        if (fBuildCount > series.getLength() || fBuildCount > 0 && !series.getLabel(fBuildCount - 1).equals(fLastBuild))
+            reset();
+        List<ChangePoint> changes = new ArrayList<>();
+        for (int i = fBuildCount; i < series.getLength(); i++) {
+            ChangePoint change = add(series.getLabel(i), series.getValue(i), series.getStddev(i), series.getCount(i));
+            if (change != null)
+                changes.add(change);
+        }
+        return changes;
+    }
+
+    /**
+     * Adds the next build.
+     *
+     * @param build
+     *            the name of the build
+     * @param average
+     *            the average of the build
+     * @param stddev
+     *            the standard deviation of the values of the build, or {@link Double#NaN}
+     * @param count
+     *            the number of values of the build
+     * @return the change detected by this build, or <code>null</code>
+     */
+    public synchronized ChangePoint add(String build, double average, double stddev, long count) {
+        int index = fBuildCount++;
+        fLastBuild = build;
+        double standardError = count > 0 && !Double.isNaN(stddev) ? stddev / Math.sqrt(count) : 0;
+
+        if (fRegime.getCount() < fCalibration) {
+            addToRegime(average, standardError);
+            return null;
+        }
+
+        double z = (average - fMean) / fSigma;
+        fUpperSum = Math.max(0, fUpperSum + z - fDrift);
+        fLowerSum = Math.max(0, fLowerSum - z - fDrift);
+        fUpperRun.update(fUpperSum, index, build, average, standardError);
+        fLowerRun.update(fLowerSum, index, build, average, standardError);
+        if (fUpperSum == 0 && fLowerSum == 0) {
+            // in control: refine the estimates of the regime
+            fRegime.addAggregate(1, average, 0);
+            fStandardErrorSum += standardError;
+            calibrate();
+            return null;
+        }
+
+        if (fUpperSum > fThreshold)
+            return change(fUpperRun);
+        if (fLowerSum > fThreshold)
+            return change(fLowerRun);
+        return null;
+    }
+
+    /**
+     * @return the changes detected so far, oldest first
+     */
+    public synchronized List<ChangePoint> getChangePoints() {
+        return Collections.unmodifiableList(new ArrayList<>(fChangePoints));
+    }
+
+    /**
+     * @return the number of builds added so far
+     */
+    public synchronized int getBuildCount() {
+        return fBuildCount;
+    }
+
+    /**
+     * Forgets all builds and changes.
+     */
+    public synchronized void reset() {
+        fChangePoints.clear();
+        fBuildCount = 0;
+        fLastBuild = null;
+        fRegime = new RunningStatistics();
+        fStandardErrorSum = 0;
+        fMean = 0;
+        fSigma = 0;
+        fUpperSum = 0;
+        fLowerSum = 0;
+        fUpperRun.fSize = 0;
+        fLowerRun.fSize = 0;
+    }
+
+    private ChangePoint change(Run run) {
+        // the sum may have left zero a few builds before the change, take the most likely start of the shift within the run
+        int start = run.getMostLikelyStart(fMean);
+        RunningStatistics regime = new RunningStatistics();
+        double errorSum = 0;
+        for (int i = start; i < run.fSize; i++) {
+            regime.addAggregate(1, run.fAverages[i], 0);
+            errorSum += run.fErrors[i];
+        }
+        ChangePoint change = new ChangePoint(run.fStart + start, run.fBuilds[start], fMean, regime.getMean());
+        fChangePoints.add(change);
+        // the builds since the change calibrate the new regime
+        fRegime = regime;
+        fStandardErrorSum = errorSum;
+        fUpperSum = 0;
+        fLowerSum = 0;
+        fUpperRun.fSize = 0;
+        fLowerRun.fSize = 0;
+        if (fRegime.getCount() >= fCalibration)
+            calibrate();
+        return change;
+    }
+
+    private void addToRegime(double average, double standardError) {
+        fRegime.addAggregate(1, average, 0);
+        fStandardErrorSum += standardError;
+        if (fRegime.getCount() == fCalibration)
+            calibrate();
+    }
+
+    private void calibrate() {
+        fMean = fRegime.getMean();
+        // the noise between builds, but at least the mean standard error within a build
+        double sigma = Math.max(fRegime.getStddev(), fStandardErrorSum / fRegime.getCount());
+        fSigma = Math.max(sigma, 1e-9 * Math.max(1, Math.abs(fMean)));
+    }
+
+    /**
+     * The builds since a cumulative sum left zero. They are only kept until the sum returns to zero or signals a change.
+     */
+    private static final class Run {
+
+        int      fStart;
+        int      fSize;
+        String[] fBuilds   = new String[8];
+        double[] fAverages = new double[8];
+        double[] fErrors   = new double[8];
+
+        void update(double sum, int index, String build, double average, double standardError) {
+            if (sum == 0) {
+                fSize = 0;
+                return;
+            }
+            if (fSize == 0)
+                fStart = index;
+            if (fSize == fAverages.length) {
+                fBuilds = Arrays.copyOf(fBuilds, 2 * fSize);
+                fAverages = Arrays.copyOf(fAverages, 2 * fSize);
+                fErrors = Arrays.copyOf(fErrors, 2 * fSize);
+            }
+            fBuilds[fSize] = build;
+            fAverages[fSize] = average;
+            fErrors[fSize] = standardError;
+            fSize++;
+        }
+
+        /**
+         * Returns the start of the shift that maximizes the likelihood of a mean shift, i.e. the squared sum of the deviations
+         * from <code>mean</code> after the start divided by their number.
+         */
+        int getMostLikelyStart(double mean) {
+            int best = 0;
+            double bestScore = -1;
+            double suffixSum = 0;
+            for (int i = fSize - 1; i >= 0; i--) {
+                suffixSum += fAverages[i] - mean;
+                double score = suffixSum * suffixSum / (fSize - i);
+                if (score >= bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+}
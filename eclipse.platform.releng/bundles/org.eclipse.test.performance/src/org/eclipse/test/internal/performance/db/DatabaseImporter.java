@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.db;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.RawDataConverter;
+import org.eclipse.test.internal.performance.data.RawDataReader;
+import org.eclipse.test.internal.performance.data.Sample;
+
+/**
+ * Loads raw data files into the performance database with the batched ingest of {@link SQL}:
+ *
+ * <pre>
+ * java org.eclipse.test.internal.performance.db.DatabaseImporter [-batch &lt;samples&gt;] [-changes] &lt;JDBC URL&gt; &lt;raw data file&gt;...
+ * </pre>
+ * <p>
+ * The samples are stored in transactions of {@link #DEFAULT_BATCH_SIZE} samples by default; with <code>-batch 1</code> every sample
+ * is its own transaction. The JDBC driver of the database, e.g. Derby, must be on the class path. Files in the Java serialization
+ * format of earlier versions are converted on the fly.
+ * </p>
+ * <p>
+ * With <code>-changes</code>, the build history of every imported scenario and configuration in the default dimension is read
+ * back and the step changes found by its {@link ChangePointDetector} are reported.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class DatabaseImporter {
+
+    public static final int                    DEFAULT_BATCH_SIZE = 100;
+
+    private final SQL                          fSQL;
+    private final int                          fBatchSize;
+    /** The variations of the imported samples without the build, by scenario. */
+    private final Map<String, Set<Variations>> fSeries            = new LinkedHashMap<>();
+
+    /**
+     * Creates an importer. Auto-commit of the connection is switched off, since creating and migrating the tables commits its own
+     * transactions, as does every batch of samples.
+     *
+     * @param connection
+     *            the connection to the database, the tables are created or migrated if needed
+     * @param batchSize
+     *            the number of samples stored in one transaction
+     * @throws SQLException
+     *             if the tables cannot be created
+     */
+    public DatabaseImporter(Connection connection, int batchSize) throws SQLException {
+        if (batchSize < 1)
+            throw new IllegalArgumentException("batch size must be positive: " + batchSize); //$NON-NLS-1$
+        // committing with auto-commit on fails, e.g. Derby's XJ012
+        connection.setAutoCommit(false);
+        fSQL = new SQL(connection);
+        fBatchSize = batchSize;
+    }
+
+    public static void main(String[] args) throws IOException, SQLException {
+        int batchSize = DEFAULT_BATCH_SIZE;
+        boolean changes = false;
+        int first = 0;
+        while (first < args.length && args[first].startsWith("-")) { //$NON-NLS-1$
+            if ("-batch".equals(args[first]) && first + 1 < args.length) { //$NON-NLS-1$
+                batchSize = Integer.parseInt(args[first + 1]);
+                first += 2;
+            } else if ("-changes".equals(args[first])) { //$NON-NLS-1$
+                changes = true;
+                first++;
+            } else {
+                break;
+            }
+        }
+        if (args.length - first < 2) {
+            System.err.println("usage: DatabaseImporter [-batch <samples>] [-changes] <JDBC URL> <raw data file>..."); //$NON-NLS-1$
+            System.exit(2);
+        }
+        long start = System.currentTimeMillis();
+        int count = 0;
+        try (Connection connection = DriverManager.getConnection(args[first])) {
+            DatabaseImporter importer = new DatabaseImporter(connection, batchSize);
+            try {
+                for (int i = first + 1; i < args.length; i++)
+                    count += importer.importFile(Paths.get(args[i]));
+                System.out.println(importer.fSQL.getCacheStatistics());
+                if (changes)
+                    importer.reportChanges(System.out, (Dim) PerformanceTestPlugin.getDefaultDimension());
+            } finally {
+                importer.dispose();
+            }
+        }
+        System.out.println("Imported " + count + " samples in " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    /**
+     * Stores all samples of a raw data file.
+     *
+     * @param rawDataFile
+     *            the raw data file
+     * @return the number of stored samples
+     * @throws IOException
+     *             if reading the file fails
+     * @throws SQLException
+     *             if storing fails, the samples of the failed batch are not stored
+     */
+    public int importFile(Path rawDataFile) throws IOException, SQLException {
+        Path converted = null;
+        try {
+            Path file = rawDataFile;
+            if (!RawDataReader.isRawDataFile(rawDataFile)) {
+                converted = Files.createTempFile("perf", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+                RawDataConverter.convert(rawDataFile, converted);
+                file = converted;
+            }
+            int count = 0;
+            List<String> scenarioIds = new ArrayList<>(fBatchSize);
+            List<Variations> variations = new ArrayList<>(fBatchSize);
+            List<Sample> samples = new ArrayList<>(fBatchSize);
+            try (RawDataReader reader = new RawDataReader(file)) {
+                while (reader.next()) {
+                    scenarioIds.add(reader.getScenarioId());
+                    Variations sampleVariations = reader.getVariations();
+                    variations.add(sampleVariations != null ? sampleVariations : new Variations());
+                    addSeries(reader.getScenarioId(), variations.get(variations.size() - 1));
+                    samples.add(reader.getSample());
+                    if (samples.size() == fBatchSize)
+                        count += flush(scenarioIds, variations, samples);
+                }
+            }
+            return count + flush(scenarioIds, variations, samples);
+        } finally {
+            if (converted != null)
+                Files.delete(converted);
+        }
+    }
+
+    /**
+     * Prints the step changes in the build history of every scenario and configuration imported so far.
+     *
+     * @param out
+     *            the stream to print to
+     * @param dimension
+     *            the dimension whose history is checked
+     * @return the number of changes
+     * @throws SQLException
+     *             if reading the history fails
+     */
+    public int reportChanges(PrintStream out, Dim dimension) throws SQLException {
+        Report report = new Report(2);
+        report.addCell("Scenario"); //$NON-NLS-1$
+        report.addCell("Variations"); //$NON-NLS-1$
+        report.addCell("Build"); //$NON-NLS-1$
+        report.addCellRight("Before"); //$NON-NLS-1$
+        report.addCellRight("After"); //$NON-NLS-1$
+        report.addCellRight("Change"); //$NON-NLS-1$
+        int count = 0;
+        for (Map.Entry<String, Set<Variations>> entry : fSeries.entrySet()) {
+            String scenarioId = entry.getKey();
+            for (Variations variations : entry.getValue()) {
+                TimeSeries timeSeries = fSQL.getTimeSeries(variations, PerformanceTestPlugin.BUILD, scenarioId, dimension);
+                ChangePointDetector detector = ChangePointDetector.getDetector(scenarioId, variations, dimension);
+                detector.update(timeSeries);
+                for (ChangePointDetector.ChangePoint change : detector.getChangePoints()) {
+                    report.nextRow();
+                    report.addCell(scenarioId);
+                    report.addCell(variations.toExactMatchString());
+                    report.addCell(change.getBuild());
+                    report.addCellRight(dimension.getDisplayValue(change.getMeanBefore()));
+                    report.addCellRight(dimension.getDisplayValue(change.getMeanAfter()));
+                    report.addCellRight(Math.round(change.getRelativeChange() * 1000) / 10.0 + "%"); //$NON-NLS-1$
+                    count++;
+                }
+            }
+        }
+        out.println(count + " changes in " + dimension.getName() + ':'); //$NON-NLS-1$
+        if (count > 0)
+            report.print(out);
+        return count;
+    }
+
+    private void addSeries(String scenarioId, Variations variations) {
+        Variations series = (Variations) variations.clone();
+        series.remove(PerformanceTestPlugin.BUILD);
+        fSeries.computeIfAbsent(scenarioId, id -> new LinkedHashSet<>()).add(series);
+    }
+
+    private int flush(List<String> scenarioIds, List<Variations> variations, List<Sample> samples) throws SQLException {
+        int count = samples.size();
+        if (count > 0) {
+            fSQL.storeSamples(scenarioIds.toArray(new String[count]), variations.toArray(new Variations[count]),
+                    samples.toArray(new Sample[count]));
+            scenarioIds.clear();
+            variations.clear();
+            samples.clear();
+        }
+        return count;
+    }
+
+    /**
+     * Releases the prepared statements, the connection is not closed.
+     *
+     * @throws SQLException
+     *             if closing a statement fails
+     */
+    public void dispose() throws SQLException {
+        fSQL.dispose();
+    }
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.db;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A bounded cache of database ids, e.g. of the scenarios by name, which evicts the least recently used entry. Ids of rows inserted
+ * in the current transaction are only kept until it ends: {@link #rollback()} forgets them since the rows are gone, and
+ * {@link #commit()} keeps them. The owner of the transaction must call one of them when it ends it, see {@link SQL#commit()}; the
+ * keys of the inserted rows are remembered until then, even if their ids were evicted, since the ids may be read again within the
+ * transaction.
+ *
+ * @param <K>
+ *            the type of the keys
+ * @since 3.21
+ */
+public final class IdCache<K> {
+
+    private final String          fName;
+    private final Map<K, Integer> fIds;
+    private final Set<K>          fUncommitted = new HashSet<>();
+    private long                  fHits;
+    private long                  fMisses;
+
+    /**
+     * @param name
+     *            the name used by {@link #toString()}
+     * @param capacity
+     *            the maximal number of cached ids
+     */
+    public IdCache(String name, final int capacity) {
+        fName = name;
+        fIds = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @param key
+     *            the key
+     * @return the cached id, or <code>null</code> on a miss
+     */
+    public Integer get(K key) {
+        Integer id = fIds.get(key);
+        if (id != null)
+            fHits++;
+        else
+            fMisses++;
+        return id;
+    }
+
+    /**
+     * @param key
+     *            the key
+     * @param id
+     *            its id
+     * @param inserted
+     *            whether the row was inserted in the current transaction
+     */
+    public void put(K key, int id, boolean inserted) {
+        fIds.put(key, Integer.valueOf(id));
+        if (inserted)
+            fUncommitted.add(key);
+    }
+
+    /**
+     * Keeps the ids of the rows inserted in the transaction which was just committed.
+     */
+    public void commit() {
+        fUncommitted.clear();
+    }
+
+    /**
+     * Forgets the ids of the rows inserted in the transaction which was just rolled back.
+     */
+    public void rollback() {
+        for (K key : fUncommitted)
+            fIds.remove(key);
+        fUncommitted.clear();
+    }
+
+    /**
+     * @return the share of lookups which were hits, or 0 if there were none
+     */
+    public double getHitRate() {
+        long lookups = fHits + fMisses;
+        return lookups > 0 ? fHits / (double) lookups : 0;
+    }
+
+    @Override
+    public String toString() {
+        return fName + " ids: " + fHits + " of " + (fHits + fMisses) + " lookups cached (" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + Math.round(getHitRate() * 100) + "%)"; //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.db;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.HostCalibration;
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.RawDataConverter;
+import org.eclipse.test.internal.performance.data.RawDataReader;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.SampleCodec;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+
+/**
+ * A local store of reference samples, looked up by scenario and exact variations. It replaces the database as the source of the
+ * reference build that {@link org.eclipse.test.internal.performance.eval.Evaluator} asserts against.
+ * <p>
+ * A store is built from raw data files, see {@link #create(Path, List)} or
+ *
+ * <pre>
+ * java org.eclipse.test.internal.performance.db.ReferenceStore &lt;store file&gt; &lt;raw data file&gt;...
+ * </pre>
+ *
+ * The file starts with the magic bytes <code>EPRS</code>, a version byte and the {@link SampleCodec#VERSION} the samples were
+ * written with, followed by the samples in the format of {@link SampleCodec}, grouped by key, and an index of the keys. It ends
+ * with the offset of the index. Opening a store maps the file and reads the index into memory; a lookup decodes only the samples
+ * of its key. The sessions built from them are cached and shared between threads.
+ * </p>
+ *
+ * @since 3.21
+ */
+public final class ReferenceStore implements Closeable {
+
+    /**
+     * The system property naming the store {@link #getDefault()} opens.
+     */
+    public static final String                          REFERENCES_PROPERTY = "eclipse.perf.references"; //$NON-NLS-1$
+
+    public static final int                             DEFAULT_CACHE_SIZE  = 256;
+
+    static final byte[]                                 MAGIC               = { 'E', 'P', 'R', 'S' };
+    static final int                                    VERSION             = 2;
+    /** The first version with the sample codec version in the header. */
+    static final int                                    CODEC_VERSION       = 2;
+
+    private static String                               fgDefaultLocation;
+    private static ReferenceStore                       fgDefault;
+
+    private ByteBuffer                                  fBuffer;
+    private final int                                   fHeaderLength;
+    private final Map<String, Entry>                    fIndex;
+    private final Map<String, StatisticsSession>        fSessions;
+
+    /** The samples of a key: their position in the file and their number. */
+    private static final class Entry {
+
+        final int fOffset;
+        final int fLength;
+        final int fCount;
+
+        Entry(int offset, int length, int count) {
+            fOffset = offset;
+            fLength = length;
+            fCount = count;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: ReferenceStore <store file> <raw data file>..."); //$NON-NLS-1$
+            System.exit(2);
+        }
+        List<Path> rawDataFiles = new ArrayList<>();
+        for (int i = 1; i < args.length; i++)
+            rawDataFiles.add(Paths.get(args[i]));
+        int count = create(Paths.get(args[0]), rawDataFiles);
+        System.out.println("Stored " + count + " samples in " + args[0]); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Returns the key of the samples of a scenario.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations, or <code>null</code>
+     * @return the key
+     */
+    public static String getKey(String scenarioId, Variations variations) {
+        return getKey(scenarioId, variations != null ? variations.toExactMatchString() : ""); //$NON-NLS-1$
+    }
+
+    private static String getKey(String scenarioId, String variations) {
+        return variations + '\n' + scenarioId;
+    }
+
+    /**
+     * Builds a store from raw data files. Files in the Java serialization format of earlier versions are converted on the fly.
+     *
+     * @param store
+     *            the store file, it is overwritten
+     * @param rawDataFiles
+     *            the raw data files
+     * @return the number of stored samples
+     * @throws IOException
+     *             if reading or writing fails
+     */
+    public static int create(Path store, List<Path> rawDataFiles) throws IOException {
+        // the samples are kept encoded until they are written grouped by key
+        Map<String, ByteArrayOutputStream> samples = new LinkedHashMap<>();
+        Map<String, int[]> counts = new HashMap<>();
+        int count = 0;
+        for (Path rawDataFile : rawDataFiles) {
+            Path converted = null;
+            try {
+                Path file = rawDataFile;
+                if (!RawDataReader.isRawDataFile(rawDataFile)) {
+                    converted = Files.createTempFile("perf", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+                    RawDataConverter.convert(rawDataFile, converted);
+                    file = converted;
+                }
+                try (RawDataReader reader = new RawDataReader(file)) {
+                    while (reader.next()) {
+                        String key = getKey(reader.getScenarioId(), reader.getVariations());
+                        ByteArrayOutputStream bytes = samples.computeIfAbsent(key, k -> new ByteArrayOutputStream());
+                        SampleCodec.write(new DataOutputStream(bytes), reader.getSample());
+                        counts.computeIfAbsent(key, k -> new int[1])[0]++;
+                        count++;
+                    }
+                }
+            } finally {
+                if (converted != null)
+                    Files.delete(converted);
+            }
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(store), 64 * 1024))) {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(SampleCodec.VERSION);
+            ByteArrayOutputStream index = new ByteArrayOutputStream();
+            DataOutputStream indexOut = new DataOutputStream(index);
+            SampleCodec.writeVarInt(indexOut, samples.size());
+            for (Map.Entry<String, ByteArrayOutputStream> entry : samples.entrySet()) {
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                SampleCodec.writeVarInt(indexOut, key.length);
+                indexOut.write(key);
+                SampleCodec.writeVarInt(indexOut, out.size());
+                SampleCodec.writeVarInt(indexOut, entry.getValue().size());
+                SampleCodec.writeVarInt(indexOut, counts.get(entry.getKey())[0]);
+                entry.getValue().writeTo(out);
+            }
+            int indexOffset = out.size();
+            index.writeTo(out);
+            out.writeInt(indexOffset);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the store named by the system property <code>eclipse.perf.references</code>. It is opened on first use and reopened
+     * when the property changes.
+     *
+     * @return the store, or <code>null</code> if the property is not set or the store cannot be opened
+     */
+    public static synchronized ReferenceStore getDefault() {
+        String location = System.getProperty(REFERENCES_PROPERTY);
+        if (location == null || !location.equals(fgDefaultLocation)) {
+            if (fgDefault != null)
+                fgDefault.close();
+            fgDefault = null;
+            fgDefaultLocation = location;
+            if (location != null) {
+                try {
+                    fgDefault = new ReferenceStore(Paths.get(location), DEFAULT_CACHE_SIZE);
+                } catch (IOException e) {
+                    PerformanceTestPlugin.logWarning("cannot open reference store " + location + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+            }
+        }
+        return fgDefault;
+    }
+
+    /**
+     * Opens a store.
+     *
+     * @param store
+     *            the store file
+     * @param cacheSize
+     *            the number of sessions to cache
+     * @throws IOException
+     *             if the file is not a store or cannot be read
+     */
+    public ReferenceStore(Path store, int cacheSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(store, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("reference store too large: " + store); //$NON-NLS-1$
+            fBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        if (fBuffer.limit() < MAGIC.length + 5)
+            throw new IOException("not a reference store: " + store); //$NON-NLS-1$
+        fBuffer.get(0, magic);
+        if (!Arrays.equals(magic, MAGIC))
+            throw new IOException("not a reference store: " + store); //$NON-NLS-1$
+        int version = fBuffer.get(MAGIC.length) & 0xFF;
+        if (version < 1 || version > VERSION)
+            throw new IOException("unsupported reference store version: " + version); //$NON-NLS-1$
+        fHeaderLength = MAGIC.length + (version >= CODEC_VERSION ? 2 : 1);
+        if (version >= CODEC_VERSION) {
+            // each sample carries its version too, but a store of a newer codec is rejected before any lookup
+            int codecVersion = fBuffer.get(MAGIC.length + 1) & 0xFF;
+            if (codecVersion < 1 || codecVersion > SampleCodec.VERSION)
+                throw new IOException("unsupported sample version of reference store: " + codecVersion); //$NON-NLS-1$
+        }
+
+        int indexOffset = fBuffer.getInt(fBuffer.limit() - 4);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes(indexOffset, fBuffer.limit() - 4 - indexOffset)));
+        int keyCount = SampleCodec.readVarInt(in);
+        fIndex = new HashMap<>(keyCount * 4 / 3 + 1);
+        for (int i = 0; i < keyCount; i++) {
+            byte[] key = new byte[SampleCodec.readVarInt(in)];
+            in.readFully(key);
+            fIndex.put(new String(key, StandardCharsets.UTF_8),
+                    new Entry(SampleCodec.readVarInt(in), SampleCodec.readVarInt(in), SampleCodec.readVarInt(in)));
+        }
+        fSessions = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StatisticsSession> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * @return the number of keys in this store
+     */
+    public int size() {
+        return fIndex.size();
+    }
+
+    /**
+     * Decodes the samples of a scenario.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations, compared with {@link Variations#toExactMatchString()}
+     * @return the samples, or <code>null</code> if there are none
+     * @throws IOException
+     *             if the store is corrupt
+     */
+    public Sample[] getSamples(String scenarioId, Variations variations) throws IOException {
+        Entry entry = fIndex.get(getKey(scenarioId, variations));
+        if (entry == null)
+            return null;
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes(entry.fOffset, entry.fLength)));
+        Sample[] samples = new Sample[entry.fCount];
+        for (int i = 0; i < samples.length; i++)
+            samples[i] = SampleCodec.read(in);
+        return samples;
+    }
+
+    /**
+     * Returns a session on all samples of a scenario. Sessions are cached and shared between threads, they must not be modified.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations, compared with {@link Variations#toExactMatchString()}
+     * @return the session, or <code>null</code> if there are no samples
+     * @throws IOException
+     *             if the store is corrupt
+     */
+    public StatisticsSession getSession(String scenarioId, Variations variations) throws IOException {
+        return getSession(scenarioId, variations, false);
+    }
+
+    /**
+     * Returns a session on all samples of a scenario, optionally {@link HostCalibration#normalize(Sample) normalized} to the nominal
+     * host. Sessions are cached and shared between threads, they must not be modified.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations, compared with {@link Variations#toExactMatchString()}
+     * @param normalized
+     *            whether the times of the samples are normalized
+     * @return the session, or <code>null</code> if there are no samples
+     * @throws IOException
+     *             if the store is corrupt
+     */
+    public synchronized StatisticsSession getSession(String scenarioId, Variations variations, boolean normalized) throws IOException {
+        String key = getKey(scenarioId, variations);
+        String cacheKey = normalized ? key + '\n' : key;
+        StatisticsSession session = fSessions.get(cacheKey);
+        if (session == null) {
+            Sample[] samples = getSamples(scenarioId, variations);
+            if (samples == null)
+                return null;
+            if (normalized) {
+                for (int i = 0; i < samples.length; i++)
+                    samples[i] = HostCalibration.normalize(samples[i]);
+            }
+            session = new StatisticsSession(samples);
+            fSessions.put(cacheKey, session);
+        }
+        return session;
+    }
+
+    @Override
+    public synchronized void close() {
+        // the mapping is released when the buffer is garbage collected
+        fBuffer = null;
+        fIndex.clear();
+        fSessions.clear();
+    }
+
+    private byte[] bytes(int offset, int length) throws IOException {
+        if (offset < fHeaderLength || length < 0 || offset + length > fBuffer.limit())
+            throw new IOException("corrupt reference store"); //$NON-NLS-1$
+        byte[] bytes = new byte[length];
+        fBuffer.get(offset, bytes);
+        return bytes;
+    }
+}
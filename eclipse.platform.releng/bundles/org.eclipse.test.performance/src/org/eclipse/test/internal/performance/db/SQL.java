@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0 which accompanies this distribution, and is available at
@@ -19,23 +19,57 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.TreeMap;
+
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.eval.RunningStatistics;
+import org.eclipse.test.internal.performance.eval.StatisticsAccumulator;
+import org.eclipse.test.performance.Dimension;
 
 /*
  * Any SQL should only be used here.
  */
 public class SQL {
 
+    /** The maximal number of scalars sent to the database in one batch. */
+    static final int     SCALAR_BATCH_SIZE = 1000;
+
+    /** The number of rows fetched per round trip when streaming the scalars of a scenario. */
+    static final int     SCALAR_FETCH_SIZE = 1000;
+
+    /** The maximal number of ids cached per table, see {@link IdCache}. */
+    static final int     ID_CACHE_SIZE     = 1024;
+
     private boolean      fCompatibility = false;
 
+    /** The transactions on the connection are ended with {@link #commit()} and {@link #rollback()}. */
     protected Connection fConnection;
 
     private PreparedStatement fInsertVariation, fInsertScenario, fInsertSample, fInsertDataPoint, fInsertScalar;
     private PreparedStatement fQueryComment, fInsertComment, fQueryComment2;
-    private PreparedStatement fQueryVariation, fQueryVariations, fQueryScenario, fQueryAllScenarios, fQueryDatapoints,
-            fQueryScalars;
+    private PreparedStatement fQueryVariation, fQueryScenario, fQueryDatapoints, fQueryScalars;
     private PreparedStatement fInsertSummaryEntry, fUpdateScenarioShortName, fQuerySummaryEntry, fQueryGlobalSummaryEntries,
             fQuerySummaryEntries;
     private PreparedStatement fInsertFailure, fQueryFailure;
+    private PreparedStatement fInsertDataPoints, fQueryDataPointIds, fQueryDataPointScalars;
+    private PreparedStatement fInsertVariationPair, fInsertRollup;
+    /** The statements filtering on variation pairs, keyed by their SQL since it depends on the number of pairs. */
+    private final Map<String, PreparedStatement> fPairQueries = new HashMap<>();
+
+    private final IdCache<String> fScenarioIds  = new IdCache<>("scenario", ID_CACHE_SIZE); //$NON-NLS-1$
+    private final IdCache<String> fVariationIds = new IdCache<>("variation", ID_CACHE_SIZE); //$NON-NLS-1$
+    private final IdCache<String> fCommentIds   = new IdCache<>("comment", ID_CACHE_SIZE); //$NON-NLS-1$
 
     protected SQL(Connection con) throws SQLException {
         fConnection = con;
@@ -44,6 +78,9 @@ public class SQL {
         boolean needsInitialization = true;
         boolean needsFailures = true;
         boolean needsComments = true;
+        boolean needsIndexes = true;
+        boolean needsVariationPairs = true;
+        boolean needsRollups = true;
 
         try (Statement statement = fConnection.createStatement()) {
             try (ResultSet rs = statement.executeQuery("select SYS.SYSTABLES.TABLENAME from SYS.SYSTABLES where SYS.SYSTABLES.TABLENAME not like 'SYS%'")) { //$NON-NLS-1$
@@ -59,6 +96,10 @@ public class SQL {
                         needsFailures = false;
                     else if ("COMMENT".equals(tablename)) //$NON-NLS-1$
                         needsComments = false;
+                    else if ("VARIATIONPAIR".equals(tablename)) //$NON-NLS-1$
+                        needsVariationPairs = false;
+                    else if ("SAMPLEROLLUP".equals(tablename)) //$NON-NLS-1$
+                        needsRollups = false;
                 }
             }
             if (!fCompatibility) {
@@ -69,6 +110,11 @@ public class SQL {
                         fCompatibility = true;
                 }
             }
+            // the indexes supporting the joins of the queries were added later
+            try (ResultSet rs = statement.executeQuery("select count(*) from SYS.SYSCONGLOMERATES where SYS.SYSCONGLOMERATES.CONGLOMERATENAME = 'SC_DATAPOINT'")) { //$NON-NLS-1$
+                if (rs.next() && rs.getInt(1) > 0)
+                    needsIndexes = false;
+            }
         }
 
         if (needsInitialization)
@@ -81,6 +127,14 @@ public class SQL {
             if (needsComments)
                 addCommentTable();
         }
+        if (needsIndexes)
+            addIndexes();
+        if (needsVariationPairs)
+            addVariationPairTable();
+        else
+            widenVariationPairValues();
+        if (needsRollups)
+            addRollupTable();
     }
 
     protected void dispose() throws SQLException {
@@ -110,10 +164,6 @@ public class SQL {
             fQueryVariation.close();
         if (fQueryScenario != null)
             fQueryScenario.close();
-        if (fQueryAllScenarios != null)
-            fQueryAllScenarios.close();
-        if (fQueryVariations != null)
-            fQueryVariations.close();
         if (fQueryGlobalSummaryEntries != null)
             fQueryGlobalSummaryEntries.close();
         if (fQuerySummaryEntries != null)
@@ -124,6 +174,19 @@ public class SQL {
             fQueryComment.close();
         if (fQueryComment2 != null)
             fQueryComment2.close();
+        if (fInsertDataPoints != null)
+            fInsertDataPoints.close();
+        if (fQueryDataPointIds != null)
+            fQueryDataPointIds.close();
+        if (fQueryDataPointScalars != null)
+            fQueryDataPointScalars.close();
+        if (fInsertVariationPair != null)
+            fInsertVariationPair.close();
+        if (fInsertRollup != null)
+            fInsertRollup.close();
+        for (PreparedStatement statement : fPairQueries.values())
+            statement.close();
+        fPairQueries.clear();
     }
 
     private void initialize() throws SQLException {
@@ -206,7 +269,7 @@ public class SQL {
             stmt.executeUpdate("alter table FAILURE add constraint FA_CONSTRAINT2 " + //$NON-NLS-1$
                     "foreign key (SCENARIO_ID) references SCENARIO (ID)"); //$NON-NLS-1$
 
-            fConnection.commit();
+            commit();
 
         }
     }
@@ -228,7 +291,7 @@ public class SQL {
 
             stmt.executeUpdate("alter table SCENARIO add column SHORT_NAME varchar(40)"); //$NON-NLS-1$
 
-            fConnection.commit();
+            commit();
 
         }
     }
@@ -244,7 +307,7 @@ public class SQL {
 
             stmt.executeUpdate("alter table SUMMARYENTRY add column COMMENT_ID int not null default 0"); //$NON-NLS-1$
 
-            fConnection.commit();
+            commit();
 
         }
     }
@@ -263,9 +326,275 @@ public class SQL {
             stmt.executeUpdate("alter table FAILURE add constraint FA_CONSTRAINT2 " + //$NON-NLS-1$
                     "foreign key (SCENARIO_ID) references SCENARIO (ID)"); //$NON-NLS-1$
 
-            fConnection.commit();
+            commit();
+
+        }
+    }
+
+    private void addIndexes() throws SQLException {
+        try (Statement stmt = fConnection.createStatement()) {
+            stmt.executeUpdate("create index SA_VARIATION_SCENARIO on SAMPLE (VARIATION_ID, SCENARIO_ID)"); //$NON-NLS-1$
+            // Derby backs DP_CONSTRAINT and SCALAR_CONSTRAINT with indexes on the same columns and shares them with these two;
+            // they name the indexes for other databases, and SC_DATAPOINT marks the migration as done
+            stmt.executeUpdate("create index DP_SAMPLE on DATAPOINT (SAMPLE_ID)"); //$NON-NLS-1$
+            stmt.executeUpdate("create index SC_DATAPOINT on SCALAR (DATAPOINT_ID)"); //$NON-NLS-1$
+
+            commit();
+
+        }
+    }
+
+    /*
+     * Stores the key/value pairs of the variations in a table of their own, so that queries on some of the pairs can use indexes
+     * instead of LIKE patterns on VARIATION.KEYVALPAIRS, and adds a hash of KEYVALPAIRS for exact lookups.
+     */
+    private void addVariationPairTable() throws SQLException {
+        try (Statement stmt = fConnection.createStatement()) {
+            stmt.executeUpdate("create table VARIATIONPAIR (" + //$NON-NLS-1$
+                    "VARIATION_ID int not null," + //$NON-NLS-1$
+                    "KEYNAME varchar(256) not null," + //$NON-NLS-1$
+                    "VALUE varchar(10000) not null" + //$NON-NLS-1$
+                    ")" //$NON-NLS-1$
+            );
+            stmt.executeUpdate("alter table VARIATIONPAIR add constraint VP_CONSTRAINT " + //$NON-NLS-1$
+                    "foreign key (VARIATION_ID) references VARIATION (ID)"); //$NON-NLS-1$
+            stmt.executeUpdate("create index VP_KEY_VALUE on VARIATIONPAIR (KEYNAME, VALUE, VARIATION_ID)"); //$NON-NLS-1$
+
+            stmt.executeUpdate("alter table VARIATION add column KEYHASH bigint not null default 0"); //$NON-NLS-1$
+            stmt.executeUpdate("create index VA_KEYHASH on VARIATION (KEYHASH)"); //$NON-NLS-1$
+
+            // fill in the existing variations
+            try (PreparedStatement updateHash = fConnection.prepareStatement("update VARIATION set KEYHASH = ? where ID = ?"); //$NON-NLS-1$
+                    ResultSet rs = stmt.executeQuery("select ID, KEYVALPAIRS from VARIATION")) { //$NON-NLS-1$
+                int batched = 0;
+                while (rs.next()) {
+                    int variation_id = rs.getInt(1);
+                    String keyValuePairs = rs.getString(2);
+                    updateHash.setLong(1, hash(keyValuePairs));
+                    updateHash.setInt(2, variation_id);
+                    updateHash.addBatch();
+                    Variations variations = new Variations();
+                    variations.parseDB(keyValuePairs);
+                    addVariationPairs(variation_id, variations);
+                    if (++batched == SCALAR_BATCH_SIZE) {
+                        updateHash.executeBatch();
+                        fInsertVariationPair.executeBatch();
+                        batched = 0;
+                    }
+                }
+                if (batched > 0) {
+                    updateHash.executeBatch();
+                    fInsertVariationPair.executeBatch();
+                }
+            }
+
+            commit();
+
+        }
+    }
+
+    /*
+     * The first VARIATIONPAIR tables were created with VALUE varchar(1000), a value may be as long as KEYVALPAIRS.
+     */
+    private void widenVariationPairValues() throws SQLException {
+        try (ResultSet rs = fConnection.getMetaData().getColumns(null, null, "VARIATIONPAIR", "VALUE")) { //$NON-NLS-1$ //$NON-NLS-2$
+            if (!rs.next() || rs.getInt("COLUMN_SIZE") >= 10000) //$NON-NLS-1$
+                return;
+        }
+        try (Statement stmt = fConnection.createStatement()) {
+            stmt.executeUpdate("alter table VARIATIONPAIR alter column VALUE set data type varchar(10000)"); //$NON-NLS-1$
+            commit();
+        }
+    }
+
+    /*
+     * Stores count, sum, sum of squares, min and max of the values of every sample and dimension, so that statistics over builds read
+     * one row per sample and dimension instead of all scalars. The rollups of the existing samples are computed in one pass over
+     * their scalars.
+     */
+    private void addRollupTable() throws SQLException {
+        try (Statement stmt = fConnection.createStatement()) {
+            stmt.executeUpdate("create table SAMPLEROLLUP (" + //$NON-NLS-1$
+                    "SAMPLE_ID int not null," + //$NON-NLS-1$
+                    "DIM_ID int not null," + //$NON-NLS-1$
+                    "VALUE_COUNT bigint not null," + //$NON-NLS-1$
+                    "VALUE_SUM bigint not null," + //$NON-NLS-1$
+                    "VALUE_SUMSQ double not null," + //$NON-NLS-1$
+                    "VALUE_MIN bigint," + //$NON-NLS-1$
+                    "VALUE_MAX bigint" + //$NON-NLS-1$
+                    ")" //$NON-NLS-1$
+            );
+            stmt.executeUpdate("alter table SAMPLEROLLUP add constraint RO_CONSTRAINT " + //$NON-NLS-1$
+                    "foreign key (SAMPLE_ID) references SAMPLE (ID)"); //$NON-NLS-1$
+            stmt.executeUpdate("create index RO_SAMPLE_DIM on SAMPLEROLLUP (SAMPLE_ID, DIM_ID)"); //$NON-NLS-1$
+
+            // fill in the existing samples
+            stmt.setFetchSize(SCALAR_FETCH_SIZE);
+            try (ResultSet rs = stmt.executeQuery("select DATAPOINT.SAMPLE_ID, DATAPOINT.ID, DATAPOINT.STEP, SCALAR.DIM_ID, SCALAR.VALUE " + //$NON-NLS-1$
+                    "from DATAPOINT left outer join SCALAR on SCALAR.DATAPOINT_ID = DATAPOINT.ID " + //$NON-NLS-1$
+                    "order by DATAPOINT.SAMPLE_ID, DATAPOINT.SEQ, DATAPOINT.ID")) { //$NON-NLS-1$
+                int sample_id = 0;
+                int datapoint_id = 0;
+                int step = 0;
+                List<DataPoint> dataPoints = new ArrayList<>();
+                Map<Dim, Scalar> scalars = null;
+                while (rs.next()) {
+                    int id = rs.getInt(2);
+                    if (scalars == null || id != datapoint_id) {
+                        if (scalars != null)
+                            dataPoints.add(new DataPoint(step, scalars));
+                        int sample = rs.getInt(1);
+                        if (sample != sample_id && !dataPoints.isEmpty()) {
+                            backfillRollups(sample_id, dataPoints);
+                            dataPoints.clear();
+                        }
+                        sample_id = sample;
+                        datapoint_id = id;
+                        step = rs.getInt(3);
+                        scalars = new HashMap<>();
+                    }
+                    int dim_id = rs.getInt(4);
+                    if (rs.wasNull())
+                        continue; // a data point without scalars
+                    Dim dimension = Dim.getDimension(dim_id);
+                    if (dimension != null)
+                        scalars.put(dimension, new Scalar(dimension, rs.getLong(5)));
+                }
+                if (scalars != null) {
+                    dataPoints.add(new DataPoint(step, scalars));
+                    backfillRollups(sample_id, dataPoints);
+                }
+            }
+
+            commit();
+
+        }
+    }
+
+    private void backfillRollups(int sample_id, List<DataPoint> dataPoints) throws SQLException {
+        if (addRollups(sample_id, dataPoints.toArray(new DataPoint[dataPoints.size()])))
+            fInsertRollup.executeBatch();
+    }
+
+    /*
+     * Adds a batch of rollups of the data points of a sample, one per dimension, which the caller executes. A malformed sample, e.g.
+     * with unpaired BEFORE and AFTER points, has no statistics; it gets no rollups and false is returned.
+     */
+    private boolean addRollups(int sample_id, DataPoint[] dataPoints) throws SQLException {
+        String problem = StatisticsAccumulator.validate(dataPoints);
+        if (problem != null) {
+            PerformanceTestPlugin.logWarning("no rollup for sample " + sample_id + ": " + problem); //$NON-NLS-1$ //$NON-NLS-2$
+            return false;
+        }
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+        accumulator.accumulate(dataPoints);
+        if (fInsertRollup == null)
+            fInsertRollup = fConnection.prepareStatement("insert into SAMPLEROLLUP (SAMPLE_ID, DIM_ID, VALUE_COUNT, VALUE_SUM, VALUE_SUMSQ, VALUE_MIN, VALUE_MAX) values (?, ?, ?, ?, ?, ?, ?)"); //$NON-NLS-1$
+        for (Dim dimension : accumulator.getDimensions()) {
+            RunningStatistics statistics = accumulator.get(dimension);
+            fInsertRollup.setInt(1, sample_id);
+            fInsertRollup.setInt(2, dimension.getId());
+            fInsertRollup.setLong(3, statistics.getCount());
+            fInsertRollup.setLong(4, statistics.getSum());
+            fInsertRollup.setDouble(5, statistics.getSumOfSquares());
+            // the values of aggregated samples are unknown
+            if (statistics.hasExtremes()) {
+                fInsertRollup.setLong(6, statistics.getMin());
+                fInsertRollup.setLong(7, statistics.getMax());
+            } else {
+                fInsertRollup.setNull(6, Types.BIGINT);
+                fInsertRollup.setNull(7, Types.BIGINT);
+            }
+            fInsertRollup.addBatch();
+        }
+        return true;
+    }
+
+    private void addVariationPairs(int variation_id, Variations variations) throws SQLException {
+        if (fInsertVariationPair == null)
+            fInsertVariationPair = fConnection.prepareStatement("insert into VARIATIONPAIR (VARIATION_ID, KEYNAME, VALUE) values (?, ?, ?)"); //$NON-NLS-1$
+        for (String key : variations.stringPropertyNames()) {
+            fInsertVariationPair.setInt(1, variation_id);
+            fInsertVariationPair.setString(2, key);
+            fInsertVariationPair.setString(3, variations.getProperty(key));
+            fInsertVariationPair.addBatch();
+        }
+    }
+
+    /**
+     * Returns the 64-bit FNV-1a hash of the exact match string of variations, stored in VARIATION.KEYHASH. The hash must not change
+     * since it is stored.
+     *
+     * @param keyValuePairs
+     *            the result of {@link Variations#toExactMatchString()}
+     * @return the hash
+     * @since 3.21
+     */
+    public static long hash(String keyValuePairs) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < keyValuePairs.length(); i++) {
+            hash ^= keyValuePairs.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Appends a condition restricting the variation id in <code>idColumn</code> to the variations which have all pairs of
+     * <code>pattern</code>, one VARIATIONPAIR subselect per pair in the order of the keys. A value containing '%' is matched with
+     * LIKE, all other values exactly.
+     *
+     * @param sql
+     *            the query to append to
+     * @param idColumn
+     *            the column holding the variation id, e.g. <code>VARIATION.ID</code>
+     * @param pattern
+     *            the pairs the variations must contain
+     * @param parameters
+     *            the parameters of the query, the key and value of every pair are added
+     * @since 3.21
+     */
+    public static void appendPairFilter(StringBuilder sql, String idColumn, Variations pattern, List<Object> parameters) {
+        String[] keys = pattern.stringPropertyNames().toArray(new String[0]);
+        Arrays.sort(keys);
+        for (String key : keys) {
+            String value = pattern.getProperty(key);
+            sql.append(" and ").append(idColumn).append(" in (select VARIATIONPAIR.VARIATION_ID from VARIATIONPAIR where VARIATIONPAIR.KEYNAME = ? and VARIATIONPAIR.VALUE ") //$NON-NLS-1$ //$NON-NLS-2$
+                    .append(value.indexOf('%') >= 0 ? "like" : "=").append(" ?)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            parameters.add(key);
+            parameters.add(value);
+        }
+    }
+
+    private ResultSet executePairQuery(String sql, List<Object> parameters) throws SQLException {
+        PreparedStatement statement = fPairQueries.get(sql);
+        if (statement == null) {
+            statement = fConnection.prepareStatement(sql);
+            fPairQueries.put(sql, statement);
+        }
+        for (int i = 0; i < parameters.size(); i++)
+            statement.setObject(i + 1, parameters.get(i));
+        return statement.executeQuery();
+    }
 
+    /**
+     * Parses a pattern built by {@link Variations#toQueryPattern()}, e.g. <code>%|build=I%|%|config=linux|%</code>, into its pairs.
+     *
+     * @param pattern
+     *            the pattern
+     * @return the pairs, values may contain '%'
+     * @since 3.21
+     */
+    public static Variations parseQueryPattern(String pattern) {
+        Variations variations = new Variations();
+        StringTokenizer st = new StringTokenizer(pattern, "|"); //$NON-NLS-1$
+        while (st.hasMoreTokens()) {
+            String token = st.nextToken();
+            int i = token.indexOf('=');
+            if (i > 0)
+                variations.put(token.substring(0, i), token.substring(i + 1));
         }
+        return variations;
     }
 
     static int create(PreparedStatement stmt) throws SQLException {
@@ -282,34 +611,55 @@ public class SQL {
     }
 
     int getScenario(String scenarioPattern) throws SQLException {
+        Integer cached = fScenarioIds.get(scenarioPattern);
+        if (cached != null)
+            return cached.intValue();
         if (fQueryScenario == null)
             fQueryScenario = fConnection.prepareStatement("select ID from SCENARIO where NAME = ?"); //$NON-NLS-1$
         fQueryScenario.setString(1, scenarioPattern);
         try (ResultSet result = fQueryScenario.executeQuery()) {
-            while (result.next())
-                return result.getInt(1);
+            while (result.next()) {
+                int scenario_id = result.getInt(1);
+                fScenarioIds.put(scenarioPattern, scenario_id, false);
+                return scenario_id;
+            }
         }
         if (fInsertScenario == null)
             fInsertScenario = fConnection.prepareStatement(
                     "insert into SCENARIO (NAME) values (?)", Statement.RETURN_GENERATED_KEYS); //$NON-NLS-1$
         fInsertScenario.setString(1, scenarioPattern);
-        return create(fInsertScenario);
+        int scenario_id = create(fInsertScenario);
+        fScenarioIds.put(scenarioPattern, scenario_id, !fConnection.getAutoCommit());
+        return scenario_id;
     }
 
     int getVariations(Variations variations) throws SQLException {
-        if (fQueryVariation == null)
-            fQueryVariation = fConnection.prepareStatement("select ID from VARIATION where KEYVALPAIRS = ?"); //$NON-NLS-1$
         String exactMatchString = variations.toExactMatchString();
-        fQueryVariation.setString(1, exactMatchString);
+        Integer cached = fVariationIds.get(exactMatchString);
+        if (cached != null)
+            return cached.intValue();
+        if (fQueryVariation == null)
+            fQueryVariation = fConnection.prepareStatement("select ID from VARIATION where KEYHASH = ? and KEYVALPAIRS = ?"); //$NON-NLS-1$
+        long hash = hash(exactMatchString);
+        fQueryVariation.setLong(1, hash);
+        fQueryVariation.setString(2, exactMatchString);
         try (ResultSet result = fQueryVariation.executeQuery()) {
-            while (result.next())
-                return result.getInt(1);
+            while (result.next()) {
+                int variation_id = result.getInt(1);
+                fVariationIds.put(exactMatchString, variation_id, false);
+                return variation_id;
+            }
         }
         if (fInsertVariation == null)
             fInsertVariation = fConnection.prepareStatement(
-                    "insert into VARIATION (KEYVALPAIRS) values (?)", Statement.RETURN_GENERATED_KEYS); //$NON-NLS-1$
+                    "insert into VARIATION (KEYVALPAIRS, KEYHASH) values (?, ?)", Statement.RETURN_GENERATED_KEYS); //$NON-NLS-1$
         fInsertVariation.setString(1, exactMatchString);
-        return create(fInsertVariation);
+        fInsertVariation.setLong(2, hash);
+        int variation_id = create(fInsertVariation);
+        addVariationPairs(variation_id, variations);
+        fInsertVariationPair.executeBatch();
+        fVariationIds.put(exactMatchString, variation_id, !fConnection.getAutoCommit());
+        return variation_id;
     }
 
     int createSample(int variation_id, int scenario_id, Timestamp starttime) throws SQLException {
@@ -351,17 +701,146 @@ public class SQL {
         fInsertScalar.executeUpdate();
     }
 
+    /**
+     * Stores samples with batched statements in one transaction, which is rolled back if storing any of the samples fails. The data
+     * points of a sample are inserted as one batch and their generated ids are then fetched together, the scalars are inserted in
+     * batches of {@link #SCALAR_BATCH_SIZE}. Summary samples also get their summary entries. The ids of the scenarios, variations
+     * and comments are cached across calls; the ids of rows inserted by a transaction which is rolled back are dropped.
+     *
+     * @param scenarioIds
+     *            the scenario id of each sample
+     * @param variations
+     *            the variations of each sample
+     * @param samples
+     *            the samples
+     * @throws SQLException
+     *             if storing fails
+     */
+    void storeSamples(String[] scenarioIds, Variations[] variations, Sample[] samples) throws SQLException {
+        boolean autoCommit = fConnection.getAutoCommit();
+        fConnection.setAutoCommit(false);
+        try {
+            for (int i = 0; i < samples.length; i++)
+                storeSample(getVariations(variations[i]), getScenario(scenarioIds[i]), samples[i]);
+            commit();
+        } catch (Throwable e) {
+            // not only for SQLExceptions, nothing of a failed batch must be committed later
+            rollback();
+            throw e;
+        } finally {
+            fConnection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Commits the current transaction of the connection and keeps the cached ids of the rows inserted in it. Whoever ends a
+     * transaction on the connection must do so with this method or {@link #rollback()}, not on the connection itself.
+     *
+     * @throws SQLException
+     *             if committing fails
+     * @since 3.21
+     */
+    public void commit() throws SQLException {
+        fConnection.commit();
+        fScenarioIds.commit();
+        fVariationIds.commit();
+        fCommentIds.commit();
+    }
+
+    /**
+     * Rolls back the current transaction of the connection and forgets the cached ids of the rows inserted in it, see
+     * {@link #commit()}.
+     *
+     * @throws SQLException
+     *             if rolling back fails, the ids are forgotten anyway
+     * @since 3.21
+     */
+    public void rollback() throws SQLException {
+        fScenarioIds.rollback();
+        fVariationIds.rollback();
+        fCommentIds.rollback();
+        fConnection.rollback();
+    }
+
+    /**
+     * @return the hit rates of the caches of the scenario, variation and comment ids
+     */
+    String getCacheStatistics() {
+        return fScenarioIds + ", " + fVariationIds + ", " + fCommentIds; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    private void storeSample(int variation_id, int scenario_id, Sample sample) throws SQLException {
+        int sample_id = createSample(variation_id, scenario_id, new Timestamp(sample.getStartTime()));
+
+        if (fInsertDataPoints == null)
+            fInsertDataPoints = fConnection.prepareStatement("insert into DATAPOINT (SAMPLE_ID, SEQ, STEP) values (?, ?, ?)"); //$NON-NLS-1$
+        DataPoint[] dataPoints = sample.getDataPoints();
+        for (int seq = 0; seq < dataPoints.length; seq++) {
+            fInsertDataPoints.setInt(1, sample_id);
+            fInsertDataPoints.setInt(2, seq);
+            fInsertDataPoints.setInt(3, dataPoints[seq].getStep());
+            fInsertDataPoints.addBatch();
+        }
+        fInsertDataPoints.executeBatch();
+
+        // the ids are generated by the database, fetch them all at once instead of one per insert
+        if (fQueryDataPointIds == null)
+            fQueryDataPointIds = fConnection.prepareStatement("select SEQ, ID from DATAPOINT where SAMPLE_ID = ?"); //$NON-NLS-1$
+        int[] datapoint_ids = new int[dataPoints.length];
+        fQueryDataPointIds.setInt(1, sample_id);
+        try (ResultSet result = fQueryDataPointIds.executeQuery()) {
+            while (result.next())
+                datapoint_ids[result.getInt(1)] = result.getInt(2);
+        }
+
+        if (fInsertScalar == null)
+            fInsertScalar = fConnection.prepareStatement("insert into SCALAR values (?, ?, ?)"); //$NON-NLS-1$
+        int batched = 0;
+        for (int seq = 0; seq < dataPoints.length; seq++) {
+            for (Scalar scalar : dataPoints[seq].getScalars()) {
+                fInsertScalar.setInt(1, datapoint_ids[seq]);
+                fInsertScalar.setInt(2, scalar.getDimension().getId());
+                fInsertScalar.setLong(3, scalar.getMagnitude());
+                fInsertScalar.addBatch();
+                if (++batched == SCALAR_BATCH_SIZE) {
+                    fInsertScalar.executeBatch();
+                    batched = 0;
+                }
+            }
+        }
+        if (batched > 0)
+            fInsertScalar.executeBatch();
+
+        if (addRollups(sample_id, dataPoints))
+            fInsertRollup.executeBatch();
+
+        if (sample.isSummary()) {
+            String comment = sample.getComment();
+            int comment_id = comment != null ? getCommentId(sample.getCommentType(), comment) : 0;
+            Dimension[] summaryDimensions = sample.getSummaryDimensions();
+            if (summaryDimensions != null) {
+                for (Dimension dimension : summaryDimensions)
+                    createSummaryEntry(variation_id, scenario_id, ((Dim) dimension).getId(), sample.isGlobal(), comment_id);
+            }
+            String shortName = sample.getShortname();
+            if (shortName != null)
+                setScenarioShortName(scenario_id, shortName);
+        }
+    }
+
     ResultSet queryDataPoints(Variations variations, String scenarioName) throws SQLException {
         if (fQueryDatapoints == null)
             fQueryDatapoints = fConnection
                     .prepareStatement("select DATAPOINT.ID, DATAPOINT.STEP from VARIATION, SCENARIO, SAMPLE, DATAPOINT " + //$NON-NLS-1$
                             "where " + //$NON-NLS-1$
-                            "SAMPLE.VARIATION_ID = VARIATION.ID and VARIATION.KEYVALPAIRS = ? and " + //$NON-NLS-1$
+                            "SAMPLE.VARIATION_ID = VARIATION.ID and VARIATION.KEYHASH = ? and VARIATION.KEYVALPAIRS = ? and " + //$NON-NLS-1$
                             "SAMPLE.SCENARIO_ID = SCENARIO.ID and SCENARIO.NAME LIKE ? and " + //$NON-NLS-1$
                             "DATAPOINT.SAMPLE_ID = SAMPLE.ID " //$NON-NLS-1$
                     );
-        fQueryDatapoints.setString(1, variations.toExactMatchString());
-        fQueryDatapoints.setString(2, scenarioName);
+        String exactMatchString = variations.toExactMatchString();
+        fQueryDatapoints.setLong(1, hash(exactMatchString));
+        fQueryDatapoints.setString(2, exactMatchString);
+        fQueryDatapoints.setString(3, scenarioName);
         return fQueryDatapoints.executeQuery();
     }
 
@@ -374,33 +853,212 @@ public class SQL {
     }
 
     /*
-     * Returns SCENARIO.NAME
+     * Returns DATAPOINT.ID, DATAPOINT.STEP, SCALAR.DIM_ID, SCALAR.VALUE ordered by sample and sequence number, the order in which the
+     * data points were stored, so the scalars of a data point are adjacent. A data point without scalars has one row with null
+     * scalar columns. This replaces a queryScalars per data point returned by queryDataPoints.
      */
-    ResultSet queryScenarios(Variations variations, String scenarioPattern) throws SQLException {
-        if (fQueryAllScenarios == null)
-            fQueryAllScenarios = fConnection
-                    .prepareStatement("select distinct SCENARIO.NAME from SCENARIO, SAMPLE, VARIATION where " + //$NON-NLS-1$
-                            "SAMPLE.VARIATION_ID = VARIATION.ID and VARIATION.KEYVALPAIRS LIKE ? and " + //$NON-NLS-1$
-                            "SAMPLE.SCENARIO_ID = SCENARIO.ID and SCENARIO.NAME LIKE ?" //$NON-NLS-1$
+    ResultSet queryDataPointScalars(Variations variations, String scenarioName) throws SQLException {
+        if (fQueryDataPointScalars == null) {
+            fQueryDataPointScalars = fConnection
+                    .prepareStatement("select DATAPOINT.ID, DATAPOINT.STEP, SCALAR.DIM_ID, SCALAR.VALUE from VARIATION, SCENARIO, SAMPLE, " + //$NON-NLS-1$
+                            "DATAPOINT left outer join SCALAR on SCALAR.DATAPOINT_ID = DATAPOINT.ID " + //$NON-NLS-1$
+                            "where " + //$NON-NLS-1$
+                            "SAMPLE.VARIATION_ID = VARIATION.ID and VARIATION.KEYHASH = ? and VARIATION.KEYVALPAIRS = ? and " + //$NON-NLS-1$
+                            "SAMPLE.SCENARIO_ID = SCENARIO.ID and SCENARIO.NAME LIKE ? and " + //$NON-NLS-1$
+                            "DATAPOINT.SAMPLE_ID = SAMPLE.ID " + //$NON-NLS-1$
+                            "order by DATAPOINT.SAMPLE_ID, DATAPOINT.SEQ, DATAPOINT.ID" //$NON-NLS-1$
                     );
-        fQueryAllScenarios.setString(1, variations.toQueryPattern());
-        fQueryAllScenarios.setString(2, scenarioPattern);
-        return fQueryAllScenarios.executeQuery();
+            fQueryDataPointScalars.setFetchSize(SCALAR_FETCH_SIZE);
+        }
+        String exactMatchString = variations.toExactMatchString();
+        fQueryDataPointScalars.setLong(1, hash(exactMatchString));
+        fQueryDataPointScalars.setString(2, exactMatchString);
+        fQueryDataPointScalars.setString(3, scenarioName);
+        return fQueryDataPointScalars.executeQuery();
+    }
+
+    /**
+     * Loads the data points of all samples of a scenario with one query, see {@link #queryDataPointScalars(Variations, String)}.
+     * Scalars of unknown dimensions are skipped.
+     *
+     * @param variations
+     *            the variations, compared exactly
+     * @param scenarioName
+     *            the scenario name or pattern
+     * @return the data points in the order they were stored
+     * @throws SQLException
+     *             if the query fails
+     */
+    DataPoint[] getDataPoints(Variations variations, String scenarioName) throws SQLException {
+        List<DataPoint> dataPoints = new ArrayList<>();
+        try (ResultSet result = queryDataPointScalars(variations, scenarioName)) {
+            int datapoint_id = 0;
+            int step = 0;
+            Map<Dim, Scalar> scalars = null;
+            while (result.next()) {
+                int id = result.getInt(1);
+                if (scalars == null || id != datapoint_id) {
+                    if (scalars != null)
+                        dataPoints.add(new DataPoint(step, scalars));
+                    datapoint_id = id;
+                    step = result.getInt(2);
+                    scalars = new HashMap<>();
+                }
+                int dim_id = result.getInt(3);
+                if (result.wasNull())
+                    continue; // a data point without scalars
+                Dim dimension = Dim.getDimension(dim_id);
+                if (dimension != null)
+                    scalars.put(dimension, new Scalar(dimension, result.getLong(4)));
+            }
+            if (scalars != null)
+                dataPoints.add(new DataPoint(step, scalars));
+        }
+        return dataPoints.toArray(new DataPoint[dataPoints.size()]);
+    }
+
+    /*
+     * Returns SCENARIO.NAME of the scenarios with samples whose variations contain all pairs of the given variations.
+     */
+    ResultSet queryScenarios(Variations variations, String scenarioPattern) throws SQLException {
+        StringBuilder sql = new StringBuilder("select distinct SCENARIO.NAME from SCENARIO, SAMPLE where " + //$NON-NLS-1$
+                "SAMPLE.SCENARIO_ID = SCENARIO.ID and SCENARIO.NAME LIKE ?"); //$NON-NLS-1$
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(scenarioPattern);
+        appendPairFilter(sql, "SAMPLE.VARIATION_ID", variations, parameters); //$NON-NLS-1$
+        return executePairQuery(sql.toString(), parameters);
     }
 
     /*
-     * Returns VARIATION.KEYVALPAIRS
+     * Returns VARIATION.KEYVALPAIRS of the variations of samples of the scenarios, the variations are given as a pattern built by
+     * Variations.toQueryPattern().
      */
     ResultSet queryVariations(String variations, String scenarioPattern) throws SQLException {
-        if (fQueryVariations == null)
-            fQueryVariations = fConnection
-                    .prepareStatement("select distinct VARIATION.KEYVALPAIRS from VARIATION, SAMPLE, SCENARIO where " + //$NON-NLS-1$
-                            "SAMPLE.VARIATION_ID = VARIATION.ID and VARIATION.KEYVALPAIRS LIKE ? and " + //$NON-NLS-1$
-                            "SAMPLE.SCENARIO_ID = SCENARIO.ID and SCENARIO.NAME LIKE ?" //$NON-NLS-1$
-                    );
-        fQueryVariations.setString(1, variations);
-        fQueryVariations.setString(2, scenarioPattern);
-        return fQueryVariations.executeQuery();
+        return queryVariations(parseQueryPattern(variations), null, null, null, scenarioPattern);
+    }
+
+    /*
+     * Returns VARIATION.KEYVALPAIRS of the variations of samples of the scenarios which contain all pairs of the given variations and,
+     * unless rangeKey is null, have a value of rangeKey between low and high, e.g. config=X and build between A and B. Every pair is
+     * looked up in the VP_KEY_VALUE index and the results are intersected.
+     */
+    ResultSet queryVariations(Variations variations, String rangeKey, String low, String high, String scenarioPattern) throws SQLException {
+        StringBuilder sql = new StringBuilder("select distinct VARIATION.KEYVALPAIRS from VARIATION, SAMPLE, SCENARIO where " + //$NON-NLS-1$
+                "SAMPLE.VARIATION_ID = VARIATION.ID and " + //$NON-NLS-1$
+                "SAMPLE.SCENARIO_ID = SCENARIO.ID and SCENARIO.NAME LIKE ?"); //$NON-NLS-1$
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(scenarioPattern);
+        appendPairFilter(sql, "VARIATION.ID", variations, parameters); //$NON-NLS-1$
+        if (rangeKey != null) {
+            sql.append(" and VARIATION.ID in (select VARIATIONPAIR.VARIATION_ID from VARIATIONPAIR where VARIATIONPAIR.KEYNAME = ? and VARIATIONPAIR.VALUE between ? and ?)"); //$NON-NLS-1$
+            parameters.add(rangeKey);
+            parameters.add(low);
+            parameters.add(high);
+        }
+        return executePairQuery(sql.toString(), parameters);
+    }
+
+    /*
+     * Returns SCENARIO.NAME, VARIATION.KEYVALPAIRS and the sums of the rollups of a dimension (count, sum, sum of squares, min, max)
+     * of the samples of the scenarios whose variations contain all pairs of the given variations, one row per scenario and
+     * variation. Min and max are null if only aggregated samples were stored.
+     */
+    ResultSet queryRollups(Variations variations, String scenarioPattern, Dim dimension) throws SQLException {
+        StringBuilder sql = new StringBuilder("select SCENARIO.NAME, VARIATION.KEYVALPAIRS, sum(SAMPLEROLLUP.VALUE_COUNT), sum(SAMPLEROLLUP.VALUE_SUM), " + //$NON-NLS-1$
+                "sum(SAMPLEROLLUP.VALUE_SUMSQ), min(SAMPLEROLLUP.VALUE_MIN), max(SAMPLEROLLUP.VALUE_MAX) from VARIATION, SCENARIO, SAMPLE, SAMPLEROLLUP where " + //$NON-NLS-1$
+                "SAMPLE.VARIATION_ID = VARIATION.ID and " + //$NON-NLS-1$
+                "SAMPLE.SCENARIO_ID = SCENARIO.ID and SCENARIO.NAME LIKE ? and " + //$NON-NLS-1$
+                "SAMPLEROLLUP.SAMPLE_ID = SAMPLE.ID and SAMPLEROLLUP.DIM_ID = ?"); //$NON-NLS-1$
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(scenarioPattern);
+        parameters.add(Integer.valueOf(dimension.getId()));
+        appendPairFilter(sql, "VARIATION.ID", variations, parameters); //$NON-NLS-1$
+        sql.append(" group by SCENARIO.NAME, VARIATION.KEYVALPAIRS"); //$NON-NLS-1$
+        return executePairQuery(sql.toString(), parameters);
+    }
+
+    /**
+     * Returns the statistics of a dimension of the samples of scenarios, read from their rollups, e.g. for a summary of a build.
+     *
+     * @param variations
+     *            the pairs the variations of the samples must contain
+     * @param scenarioPattern
+     *            the scenario name or pattern
+     * @param dimension
+     *            the dimension
+     * @return the statistics by scenario name
+     * @throws SQLException
+     *             if the query fails
+     */
+    Map<String, RunningStatistics> getRollups(Variations variations, String scenarioPattern, Dim dimension) throws SQLException {
+        Map<String, RunningStatistics> rollups = new TreeMap<>();
+        try (ResultSet result = queryRollups(variations, scenarioPattern, dimension)) {
+            while (result.next())
+                addRollup(rollups, result.getString(1), result);
+        }
+        return rollups;
+    }
+
+    /**
+     * Returns the series of a dimension of a scenario over the values of a variation key, e.g. over the builds, read from the rollups
+     * of the samples instead of their scalars. The samples of a value are merged.
+     *
+     * @param variations
+     *            the pairs the variations of the samples must contain, e.g. the config
+     * @param seriesKey
+     *            the key whose values label the series, e.g. {@link PerformanceTestPlugin#BUILD}
+     * @param scenarioName
+     *            the scenario name
+     * @param dimension
+     *            the dimension
+     * @return the series, ordered by label
+     * @throws SQLException
+     *             if the query fails
+     */
+    TimeSeries getTimeSeries(Variations variations, String seriesKey, String scenarioName, Dim dimension) throws SQLException {
+        Map<String, RunningStatistics> rollups = new TreeMap<>();
+        try (ResultSet result = queryRollups(variations, scenarioName, dimension)) {
+            while (result.next()) {
+                Variations sampleVariations = new Variations();
+                sampleVariations.parseDB(result.getString(2));
+                String label = sampleVariations.getProperty(seriesKey);
+                if (label != null)
+                    addRollup(rollups, label, result);
+            }
+        }
+        int length = rollups.size();
+        String[] labels = new String[length];
+        double[] averages = new double[length];
+        double[] stddev = new double[length];
+        long[] sizes = new long[length];
+        int i = 0;
+        for (Map.Entry<String, RunningStatistics> entry : rollups.entrySet()) {
+            RunningStatistics statistics = entry.getValue();
+            labels[i] = entry.getKey();
+            averages[i] = statistics.getMean();
+            stddev[i] = statistics.getStddev();
+            sizes[i] = statistics.getCount();
+            i++;
+        }
+        return new TimeSeries(labels, averages, stddev, sizes);
+    }
+
+    private static void addRollup(Map<String, RunningStatistics> rollups, String key, ResultSet result) throws SQLException {
+        RunningStatistics statistics = rollups.get(key);
+        if (statistics == null) {
+            statistics = new RunningStatistics();
+            rollups.put(key, statistics);
+        }
+        long count = result.getLong(3);
+        long sum = result.getLong(4);
+        double sumOfSquares = result.getDouble(5);
+        long min = result.getLong(6);
+        if (result.wasNull())
+            min = Long.MAX_VALUE;
+        long max = result.getLong(7);
+        if (result.wasNull())
+            max = Long.MIN_VALUE;
+        statistics.addSums(count, sum, sumOfSquares, min, max);
     }
 
     void createSummaryEntry(int variation_id, int scenario_id, int dim_id, boolean isGlobal, int comment_id) throws SQLException {
@@ -492,20 +1150,29 @@ public class SQL {
     int getCommentId(int commentKind, String comment) throws SQLException {
         if (comment.length() > 400)
             comment = comment.substring(0, 400);
+        String key = commentKind + ":" + comment; //$NON-NLS-1$
+        Integer cached = fCommentIds.get(key);
+        if (cached != null)
+            return cached.intValue();
         if (fQueryComment == null)
             fQueryComment = fConnection.prepareStatement("select ID from COMMENT where KIND = ? and TEXT = ?"); //$NON-NLS-1$
         fQueryComment.setInt(1, commentKind);
         fQueryComment.setString(2, comment);
         try (ResultSet result = fQueryComment.executeQuery()) {
-            while (result.next())
-                return result.getInt(1);
+            while (result.next()) {
+                int comment_id = result.getInt(1);
+                fCommentIds.put(key, comment_id, false);
+                return comment_id;
+            }
         }
         if (fInsertComment == null)
             fInsertComment = fConnection.prepareStatement(
                     "insert into COMMENT (KIND, TEXT) values (?, ?)", Statement.RETURN_GENERATED_KEYS); //$NON-NLS-1$
         fInsertComment.setInt(1, commentKind);
         fInsertComment.setString(2, comment);
-        return create(fInsertComment);
+        int comment_id = create(fInsertComment);
+        fCommentIds.put(key, comment_id, !fConnection.getAutoCommit());
+        return comment_id;
     }
 
     public ResultSet getComment(int comment_id) throws SQLException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2006 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,20 @@ public class TimeSeries {
     private double[] fStddev;
     private long[]   fCount;
 
-    TimeSeries(String[] tags, double[] averages, double[] stddev, long[] sizes) {
+    /**
+     * Creates a series of builds.
+     *
+     * @param tags
+     *            the build names
+     * @param averages
+     *            the average of each build
+     * @param stddev
+     *            the standard deviation of each build
+     * @param sizes
+     *            the number of values of each build
+     * @since 3.21
+     */
+    public TimeSeries(String[] tags, double[] averages, double[] stddev, long[] sizes) {
         fBuildNames = tags;
         fAverages = averages;
         fStddev = stddev;
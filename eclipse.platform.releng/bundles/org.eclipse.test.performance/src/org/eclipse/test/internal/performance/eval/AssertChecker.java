@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2005 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.db.Variations;
 
 /**
  * @since 3.1
@@ -58,4 +59,34 @@ public abstract class AssertChecker {
      * @return <code>true</code> if the predicate passes, <code>false</code> if it fails
      */
     public abstract boolean test(StatisticsSession reference, StatisticsSession measured, StringBuffer message);
+
+    /**
+     * Returns whether the sessions provide the data the predicate needs. The {@link Evaluator} reports checkers which are not
+     * applicable instead of evaluating them.
+     *
+     * @param reference
+     *            statistics of dimensions of the reference metering session
+     * @param measured
+     *            statistics of dimensions of the metering session to be tested
+     * @return <code>true</code> if {@link #test(StatisticsSession, StatisticsSession, StringBuffer)} can decide
+     * @since 3.21
+     */
+    public boolean isApplicable(StatisticsSession reference, StatisticsSession measured) {
+        return true;
+    }
+
+    /**
+     * Returns the checker the {@link Evaluator} uses for a scenario. Checkers whose criteria depend on the scenario, e.g. on
+     * what was learned about earlier builds of it, return a checker for that scenario.
+     *
+     * @param scenarioId
+     *            the id of the scenario
+     * @param variations
+     *            the variations of the measured session
+     * @return the checker for the scenario, this checker by default
+     * @since 3.21
+     */
+    public AssertChecker getChecker(String scenarioId, Variations variations) {
+        return this;
+    }
 }
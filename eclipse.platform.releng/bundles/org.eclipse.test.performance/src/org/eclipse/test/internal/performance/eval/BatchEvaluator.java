@@ -0,0 +1,368 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.eval;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.test.internal.performance.HostCalibration;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.ResultsData;
+import org.eclipse.test.internal.performance.data.Sample;
+
+/**
+ * Compares all scenarios of the current build with the baseline at once and controls the error rate over the whole batch.
+ * <p>
+ * Judging thousands of comparisons independently at 95% reports dozens of false regressions per build. This evaluator computes
+ * the p-value of Welch's t-test for every scenario and dimension in parallel, adjusts them for multiple comparisons with the
+ * Benjamini-Hochberg procedure, which controls the false discovery rate, or with Holm's procedure, which controls the
+ * family-wise error rate, and reports the comparisons whose adjusted p-value is at most the chosen level.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class BatchEvaluator {
+
+    /** The adjustment of the p-values for multiple comparisons. */
+    public enum Correction {
+        /** Controls the expected fraction of false discoveries among the reported changes. */
+        BENJAMINI_HOCHBERG,
+        /** Controls the probability of reporting any false change. */
+        HOLM
+    }
+
+    /**
+     * The comparison of one scenario and dimension.
+     */
+    public static final class Verdict {
+
+        private final String fScenarioId;
+        private final Dim    fDimension;
+        private final double fBaselineMean;
+        private final double fCurrentMean;
+        private double       fPValue;
+        private double       fAdjustedPValue;
+        private boolean      fSignificant;
+
+        Verdict(String scenarioId, Dim dimension, double baselineMean, double currentMean) {
+            fScenarioId = scenarioId;
+            fDimension = dimension;
+            fBaselineMean = baselineMean;
+            fCurrentMean = currentMean;
+        }
+
+        public String getScenarioId() {
+            return fScenarioId;
+        }
+
+        public Dim getDimension() {
+            return fDimension;
+        }
+
+        public double getBaselineMean() {
+            return fBaselineMean;
+        }
+
+        public double getCurrentMean() {
+            return fCurrentMean;
+        }
+
+        /**
+         * @return the change relative to the baseline, e.g. <code>0.2</code> for 20% more
+         */
+        public double getRelativeChange() {
+            return fBaselineMean != 0 ? (fCurrentMean - fBaselineMean) / Math.abs(fBaselineMean) : 0;
+        }
+
+        /**
+         * @return the two-tailed p-value of the comparison alone, 1 if the test is not applicable
+         */
+        public double getPValue() {
+            return fPValue;
+        }
+
+        /**
+         * @return the p-value adjusted for the comparisons of the whole batch
+         */
+        public double getAdjustedPValue() {
+            return fAdjustedPValue;
+        }
+
+        /**
+         * @return whether the change is significant in the batch
+         */
+        public boolean isSignificant() {
+            return fSignificant;
+        }
+
+        /**
+         * @return whether the change is a significant increase, i.e. a regression for dimensions where less is better
+         */
+        public boolean isRegression() {
+            return fSignificant && fCurrentMean > fBaselineMean;
+        }
+
+        @Override
+        public String toString() {
+            return "Verdict [scenario=" + fScenarioId + ", " + fDimension.getName() + ", change=" + getRelativeChange() //$NON-NLS-1$ //$NON-NLS-2$
+                    + ", p=" + fAdjustedPValue + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    public static final double DEFAULT_LEVEL = 0.05;
+
+    /** Number of scenarios compared by one fork-join task. */
+    private static final int   VERDICTS_PER_TASK = 64;
+
+    private final Dim[]        fDimensions;
+    private final double       fLevel;
+    private final Correction   fCorrection;
+    private boolean            fNormalizing      = HostCalibration.isNormalizing();
+
+    /**
+     * Creates an evaluator that controls the false discovery rate at 5%.
+     *
+     * @param dimensions
+     *            the dimensions to compare
+     */
+    public BatchEvaluator(Dim[] dimensions) {
+        this(dimensions, DEFAULT_LEVEL, Correction.BENJAMINI_HOCHBERG);
+    }
+
+    /**
+     * @param dimensions
+     *            the dimensions to compare
+     * @param level
+     *            the false discovery rate or family-wise error rate, e.g. <code>0.05</code>
+     * @param correction
+     *            the adjustment for multiple comparisons
+     */
+    public BatchEvaluator(Dim[] dimensions, double level, Correction correction) {
+        fDimensions = dimensions;
+        fLevel = level;
+        fCorrection = correction;
+    }
+
+    /**
+     * Sets whether the times of the samples are {@link HostCalibration#normalize(Sample) normalized} to the nominal host before they
+     * are compared, so that builds measured on different hosts can be compared. A scenario is only normalized if both of its samples
+     * were calibrated. The default is taken from the system property <code>eclipse.perf.normalize</code>.
+     *
+     * @param normalizing
+     *            whether to normalize
+     */
+    public void setNormalizing(boolean normalizing) {
+        fNormalizing = normalizing;
+    }
+
+    /**
+     * Compares the scenarios that have both current and baseline data.
+     *
+     * @param results
+     *            the imported results
+     * @return the verdicts of all comparisons, ordered by scenario and dimension
+     */
+    public List<Verdict> evaluate(ResultsData results) {
+        TreeSet<String> scenarios = new TreeSet<>(results.getCurrentScenarios());
+        scenarios.retainAll(results.getBaselineScenarios());
+        List<Sample> current = new ArrayList<>();
+        List<Sample> baseline = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (String scenario : scenarios) {
+            ids.add(scenario);
+            current.add(results.getCurrentSample(scenario));
+            baseline.add(results.getBaselineSample(scenario));
+        }
+        return evaluate(ids.toArray(new String[ids.size()]), current.toArray(new Sample[current.size()]),
+                baseline.toArray(new Sample[baseline.size()]));
+    }
+
+    /**
+     * Compares scenarios.
+     *
+     * @param scenarioIds
+     *            the scenario ids
+     * @param current
+     *            the current sample of each scenario
+     * @param baseline
+     *            the baseline sample of each scenario
+     * @return the verdicts of all comparisons, ordered like the scenarios and dimensions
+     */
+    public List<Verdict> evaluate(String[] scenarioIds, Sample[] current, Sample[] baseline) {
+        Verdict[][] verdicts = new Verdict[scenarioIds.length][];
+        ForkJoinPool.commonPool().invoke(new VerdictTask(scenarioIds, current, baseline, verdicts, 0, scenarioIds.length));
+        List<Verdict> all = new ArrayList<>();
+        for (Verdict[] scenarioVerdicts : verdicts)
+            all.addAll(Arrays.asList(scenarioVerdicts));
+        double[] pValues = new double[all.size()];
+        for (int i = 0; i < pValues.length; i++)
+            pValues[i] = all.get(i).fPValue;
+        double[] adjusted = adjust(pValues, fCorrection);
+        for (int i = 0; i < adjusted.length; i++) {
+            Verdict verdict = all.get(i);
+            verdict.fAdjustedPValue = adjusted[i];
+            verdict.fSignificant = adjusted[i] <= fLevel;
+        }
+        return all;
+    }
+
+    /**
+     * Returns the significant regressions, most credible first.
+     *
+     * @param verdicts
+     *            the verdicts of a batch
+     * @return the regressions ordered by adjusted p-value and then by relative change
+     */
+    public static List<Verdict> getRegressions(List<Verdict> verdicts) {
+        List<Verdict> regressions = new ArrayList<>();
+        for (Verdict verdict : verdicts) {
+            if (verdict.isRegression())
+                regressions.add(verdict);
+        }
+        regressions.sort(Comparator.comparingDouble(Verdict::getAdjustedPValue)
+                .thenComparing(Comparator.comparingDouble(Verdict::getRelativeChange).reversed()));
+        return regressions;
+    }
+
+    /**
+     * Writes verdicts as comma separated values with a header line.
+     *
+     * @param out
+     *            the output
+     * @param verdicts
+     *            the verdicts
+     * @throws IOException
+     *             if writing fails
+     */
+    public static void writeCsv(Writer out, List<Verdict> verdicts) throws IOException {
+        out.write("scenario,dimension,baseline,current,change,p,adjustedP,significant\n"); //$NON-NLS-1$
+        for (Verdict verdict : verdicts) {
+            out.write(quote(verdict.getScenarioId()));
+            out.write(',');
+            out.write(quote(verdict.getDimension().getName()));
+            out.write(String.format(Locale.ROOT, ",%s,%s,%s,%s,%s,%s\n", //$NON-NLS-1$
+                    Double.valueOf(verdict.getBaselineMean()), Double.valueOf(verdict.getCurrentMean()),
+                    Double.valueOf(verdict.getRelativeChange()), Double.valueOf(verdict.getPValue()),
+                    Double.valueOf(verdict.getAdjustedPValue()), Boolean.valueOf(verdict.isSignificant())));
+        }
+    }
+
+    private static String quote(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"'; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    /**
+     * Adjusts p-values for multiple comparisons.
+     *
+     * @param pValues
+     *            the p-values of the comparisons
+     * @param correction
+     *            the adjustment
+     * @return the adjusted p-values, in the order of <code>pValues</code>
+     */
+    public static double[] adjust(double[] pValues, Correction correction) {
+        int m = pValues.length;
+        Integer[] ranks = new Integer[m];
+        for (int i = 0; i < m; i++)
+            ranks[i] = Integer.valueOf(i);
+        Arrays.sort(ranks, Comparator.comparingDouble(i -> pValues[i.intValue()]));
+        double[] adjusted = new double[m];
+        if (correction == Correction.BENJAMINI_HOCHBERG) {
+            // step-up: the adjusted p-value of rank i is the minimum of m / j * p(j) over the ranks j >= i
+            double min = 1;
+            for (int i = m - 1; i >= 0; i--) {
+                int index = ranks[i].intValue();
+                min = Math.min(min, pValues[index] * m / (i + 1));
+                adjusted[index] = min;
+            }
+        } else {
+            // step-down: the adjusted p-value of rank i is the maximum of (m - j) * p(j) over the ranks j <= i
+            double max = 0;
+            for (int i = 0; i < m; i++) {
+                int index = ranks[i].intValue();
+                max = Math.max(max, Math.min(1, pValues[index] * (m - i)));
+                adjusted[index] = max;
+            }
+        }
+        return adjusted;
+    }
+
+    private Verdict[] compare(String scenarioId, Sample current, Sample baseline) {
+        if (fNormalizing && !Double.isNaN(HostCalibration.getSpeedIndex(current))
+                && !Double.isNaN(HostCalibration.getSpeedIndex(baseline))) {
+            current = HostCalibration.normalize(current);
+            baseline = HostCalibration.normalize(baseline);
+        }
+        StatisticsSession currentStats = new StatisticsSession(current);
+        StatisticsSession baselineStats = new StatisticsSession(baseline);
+        List<Verdict> verdicts = new ArrayList<>(fDimensions.length);
+        for (Dim dimension : fDimensions) {
+            if (!currentStats.contains(dimension) || !baselineStats.contains(dimension))
+                continue;
+            double[] means = { baselineStats.getAverage(dimension), currentStats.getAverage(dimension) };
+            Verdict verdict = new Verdict(scenarioId, dimension, means[0], means[1]);
+            double p = StatisticsUtil.welchPValue(means,
+                    new double[] { baselineStats.getStddev(dimension), currentStats.getStddev(dimension) },
+                    new long[] { baselineStats.getCount(dimension), currentStats.getCount(dimension) });
+            // a comparison that cannot be tested is never significant
+            verdict.fPValue = Double.isNaN(p) ? 1 : p;
+            verdicts.add(verdict);
+        }
+        return verdicts.toArray(new Verdict[verdicts.size()]);
+    }
+
+    private final class VerdictTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String[]    fScenarioIds;
+        private final Sample[]    fCurrent;
+        private final Sample[]    fBaseline;
+        private final Verdict[][] fVerdicts;
+        private final int         fFrom;
+        private final int         fTo;
+
+        VerdictTask(String[] scenarioIds, Sample[] current, Sample[] baseline, Verdict[][] verdicts, int from, int to) {
+            fScenarioIds = scenarioIds;
+            fCurrent = current;
+            fBaseline = baseline;
+            fVerdicts = verdicts;
+            fFrom = from;
+            fTo = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (fTo - fFrom > VERDICTS_PER_TASK) {
+                int middle = (fFrom + fTo) >>> 1;
+                invokeAll(new VerdictTask(fScenarioIds, fCurrent, fBaseline, fVerdicts, fFrom, middle),
+                        new VerdictTask(fScenarioIds, fCurrent, fBaseline, fVerdicts, middle, fTo));
+            } else {
+                for (int i = fFrom; i < fTo; i++)
+                    fVerdicts[i] = compare(fScenarioIds[i], fCurrent[i], fBaseline[i]);
+            }
+        }
+    }
+}
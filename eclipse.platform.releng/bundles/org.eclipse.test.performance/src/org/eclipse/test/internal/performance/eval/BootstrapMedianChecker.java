@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.eval;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.Dim;
+
+/**
+ * Checks that the median of the measured values of a dimension is within a band relative to the median of the reference. Unlike
+ * {@link RelativeBandChecker} it works on the {@link StatisticsSession#getValues(Dim) values of each iteration} and is robust
+ * against heavy tails and bimodal timings, e.g. from garbage collections in some iterations only.
+ * <p>
+ * The check fails only if a bootstrap confidence interval of the difference of the medians lies entirely outside of the band. The
+ * resamples are computed in parallel in the common fork-join pool, each task with its own split of a {@link SplittableRandom},
+ * so the result depends on the seed only.
+ * </p>
+ * <p>
+ * The checker is not {@link #isApplicable(StatisticsSession, StatisticsSession) applicable} to sessions with less than two values,
+ * e.g. to references stored as aggregates; it fails if it is tested on them anyway.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class BootstrapMedianChecker extends AssertChecker {
+
+    public static final int     DEFAULT_RESAMPLES  = 10000;
+    public static final double  DEFAULT_CONFIDENCE = 0.95;
+
+    /** Number of resamples computed by one fork-join task. */
+    private static final int    RESAMPLES_PER_TASK = 256;
+    private static final long   DEFAULT_SEED       = 0x5DEECE66DL;
+
+    private final double        fLowerBand;
+    private final double        fUpperBand;
+    private final double        fConfidence;
+    private final int           fResamples;
+    private final long          fSeed;
+
+    /**
+     * @param dimension
+     *            the dimension
+     * @param lowerBand
+     *            the lower bound, relative to the reference median, e.g. <code>0.9</code>
+     * @param upperBand
+     *            the upper bound, relative to the reference median, e.g. <code>1.1</code>
+     */
+    public BootstrapMedianChecker(Dim dimension, double lowerBand, double upperBand) {
+        this(dimension, lowerBand, upperBand, DEFAULT_CONFIDENCE, DEFAULT_RESAMPLES, DEFAULT_SEED);
+    }
+
+    /**
+     * @param dimension
+     *            the dimension
+     * @param lowerBand
+     *            the lower bound, relative to the reference median, e.g. <code>0.9</code>
+     * @param upperBand
+     *            the upper bound, relative to the reference median, e.g. <code>1.1</code>
+     * @param confidence
+     *            the confidence level of the interval, in (0, 1)
+     * @param resamples
+     *            the number of bootstrap resamples
+     * @param seed
+     *            the seed of the random generator
+     */
+    public BootstrapMedianChecker(Dim dimension, double lowerBand, double upperBand, double confidence, int resamples, long seed) {
+        super(dimension);
+        if (!(confidence > 0 && confidence < 1))
+            throw new IllegalArgumentException("confidence out of range: " + confidence); //$NON-NLS-1$
+        if (resamples < 1)
+            throw new IllegalArgumentException("resamples must be positive: " + resamples); //$NON-NLS-1$
+        fLowerBand = lowerBand;
+        fUpperBand = upperBand;
+        fConfidence = confidence;
+        fResamples = resamples;
+        fSeed = seed;
+    }
+
+    @Override
+    public boolean isApplicable(StatisticsSession reference, StatisticsSession measured) {
+        return hasValues(reference) && hasValues(measured);
+    }
+
+    private boolean hasValues(StatisticsSession session) {
+        long[] values = session.getValues(getDimension());
+        return values != null && values.length >= 2;
+    }
+
+    @Override
+    public boolean test(StatisticsSession reference, StatisticsSession measured, StringBuffer message) {
+        Dim dimension = getDimension();
+
+        if (!measured.contains(dimension)) {
+            PerformanceTestPlugin.logWarning("collected data provides no dimension '" + dimension.getName() + '\''); //$NON-NLS-1$
+            return true;
+        }
+        if (!reference.contains(dimension)) {
+            PerformanceTestPlugin.logWarning("reference data provides no dimension '" + dimension.getName() + '\''); //$NON-NLS-1$
+            return true;
+        }
+        if (!isApplicable(reference, measured)) {
+            message.append('\n' + dimension.getName() + ": " + (hasValues(measured) ? "reference" : "collected") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    + " data provides too few values of each iteration for a bootstrap"); //$NON-NLS-1$
+            return false;
+        }
+        long[] measuredValues = measured.getValues(dimension);
+        long[] referenceValues = reference.getValues(dimension);
+
+        double test = StatisticsUtil.median(referenceValues);
+        double actual = StatisticsUtil.median(measuredValues);
+        if (test < 0.001) {
+            // we don't fail for reference value of zero
+            PerformanceTestPlugin.logWarning("ref value for '" + dimension.getName() + "' is too small"); //$NON-NLS-1$ //$NON-NLS-2$
+            return true;
+        }
+
+        double[] interval = getMedianDifferenceInterval(referenceValues, measuredValues, fResamples, fConfidence, fSeed);
+        if (interval[0] > (fUpperBand - 1) * test || interval[1] < (fLowerBand - 1) * test) {
+            message.append('\n' + dimension.getName() + ": median " + dimension.getDisplayValue(actual) + " is not within [" //$NON-NLS-1$ //$NON-NLS-2$
+                    + Math.round(fLowerBand * 100) + "%, " + Math.round(fUpperBand * 100) + "%] of " //$NON-NLS-1$ //$NON-NLS-2$
+                    + dimension.getDisplayValue(test) + " (" + Math.round(fConfidence * 100) //$NON-NLS-1$
+                    + "% confidence interval of the difference: [" + dimension.getDisplayValue(interval[0]) + ", " //$NON-NLS-1$ //$NON-NLS-2$
+                    + dimension.getDisplayValue(interval[1]) + "])"); //$NON-NLS-1$
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a percentile bootstrap confidence interval of <code>median(measured) - median(reference)</code>.
+     *
+     * @param reference
+     *            the reference values
+     * @param measured
+     *            the measured values
+     * @param resamples
+     *            the number of bootstrap resamples
+     * @param confidence
+     *            the confidence level, in (0, 1)
+     * @param seed
+     *            the seed of the random generator
+     * @return an array of length two, with the lower and upper bounds of the confidence interval
+     */
+    public static double[] getMedianDifferenceInterval(long[] reference, long[] measured, int resamples, double confidence,
+            long seed) {
+        double[] differences = new double[resamples];
+        ForkJoinPool.commonPool()
+                .invoke(new ResampleTask(reference, measured, differences, 0, resamples, new SplittableRandom(seed)));
+        Arrays.sort(differences);
+        double alpha = (1 - confidence) / 2;
+        return new double[] { differences[getIndex(alpha, resamples)], differences[getIndex(1 - alpha, resamples)] };
+    }
+
+    private static int getIndex(double quantile, int length) {
+        return (int) Math.max(0, Math.min(length - 1, Math.round(quantile * (length - 1))));
+    }
+
+    private static final class ResampleTask extends RecursiveAction {
+
+        private static final long      serialVersionUID = 1L;
+
+        private final long[]           fReference;
+        private final long[]           fMeasured;
+        private final double[]         fDifferences;
+        private final int              fFrom;
+        private final int              fTo;
+        private final SplittableRandom fRandom;
+
+        ResampleTask(long[] reference, long[] measured, double[] differences, int from, int to, SplittableRandom random) {
+            fReference = reference;
+            fMeasured = measured;
+            fDifferences = differences;
+            fFrom = from;
+            fTo = to;
+            fRandom = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (fTo - fFrom > RESAMPLES_PER_TASK) {
+                int middle = (fFrom + fTo) >>> 1;
+                // split before forking, so the streams only depend on the seed
+                SplittableRandom left = fRandom.split();
+                invokeAll(new ResampleTask(fReference, fMeasured, fDifferences, fFrom, middle, left),
+                        new ResampleTask(fReference, fMeasured, fDifferences, middle, fTo, fRandom));
+                return;
+            }
+            long[] referenceScratch = new long[fReference.length];
+            long[] measuredScratch = new long[fMeasured.length];
+            for (int i = fFrom; i < fTo; i++) {
+                double referenceMedian = resampleMedian(fReference, referenceScratch);
+                double measuredMedian = resampleMedian(fMeasured, measuredScratch);
+                fDifferences[i] = measuredMedian - referenceMedian;
+            }
+        }
+
+        private double resampleMedian(long[] values, long[] scratch) {
+            int n = values.length;
+            for (int i = 0; i < n; i++)
+                scratch[i] = values[fRandom.nextInt(n)];
+            return StatisticsUtil.median(scratch, n);
+        }
+    }
+}
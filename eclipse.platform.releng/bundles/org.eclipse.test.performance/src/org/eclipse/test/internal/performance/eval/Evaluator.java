@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0 which accompanies this distribution, and is available at
@@ -12,19 +12,22 @@
 
 package org.eclipse.test.internal.performance.eval;
 
+import java.io.IOException;
 import java.util.HashSet;
 
+import org.eclipse.test.internal.performance.HostCalibration;
 import org.eclipse.test.internal.performance.InternalPerformanceMeter;
 import org.eclipse.test.internal.performance.PerformanceTestPlugin;
 import org.eclipse.test.internal.performance.data.DataPoint;
 import org.eclipse.test.internal.performance.data.Dim;
 import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.db.ReferenceStore;
 import org.eclipse.test.internal.performance.db.Variations;
 import org.eclipse.test.performance.PerformanceMeter;
 import org.junit.Assert;
 
 /**
- * The default implementation of an evaluator backed by a database.
+ * The default implementation of an evaluator backed by the {@link ReferenceStore}.
  *
  * @since 3.1
  */
@@ -44,20 +47,21 @@ public class Evaluator extends EmptyEvaluator {
             return; // nothing to do
 
         // get reference build tag
-        Variations refKeys = PerformanceTestPlugin.getAssertAgainst();
         String assertKey = System.getProperty(PerformanceTestPlugin.ECLIPSE_PERF_ASSERTAGAINST);
-        if (refKeys == null) {
+        if (assertKey == null) {
             PerformanceTestPlugin.logWarning("refkeys was null. " + PerformanceTestPlugin.ECLIPSE_PERF_ASSERTAGAINST + " was " + assertKey); //$NON-NLS-1$ //$NON-NLS-2$
             return; // nothing to do
         }
-        // else
-        PerformanceTestPlugin.logInfo("refkeys was: " + refKeys.toString() + " \n\t based on " + PerformanceTestPlugin.ECLIPSE_PERF_ASSERTAGAINST + " being set to " + assertKey); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-
-
         if (!(performanceMeter instanceof InternalPerformanceMeter))
             return; // we cannot handle this.
 
         InternalPerformanceMeter ipm = (InternalPerformanceMeter) performanceMeter;
+        // the variations the sample is committed with, e.g. with its concurrency, and the reference build instead of the current
+        Variations config = ipm.getVariations();
+        Variations refKeys = (Variations) config.clone();
+        refKeys.parsePairs(assertKey);
+        PerformanceTestPlugin.logInfo("refkeys was: " + refKeys.toString() + " \n\t based on " + PerformanceTestPlugin.ECLIPSE_PERF_ASSERTAGAINST + " being set to " + assertKey); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
         Sample session = ipm.getSample();
         Assert.assertTrue("metering session is null", session != null); //$NON-NLS-1$
 
@@ -70,11 +74,43 @@ public class Evaluator extends EmptyEvaluator {
 
         // get data for this session
         DataPoint[] sessionDatapoints = session.getDataPoints();
-        Variations config = PerformanceTestPlugin.getVariations();
         if (sessionDatapoints == null || sessionDatapoints.length == 0) {
             PerformanceTestPlugin.logWarning("no session data named '" + config + "' found"); //$NON-NLS-1$ //$NON-NLS-2$
             return;
         }
 
+        // get reference data
+        ReferenceStore store = ReferenceStore.getDefault();
+        if (store == null) {
+            PerformanceTestPlugin.logWarning("no reference store, set " + ReferenceStore.REFERENCES_PROPERTY); //$NON-NLS-1$
+            return;
+        }
+        boolean normalize = HostCalibration.isNormalizing();
+        StatisticsSession referenceStats;
+        try {
+            referenceStats = store.getSession(ipm.getScenarioName(), refKeys, normalize);
+        } catch (IOException e) {
+            PerformanceTestPlugin.log(e);
+            return;
+        }
+        if (referenceStats == null) {
+            PerformanceTestPlugin.logWarning("no reference data named '" + refKeys + "' found"); //$NON-NLS-1$ //$NON-NLS-2$
+            return;
+        }
+
+        StatisticsSession measuredStats = new StatisticsSession(normalize ? HostCalibration.normalize(session) : session);
+        StringBuffer failMesg = new StringBuffer("Performance criteria not met when compared to '" + refKeys + "':"); //$NON-NLS-1$ //$NON-NLS-2$
+        StringBuffer notApplicable = new StringBuffer();
+        boolean pass = true;
+        for (AssertChecker chk : fCheckers) {
+            chk = chk.getChecker(ipm.getScenarioName(), config);
+            if (chk.isApplicable(referenceStats, measuredStats))
+                pass &= chk.test(referenceStats, measuredStats, failMesg);
+            else
+                chk.test(referenceStats, measuredStats, notApplicable);
+        }
+        if (notApplicable.length() > 0)
+            PerformanceTestPlugin.logWarning("Performance criteria not applicable when compared to '" + refKeys + "':" + notApplicable); //$NON-NLS-1$ //$NON-NLS-2$
+        Assert.assertTrue(failMesg.toString(), pass);
     }
 }
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.eval;
+
+import java.util.Arrays;
+
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.Dim;
+
+/**
+ * Checks with the rank-based Mann-Whitney U test that the {@link StatisticsSession#getValues(Dim) values of each iteration} of a
+ * dimension come from the same distribution as the reference values. The test makes no assumption about the shape of the
+ * distributions, so outliers and bimodal timings neither hide nor fake a regression.
+ * <p>
+ * The check fails if the two-sided p-value is below the significance level and the medians differ by at least the minimal
+ * relative effect, so that tiny but significant differences of large samples are tolerated.
+ * </p>
+ * <p>
+ * The checker is not {@link #isApplicable(StatisticsSession, StatisticsSession) applicable} to sessions without values, e.g. to
+ * references stored as aggregates; it fails if it is tested on them anyway.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class MannWhitneyChecker extends AssertChecker {
+
+    /** Largest product of the sample sizes for which the exact distribution of U is computed if there are no ties. */
+    private static final int MAX_EXACT_PRODUCT = 400;
+
+    private final double     fSignificance;
+    private final double     fMinimalEffect;
+
+    /**
+     * @param dimension
+     *            the dimension
+     * @param significance
+     *            the significance level, e.g. <code>0.01</code>
+     */
+    public MannWhitneyChecker(Dim dimension, double significance) {
+        this(dimension, significance, 0);
+    }
+
+    /**
+     * @param dimension
+     *            the dimension
+     * @param significance
+     *            the significance level, e.g. <code>0.01</code>
+     * @param minimalEffect
+     *            the minimal relative difference of the medians that fails the check, e.g. <code>0.05</code>
+     */
+    public MannWhitneyChecker(Dim dimension, double significance, double minimalEffect) {
+        super(dimension);
+        if (!(significance > 0 && significance < 1))
+            throw new IllegalArgumentException("significance out of range: " + significance); //$NON-NLS-1$
+        fSignificance = significance;
+        fMinimalEffect = minimalEffect;
+    }
+
+    @Override
+    public boolean isApplicable(StatisticsSession reference, StatisticsSession measured) {
+        return hasValues(reference) && hasValues(measured);
+    }
+
+    private boolean hasValues(StatisticsSession session) {
+        long[] values = session.getValues(getDimension());
+        return values != null && values.length >= 1;
+    }
+
+    @Override
+    public boolean test(StatisticsSession reference, StatisticsSession measured, StringBuffer message) {
+        Dim dimension = getDimension();
+
+        if (!measured.contains(dimension)) {
+            PerformanceTestPlugin.logWarning("collected data provides no dimension '" + dimension.getName() + '\''); //$NON-NLS-1$
+            return true;
+        }
+        if (!reference.contains(dimension)) {
+            PerformanceTestPlugin.logWarning("reference data provides no dimension '" + dimension.getName() + '\''); //$NON-NLS-1$
+            return true;
+        }
+        if (!isApplicable(reference, measured)) {
+            message.append('\n' + dimension.getName() + ": " + (hasValues(measured) ? "reference" : "collected") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                    + " data provides too few values of each iteration for a rank test"); //$NON-NLS-1$
+            return false;
+        }
+        long[] measuredValues = measured.getValues(dimension);
+        long[] referenceValues = reference.getValues(dimension);
+
+        double p = getPValue(referenceValues, measuredValues);
+        if (p >= fSignificance)
+            return true;
+        double test = StatisticsUtil.median(referenceValues);
+        double actual = StatisticsUtil.median(measuredValues);
+        if (test != 0 && Math.abs(actual - test) < fMinimalEffect * Math.abs(test))
+            return true;
+
+        message.append('\n' + dimension.getName() + ": median " + dimension.getDisplayValue(actual) //$NON-NLS-1$
+                + " differs significantly from " + dimension.getDisplayValue(test) + " (Mann-Whitney p = " //$NON-NLS-1$ //$NON-NLS-2$
+                + (float) p + " < " + fSignificance + ')'); //$NON-NLS-1$
+        return false;
+    }
+
+    /**
+     * Returns the two-sided p-value of the Mann-Whitney U test of two samples. The exact distribution of U is used for small
+     * samples without ties, otherwise the normal approximation with tie and continuity correction.
+     *
+     * @param x
+     *            the first sample
+     * @param y
+     *            the second sample
+     * @return the p-value
+     */
+    public static double getPValue(long[] x, long[] y) {
+        int n1 = x.length;
+        int n2 = y.length;
+        long[] sortedX = x.clone();
+        long[] sortedY = y.clone();
+        Arrays.sort(sortedX);
+        Arrays.sort(sortedY);
+
+        // rank sum of x, with average ranks for ties, in one merge of the sorted samples
+        double rankSumX = 0;
+        double tieCorrection = 0;
+        long rank = 0;
+        int i = 0;
+        int j = 0;
+        while (i < n1 || j < n2) {
+            long value = j == n2 || (i < n1 && sortedX[i] <= sortedY[j]) ? sortedX[i] : sortedY[j];
+            int tiesX = 0;
+            while (i < n1 && sortedX[i] == value) {
+                i++;
+                tiesX++;
+            }
+            int tiesY = 0;
+            while (j < n2 && sortedY[j] == value) {
+                j++;
+                tiesY++;
+            }
+            long ties = tiesX + tiesY;
+            rankSumX += tiesX * (rank + (ties + 1) / 2.0);
+            tieCorrection += (double) ties * ties * ties - ties;
+            rank += ties;
+        }
+        double u = rankSumX - n1 * (n1 + 1) / 2.0;
+
+        if (tieCorrection == 0 && (long) n1 * n2 <= MAX_EXACT_PRODUCT)
+            return getExactPValue((int) Math.round(u), n1, n2);
+
+        double n = n1 + n2;
+        double variance = n1 * (double) n2 / 12 * (n + 1 - tieCorrection / (n * (n - 1)));
+        if (variance <= 0)
+            return 1; // all values are equal
+        double z = Math.max(0, Math.abs(u - n1 * (double) n2 / 2) - 0.5) / Math.sqrt(variance);
+        return Math.min(1, 2 * (1 - StatisticsUtil.normalDistribution(z)));
+    }
+
+    private static double getExactPValue(int u, int n1, int n2) {
+        // counts[m][k]: number of arrangements of m x and n y values with U = k, computed row by row over n
+        int max = n1 * n2;
+        double[][] previous = new double[n1 + 1][];
+        for (int m = 0; m <= n1; m++) {
+            previous[m] = new double[max + 1];
+            previous[m][0] = 1; // n = 0: U is 0
+        }
+        for (int n = 1; n <= n2; n++) {
+            double[][] current = new double[n1 + 1][max + 1];
+            current[0][0] = 1;
+            for (int m = 1; m <= n1; m++) {
+                for (int k = 0; k <= m * n; k++) {
+                    // the largest value is either an x (U grows by n) or a y
+                    double count = previous[m][k];
+                    if (k >= n)
+                        count += current[m - 1][k - n];
+                    current[m][k] = count;
+                }
+            }
+            previous = current;
+        }
+        double[] counts = previous[n1];
+        double total = 0;
+        double lower = 0;
+        double upper = 0;
+        for (int k = 0; k <= max; k++) {
+            total += counts[k];
+            if (k <= u)
+                lower += counts[k];
+            if (k >= u)
+                upper += counts[k];
+        }
+        return Math.min(1, 2 * Math.min(lower, upper) / total);
+    }
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.eval;
+
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.eclipse.test.internal.performance.eval.NoiseBands.Band;
+
+/**
+ * Checks that the average of the measured values is at most a few standard deviations of the learned {@link NoiseBands build
+ * noise} above the reference. Scenarios with stable timings thus get a tight band and noisy ones a wide band. Without a band learned
+ * from at least {@link #MIN_BUILDS} builds it checks a fixed relative band.
+ * <p>
+ * The reference and the measured build both carry the build noise, so their difference has a standard deviation of
+ * &radic;2&sigma;; the band is that many times the given number of deviations. With the default of 3 deviations, a build without
+ * regression fails in about one of 740 runs.
+ * </p>
+ * <p>
+ * The band depends on the scenario; {@link Evaluator} asks {@link #getChecker(String, Variations)} for the checker of each
+ * scenario, which uses the {@link NoiseBands#getDefault() default bands}.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class NoiseBandChecker extends AssertChecker {
+
+    public static final double        DEFAULT_DEVIATIONS = 3;
+    public static final int           MIN_BUILDS         = 5;
+    /** The narrowest upper band, relative to the reference. */
+    public static final double        MIN_RELATIVE_BAND  = 0.01;
+
+    private final double              fDeviations;
+    private final double              fLowerBand;
+    private final RelativeBandChecker fFixedBand;
+
+    /**
+     * @param dimension
+     *            the dimension
+     * @param deviations
+     *            the number of standard deviations of the difference of two builds the measured average may exceed the reference
+     *            by
+     * @param lowerBand
+     *            the lower band relative to the reference, e.g. <code>0.0</code>
+     * @param upperBand
+     *            the upper band relative to the reference without a learned band, e.g. <code>1.1</code>
+     */
+    public NoiseBandChecker(Dim dimension, double deviations, double lowerBand, double upperBand) {
+        super(dimension);
+        fDeviations = deviations;
+        fLowerBand = lowerBand;
+        fFixedBand = new RelativeBandChecker(dimension, lowerBand, upperBand);
+    }
+
+    /**
+     * Returns the checker for a scenario.
+     *
+     * @param bands
+     *            the learned bands, or <code>null</code>
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations of the measured session
+     * @return a relative band checker with the learned band, or with the fixed band if no band was learned from enough builds
+     */
+    public AssertChecker getChecker(NoiseBands bands, String scenarioId, Variations variations) {
+        Band band = bands != null ? bands.get(scenarioId, variations, getDimension()) : null;
+        if (band == null || band.getCount() < MIN_BUILDS || Double.isNaN(band.getRelativeStddev()))
+            return fFixedBand;
+        // the difference of two builds, each with the build noise
+        double upperBand = 1 + Math.max(fDeviations * Math.sqrt(2) * band.getRelativeStddev(), MIN_RELATIVE_BAND);
+        return new RelativeBandChecker(getDimension(), fLowerBand, upperBand);
+    }
+
+    @Override
+    public AssertChecker getChecker(String scenarioId, Variations variations) {
+        return getChecker(NoiseBands.getDefault(), scenarioId, variations);
+    }
+
+    /**
+     * Checks the fixed band, see {@link #getChecker(NoiseBands, String, Variations)} for the learned band.
+     */
+    @Override
+    public boolean test(StatisticsSession reference, StatisticsSession measured, StringBuffer message) {
+        return fFixedBand.test(reference, measured, message);
+    }
+}
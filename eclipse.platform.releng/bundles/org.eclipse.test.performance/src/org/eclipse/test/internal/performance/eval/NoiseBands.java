@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.eval;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.RawDataReader;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.SampleCodec;
+import org.eclipse.test.internal.performance.db.Variations;
+
+/**
+ * The noise of every scenario, dimension and variations learned from the averages of past builds, used for dynamic thresholds
+ * instead of a fixed band, see {@link NoiseBandChecker}.
+ * <p>
+ * A band is the mean and the standard deviation of the build averages. The first {@link #WINDOW} builds are weighted equally;
+ * later builds are folded in with exponential weights, so the band follows slow changes of the noise. Only these few numbers are
+ * kept per band. The bands are updated after each build from its raw data files, e.g. with
+ * </p>
+ *
+ * <pre>
+ * java org.eclipse.test.internal.performance.eval.NoiseBands &lt;bands file&gt; &lt;raw data file&gt;...
+ * </pre>
+ * <p>
+ * The variations of a band are those of the samples without the build, so the builds of a configuration share their bands.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class NoiseBands {
+
+    /**
+     * The system property naming the bands file {@link #getDefault()} loads.
+     */
+    public static final String       NOISE_BANDS_PROPERTY = "eclipse.perf.noiseBands"; //$NON-NLS-1$
+
+    /** The number of builds weighted equally, and the inverse of the weight of a new build after them. */
+    public static final int          WINDOW               = 20;
+    /** The number of recent builds remembered per band, so that the files of a build can be learned again without effect. */
+    public static final int          RECENT_BUILDS        = 8;
+
+    static final byte[]              MAGIC                = { 'E', 'P', 'N', 'B' };
+    static final int                 VERSION              = 1;
+
+    private static String            fgDefaultLocation;
+    private static NoiseBands        fgDefault;
+
+    private final Map<String, Band>  fBands               = new LinkedHashMap<>();
+
+    /**
+     * The noise of the averages of the builds of a scenario and dimension.
+     */
+    public static final class Band {
+
+        final String        fScenarioId;
+        final String        fVariations;
+        final Dim           fDimension;
+        final Deque<String> fRecentBuilds = new ArrayDeque<>(RECENT_BUILDS);
+        int                 fCount;
+        double              fMean;
+        double              fVariance;
+
+        Band(String scenarioId, String variations, Dim dimension) {
+            fScenarioId = scenarioId;
+            fVariations = variations;
+            fDimension = dimension;
+        }
+
+        /**
+         * @return the number of builds the band was learned from
+         */
+        public int getCount() {
+            return fCount;
+        }
+
+        /**
+         * @return the weighted mean of the build averages
+         */
+        public double getMean() {
+            return fMean;
+        }
+
+        /**
+         * @return the weighted standard deviation of the build averages
+         */
+        public double getStddev() {
+            return Math.sqrt(fVariance);
+        }
+
+        /**
+         * @return the standard deviation relative to the mean, or {@link Double#NaN} if the mean is 0
+         */
+        public double getRelativeStddev() {
+            return fMean != 0 ? getStddev() / Math.abs(fMean) : Double.NaN;
+        }
+
+        /**
+         * @return the name of the build added last, or <code>null</code>
+         */
+        public String getLastBuild() {
+            return fRecentBuilds.peekLast();
+        }
+
+        void add(double average) {
+            fCount++;
+            double delta = average - fMean;
+            if (fCount <= WINDOW) {
+                // Welford: equal weights
+                fMean += delta / fCount;
+                fVariance = fCount > 1 ? (fVariance * (fCount - 2) + delta * (average - fMean)) / (fCount - 1) : 0;
+            } else {
+                // exponentially weighted
+                double increment = delta / WINDOW;
+                fMean += increment;
+                fVariance = (1 - 1.0 / WINDOW) * (fVariance + delta * increment);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Band [scenario=" + fScenarioId + ", " + fDimension.getName() + ", builds=" + fCount + ", mean=" + fMean //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+                    + ", stddev=" + getStddev() + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: NoiseBands <bands file> <raw data file>..."); //$NON-NLS-1$
+            System.exit(2);
+        }
+        Path file = Paths.get(args[0]);
+        NoiseBands bands = Files.exists(file) ? load(file) : new NoiseBands();
+        int count = 0;
+        for (int i = 1; i < args.length; i++)
+            count += bands.learn(Paths.get(args[i]));
+        bands.save(file);
+        System.out.println("Learned " + count + " build averages, " + bands.size() + " bands in " + file); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    /**
+     * Returns the bands named by the system property <code>eclipse.perf.noiseBands</code>. They are loaded on first use and
+     * reloaded when the property changes.
+     *
+     * @return the bands, or <code>null</code> if the property is not set or the file cannot be read
+     */
+    public static synchronized NoiseBands getDefault() {
+        String location = System.getProperty(NOISE_BANDS_PROPERTY);
+        if (location == null || !location.equals(fgDefaultLocation)) {
+            fgDefault = null;
+            fgDefaultLocation = location;
+            if (location != null) {
+                try {
+                    fgDefault = load(Paths.get(location));
+                } catch (NoSuchFileException e) {
+                    PerformanceTestPlugin.logWarning("no noise bands learned yet in " + location); //$NON-NLS-1$
+                } catch (IOException e) {
+                    PerformanceTestPlugin.logWarning("cannot load noise bands " + location + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+            }
+        }
+        return fgDefault;
+    }
+
+    /**
+     * Returns the variations a band is keyed by.
+     *
+     * @param variations
+     *            the variations of a sample, or <code>null</code>
+     * @return the exact match string of the variations without the build
+     */
+    public static String getBandVariations(Variations variations) {
+        if (variations == null)
+            return ""; //$NON-NLS-1$
+        Variations withoutBuild = new Variations();
+        withoutBuild.putAll(variations);
+        withoutBuild.remove(PerformanceTestPlugin.BUILD);
+        return withoutBuild.toExactMatchString();
+    }
+
+    private static String getKey(String scenarioId, String variations, Dim dimension) {
+        return scenarioId + '\n' + variations + '\n' + dimension.getId();
+    }
+
+    /**
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations, the build is ignored
+     * @param dimension
+     *            the dimension
+     * @return the band, or <code>null</code> if no build of the scenario was learned
+     */
+    public synchronized Band get(String scenarioId, Variations variations, Dim dimension) {
+        return fBands.get(getKey(scenarioId, getBandVariations(variations), dimension));
+    }
+
+    /**
+     * @return the number of bands
+     */
+    public synchronized int size() {
+        return fBands.size();
+    }
+
+    /**
+     * Adds the average of a build. Adding one of the {@link #RECENT_BUILDS} builds added last again has no effect.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @param variations
+     *            the variations of the build
+     * @param dimension
+     *            the dimension
+     * @param average
+     *            the average of the build
+     * @return <code>true</code> if the average was added
+     */
+    public synchronized boolean add(String scenarioId, Variations variations, Dim dimension, double average) {
+        String bandVariations = getBandVariations(variations);
+        Band band = fBands.computeIfAbsent(getKey(scenarioId, bandVariations, dimension),
+                key -> new Band(scenarioId, bandVariations, dimension));
+        String build = variations != null ? variations.getProperty(PerformanceTestPlugin.BUILD) : null;
+        if (build != null) {
+            if (band.fRecentBuilds.contains(build))
+                return false;
+            if (band.fRecentBuilds.size() == RECENT_BUILDS)
+                band.fRecentBuilds.removeFirst();
+            band.fRecentBuilds.addLast(build);
+        }
+        band.add(average);
+        return true;
+    }
+
+    /**
+     * Adds the averages of the builds in a raw data file. The samples of a scenario and build are pooled, so that a build adds
+     * one average per dimension however many samples it has.
+     *
+     * @param rawDataFile
+     *            the raw data file, written by {@link org.eclipse.test.internal.performance.data.RawDataWriter}
+     * @return the number of added averages
+     * @throws IOException
+     *             if the file cannot be read
+     */
+    public int learn(Path rawDataFile) throws IOException {
+        Map<String, BuildSamples> builds = new LinkedHashMap<>();
+        try (RawDataReader reader = new RawDataReader(rawDataFile)) {
+            while (reader.next()) {
+                Variations variations = reader.getVariations();
+                String key = reader.getScenarioId() + '\n' + (variations != null ? variations.toExactMatchString() : ""); //$NON-NLS-1$
+                BuildSamples build = builds.get(key);
+                if (build == null) {
+                    build = new BuildSamples(reader.getScenarioId(), variations);
+                    builds.put(key, build);
+                }
+                build.fSamples.add(reader.getSample());
+            }
+        }
+        int count = 0;
+        for (BuildSamples build : builds.values()) {
+            StatisticsSession session = new StatisticsSession(build.fSamples.toArray(new Sample[build.fSamples.size()]));
+            for (Dim dimension : session.getStatistics().getDimensions()) {
+                if (add(build.fScenarioId, build.fVariations, dimension, session.getAverage(dimension)))
+                    count++;
+            }
+        }
+        return count;
+    }
+
+    /** The samples of a scenario and build. */
+    private static final class BuildSamples {
+
+        final String       fScenarioId;
+        final Variations   fVariations;
+        final List<Sample> fSamples = new ArrayList<>();
+
+        BuildSamples(String scenarioId, Variations variations) {
+            fScenarioId = scenarioId;
+            fVariations = variations;
+        }
+    }
+
+    /**
+     * Loads bands.
+     *
+     * @param file
+     *            the file written by {@link #save(Path)}
+     * @return the bands
+     * @throws IOException
+     *             if the file cannot be read or is not a bands file
+     */
+    public static NoiseBands load(Path file) throws IOException {
+        NoiseBands bands = new NoiseBands();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC))
+                throw new IOException("not a noise bands file: " + file); //$NON-NLS-1$
+            int version = in.readUnsignedByte();
+            if (version != VERSION)
+                throw new IOException("unsupported noise bands version: " + version); //$NON-NLS-1$
+            int count = SampleCodec.readVarInt(in);
+            for (int i = 0; i < count; i++) {
+                String scenarioId = in.readUTF();
+                String variations = in.readUTF();
+                int id = in.readUnsignedByte();
+                Dim dimension = Dim.getDimension(id);
+                if (dimension == null)
+                    throw new IOException("unknown dimension: " + id); //$NON-NLS-1$
+                Band band = new Band(scenarioId, variations, dimension);
+                int recentBuilds = SampleCodec.readVarInt(in);
+                for (int j = 0; j < recentBuilds; j++)
+                    band.fRecentBuilds.addLast(in.readUTF());
+                band.fCount = SampleCodec.readVarInt(in);
+                band.fMean = in.readDouble();
+                band.fVariance = in.readDouble();
+                bands.fBands.put(getKey(scenarioId, variations, dimension), band);
+            }
+        }
+        return bands;
+    }
+
+    /**
+     * Saves the bands. The file is replaced atomically, so readers never see a partial file.
+     *
+     * @param file
+     *            the file
+     * @throws IOException
+     *             if writing fails
+     */
+    public synchronized void save(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".saving"); //$NON-NLS-1$
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+                out.write(MAGIC);
+                out.writeByte(VERSION);
+                SampleCodec.writeVarInt(out, fBands.size());
+                for (Band band : fBands.values()) {
+                    out.writeUTF(band.fScenarioId);
+                    out.writeUTF(band.fVariations);
+                    out.writeByte(band.fDimension.getId());
+                    SampleCodec.writeVarInt(out, band.fRecentBuilds.size());
+                    for (String build : band.fRecentBuilds)
+                        out.writeUTF(build);
+                    SampleCodec.writeVarInt(out, band.fCount);
+                    out.writeDouble(band.fMean);
+                    out.writeDouble(band.fVariance);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
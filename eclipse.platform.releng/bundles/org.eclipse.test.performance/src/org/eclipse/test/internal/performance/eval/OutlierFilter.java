@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.eval;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringTokenizer;
+
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.Dim;
+
+/**
+ * Discards outliers, e.g. iterations hit by a garbage collection, from the values of a dimension before the statistics are
+ * computed. A {@link StatisticsSession} filters the dimensions it has a filter for, see
+ * {@link StatisticsSession#setOutlierFilter(Dim, OutlierFilter)}.
+ * <p>
+ * By default the filters are configured with the system property <code>eclipse.perf.outliers</code>, a comma separated list of
+ * <code>[dimension=]filter</code> entries. The dimension is given by its name without spaces, its {@link Dim#getLabel() label} or its
+ * id, ignoring case; an entry without dimension applies to all dimensions. The filters are
+ * </p>
+ * <ul>
+ * <li><code>tukey[:k]</code>: Tukey's fences, keeps the values within <code>k</code> (default 1.5) inter-quartile ranges of the
+ * quartiles,</li>
+ * <li><code>mad[:t]</code>: keeps the values within <code>t</code> (default 3.5) scaled median absolute deviations of the
+ * median,</li>
+ * <li><code>trim[:f]</code>: discards the fraction <code>f</code> (default 0.1) of the lowest and of the highest values, the
+ * remaining values give the trimmed mean,</li>
+ * <li><code>none</code>: keeps all values.</li>
+ * </ul>
+ * For example <code>-Declipse.perf.outliers=tukey,CPUTime=trim:0.05</code>. Tukey and MAD filters keep all values if the spread is 0,
+ * e.g. for coarse timers.
+ *
+ * @since 3.21
+ */
+public abstract class OutlierFilter {
+
+    public static final String  OUTLIERS_PROPERTY = "eclipse.perf.outliers"; //$NON-NLS-1$
+
+    /** Keeps all values. */
+    public static final OutlierFilter NONE        = new OutlierFilter("none") { //$NON-NLS-1$
+        @Override
+        public long[] filter(long[] values) {
+            return values.clone();
+        }
+    };
+
+    /** The scale of the median absolute deviation to the standard deviation of a normal distribution. */
+    private static final double MAD_SCALE         = 1.4826;
+
+    private static String       fgConfiguration;
+    private static Map<String, OutlierFilter> fgFilters;
+    private static OutlierFilter fgDefaultFilter;
+
+    private final String        fDescription;
+
+    protected OutlierFilter(String description) {
+        fDescription = description;
+    }
+
+    /**
+     * Returns the values which are not outliers.
+     *
+     * @param values
+     *            the values, not modified
+     * @return the remaining values
+     */
+    public abstract long[] filter(long[] values);
+
+    @Override
+    public String toString() {
+        return fDescription;
+    }
+
+    /**
+     * @param k
+     *            the number of inter-quartile ranges beyond the quartiles that are kept
+     * @return Tukey's fences
+     */
+    public static OutlierFilter tukey(double k) {
+        return new OutlierFilter("tukey:" + k) { //$NON-NLS-1$
+            @Override
+            public long[] filter(long[] values) {
+                if (values.length < 4)
+                    return values.clone();
+                long[] sorted = values.clone();
+                Arrays.sort(sorted);
+                double q1 = quantile(sorted, 0.25);
+                double q3 = quantile(sorted, 0.75);
+                double range = q3 - q1;
+                if (range == 0)
+                    return values.clone();
+                return keep(values, q1 - k * range, q3 + k * range);
+            }
+        };
+    }
+
+    /**
+     * @param threshold
+     *            the number of scaled median absolute deviations from the median that are kept
+     * @return the median absolute deviation filter
+     */
+    public static OutlierFilter mad(double threshold) {
+        return new OutlierFilter("mad:" + threshold) { //$NON-NLS-1$
+            @Override
+            public long[] filter(long[] values) {
+                if (values.length < 3)
+                    return values.clone();
+                double median = StatisticsUtil.median(values);
+                long[] deviations = new long[values.length];
+                for (int i = 0; i < values.length; i++)
+                    deviations[i] = Math.round(Math.abs(values[i] - median) * 2); // doubled to stay integral
+                double mad = StatisticsUtil.median(deviations) / 2 * MAD_SCALE;
+                if (mad == 0)
+                    return values.clone();
+                return keep(values, median - threshold * mad, median + threshold * mad);
+            }
+        };
+    }
+
+    /**
+     * @param fraction
+     *            the fraction of the lowest and of the highest values that are discarded, in [0, 0.5)
+     * @return the trimming filter
+     */
+    public static OutlierFilter trim(double fraction) {
+        if (!(fraction >= 0 && fraction < 0.5))
+            throw new IllegalArgumentException("fraction out of range: " + fraction); //$NON-NLS-1$
+        return new OutlierFilter("trim:" + fraction) { //$NON-NLS-1$
+            @Override
+            public long[] filter(long[] values) {
+                int trimmed = (int) (fraction * values.length);
+                if (trimmed == 0)
+                    return values.clone();
+                long[] sorted = values.clone();
+                Arrays.sort(sorted);
+                return Arrays.copyOfRange(sorted, trimmed, values.length - trimmed);
+            }
+        };
+    }
+
+    /**
+     * Parses a filter, see the class comment for the syntax.
+     *
+     * @param filter
+     *            the filter, e.g. <code>tukey:3</code>
+     * @return the filter
+     * @throws IllegalArgumentException
+     *             if the filter is unknown or its parameter invalid
+     */
+    public static OutlierFilter parse(String filter) {
+        String name = filter.trim();
+        String parameter = null;
+        int colon = name.indexOf(':');
+        if (colon >= 0) {
+            parameter = name.substring(colon + 1).trim();
+            name = name.substring(0, colon).trim();
+        }
+        try {
+            switch (name) {
+                case "tukey": //$NON-NLS-1$
+                    return tukey(parameter != null ? Double.parseDouble(parameter) : 1.5);
+                case "mad": //$NON-NLS-1$
+                    return mad(parameter != null ? Double.parseDouble(parameter) : 3.5);
+                case "trim": //$NON-NLS-1$
+                    return trim(parameter != null ? Double.parseDouble(parameter) : 0.1);
+                case "none": //$NON-NLS-1$
+                    return NONE;
+                default:
+                    throw new IllegalArgumentException("unknown outlier filter: " + filter); //$NON-NLS-1$
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid outlier filter: " + filter, e); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Returns the filter configured for a dimension with the system property <code>eclipse.perf.outliers</code>.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the filter, or <code>null</code> if none is configured
+     */
+    public static synchronized OutlierFilter getConfiguredFilter(Dim dimension) {
+        String configuration = System.getProperty(OUTLIERS_PROPERTY);
+        if (configuration == null)
+            return null;
+        if (!configuration.equals(fgConfiguration)) {
+            fgConfiguration = configuration;
+            fgFilters = new HashMap<>();
+            fgDefaultFilter = null;
+            StringTokenizer entries = new StringTokenizer(configuration, ","); //$NON-NLS-1$
+            while (entries.hasMoreTokens()) {
+                String entry = entries.nextToken();
+                int equals = entry.indexOf('=');
+                try {
+                    if (equals < 0)
+                        fgDefaultFilter = parse(entry);
+                    else
+                        fgFilters.put(normalize(entry.substring(0, equals)), parse(entry.substring(equals + 1)));
+                } catch (IllegalArgumentException e) {
+                    PerformanceTestPlugin.logWarning("invalid value for " + OUTLIERS_PROPERTY + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+            }
+        }
+        OutlierFilter filter = fgFilters.get(normalize(dimension.getName()));
+        if (filter == null)
+            filter = fgFilters.get(normalize(dimension.getLabel()));
+        if (filter == null)
+            filter = fgFilters.get(String.valueOf(dimension.getId()));
+        return filter != null ? filter : fgDefaultFilter;
+    }
+
+    private static String normalize(String dimension) {
+        StringBuilder sb = new StringBuilder(dimension.length());
+        for (int i = 0; i < dimension.length(); i++) {
+            char c = dimension.charAt(i);
+            if (!Character.isWhitespace(c))
+                sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /** Returns the quantile of sorted values with linear interpolation. */
+    static double quantile(long[] sorted, double quantile) {
+        double position = quantile * (sorted.length - 1);
+        int index = (int) position;
+        if (index + 1 >= sorted.length)
+            return sorted[sorted.length - 1];
+        return sorted[index] + (position - index) * (sorted[index + 1] - sorted[index]);
+    }
+
+    private static long[] keep(long[] values, double low, double high) {
+        long[] kept = new long[values.length];
+        int n = 0;
+        for (long value : values) {
+            if (value >= low && value <= high)
+                kept[n++] = value;
+        }
+        return n == values.length ? kept : Arrays.copyOf(kept, n);
+    }
+}
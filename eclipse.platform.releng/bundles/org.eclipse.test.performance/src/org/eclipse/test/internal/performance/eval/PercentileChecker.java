@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.eval;
+
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Histogram;
+
+/**
+ * Checks that a percentile of a dimension, e.g. the 99th percentile of the latencies, is within a band relative to the same
+ * percentile of the reference. The percentiles are taken from the {@link StatisticsSession#getHistogram(Dim) histograms} of the
+ * sessions. The checker is not {@link #isApplicable(StatisticsSession, StatisticsSession) applicable} to sessions without a
+ * histogram of the dimension, e.g. to references stored as aggregates; it fails if it is tested on them anyway.
+ *
+ * @since 3.21
+ */
+public class PercentileChecker extends AssertChecker {
+
+    private final double fPercentile;
+    private final double fLowerBand;
+    private final double fUpperBand;
+
+    /**
+     * @param dimension
+     *            the dimension
+     * @param percentile
+     *            the percentile to compare, between 0 and 100
+     * @param lowerBand
+     *            the lower bound, relative to the reference, e.g. <code>0.9</code>
+     * @param upperBand
+     *            the upper bound, relative to the reference, e.g. <code>1.1</code>
+     */
+    public PercentileChecker(Dim dimension, double percentile, double lowerBand, double upperBand) {
+        super(dimension);
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("percentile out of range: " + percentile); //$NON-NLS-1$
+        fPercentile = percentile;
+        fLowerBand = lowerBand;
+        fUpperBand = upperBand;
+    }
+
+    @Override
+    public boolean isApplicable(StatisticsSession reference, StatisticsSession measured) {
+        return hasDistribution(reference) && hasDistribution(measured);
+    }
+
+    private boolean hasDistribution(StatisticsSession session) {
+        Histogram histogram = session.getHistogram(getDimension());
+        return histogram != null && histogram.getCount() > 0;
+    }
+
+    @Override
+    public boolean test(StatisticsSession reference, StatisticsSession measured, StringBuffer message) {
+        Dim dimension = getDimension();
+
+        if (!isApplicable(reference, measured)) {
+            message.append('\n' + dimension.getName() + " p" + Histogram.formatPercentile(fPercentile) + ": " //$NON-NLS-1$ //$NON-NLS-2$
+                    + (hasDistribution(measured) ? "reference" : "collected") + " data provides no distribution"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            return false;
+        }
+        Histogram measuredHistogram = measured.getHistogram(dimension);
+        Histogram referenceHistogram = reference.getHistogram(dimension);
+
+        double actual = measuredHistogram.getValueAtPercentile(fPercentile);
+        double test = referenceHistogram.getValueAtPercentile(fPercentile);
+
+        if (test == 0) {
+            // we don't fail for reference value of zero
+            PerformanceTestPlugin.logWarning("ref value for '" + dimension.getName() + "' is too small"); //$NON-NLS-1$ //$NON-NLS-2$
+            return true;
+        }
+
+        if (actual > fUpperBand * test || actual < fLowerBand * test) {
+            message.append('\n' + dimension.getName() + " p" + Histogram.formatPercentile(fPercentile) + ": " //$NON-NLS-1$ //$NON-NLS-2$
+                    + dimension.getDisplayValue(actual) + " is not within [" + Math.round(fLowerBand * 100) + "%, " //$NON-NLS-1$ //$NON-NLS-2$
+                    + Math.round(fUpperBand * 100) + "%] of " + dimension.getDisplayValue(test)); //$NON-NLS-1$
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.eval;
+
+/**
+ * Streaming mean and variance of the values of one dimension, with Welford's update. Two instances can be
+ * {@link #merge(RunningStatistics) merged} exactly with the parallel algorithm of Chan et al., so statistics of several runs or
+ * threads combine without going back to the values.
+ *
+ * @since 3.21
+ */
+public final class RunningStatistics {
+
+    private long    fCount;
+    private long    fSum;
+    private double  fMean;
+    private double  fM2;   // sum of squared deviations from the mean
+    private long    fMin = Long.MAX_VALUE;
+    private long    fMax = Long.MIN_VALUE;
+    private boolean fExtremesUnknown;
+
+    /**
+     * Adds a value.
+     *
+     * @param value
+     *            the value
+     */
+    public void add(long value) {
+        fCount++;
+        fSum += value;
+        double delta = value - fMean;
+        fMean += delta / fCount;
+        fM2 += delta * (value - fMean);
+        fMin = Math.min(fMin, value);
+        fMax = Math.max(fMax, value);
+    }
+
+    /**
+     * Adds the values of an aggregate, e.g. a run that was stored with its size, average and standard deviation only. The minimum
+     * and maximum are {@link #hasExtremes() unknown} afterwards.
+     *
+     * @param count
+     *            the number of values of the aggregate
+     * @param mean
+     *            their mean
+     * @param stddev
+     *            their unbiased sample standard deviation
+     */
+    public void addAggregate(long count, double mean, double stddev) {
+        if (count <= 0)
+            return;
+        RunningStatistics aggregate = new RunningStatistics();
+        aggregate.fCount = count;
+        aggregate.fSum = Math.round(count * mean);
+        aggregate.fMean = mean;
+        aggregate.fM2 = count > 1 ? stddev * stddev * (count - 1) : 0;
+        aggregate.fExtremesUnknown = true;
+        merge(aggregate);
+    }
+
+    /**
+     * Adds the values of a mergeable aggregate, e.g. a rollup stored in the database.
+     *
+     * @param count
+     *            the number of values of the aggregate
+     * @param sum
+     *            their sum
+     * @param sumOfSquares
+     *            the sum of their squares
+     * @param min
+     *            their minimum
+     * @param max
+     *            their maximum, less than <code>min</code> if the extremes are unknown
+     */
+    public void addSums(long count, long sum, double sumOfSquares, long min, long max) {
+        if (count <= 0)
+            return;
+        RunningStatistics aggregate = new RunningStatistics();
+        aggregate.fCount = count;
+        aggregate.fSum = sum;
+        aggregate.fMean = (double) sum / count;
+        aggregate.fM2 = Math.max(sumOfSquares - sum * aggregate.fMean, 0);
+        aggregate.fMin = min;
+        aggregate.fMax = max;
+        aggregate.fExtremesUnknown = min > max;
+        merge(aggregate);
+    }
+
+    /**
+     * Merges the values of <code>other</code> into this instance.
+     *
+     * @param other
+     *            the statistics to merge, not modified
+     */
+    public void merge(RunningStatistics other) {
+        if (other.fCount == 0)
+            return;
+        if (fCount == 0) {
+            fCount = other.fCount;
+            fSum = other.fSum;
+            fMean = other.fMean;
+            fM2 = other.fM2;
+            fMin = other.fMin;
+            fMax = other.fMax;
+            fExtremesUnknown = other.fExtremesUnknown;
+            return;
+        }
+        long count = fCount + other.fCount;
+        double delta = other.fMean - fMean;
+        fMean += delta * other.fCount / count;
+        fM2 += other.fM2 + delta * delta * ((double) fCount * other.fCount / count);
+        fCount = count;
+        fSum += other.fSum;
+        fMin = Math.min(fMin, other.fMin);
+        fMax = Math.max(fMax, other.fMax);
+        fExtremesUnknown |= other.fExtremesUnknown;
+    }
+
+    public long getCount() {
+        return fCount;
+    }
+
+    public long getSum() {
+        return fSum;
+    }
+
+    /**
+     * @return the sum of the squares of the values
+     */
+    public double getSumOfSquares() {
+        return fM2 + fCount * fMean * fMean;
+    }
+
+    /**
+     * Returns whether the minimum and maximum of the values are known. They are not if there are no values or some of them were
+     * added as {@link #addAggregate(long, double, double) aggregates} or as sums without extremes.
+     *
+     * @return <code>true</code> if {@link #getMin()} and {@link #getMax()} are defined
+     */
+    public boolean hasExtremes() {
+        return fCount > 0 && !fExtremesUnknown;
+    }
+
+    /**
+     * @return the smallest value, undefined unless {@link #hasExtremes()}
+     */
+    public long getMin() {
+        return fMin;
+    }
+
+    /**
+     * @return the largest value, undefined unless {@link #hasExtremes()}
+     */
+    public long getMax() {
+        return fMax;
+    }
+
+    /**
+     * @return the mean, or 0 if there are no values
+     */
+    public double getMean() {
+        return fMean;
+    }
+
+    /**
+     * @return the unbiased sample variance, or 0 if there are less than two values
+     */
+    public double getVariance() {
+        return fCount > 1 ? Math.max(fM2, 0) / (fCount - 1) : 0;
+    }
+
+    /**
+     * @return the unbiased sample standard deviation, or 0 if there are less than two values
+     */
+    public double getStddev() {
+        return Math.sqrt(getVariance());
+    }
+
+    @Override
+    public String toString() {
+        return "RunningStatistics [count=" + fCount + ", mean=" + fMean + ", stddev=" + getStddev() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+    }
+}
@@ -0,0 +1,446 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.eval;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.junit.Assert;
+
+/**
+ * {@link RunningStatistics} of all dimensions of a set of data points, computed in a single pass and stored in a dense array
+ * indexed by {@link Dim#getId()}. Accumulators of several runs can be {@link #merge(StatisticsAccumulator) merged}, and
+ * {@link #aggregate(DataPoint[][])} computes them in parallel with the common fork-join pool.
+ * <p>
+ * The data points of a run are interpreted like in {@link StatisticsSession}:
+ * </p>
+ * <ul>
+ * <li>pairs of {@link InternalPerformanceMeter#BEFORE} and {@link InternalPerformanceMeter#AFTER} points contribute their
+ * delta,</li>
+ * <li>if all points have the same step, e.g. for startup tests, every point contributes its value and a missing value counts as
+ * 0,</li>
+ * <li>runs that were stored as {@link InternalPerformanceMeter#AVERAGE}, {@link InternalPerformanceMeter#STDEV} and
+ * {@link InternalPerformanceMeter#SIZE} points contribute as aggregates, weighted by their size. A run without a size counts as
+ * one value.</li>
+ * </ul>
+ *
+ * @since 3.21
+ */
+public final class StatisticsAccumulator {
+
+    /** Minimum number of data points worth a fork-join task of their own. */
+    private static final int    THRESHOLD = 4096;
+
+    private static final int    HAS_AVERAGE = 1;
+    private static final int    HAS_STDEV   = 2;
+    private static final int    HAS_SIZE    = 4;
+
+    private RunningStatistics[] fStatistics = new RunningStatistics[Dim.MAX_ID];
+    /** Number of data points of runs whose points are all values; each dimension has a value for every one of them. */
+    private long                fValueCount;
+
+    /**
+     * Computes the statistics of several runs in parallel.
+     *
+     * @param runs
+     *            the data points of each run
+     * @return the merged statistics of all runs
+     */
+    public static StatisticsAccumulator aggregate(DataPoint[][] runs) {
+        List<Task> tasks = new ArrayList<>(runs.length);
+        for (DataPoint[] run : runs)
+            tasks.add(createTask(run));
+        return ForkJoinPool.commonPool().invoke(new MergeTask(tasks.toArray(new Task[tasks.size()]), 0, tasks.size()));
+    }
+
+    /**
+     * Adds the values of one run.
+     *
+     * @param dataPoints
+     *            the data points of the run
+     */
+    public void accumulate(DataPoint[] dataPoints) {
+        Task task = createTask(dataPoints);
+        merge(dataPoints.length > THRESHOLD ? ForkJoinPool.commonPool().invoke(task) : task.compute());
+    }
+
+    /**
+     * Checks whether {@link #accumulate(DataPoint[])} can handle the data points of a run, e.g. before the statistics of a stored
+     * sample are computed, since it fails on data sets it cannot interpret.
+     *
+     * @param dataPoints
+     *            the data points of the run
+     * @return <code>null</code> if the data points can be accumulated, otherwise why not
+     */
+    public static String validate(DataPoint[] dataPoints) {
+        if (dataPoints.length == 0)
+            return "illegal data set: no data points"; //$NON-NLS-1$
+        boolean hasAverage = false;
+        boolean hasAfter = false;
+        int firstStep = dataPoints[0].getStep();
+        int secondStep = firstStep;
+        for (DataPoint dataPoint : dataPoints) {
+            int step = dataPoint.getStep();
+            if (step == InternalPerformanceMeter.AVERAGE)
+                hasAverage = true;
+            else if (step == InternalPerformanceMeter.AFTER)
+                hasAfter = true;
+            if (step != firstStep && step != secondStep) {
+                if (secondStep != firstStep)
+                    secondStep = Integer.MIN_VALUE; // a third step
+                else
+                    secondStep = step;
+            }
+        }
+
+        if (hasAverage) {
+            for (DataPoint dataPoint : dataPoints) {
+                int step = dataPoint.getStep();
+                if (step != InternalPerformanceMeter.AVERAGE && step != InternalPerformanceMeter.STDEV
+                        && step != InternalPerformanceMeter.SIZE)
+                    return "only average, stdev and size are supported in aggregate mode"; //$NON-NLS-1$
+            }
+            return null;
+        }
+        if (!hasAfter)
+            return "illegal data set: contains neither AVERAGE nor AFTER values."; //$NON-NLS-1$
+        if (secondStep == Integer.MIN_VALUE)
+            return "cannot handle more than two steps in measurement mode"; //$NON-NLS-1$
+        if (secondStep != firstStep) {
+            // the pairs accumulate(...) computes deltas of
+            for (int i = 0; i + 1 < dataPoints.length; i += 2) {
+                DataPoint before = dataPoints[i];
+                DataPoint after = dataPoints[i + 1];
+                if (before.getStep() != InternalPerformanceMeter.BEFORE || after.getStep() != InternalPerformanceMeter.AFTER)
+                    return "wrong order of steps"; //$NON-NLS-1$
+                for (Scalar one : before.getScalars()) {
+                    if (after.getScalar(one.getDimension()) == null)
+                        return "reference has no value for dimension " + one.getDimension(); //$NON-NLS-1$
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Merges the statistics of <code>other</code> into this accumulator.
+     *
+     * @param other
+     *            the accumulator to merge, not modified
+     */
+    public void merge(StatisticsAccumulator other) {
+        RunningStatistics[] statistics = other.fStatistics;
+        for (int id = 0; id < statistics.length; id++) {
+            if (statistics[id] != null)
+                getOrCreate(id).merge(statistics[id]);
+        }
+        fValueCount += other.fValueCount;
+        fillMissingValues();
+    }
+
+    /**
+     * Returns the statistics of a dimension.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the statistics, or <code>null</code> if there are no values of the dimension. If every data point is a value, a
+     *         dimension missing in all of them has a 0 value for each data point.
+     */
+    public RunningStatistics get(Dim dimension) {
+        int id = dimension.getId();
+        RunningStatistics statistics = id >= 0 && id < fStatistics.length ? fStatistics[id] : null;
+        if (statistics == null && fValueCount > 0) {
+            statistics = new RunningStatistics();
+            statistics.addSums(fValueCount, 0, 0, 0, 0);
+        }
+        return statistics;
+    }
+
+    /**
+     * @return the dimensions with values, ordered by id
+     */
+    public Dim[] getDimensions() {
+        List<Dim> dimensions = new ArrayList<>();
+        for (int id = 0; id < fStatistics.length; id++) {
+            if (fStatistics[id] != null)
+                dimensions.add(Dim.getDimension(id));
+        }
+        return dimensions.toArray(new Dim[dimensions.size()]);
+    }
+
+    private RunningStatistics getOrCreate(int id) {
+        if (id >= fStatistics.length)
+            fStatistics = Arrays.copyOf(fStatistics, id + 1);
+        RunningStatistics statistics = fStatistics[id];
+        if (statistics == null)
+            fStatistics[id] = statistics = new RunningStatistics();
+        return statistics;
+    }
+
+    /*
+     * A value missing in a data point counts as 0, for the values merged from other runs or tasks as well.
+     */
+    private void fillMissingValues() {
+        if (fValueCount == 0)
+            return;
+        for (RunningStatistics statistics : fStatistics) {
+            if (statistics != null && statistics.getCount() < fValueCount)
+                statistics.addSums(fValueCount - statistics.getCount(), 0, 0, 0, 0);
+        }
+    }
+
+    private static Task createTask(DataPoint[] dataPoints) {
+        // only the steps are scanned here, the values are visited once by the task
+        boolean hasAverage = false;
+        boolean hasAfter = false;
+        int firstStep = 0;
+        int secondStep = 0;
+        int steps = 0;
+        for (DataPoint dataPoint : dataPoints) {
+            int step = dataPoint.getStep();
+            if (step == InternalPerformanceMeter.AVERAGE)
+                hasAverage = true;
+            else if (step == InternalPerformanceMeter.AFTER)
+                hasAfter = true;
+            if (steps == 0) {
+                firstStep = step;
+                steps = 1;
+            } else if (step != firstStep) {
+                if (steps == 1) {
+                    secondStep = step;
+                    steps = 2;
+                } else if (step != secondStep) {
+                    steps = 3;
+                }
+            }
+        }
+
+        if (hasAverage)
+            return new AggregatesTask(dataPoints); // an already aggregated set of data points from the DB
+        if (!hasAfter)
+            Assert.fail("illegal data set: contains neither AVERAGE nor AFTER values."); //$NON-NLS-1$
+        switch (steps) {
+            case 1:
+                // if there is only one Step, we don't calculate the delta. happens for startup tests
+                return new ValuesTask(dataPoints, 0, dataPoints.length);
+            case 2:
+                return new DeltasTask(dataPoints, 0, dataPoints.length / 2);
+            default:
+                Assert.fail("cannot handle more than two steps in measurement mode"); //$NON-NLS-1$
+                return null; // dummy
+        }
+    }
+
+    private abstract static class Task extends RecursiveTask<StatisticsAccumulator> {
+
+        private static final long serialVersionUID = 1L;
+
+        // make compute() callable in the current thread
+        @Override
+        protected abstract StatisticsAccumulator compute();
+    }
+
+    private static final class MergeTask extends Task {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Task[]      fTasks;
+        private final int         fFrom;
+        private final int         fTo;
+
+        MergeTask(Task[] tasks, int from, int to) {
+            fTasks = tasks;
+            fFrom = from;
+            fTo = to;
+        }
+
+        @Override
+        protected StatisticsAccumulator compute() {
+            if (fTo - fFrom == 1)
+                return fTasks[fFrom].compute();
+            if (fTo == fFrom)
+                return new StatisticsAccumulator();
+            int middle = (fFrom + fTo) >>> 1;
+            MergeTask left = new MergeTask(fTasks, fFrom, middle);
+            left.fork();
+            StatisticsAccumulator result = new MergeTask(fTasks, middle, fTo).compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    /** Every data point is a value, a missing value counts as 0. */
+    private static final class ValuesTask extends Task {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DataPoint[] fDataPoints;
+        private final int         fFrom;
+        private final int         fTo;
+
+        ValuesTask(DataPoint[] dataPoints, int from, int to) {
+            fDataPoints = dataPoints;
+            fFrom = from;
+            fTo = to;
+        }
+
+        @Override
+        protected StatisticsAccumulator compute() {
+            if (fTo - fFrom > THRESHOLD) {
+                int middle = (fFrom + fTo) >>> 1;
+                ValuesTask left = new ValuesTask(fDataPoints, fFrom, middle);
+                left.fork();
+                StatisticsAccumulator result = new ValuesTask(fDataPoints, middle, fTo).compute();
+                result.merge(left.join());
+                return result;
+            }
+            StatisticsAccumulator result = new StatisticsAccumulator();
+            for (int i = fFrom; i < fTo; i++) {
+                for (Scalar scalar : fDataPoints[i].getScalars())
+                    result.getOrCreate(scalar.getDimension().getId()).add(scalar.getMagnitude());
+            }
+            // dimensions which are missing in some data points, the merges fill in the other tasks' points
+            result.fValueCount = fTo - fFrom;
+            result.fillMissingValues();
+            return result;
+        }
+    }
+
+    /** Pairs of {@link InternalPerformanceMeter#BEFORE} and {@link InternalPerformanceMeter#AFTER} points, by pair index. */
+    private static final class DeltasTask extends Task {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DataPoint[] fDataPoints;
+        private final int         fFrom;
+        private final int         fTo;
+
+        DeltasTask(DataPoint[] dataPoints, int from, int to) {
+            fDataPoints = dataPoints;
+            fFrom = from;
+            fTo = to;
+        }
+
+        @Override
+        protected StatisticsAccumulator compute() {
+            if (2 * (fTo - fFrom) > THRESHOLD) {
+                int middle = (fFrom + fTo) >>> 1;
+                DeltasTask left = new DeltasTask(fDataPoints, fFrom, middle);
+                left.fork();
+                StatisticsAccumulator result = new DeltasTask(fDataPoints, middle, fTo).compute();
+                result.merge(left.join());
+                return result;
+            }
+            StatisticsAccumulator result = new StatisticsAccumulator();
+            for (int i = fFrom; i < fTo; i++) {
+                DataPoint before = fDataPoints[2 * i];
+                Assert.assertTrue("wrong order of steps", before.getStep() == InternalPerformanceMeter.BEFORE); //$NON-NLS-1$
+                DataPoint after = fDataPoints[2 * i + 1];
+                Assert.assertTrue("wrong order of steps", after.getStep() == InternalPerformanceMeter.AFTER); //$NON-NLS-1$
+                for (Scalar one : before.getScalars()) {
+                    Dim dimension = one.getDimension();
+                    Scalar two = after.getScalar(dimension);
+                    Assert.assertTrue("reference has no value for dimension " + dimension, two != null); //$NON-NLS-1$
+                    result.getOrCreate(dimension.getId()).add(two.getMagnitude() - one.getMagnitude());
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Runs stored as average, standard deviation and size. The points of a run follow each other; a run ends when one of its
+     * steps repeats.
+     */
+    private static final class AggregatesTask extends Task {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DataPoint[] fDataPoints;
+
+        AggregatesTask(DataPoint[] dataPoints) {
+            fDataPoints = dataPoints;
+        }
+
+        @Override
+        protected StatisticsAccumulator compute() {
+            StatisticsAccumulator result = new StatisticsAccumulator();
+            int[] seen = new int[Dim.MAX_ID];
+            double[] averages = new double[Dim.MAX_ID];
+            double[] stddevs = new double[Dim.MAX_ID];
+            long[] sizes = new long[Dim.MAX_ID];
+            for (DataPoint point : fDataPoints) {
+                int step = point.getStep();
+                int flag;
+                switch (step) {
+                    case InternalPerformanceMeter.AVERAGE:
+                        flag = HAS_AVERAGE;
+                        break;
+                    case InternalPerformanceMeter.STDEV:
+                        flag = HAS_STDEV;
+                        break;
+                    case InternalPerformanceMeter.SIZE:
+                        flag = HAS_SIZE;
+                        break;
+                    default:
+                        Assert.fail("only average, stdev and size are supported in aggregate mode"); //$NON-NLS-1$
+                        continue;
+                }
+                for (Scalar scalar : point.getScalars()) {
+                    int id = scalar.getDimension().getId();
+                    if (id >= seen.length) {
+                        int length = id + 1;
+                        seen = Arrays.copyOf(seen, length);
+                        averages = Arrays.copyOf(averages, length);
+                        stddevs = Arrays.copyOf(stddevs, length);
+                        sizes = Arrays.copyOf(sizes, length);
+                    }
+                    if ((seen[id] & flag) != 0) {
+                        addRun(result, id, seen[id], averages[id], stddevs[id], sizes[id]);
+                        seen[id] = 0;
+                    }
+                    seen[id] |= flag;
+                    long magnitude = scalar.getMagnitude();
+                    if (flag == HAS_AVERAGE)
+                        averages[id] = magnitude;
+                    else if (flag == HAS_STDEV)
+                        stddevs[id] = Double.longBitsToDouble(magnitude); // see DB.internalStore
+                    else
+                        sizes[id] = magnitude;
+                }
+            }
+            for (int id = 0; id < seen.length; id++) {
+                if (seen[id] != 0)
+                    addRun(result, id, seen[id], averages[id], stddevs[id], sizes[id]);
+            }
+            return result;
+        }
+
+        private static void addRun(StatisticsAccumulator result, int id, int seen, double average, double stddev, long size) {
+            if ((seen & HAS_AVERAGE) == 0)
+                return;
+            long count = (seen & HAS_SIZE) != 0 ? size : 1;
+            result.getOrCreate(id).addAggregate(count, average, (seen & HAS_STDEV) != 0 ? stddev : 0);
+        }
+    }
+}
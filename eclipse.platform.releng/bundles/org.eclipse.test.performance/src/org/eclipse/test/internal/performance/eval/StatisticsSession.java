@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,63 +14,271 @@
 
 package org.eclipse.test.internal.performance.eval;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
 import org.eclipse.test.internal.performance.data.DataPoint;
 import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Histogram;
+import org.eclipse.test.internal.performance.data.NoiseSummary;
+import org.eclipse.test.internal.performance.data.Sample;
 import org.eclipse.test.internal.performance.data.Scalar;
 import org.eclipse.test.internal.performance.eval.StatisticsUtil.Percentile;
 import org.junit.Assert;
 
 /**
+ * The statistics of the data points of one or more samples. They are computed on first use; a session can be shared between
+ * threads.
+ *
  * @since 3.1
  */
 public class StatisticsSession {
 
-    static final class Statistics {
+    private static final RunningStatistics EMPTY = new RunningStatistics();
+
+    /** The statistics of a dimension after discarding outliers. */
+    private static final class FilteredStatistics {
 
-        public long   count;
-        public long   sum;
-        public double average;
-        public double stddev;
+        final RunningStatistics fStatistics = new RunningStatistics();
+        int                     fCount;
     }
 
-    private final DataPoint[] fDataPoints;
-    private final Map<Dim, Statistics>         fStatistics = new HashMap<>();
+    private final DataPoint[]              fDataPoints;
+    private StatisticsAccumulator          fStatistics;
+    private final Map<Dim, Histogram>      fHistograms = new HashMap<>();
+    private final Map<Dim, OutlierFilter>  fFilters    = new HashMap<>();
+    private final Map<Dim, FilteredStatistics> fFiltered = new HashMap<>();
 
     public StatisticsSession(DataPoint[] datapoints) {
         fDataPoints = datapoints;
     }
 
+    /**
+     * Creates a session on several samples of the same scenario, e.g. of several runs. The statistics of the samples are computed
+     * in parallel and merged exactly; the histograms of the samples are merged if every sample has one.
+     *
+     * @param samples
+     *            the samples
+     * @since 3.21
+     */
+    public StatisticsSession(Sample[] samples) {
+        DataPoint[][] runs = new DataPoint[samples.length][];
+        List<DataPoint> dataPoints = new ArrayList<>();
+        for (int i = 0; i < samples.length; i++) {
+            runs[i] = samples[i].getDataPoints();
+            dataPoints.addAll(Arrays.asList(runs[i]));
+        }
+        fDataPoints = dataPoints.toArray(new DataPoint[dataPoints.size()]);
+        fStatistics = StatisticsAccumulator.aggregate(runs);
+        if (samples.length > 0) {
+            for (Dim dimension : samples[0].getHistogramDimensions()) {
+                Histogram merged = mergeHistograms(samples, dimension);
+                if (merged != null)
+                    fHistograms.put(dimension, merged);
+            }
+            applyRecordedFilters(samples[0]);
+        }
+    }
+
+    /**
+     * Creates a session on the data points and the histograms of <code>sample</code>.
+     *
+     * @param sample
+     *            the sample
+     * @since 3.21
+     */
+    public StatisticsSession(Sample sample) {
+        this(sample.getDataPoints());
+        for (Dim dimension : sample.getHistogramDimensions())
+            fHistograms.put(dimension, sample.getHistogram(dimension));
+        applyRecordedFilters(sample);
+    }
+
+    /** Evaluates with the filters <code>sample</code> was recorded with. */
+    private void applyRecordedFilters(Sample sample) {
+        for (Dim dimension : sample.getNoiseDimensions()) {
+            try {
+                fFilters.put(dimension, OutlierFilter.parse(sample.getNoise(dimension).getFilter()));
+            } catch (IllegalArgumentException e) {
+                PerformanceTestPlugin.logWarning(e.getMessage());
+            }
+        }
+    }
+
     public double getAverage(Dim dimension) {
-        return getStats(dimension).average;
+        return getStats(dimension).getMean();
     }
 
     public long getSum(Dim dimension) {
-        return getStats(dimension).sum;
+        return getStats(dimension).getSum();
     }
 
     public long getCount(Dim dimension) {
-        return getStats(dimension).count;
+        return getStats(dimension).getCount();
     }
 
     public double getStddev(Dim dimension) {
-        return getStats(dimension).stddev;
+        return getStats(dimension).getStddev();
+    }
+
+    /**
+     * Returns the mergeable statistics of all dimensions of this session.
+     *
+     * @return the statistics
+     * @since 3.21
+     */
+    public synchronized StatisticsAccumulator getStatistics() {
+        if (fStatistics == null) {
+            StatisticsAccumulator statistics = new StatisticsAccumulator();
+            statistics.accumulate(fDataPoints);
+            fStatistics = statistics;
+        }
+        return fStatistics;
+    }
+
+    /**
+     * Sets the filter that discards outliers from the values of a dimension before its statistics are computed. By default the
+     * filter is the one the sample was recorded with, or the one {@link OutlierFilter#getConfiguredFilter(Dim) configured}.
+     *
+     * @param dimension
+     *            the dimension
+     * @param filter
+     *            the filter, or <code>null</code> to keep all values
+     * @since 3.21
+     */
+    public synchronized void setOutlierFilter(Dim dimension, OutlierFilter filter) {
+        fFilters.put(dimension, filter);
+        fFiltered.remove(dimension);
+    }
+
+    /**
+     * Returns the filter that discards outliers from the values of a dimension.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the filter, or <code>null</code> if all values are kept
+     * @since 3.21
+     */
+    public synchronized OutlierFilter getOutlierFilter(Dim dimension) {
+        if (fFilters.containsKey(dimension))
+            return fFilters.get(dimension);
+        return OutlierFilter.getConfiguredFilter(dimension);
+    }
+
+    /**
+     * Returns the number of values of a dimension that were discarded as outliers.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the number of discarded values
+     * @since 3.21
+     */
+    public int getDiscardedCount(Dim dimension) {
+        FilteredStatistics filtered = getFiltered(dimension);
+        return filtered != null ? filtered.fCount - (int) filtered.fStatistics.getCount() : 0;
+    }
+
+    /**
+     * Returns the coefficient of variation of the values of a dimension which are not outliers.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the standard deviation divided by the absolute mean, or {@link Double#NaN} if the mean is 0
+     * @since 3.21
+     */
+    public double getCoefficientOfVariation(Dim dimension) {
+        RunningStatistics stats = getStats(dimension);
+        return stats.getMean() != 0 ? stats.getStddev() / Math.abs(stats.getMean()) : Double.NaN;
+    }
+
+    /**
+     * Returns how noisy the values of a dimension were, if outliers are filtered.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the noise, or <code>null</code> if there is no filter for the dimension or this session holds aggregated data
+     * @since 3.21
+     */
+    public NoiseSummary getNoise(Dim dimension) {
+        FilteredStatistics filtered = getFiltered(dimension);
+        if (filtered == null)
+            return null;
+        return new NoiseSummary(getOutlierFilter(dimension).toString(), filtered.fCount, getDiscardedCount(dimension),
+                getCoefficientOfVariation(dimension));
     }
 
     double getStderr_mean(Dim dimension) {
-        return getStats(dimension).stddev / Math.sqrt(getStats(dimension).count);
+        RunningStatistics stats = getStats(dimension);
+        return stats.getStddev() / Math.sqrt(stats.getCount());
     }
 
     double getStudentsT(Dim dimension, Percentile percentile) {
-        int df = (int) getStats(dimension).count - 1;
+        int df = (int) getStats(dimension).getCount() - 1;
         return StatisticsUtil.getStudentsT(df, percentile);
     }
 
+    /**
+     * Returns the distribution of the values of a dimension. If the sample has no histogram for the dimension, it is built from the
+     * measured values.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the histogram, or <code>null</code> if the values are negative or this session holds aggregated data
+     * @since 3.21
+     */
+    public synchronized Histogram getHistogram(Dim dimension) {
+        if (!fHistograms.containsKey(dimension)) {
+            long[] values = getMeasurements(dimension);
+            Histogram histogram = null;
+            if (values != null) {
+                histogram = new Histogram();
+                for (long value : values) {
+                    if (value < 0) {
+                        histogram = null;
+                        break;
+                    }
+                    histogram.record(value);
+                }
+            }
+            fHistograms.put(dimension, histogram);
+        }
+        return fHistograms.get(dimension);
+    }
+
+    /**
+     * Returns the value of a dimension at a percentile, see {@link Histogram#getValueAtPercentile(double)}.
+     *
+     * @param dimension
+     *            the dimension
+     * @param percentile
+     *            the percentile, between 0 and 100
+     * @return the value at the percentile, or {@link Double#NaN} if there is no histogram for the dimension
+     * @since 3.21
+     */
+    public double getPercentile(Dim dimension, double percentile) {
+        Histogram histogram = getHistogram(dimension);
+        return histogram != null ? histogram.getValueAtPercentile(percentile) : Double.NaN;
+    }
+
+    /**
+     * Returns the measured values of a dimension, e.g. the deltas of each iteration.
+     *
+     * @param dimension
+     *            the dimension
+     * @return the values, or <code>null</code> if this session holds aggregated data
+     * @since 3.21
+     */
+    public long[] getValues(Dim dimension) {
+        return getMeasurements(dimension);
+    }
+
     /**
      * Returns the confidence interval for the given dimension and the percentile.
      *
@@ -91,86 +299,57 @@ public class StatisticsSession {
         return interval;
     }
 
-    private Statistics getStats(Dim dimension) {
-        Statistics stats = fStatistics.get(dimension);
-        if (stats == null) {
-            stats = computeStats(dimension);
-            fStatistics.put(dimension, stats);
-        }
-        return stats;
+    private synchronized RunningStatistics getStats(Dim dimension) {
+        FilteredStatistics filtered = getFiltered(dimension);
+        if (filtered != null)
+            return filtered.fStatistics;
+        RunningStatistics stats = getStatistics().get(dimension);
+        return stats != null ? stats : EMPTY;
     }
 
-    private Statistics computeStats(Dim dimension) {
+    private synchronized FilteredStatistics getFiltered(Dim dimension) {
+        if (!fFiltered.containsKey(dimension)) {
+            FilteredStatistics filtered = null;
+            OutlierFilter filter = getOutlierFilter(dimension);
+            long[] values = filter != null && contains(dimension) ? getMeasurements(dimension) : null;
+            if (values != null) {
+                filtered = new FilteredStatistics();
+                filtered.fCount = values.length;
+                for (long value : filter.filter(values))
+                    filtered.fStatistics.add(value);
+            }
+            fFiltered.put(dimension, filtered);
+        }
+        return fFiltered.get(dimension);
+    }
 
-        Statistics stats;
+    private static Histogram mergeHistograms(Sample[] samples, Dim dimension) {
+        Histogram merged = null;
+        for (Sample sample : samples) {
+            Histogram histogram = sample.getHistogram(dimension);
+            if (histogram == null)
+                return null;
+            if (merged == null)
+                merged = new Histogram(histogram.getPrecisionBits());
+            else if (merged.getPrecisionBits() != histogram.getPrecisionBits())
+                return null;
+            merged.add(histogram);
+        }
+        return merged;
+    }
 
+    private long[] getMeasurements(Dim dimension) {
         Set<Integer> steps = new HashSet<>();
         for (DataPoint dp : fDataPoints) {
             steps.add(Integer.valueOf(dp.getStep()));
         }
-
-        if (steps.contains(Integer.valueOf(InternalPerformanceMeter.AVERAGE))) {
-            // an already aggregated set of data points from the DB
-            stats = computeStatsFromAggregates(dimension);
-        } else if (steps.contains(Integer.valueOf(InternalPerformanceMeter.AFTER))) {
-            // raw values from measurement
-            stats = computeStatsFromMeasurements(dimension, steps);
-        } else {
-            Assert.fail("illegal data set: contains neither AVERAGE nor AFTER values."); //$NON-NLS-1$
-            stats = null; // dummy
-        }
-
-        return stats;
-    }
-
-    private Statistics computeStatsFromAggregates(Dim dimension) {
-        Statistics stats = new Statistics();
-        long aggregateCount = 0;
-        double averageSum = 0;
-        long countSum = 0;
-        double stdevSum = 0;
-
-        // Set acquiredAggregates= new HashSet();
-        for (DataPoint point : fDataPoints) {
-            Scalar scalar = point.getScalar(dimension);
-            if (scalar == null)
-                continue;
-
-            Integer aggregate = Integer.valueOf(point.getStep());
-            // allow for multiple measurements that were each stored with their own
-            // aggregate values
-            // Assert.assertTrue(acquiredAggregates.add(aggregate));
-
-            long magnitude = scalar.getMagnitude();
-            switch (aggregate.intValue()) {
-                case InternalPerformanceMeter.AVERAGE:
-                    averageSum += magnitude;
-                    aggregateCount++;
-                    break;
-                case InternalPerformanceMeter.STDEV:
-                    // see DB.internalStore
-                    stdevSum += Double.longBitsToDouble(magnitude);
-                    break;
-                case InternalPerformanceMeter.SIZE:
-                    countSum += magnitude;
-                    break;
-                default:
-                    Assert.fail("only average, stdev and size are supported in aggregate mode"); //$NON-NLS-1$
-                    break;
-            }
-        }
-
-        stats.average = averageSum / aggregateCount;
-        stats.stddev = stdevSum / aggregateCount; // XXX this does not work! have to treat multiple runs like normal measurement
-                                                  // data
-        stats.count = countSum;
-        stats.sum = Math.round(stats.count * stats.average);
-
-        return stats;
+        if (steps.contains(Integer.valueOf(InternalPerformanceMeter.AVERAGE))
+                || !steps.contains(Integer.valueOf(InternalPerformanceMeter.AFTER)))
+            return null; // aggregated data
+        return getMeasurements(dimension, steps);
     }
 
-    private Statistics computeStatsFromMeasurements(Dim dimension, Set<Integer> steps) {
-        Statistics stats = new Statistics();
+    private long[] getMeasurements(Dim dimension, Set<Integer> steps) {
         long mags[];
         switch (steps.size()) {
             case 1:
@@ -199,30 +378,7 @@ public class StatisticsSession {
                 Assert.fail("cannot handle more than two steps in measurement mode"); //$NON-NLS-1$
                 return null; // dummy
         }
-
-        for (long mag : mags) {
-            stats.sum += mag;
-            stats.count++;
-        }
-
-        if (stats.count > 0) {
-            stats.average = (double) stats.sum / stats.count;
-            if (stats.count == 1) {
-                stats.stddev = 0;
-            } else {
-                double squaredDeviations = 0;
-                for (long mag : mags) {
-                    double deviation = stats.average - mag;
-                    squaredDeviations += deviation * deviation;
-                }
-                stats.stddev = Math.sqrt(squaredDeviations / (stats.count - 1)); // unbiased sample stdev
-            }
-        } else {
-            stats.average = 0;
-            stats.stddev = 0;
-        }
-
-        return stats;
+        return mags;
     }
 
     private Scalar getDelta(DataPoint before, DataPoint after, Dim dimension) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2005 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,16 @@ import org.junit.platform.suite.api.SelectClasses;
 import org.junit.platform.suite.api.Suite;
 
 @Suite
-@SelectClasses({ PerformanceMeterFactoryTest.class, SimplePerformanceMeterTest.class, VariationsTests.class })
+@SelectClasses({ PerformanceMeterFactoryTest.class, SimplePerformanceMeterTest.class, VariationsTests.class,
+        ColumnarPerformanceMeterTest.class, PerformanceScenarioTest.class, SampleCodecTest.class,
+        AsyncResultSinkTest.class, RawDataFormatTest.class, ConcurrentPerformanceMeterTest.class, HistogramTest.class,
+        FlightRecorderTest.class, StatisticsAccumulatorTest.class,
+        StatisticsUtilTest.class, RobustCheckerTest.class,
+        ChangePointDetectorTest.class, OutlierFilterTest.class,
+        ReferenceStoreTest.class, BatchEvaluatorTest.class,
+        NoiseBandsTest.class, HostCalibrationTest.class,
+        LinuxProcReaderTest.class, ForkedScenarioTest.class,
+        VariationPairsTest.class, DatabaseImporterTest.class, IdCacheTest.class })
 public class AllTests {
     //
 }
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.test.internal.performance.AsyncResultSink;
+import org.eclipse.test.internal.performance.IResultSink;
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.RawDataResultSink;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.ResultsData;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.junit.jupiter.api.Test;
+
+public class AsyncResultSinkTest {
+
+    private static class RecordingSink implements IResultSink {
+        final List<String>   fWritten = Collections.synchronizedList(new ArrayList<>());
+        volatile int         fFlushes;
+        volatile boolean     fClosed;
+        final CountDownLatch fBlock;
+
+        RecordingSink(CountDownLatch block) {
+            fBlock = block;
+        }
+
+        @Override
+        public void write(String scenarioId, Variations variations, Sample sample) throws IOException {
+            try {
+                fBlock.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            fWritten.add(scenarioId);
+        }
+
+        @Override
+        public void flush() {
+            fFlushes++;
+        }
+
+        @Override
+        public void close() {
+            fClosed = true;
+        }
+    }
+
+    @Test
+    public void testOrderAndFlush() throws IOException {
+        RecordingSink recorder = new RecordingSink(new CountDownLatch(0));
+        AsyncResultSink sink = new AsyncResultSink(new IResultSink[] { recorder }, 4);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String scenarioId = "scenario" + i; //$NON-NLS-1$
+            expected.add(scenarioId);
+            sink.write(scenarioId, new Variations(), createSample(scenarioId));
+        }
+        sink.flush();
+        assertEquals(expected, new ArrayList<>(recorder.fWritten));
+        assertTrue(recorder.fFlushes > 0);
+
+        sink.close();
+        assertTrue(recorder.fClosed);
+        assertThrows(IOException.class, () -> sink.write("late", new Variations(), createSample("late"))); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Test
+    public void testBackPressure() throws Exception {
+        CountDownLatch block = new CountDownLatch(1);
+        RecordingSink recorder = new RecordingSink(block);
+        AsyncResultSink sink = new AsyncResultSink(new IResultSink[] { recorder }, 2);
+        CountDownLatch written = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            try {
+                // the blocked writer holds at most one batch and two samples are queued, so the producer has to wait
+                for (int i = 0; i < 200; i++)
+                    sink.write("scenario" + i, new Variations(), createSample("scenario" + i)); //$NON-NLS-1$ //$NON-NLS-2$
+                written.countDown();
+            } catch (IOException e) {
+                // fails the test through the latch
+            }
+        });
+        producer.start();
+        assertTrue(!written.await(200, TimeUnit.MILLISECONDS));
+        block.countDown();
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        sink.close();
+        assertEquals(200, recorder.fWritten.size());
+    }
+
+    @Test
+    public void testConcurrentClose() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            RecordingSink recorder = new RecordingSink(new CountDownLatch(0));
+            AsyncResultSink sink = new AsyncResultSink(new IResultSink[] { recorder }, 4);
+            AtomicInteger accepted = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> producers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread producer = new Thread(() -> {
+                    started.countDown();
+                    try {
+                        for (int i = 0; i < 1000; i++) {
+                            sink.write("scenario" + i, new Variations(), createSample("scenario" + i)); //$NON-NLS-1$ //$NON-NLS-2$
+                            accepted.incrementAndGet();
+                            if (i % 10 == 0)
+                                sink.flush();
+                        }
+                    } catch (IOException e) {
+                        // closed
+                    }
+                });
+                producer.start();
+                producers.add(producer);
+            }
+            started.await();
+            sink.close();
+            for (Thread producer : producers) {
+                // a write or flush accepted after the end marker would block forever
+                producer.join(10000);
+                assertTrue(!producer.isAlive());
+            }
+            assertTrue(recorder.fClosed);
+            assertEquals(accepted.get(), recorder.fWritten.size());
+        }
+    }
+
+    @Test
+    public void testRawDataFormat() throws IOException {
+        File file = File.createTempFile("AsyncResultSinkTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            AsyncResultSink sink = new AsyncResultSink(new IResultSink[] { new RawDataResultSink(file) }, 8);
+            Variations variations = new Variations();
+            variations.setProperty("build", "I20260101-0800"); //$NON-NLS-1$ //$NON-NLS-2$
+            sink.write("scenario1", variations, createSample("scenario1")); //$NON-NLS-1$ //$NON-NLS-2$
+            sink.write("scenario2", variations, createSample("scenario2")); //$NON-NLS-1$ //$NON-NLS-2$
+            sink.close();
+
+            ResultsData data = new ResultsData("I20260101-0800", "R-4.38-202512010920"); //$NON-NLS-1$ //$NON-NLS-2$
+            data.importData(file.toPath());
+            assertEquals(2, data.getCurrentScenarios().size());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testResultsDataCpuTime() throws IOException {
+        File file = File.createTempFile("AsyncResultSinkTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            AsyncResultSink sink = new AsyncResultSink(new IResultSink[] { new RawDataResultSink(file) }, 8);
+            Variations variations = new Variations();
+            variations.setProperty("build", "I20260101-0800"); //$NON-NLS-1$ //$NON-NLS-2$
+            sink.write("plain", variations, createCpuSample("plain", false)); //$NON-NLS-1$ //$NON-NLS-2$
+            sink.write("jvm", variations, createCpuSample("jvm", true)); //$NON-NLS-1$ //$NON-NLS-2$
+            sink.close();
+
+            ResultsData data = new ResultsData("I20260101-0800", "R-4.38-202512010920"); //$NON-NLS-1$ //$NON-NLS-2$
+            data.importData(file.toPath());
+            // the thread CPU time of the JVM counters is not added to the CPU column
+            Double[] plain = data.getData("current", "plain"); //$NON-NLS-1$ //$NON-NLS-2$
+            Double[] jvm = data.getData("current", "jvm"); //$NON-NLS-1$ //$NON-NLS-2$
+            assertTrue(plain[1].doubleValue() > 0);
+            assertEquals(plain[1], jvm[1]);
+            assertEquals(plain[0], jvm[0]);
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static Sample createCpuSample(String scenarioId, boolean jvmCounters) {
+        DataPoint[] dataPoints = new DataPoint[2];
+        for (int i = 0; i < dataPoints.length; i++) {
+            Map<Dim, Scalar> scalars = new HashMap<>();
+            scalars.put(InternalDimensions.ELAPSED_PROCESS, new Scalar(InternalDimensions.ELAPSED_PROCESS, 1000 + i * 300));
+            scalars.put(InternalDimensions.CPU_TIME, new Scalar(InternalDimensions.CPU_TIME, 500 + i * 200));
+            if (jvmCounters) {
+                Dim threadCpuTime = InternalDimensions.THREAD_CPU_TIME;
+                scalars.put(threadCpuTime, new Scalar(threadCpuTime, 400000000L + i * 150000000L));
+            }
+            dataPoints[i] = new DataPoint(i == 0 ? InternalPerformanceMeter.BEFORE : InternalPerformanceMeter.AFTER, scalars);
+        }
+        return new Sample(scenarioId, System.currentTimeMillis(), Collections.emptyMap(), dataPoints);
+    }
+
+    static Sample createSample(String scenarioId) {
+        return new Sample(scenarioId, System.currentTimeMillis(), Collections.emptyMap(), new DataPoint[0]);
+    }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.eval.BatchEvaluator;
+import org.eclipse.test.internal.performance.eval.BatchEvaluator.Correction;
+import org.eclipse.test.internal.performance.eval.BatchEvaluator.Verdict;
+import org.junit.jupiter.api.Test;
+
+public class BatchEvaluatorTest {
+
+    private static final Dim ELAPSED = InternalDimensions.ELAPSED_PROCESS;
+
+    @Test
+    public void testAdjustment() {
+        double[] pValues = { 0.01, 0.04, 0.03, 0.005 };
+        assertArrayEquals(new double[] { 0.02, 0.04, 0.04, 0.02 }, BatchEvaluator.adjust(pValues, Correction.BENJAMINI_HOCHBERG), 1e-12);
+        assertArrayEquals(new double[] { 0.03, 0.06, 0.06, 0.02 }, BatchEvaluator.adjust(pValues, Correction.HOLM), 1e-12);
+        assertArrayEquals(new double[] { 1, 1 }, BatchEvaluator.adjust(new double[] { 0.9, 0.6 }, Correction.HOLM), 1e-12);
+    }
+
+    @Test
+    public void testBatch() {
+        // 500 unchanged scenarios and 5 which got 10% slower
+        int count = 505;
+        String[] scenarioIds = new String[count];
+        Sample[] current = new Sample[count];
+        Sample[] baseline = new Sample[count];
+        Random random = new Random(11);
+        for (int i = 0; i < count; i++) {
+            scenarioIds[i] = "scenario" + i; //$NON-NLS-1$
+            baseline[i] = createSample(random, 1000);
+            current[i] = createSample(random, i < 500 ? 1000 : 1100);
+        }
+
+        List<Verdict> verdicts = new BatchEvaluator(new Dim[] { ELAPSED }).evaluate(scenarioIds, current, baseline);
+        assertEquals(count, verdicts.size());
+        int uncorrected = 0;
+        for (Verdict verdict : verdicts) {
+            if (verdict.getPValue() < 0.05)
+                uncorrected++;
+        }
+        // judged one by one, about 5% of the unchanged scenarios would be regressions or improvements
+        assertTrue(uncorrected > 15);
+
+        List<Verdict> regressions = BatchEvaluator.getRegressions(verdicts);
+        assertEquals(5, regressions.size());
+        for (Verdict regression : regressions) {
+            assertTrue(regression.getScenarioId().compareTo("scenario500") >= 0); //$NON-NLS-1$
+            assertEquals(0.1, regression.getRelativeChange(), 0.05);
+        }
+        for (int i = 1; i < regressions.size(); i++)
+            assertTrue(regressions.get(i - 1).getAdjustedPValue() <= regressions.get(i).getAdjustedPValue());
+
+        List<Verdict> holm = new BatchEvaluator(new Dim[] { ELAPSED }, 0.05, Correction.HOLM).evaluate(scenarioIds, current, baseline);
+        // controlling the family-wise error rate is more conservative
+        List<Verdict> holmRegressions = BatchEvaluator.getRegressions(holm);
+        assertTrue(!holmRegressions.isEmpty() && holmRegressions.size() <= regressions.size());
+        for (Verdict regression : holmRegressions)
+            assertTrue(regression.getScenarioId().compareTo("scenario500") >= 0); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testCsv() throws IOException {
+        Random random = new Random(12);
+        List<Verdict> verdicts = new BatchEvaluator(new Dim[] { ELAPSED }).evaluate(new String[] { "a,b" }, //$NON-NLS-1$
+                new Sample[] { createSample(random, 2000) }, new Sample[] { createSample(random, 1000) });
+        StringWriter out = new StringWriter();
+        BatchEvaluator.writeCsv(out, verdicts);
+        String[] lines = out.toString().split("\n"); //$NON-NLS-1$
+        assertEquals(2, lines.length);
+        assertEquals("scenario,dimension,baseline,current,change,p,adjustedP,significant", lines[0]); //$NON-NLS-1$
+        assertTrue(lines[1].startsWith("\"a,b\"," + ELAPSED.getName() + ',')); //$NON-NLS-1$
+        assertTrue(lines[1].endsWith(",true")); //$NON-NLS-1$
+    }
+
+    /** 20 iterations with 5% noise. */
+    private static Sample createSample(Random random, long typical) {
+        DataPoint[] dataPoints = new DataPoint[40];
+        for (int i = 0; i < 20; i++) {
+            dataPoints[2 * i] = createDataPoint(InternalPerformanceMeter.BEFORE, 0);
+            dataPoints[2 * i + 1] = createDataPoint(InternalPerformanceMeter.AFTER,
+                    typical + Math.round(random.nextGaussian() * typical * 0.05));
+        }
+        return new Sample(dataPoints);
+    }
+
+    private static DataPoint createDataPoint(int step, long elapsed) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(ELAPSED, new Scalar(ELAPSED, elapsed));
+        return new DataPoint(step, scalars);
+    }
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.db.ChangePointDetector;
+import org.eclipse.test.internal.performance.db.ChangePointDetector.ChangePoint;
+import org.eclipse.test.internal.performance.db.TimeSeries;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.junit.jupiter.api.Test;
+
+public class ChangePointDetectorTest {
+
+    @Test
+    public void testStableSeries() {
+        ChangePointDetector detector = new ChangePointDetector();
+        assertEquals(0, detector.update(createSeries(500, 1000, 0, 0, 1)).size());
+        assertEquals(500, detector.getBuildCount());
+    }
+
+    @Test
+    public void testStepChanges() {
+        TimeSeries series = createSeries(200, 1000, 120, 1100, 2);
+        ChangePointDetector detector = new ChangePointDetector();
+        List<ChangePoint> changes = detector.update(series);
+        assertEquals(1, changes.size());
+        ChangePoint change = changes.get(0);
+        assertEquals(120, change.getIndex());
+        assertEquals("I120", change.getBuild()); //$NON-NLS-1$
+        assertEquals(1000, change.getMeanBefore(), 10);
+        assertEquals(0.1, change.getRelativeChange(), 0.02);
+
+        // an improvement later on
+        ChangePointDetector improvement = new ChangePointDetector();
+        List<ChangePoint> both = improvement.update(createSeries(100, 1000, 40, 700, 3));
+        assertEquals(1, both.size());
+        assertEquals(40, both.get(0).getIndex());
+        assertTrue(both.get(0).getRelativeChange() < -0.25);
+    }
+
+    @Test
+    public void testIncrementalUpdate() {
+        TimeSeries series = createSeries(300, 1000, 250, 1100, 4);
+        ChangePointDetector detector = new ChangePointDetector();
+        int found = 0;
+        for (int length = 1; length <= series.getLength(); length++)
+            found += detector.update(prefix(series, length)).size();
+        assertEquals(1, found);
+        assertEquals(series.getLength(), detector.getBuildCount());
+        assertEquals("I250", detector.getChangePoints().get(0).getBuild()); //$NON-NLS-1$
+
+        // the builds so far are no prefix any more, e.g. after deleting builds: rebuilt from the whole series
+        TimeSeries shorter = prefix(series, 200);
+        assertEquals(0, detector.update(shorter).size());
+        assertEquals(200, detector.getBuildCount());
+        assertEquals(0, detector.getChangePoints().size());
+        assertEquals(1, detector.update(createSeries(300, 1000, 250, 1100, 4)).size());
+        assertEquals(300, detector.getBuildCount());
+    }
+
+    @Test
+    public void testDetectorPerSeries() {
+        Variations linux = new Variations();
+        linux.setProperty("config", "linux"); //$NON-NLS-1$ //$NON-NLS-2$
+        Variations windows = new Variations();
+        windows.setProperty("config", "windows"); //$NON-NLS-1$ //$NON-NLS-2$
+        ChangePointDetector detector = ChangePointDetector.getDetector("s", linux, InternalDimensions.CPU_TIME); //$NON-NLS-1$
+        assertSame(detector, ChangePointDetector.getDetector("s", (Variations) linux.clone(), InternalDimensions.CPU_TIME)); //$NON-NLS-1$
+        assertNotSame(detector, ChangePointDetector.getDetector("s", windows, InternalDimensions.CPU_TIME)); //$NON-NLS-1$
+        assertNotSame(detector, ChangePointDetector.getDetector("s", linux, InternalDimensions.ELAPSED_PROCESS)); //$NON-NLS-1$
+
+        // the least recently used detectors are dropped
+        for (int i = 0; i < ChangePointDetector.MAX_DETECTORS; i++) {
+            ChangePointDetector.getDetector("s", linux, InternalDimensions.CPU_TIME); //$NON-NLS-1$
+            ChangePointDetector.getDetector("other" + i, linux, InternalDimensions.CPU_TIME); //$NON-NLS-1$
+        }
+        assertSame(detector, ChangePointDetector.getDetector("s", linux, InternalDimensions.CPU_TIME)); //$NON-NLS-1$
+        ChangePointDetector windowsDetector = ChangePointDetector.getDetector("s", windows, InternalDimensions.CPU_TIME); //$NON-NLS-1$
+        for (int i = 0; i < ChangePointDetector.MAX_DETECTORS; i++)
+            ChangePointDetector.getDetector("other" + i, windows, InternalDimensions.CPU_TIME); //$NON-NLS-1$
+        assertNotSame(windowsDetector, ChangePointDetector.getDetector("s", windows, InternalDimensions.CPU_TIME)); //$NON-NLS-1$
+    }
+
+    /** Builds with 1% noise, stepping from <code>before</code> to <code>after</code> at <code>change</code>. */
+    private static TimeSeries createSeries(int length, double before, int change, double after, long seed) {
+        Random random = new Random(seed);
+        String[] builds = new String[length];
+        double[] averages = new double[length];
+        double[] stddevs = new double[length];
+        long[] counts = new long[length];
+        for (int i = 0; i < length; i++) {
+            builds[i] = "I" + i; //$NON-NLS-1$
+            double mean = change > 0 && i >= change ? after : before;
+            averages[i] = mean * (1 + 0.01 * random.nextGaussian());
+            stddevs[i] = mean * 0.05;
+            counts[i] = 10;
+        }
+        return new TimeSeries(builds, averages, stddevs, counts);
+    }
+
+    private static TimeSeries prefix(TimeSeries series, int length) {
+        String[] builds = new String[length];
+        double[] averages = new double[length];
+        double[] stddevs = new double[length];
+        long[] counts = new long[length];
+        for (int i = 0; i < length; i++) {
+            builds[i] = series.getLabel(i);
+            averages[i] = series.getValue(i);
+            stddevs[i] = series.getStddev(i);
+            counts[i] = series.getCount(i);
+        }
+        return new TimeSeries(builds, averages, stddevs, counts);
+    }
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.test.internal.performance.ColumnarPerformanceMeter;
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarPerformanceMeterTest {
+
+    @Test
+    public void testColumnarPerformanceMeter() {
+        ColumnarPerformanceMeter meter = new ColumnarPerformanceMeter("ColumnarPerformanceMeterTest#testColumnarPerformanceMeter()", 1); //$NON-NLS-1$
+        try {
+            for (int i = 0; i < 5; i++) {
+                meter.start();
+                meter.stop();
+            }
+            assertEquals(10, meter.getColumns().size());
+
+            Sample sample = meter.getSample();
+            DataPoint[] dataPoints = sample.getDataPoints();
+            assertEquals(10, dataPoints.length);
+            for (int i = 0; i < dataPoints.length; i++) {
+                assertEquals(i % 2 == 0 ? InternalPerformanceMeter.BEFORE : InternalPerformanceMeter.AFTER, dataPoints[i].getStep());
+                assertTrue(dataPoints[i].contains(InternalDimensions.ELAPSED_TIME));
+                assertTrue(dataPoints[i].contains(InternalDimensions.USED_JAVA_HEAP));
+            }
+
+            StatisticsSession session = new StatisticsSession(dataPoints);
+            assertEquals(5, session.getCount(InternalDimensions.ELAPSED_TIME));
+            assertTrue(session.getAverage(InternalDimensions.ELAPSED_TIME) >= 0);
+        } finally {
+            meter.dispose();
+        }
+    }
+
+    @Test
+    public void testJvmCounters() {
+        assertSame(InternalDimensions.ALLOCATED_BYTES, PerformanceTestPlugin.getDimension(InternalDimensions.ALLOCATED_BYTES.getName()));
+        assertSame(InternalDimensions.GC_TIME, PerformanceTestPlugin.getDimension(InternalDimensions.GC_TIME.getId()));
+
+        ColumnarPerformanceMeter meter = new ColumnarPerformanceMeter("ColumnarPerformanceMeterTest#testJvmCounters()", 1); //$NON-NLS-1$
+        try {
+            byte[][] garbage = new byte[16][];
+            meter.start();
+            for (int i = 0; i < garbage.length; i++)
+                garbage[i] = new byte[64 * 1024];
+            meter.stop();
+            assertEquals(garbage.length, countNonNull(garbage));
+
+            DataPoint[] dataPoints = meter.getSample().getDataPoints();
+            assertTrue(dataPoints[0].contains(InternalDimensions.GC_COUNT));
+            assertTrue(dataPoints[0].contains(InternalDimensions.CLASSES_LOADED));
+            if (dataPoints[0].contains(InternalDimensions.ALLOCATED_BYTES)) {
+                long allocated = dataPoints[1].getScalar(InternalDimensions.ALLOCATED_BYTES).getMagnitude()
+                        - dataPoints[0].getScalar(InternalDimensions.ALLOCATED_BYTES).getMagnitude();
+                assertTrue(allocated >= garbage.length * 64 * 1024);
+            }
+        } finally {
+            meter.dispose();
+        }
+    }
+
+    private static int countNonNull(Object[] objects) {
+        int count = 0;
+        for (Object object : objects) {
+            if (object != null)
+                count++;
+        }
+        return count;
+    }
+}
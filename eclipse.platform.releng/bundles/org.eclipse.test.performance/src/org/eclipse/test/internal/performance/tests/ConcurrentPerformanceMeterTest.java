@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.test.internal.performance.ConcurrentPerformanceMeter;
+import org.eclipse.test.internal.performance.IResultSink;
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentPerformanceMeterTest {
+
+    @Test
+    public void testRun() throws Throwable {
+        ConcurrentPerformanceMeter meter = new ConcurrentPerformanceMeter("ConcurrentPerformanceMeterTest#testRun()", 4); //$NON-NLS-1$
+        AtomicLong counter = new AtomicLong();
+        IResultSink previousSink = InternalPerformanceMeter.getResultSink();
+        Variations[] committed = new Variations[1];
+        try {
+            meter.run(1000, counter::incrementAndGet);
+            meter.run(500, counter::incrementAndGet);
+            assertEquals(6000, counter.get());
+
+            DataPoint[] dataPoints = meter.getSample().getDataPoints();
+            assertEquals(4, dataPoints.length);
+            assertEquals(4000, getDelta(dataPoints, 0, InternalDimensions.OPERATION_COUNT));
+            assertEquals(2000, getDelta(dataPoints, 2, InternalDimensions.OPERATION_COUNT));
+            for (int i = 0; i < dataPoints.length; i += 2) {
+                long elapsed = getDelta(dataPoints, i, InternalDimensions.ELAPSED_TIME);
+                long count = getDelta(dataPoints, i, InternalDimensions.OPERATION_COUNT);
+                long throughput = getDelta(dataPoints, i, InternalDimensions.THROUGHPUT);
+                assertTrue(throughput > 0);
+                assertEquals(count * 1e12 / elapsed, throughput, 1);
+                long mean = getDelta(dataPoints, i, InternalDimensions.MEAN_LATENCY);
+                long max = getDelta(dataPoints, i, InternalDimensions.MAX_LATENCY);
+                assertTrue(mean <= max);
+                assertTrue(max <= elapsed);
+            }
+
+            InternalPerformanceMeter.setResultSink(new IResultSink() {
+                @Override
+                public void write(String scenarioId, Variations variations, Sample sample) {
+                    committed[0] = variations;
+                }
+
+                @Override
+                public void flush() {
+                    //
+                }
+
+                @Override
+                public void close() {
+                    //
+                }
+            });
+            meter.commit();
+        } finally {
+            InternalPerformanceMeter.setResultSink(previousSink);
+            meter.dispose();
+        }
+        assertEquals("4", committed[0].getProperty(PerformanceTestPlugin.CONCURRENCY)); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testFailure() {
+        ConcurrentPerformanceMeter meter = new ConcurrentPerformanceMeter("ConcurrentPerformanceMeterTest#testFailure()", 2); //$NON-NLS-1$
+        try {
+            IOException failure = new IOException();
+            Throwable t = assertThrows(IOException.class, () -> meter.run(10, () -> {
+                throw failure;
+            }));
+            assertSame(failure, t);
+            assertEquals(0, getDelta(meter.getSample().getDataPoints(), 0, InternalDimensions.OPERATION_COUNT));
+        } finally {
+            meter.dispose();
+        }
+    }
+
+    @Test
+    public void testRecorders() throws InterruptedException {
+        ConcurrentPerformanceMeter meter = new ConcurrentPerformanceMeter("ConcurrentPerformanceMeterTest#testRecorders()", 2); //$NON-NLS-1$
+        try {
+            meter.start();
+            Thread[] workers = new Thread[2];
+            for (int i = 0; i < workers.length; i++) {
+                long latency = (i + 1) * 1000;
+                workers[i] = new Thread(() -> {
+                    ConcurrentPerformanceMeter.Recorder recorder = meter.getRecorder();
+                    for (int j = 0; j < 10; j++)
+                        recorder.record(latency);
+                    // the operations of a released recorder still count
+                    if (latency == 2000)
+                        meter.releaseRecorder();
+                });
+                workers[i].start();
+            }
+            for (Thread worker : workers)
+                worker.join();
+            meter.stop();
+
+            DataPoint[] dataPoints = meter.getSample().getDataPoints();
+            assertEquals(20, getDelta(dataPoints, 0, InternalDimensions.OPERATION_COUNT));
+            assertEquals(1500, getDelta(dataPoints, 0, InternalDimensions.MEAN_LATENCY));
+            assertEquals(2000, getDelta(dataPoints, 0, InternalDimensions.MAX_LATENCY));
+        } finally {
+            meter.dispose();
+        }
+    }
+
+    private static long getDelta(DataPoint[] dataPoints, int before, Dim dimension) {
+        return dataPoints[before + 1].getScalar(dimension).getMagnitude() - dataPoints[before].getScalar(dimension).getMagnitude();
+    }
+}
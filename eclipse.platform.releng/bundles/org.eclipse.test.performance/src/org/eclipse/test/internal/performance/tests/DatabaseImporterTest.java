@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.RawDataWriter;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.db.DatabaseImporter;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.junit.jupiter.api.Test;
+
+public class DatabaseImporterTest {
+
+    private static final Dim ELAPSED = InternalDimensions.ELAPSED_PROCESS;
+
+    @Test
+    public void testStoreAggregatedAndMalformedSamples() throws IOException, SQLException {
+        Sample aggregated = createSample(createDataPoint(InternalPerformanceMeter.AVERAGE, 100),
+                createDataPoint(InternalPerformanceMeter.STDEV, Double.doubleToLongBits(5)),
+                createDataPoint(InternalPerformanceMeter.SIZE, 4));
+        // unpaired BEFORE and AFTER points
+        Sample malformed = createSample(createDataPoint(InternalPerformanceMeter.BEFORE, 0),
+                createDataPoint(InternalPerformanceMeter.BEFORE, 10), createDataPoint(InternalPerformanceMeter.AFTER, 20),
+                createDataPoint(InternalPerformanceMeter.AFTER, 30));
+        Path file = Files.createTempFile("DatabaseImporterTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            Variations variations = new Variations("config=linux;build=I20260101"); //$NON-NLS-1$
+            try (RawDataWriter writer = new RawDataWriter(new FileOutputStream(file.toFile()))) {
+                writer.write("aggregated", variations.toExactMatchString(), aggregated); //$NON-NLS-1$
+                writer.write("malformed", variations.toExactMatchString(), malformed); //$NON-NLS-1$
+            }
+            RecordingConnection connection = new RecordingConnection();
+            DatabaseImporter importer = new DatabaseImporter(connection.getConnection(), DatabaseImporter.DEFAULT_BATCH_SIZE);
+            try {
+                assertEquals(2, importer.importFile(file));
+            } finally {
+                importer.dispose();
+            }
+
+            // both samples are stored, the malformed one without rollups
+            assertEquals(0, connection.getRollbacks());
+            List<Object[]> samples = connection.getRows("SAMPLE"); //$NON-NLS-1$
+            assertEquals(2, samples.size());
+            assertEquals(7, connection.getRows("DATAPOINT").size()); //$NON-NLS-1$
+            List<Object[]> rollups = connection.getRows("SAMPLEROLLUP"); //$NON-NLS-1$
+            assertEquals(1, rollups.size());
+            // SAMPLE_ID, DIM_ID, VALUE_COUNT, VALUE_SUM, VALUE_SUMSQ, VALUE_MIN, VALUE_MAX
+            Object[] rollup = rollups.get(0);
+            assertEquals(samples.get(0)[1], rollup[2]);
+            assertEquals(Integer.valueOf(ELAPSED.getId()), rollup[3]);
+            assertEquals(Long.valueOf(4), rollup[4]);
+            assertEquals(Long.valueOf(400), rollup[5]);
+            assertEquals(4 * 100 * 100 + 3 * 5 * 5, ((Double) rollup[6]).doubleValue(), 1e-6);
+            assertNull(rollup[7]);
+            assertNull(rollup[8]);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRollbackForgetsInsertedIds() throws IOException, SQLException {
+        Sample sample = createSample(createDataPoint(InternalPerformanceMeter.BEFORE, 0),
+                createDataPoint(InternalPerformanceMeter.AFTER, 10));
+        Path file = Files.createTempFile("DatabaseImporterTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            try (RawDataWriter writer = new RawDataWriter(new FileOutputStream(file.toFile()))) {
+                writer.write("scenario", new Variations("config=linux;build=I20260101").toExactMatchString(), sample); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            RecordingConnection connection = new RecordingConnection();
+            DatabaseImporter importer = new DatabaseImporter(connection.getConnection(), DatabaseImporter.DEFAULT_BATCH_SIZE);
+            try {
+                connection.setFailingTable("SCALAR"); //$NON-NLS-1$
+                assertThrows(SQLException.class, () -> importer.importFile(file));
+                assertEquals(1, connection.getRollbacks());
+                assertEquals(0, connection.getRows("SCENARIO").size()); //$NON-NLS-1$
+
+                // the scenario and variation inserted by the failed batch are inserted again, not taken from the cache
+                connection.setFailingTable(null);
+                assertEquals(1, importer.importFile(file));
+            } finally {
+                importer.dispose();
+            }
+            List<Object[]> scenarios = connection.getRows("SCENARIO"); //$NON-NLS-1$
+            List<Object[]> variations = connection.getRows("VARIATION"); //$NON-NLS-1$
+            List<Object[]> samples = connection.getRows("SAMPLE"); //$NON-NLS-1$
+            assertEquals(1, scenarios.size());
+            assertEquals(1, variations.size());
+            assertEquals(1, samples.size());
+            // VARIATION_ID, SCENARIO_ID
+            assertEquals(variations.get(0)[1], samples.get(0)[2]);
+            assertEquals(scenarios.get(0)[1], samples.get(0)[3]);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static Sample createSample(DataPoint... dataPoints) {
+        return new Sample("scenario", 0, new HashMap<>(), dataPoints); //$NON-NLS-1$
+    }
+
+    private static DataPoint createDataPoint(int step, long elapsed) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(ELAPSED, new Scalar(ELAPSED, elapsed));
+        return new DataPoint(step, scalars);
+    }
+}
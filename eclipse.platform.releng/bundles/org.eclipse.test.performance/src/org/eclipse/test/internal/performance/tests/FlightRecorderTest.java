@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.OSPerformanceMeter;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.junit.jupiter.api.Test;
+
+public class FlightRecorderTest {
+
+    private static final String SCENARIO_EVENT = "org.eclipse.test.performance.Scenario"; //$NON-NLS-1$
+
+    @Test
+    public void testScenarioEvents() throws IOException {
+        Path file = Files.createTempFile("scenario", ".jfr"); //$NON-NLS-1$ //$NON-NLS-2$
+        try (Recording recording = new Recording()) {
+            recording.enable(SCENARIO_EVENT);
+            recording.start();
+            OSPerformanceMeter meter = new OSPerformanceMeter("FlightRecorderTest#testScenarioEvents()"); //$NON-NLS-1$
+            try {
+                for (int i = 0; i < 3; i++) {
+                    meter.start();
+                    meter.stop();
+                }
+            } finally {
+                meter.dispose();
+            }
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (SCENARIO_EVENT.equals(event.getEventType().getName()))
+                    events.add(event);
+            }
+            assertEquals(3, events.size());
+            for (RecordedEvent event : events)
+                assertEquals("FlightRecorderTest#testScenarioEvents()", event.getString("scenario")); //$NON-NLS-1$ //$NON-NLS-2$
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testScenarioRecording() throws IOException {
+        Path directory = Files.createTempDirectory("recordings"); //$NON-NLS-1$
+        System.setProperty("eclipse.perf.jfr", directory.toString()); //$NON-NLS-1$
+        OSPerformanceMeter meter = new OSPerformanceMeter("FlightRecorderTest#testScenarioRecording()"); //$NON-NLS-1$
+        Sample sample;
+        try {
+            for (int i = 0; i < 5; i++) {
+                meter.start();
+                allocate();
+                System.gc();
+                meter.stop();
+            }
+            meter.commit();
+            sample = meter.getSample();
+        } finally {
+            meter.dispose();
+            System.clearProperty("eclipse.perf.jfr"); //$NON-NLS-1$
+        }
+
+        try {
+            String recording = sample.getProperty("jfr.recording"); //$NON-NLS-1$
+            assertNotNull(recording);
+            assertTrue(Files.size(Paths.get(recording)) > 0);
+            assertEquals("FlightRecorderTest_testScenarioRecording__.jfr", Paths.get(recording).getFileName().toString()); //$NON-NLS-1$
+
+            Scalar allocationRate = sample.getScalarProperty(InternalDimensions.ALLOCATION_RATE);
+            assertNotNull(allocationRate);
+            assertTrue(allocationRate.getMagnitude() > 0);
+            Scalar pauseTime = sample.getScalarProperty(InternalDimensions.GC_PAUSE_TIME);
+            assertNotNull(pauseTime);
+            assertTrue(pauseTime.getMagnitude() > 0);
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (Path path : (Iterable<Path>) files::iterator)
+                    Files.delete(path);
+            }
+            Files.delete(directory);
+        }
+    }
+
+    private static long allocate() {
+        long sum = 0;
+        for (int i = 0; i < 20000; i++) {
+            byte[] bytes = new byte[1024];
+            sum += bytes.length + System.identityHashCode(bytes) % 2;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.eclipse.test.internal.performance.ForkedScenarioExecutor;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.test.performance.PerformanceScenario;
+import org.junit.jupiter.api.Test;
+
+public class ForkedScenarioTest {
+
+    @Test
+    public void testFork() throws Exception {
+        ForkedScenarioExecutor executor = new ForkedScenarioExecutor(3);
+        try {
+            Sample sample = executor.run(getScenario(Scenarios.class, "testForkedScenario"), //$NON-NLS-1$
+                    "ForkedScenarioTest#testForkedScenario()"); //$NON-NLS-1$
+            assertEquals("ForkedScenarioTest#testForkedScenario()", sample.getScenarioID()); //$NON-NLS-1$
+            assertTrue(sample.getDataPoints().length > 0);
+
+            // a scenario of another test class runs in the same executor
+            sample = executor.run(getScenario(PerformanceScenarioTest.class, "testPerformanceScenario"), //$NON-NLS-1$
+                    "PerformanceScenarioTest#testPerformanceScenario()"); //$NON-NLS-1$
+            assertTrue(sample.getDataPoints().length > 0);
+
+            String message = null;
+            try {
+                executor.run(getScenario(Scenarios.class, "testFailingScenario"), //$NON-NLS-1$
+                        "ForkedScenarioTest#testFailingScenario()"); //$NON-NLS-1$
+            } catch (AssertionError e) {
+                message = e.getMessage();
+            }
+            assertTrue(message != null && message.contains("failure in the forked VM"), message); //$NON-NLS-1$
+        } finally {
+            executor.stop();
+        }
+    }
+
+    /*
+     * The scenarios run in the forked VM. @PerformanceScenario is a @Test, but JUnit does not discover the methods of a private
+     * class, so they run in the forked VM only.
+     */
+    private static final class Scenarios {
+
+        @PerformanceScenario(warmupIterations = 1, maxWarmupIterations = 1, minIterations = 3, maxIterations = 3)
+        public void testForkedScenario(PerformanceMeter meter) {
+            long sum = 0;
+            for (int i = 0; i < 100000; i++)
+                sum += i % 7;
+            assertTrue(sum > 0);
+        }
+
+        @PerformanceScenario(warmupIterations = 0, maxWarmupIterations = 0, minIterations = 1, maxIterations = 1)
+        public void testFailingScenario(PerformanceMeter meter) {
+            throw new IllegalStateException("failure in the forked VM"); //$NON-NLS-1$
+        }
+    }
+
+    private static Method getScenario(Class<?> testClass, String name) throws NoSuchMethodException {
+        return testClass.getMethod(name, PerformanceMeter.class);
+    }
+}
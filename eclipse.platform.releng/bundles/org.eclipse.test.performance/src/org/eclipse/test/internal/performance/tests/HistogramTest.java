@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Histogram;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.SampleCodec;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.eval.PercentileChecker;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void testSmallValuesAreExact() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++)
+            histogram.record(i);
+        assertEquals(100, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 1e-9);
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(90, histogram.getValueAtPercentile(90));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void testRelativeError() {
+        Histogram histogram = new Histogram();
+        long[] values = new long[10000];
+        Random random = new Random(42);
+        for (int i = 0; i < values.length; i++) {
+            // latencies from microseconds to seconds
+            values[i] = (long) Math.exp(7 + random.nextDouble() * 14);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        double maxError = Math.pow(2, -(Histogram.DEFAULT_PRECISION_BITS - 1));
+        for (double percentile : new double[] { 50, 90, 99, 99.9 }) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertTrue(reported >= exact);
+            assertTrue(reported <= exact * (1 + maxError), percentile + ": " + reported + " vs. " + exact); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        assertEquals(values[values.length - 1], histogram.getMax());
+        assertEquals(values[values.length - 1], histogram.getValueAtPercentile(100));
+
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+
+    @Test
+    public void testAdd() {
+        Histogram a = new Histogram();
+        Histogram b = new Histogram();
+        for (int i = 0; i < 1000; i++) {
+            a.record(i * 1000L);
+            b.record(i * 1000L + 500000);
+        }
+        Histogram merged = new Histogram();
+        merged.add(a);
+        merged.add(b);
+        assertEquals(2000, merged.getCount());
+        assertEquals(0, merged.getMin());
+        assertEquals(999000 + 500000, merged.getMax());
+        assertEquals(a.getValueAtPercentile(50), merged.getValueAtPercentile(25));
+        assertThrows(IllegalArgumentException.class, () -> merged.add(new Histogram(5)));
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        Histogram histogram = new Histogram();
+        for (int i = 0; i < 1000; i++)
+            histogram.record(i * i * 37L);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        histogram.write(new DataOutputStream(bytes));
+        assertHistogramsEqual(histogram, Histogram.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+
+        Map<String, String> properties = Collections.emptyMap();
+        Sample sample = new Sample("HistogramTest#testSerialization()", 1234, properties, new DataPoint[0]); //$NON-NLS-1$
+        sample.setHistogram(InternalDimensions.ELAPSED_TIME, histogram);
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(serialized)) {
+            oos.writeObject(sample);
+        }
+        // only the buckets which are not empty are written
+        assertTrue(serialized.size() < 8 * 1024);
+        Sample copy;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray()))) {
+            copy = (Sample) ois.readObject();
+        }
+        assertHistogramsEqual(histogram, copy.getHistogram(InternalDimensions.ELAPSED_TIME));
+
+        bytes.reset();
+        SampleCodec.write(new DataOutputStream(bytes), sample);
+        copy = SampleCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertHistogramsEqual(histogram, copy.getHistogram(InternalDimensions.ELAPSED_TIME));
+    }
+
+    @Test
+    public void testPercentileChecker() {
+        StatisticsSession reference = new StatisticsSession(createDataPoints(1000, 1000));
+        StatisticsSession fast = new StatisticsSession(createDataPoints(1000, 1010));
+        StatisticsSession slowTail = new StatisticsSession(createDataPoints(1000, 5000));
+
+        Histogram histogram = reference.getHistogram(InternalDimensions.ELAPSED_TIME);
+        assertNotNull(histogram);
+        assertEquals(100, histogram.getCount());
+
+        PercentileChecker checker = new PercentileChecker(InternalDimensions.ELAPSED_TIME, 99, 0.8, 1.2);
+        StringBuffer message = new StringBuffer();
+        assertTrue(checker.test(reference, fast, message));
+        assertTrue(!checker.test(reference, slowTail, message));
+        assertTrue(message.indexOf("p99") >= 0); //$NON-NLS-1$
+        // the means differ by less than 10%
+        assertEquals(reference.getAverage(InternalDimensions.ELAPSED_TIME), slowTail.getAverage(InternalDimensions.ELAPSED_TIME),
+                0.1 * reference.getAverage(InternalDimensions.ELAPSED_TIME));
+    }
+
+    @Test
+    public void testPercentileCheckerWithoutDistribution() {
+        // a reference stored as an aggregate has no distribution
+        StatisticsSession aggregated = new StatisticsSession(new DataPoint[] { createDataPoint(InternalPerformanceMeter.AVERAGE, 1000),
+                createDataPoint(InternalPerformanceMeter.STDEV, 10), createDataPoint(InternalPerformanceMeter.SIZE, 100) });
+        StatisticsSession measured = new StatisticsSession(createDataPoints(1000, 1010));
+
+        PercentileChecker checker = new PercentileChecker(InternalDimensions.ELAPSED_TIME, 99, 0.8, 1.2);
+        assertTrue(!checker.isApplicable(aggregated, measured));
+        assertTrue(checker.isApplicable(measured, measured));
+        StringBuffer message = new StringBuffer();
+        assertTrue(!checker.test(aggregated, measured, message));
+        assertTrue(message.indexOf("reference data provides no distribution") >= 0); //$NON-NLS-1$
+    }
+
+    private static DataPoint[] createDataPoints(long typical, long slowest) {
+        // 100 measurements, 2 of them slow
+        DataPoint[] dataPoints = new DataPoint[200];
+        for (int i = 0; i < 100; i++) {
+            long duration = i >= 98 ? slowest : typical;
+            dataPoints[2 * i] = createDataPoint(InternalPerformanceMeter.BEFORE, 0);
+            dataPoints[2 * i + 1] = createDataPoint(InternalPerformanceMeter.AFTER, duration);
+        }
+        return dataPoints;
+    }
+
+    private static DataPoint createDataPoint(int step, long elapsed) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(InternalDimensions.ELAPSED_TIME, new Scalar(InternalDimensions.ELAPSED_TIME, elapsed));
+        return new DataPoint(step, scalars);
+    }
+
+    private static void assertHistogramsEqual(Histogram expected, Histogram actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getMin(), actual.getMin());
+        assertEquals(expected.getMax(), actual.getMax());
+        assertEquals(expected.getMean(), actual.getMean(), 1e-9);
+        for (double percentile : Histogram.REPORTED_PERCENTILES)
+            assertEquals(expected.getValueAtPercentile(percentile), actual.getValueAtPercentile(percentile));
+    }
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.HostCalibration;
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Histogram;
+import org.eclipse.test.internal.performance.data.NoiseSummary;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+import org.junit.jupiter.api.Test;
+
+public class HostCalibrationTest {
+
+    @Test
+    public void testCalibration() {
+        // the benchmark is opt-in
+        Map<Object, Object> disabled = new HashMap<>();
+        HostCalibration.addTo(disabled);
+        assertTrue(disabled.isEmpty());
+
+        long[] times = HostCalibration.getTimes();
+        assertEquals(HostCalibration.KERNEL_DIMENSIONS.length, times.length);
+        for (long time : times)
+            assertTrue(time > 0);
+
+        Map<Object, Object> scalars = new HashMap<>();
+        System.setProperty(HostCalibration.CALIBRATION_PROPERTY, "true"); //$NON-NLS-1$
+        try {
+            HostCalibration.addTo(scalars);
+        } finally {
+            System.clearProperty(HostCalibration.CALIBRATION_PROPERTY);
+        }
+        for (Dim dimension : HostCalibration.KERNEL_DIMENSIONS)
+            assertTrue(scalars.get(dimension) instanceof Scalar);
+        Scalar speedIndex = (Scalar) scalars.get(InternalDimensions.HOST_SPEED_INDEX);
+        assertTrue(speedIndex.getMagnitude() > 0);
+
+        // the benchmark runs once per JVM
+        Map<Object, Object> again = new HashMap<>();
+        System.setProperty(HostCalibration.CALIBRATION_PROPERTY, "true"); //$NON-NLS-1$
+        try {
+            HostCalibration.addTo(again);
+        } finally {
+            System.clearProperty(HostCalibration.CALIBRATION_PROPERTY);
+        }
+        assertEquals(speedIndex.getMagnitude(), ((Scalar) again.get(InternalDimensions.HOST_SPEED_INDEX)).getMagnitude());
+    }
+
+    @Test
+    public void testNormalize() {
+        Sample sample = createSample(2000);
+        sample.setNoise(InternalDimensions.CPU_TIME, new NoiseSummary("tukey:1.5", 4, 1, 0.05)); //$NON-NLS-1$
+        Histogram histogram = new Histogram();
+        histogram.record(100);
+        sample.setHistogram(InternalDimensions.CPU_TIME, histogram);
+        assertEquals(2.0, HostCalibration.getSpeedIndex(sample), 1e-9);
+
+        Sample normalized = HostCalibration.normalize(sample);
+        StatisticsSession stats = new StatisticsSession(normalized);
+        // a twice as fast host took half the time of the nominal host
+        assertEquals(200, stats.getAverage(InternalDimensions.CPU_TIME), 1e-9);
+        assertEquals(400, stats.getAverage(InternalDimensions.ELAPSED_PROCESS), 1e-9);
+        assertEquals(7, stats.getAverage(InternalDimensions.USED_JAVA_HEAP), 1e-9);
+        assertEquals(2.0, HostCalibration.getSpeedIndex(normalized), 1e-9);
+        assertEquals(sample.getScenarioID(), normalized.getScenarioID());
+        assertEquals(1, normalized.getNoise(InternalDimensions.CPU_TIME).getDiscarded());
+        assertSame(histogram, normalized.getHistogram(InternalDimensions.CPU_TIME));
+
+        // the original sample is not modified
+        assertEquals(100, new StatisticsSession(sample).getAverage(InternalDimensions.CPU_TIME), 1e-9);
+    }
+
+    @Test
+    public void testUncalibrated() {
+        Sample sample = createSample(0);
+        assertTrue(Double.isNaN(HostCalibration.getSpeedIndex(sample)));
+        assertSame(sample, HostCalibration.normalize(sample));
+    }
+
+    @Test
+    public void testTimesOfParent() {
+        assertArrayEquals(new long[] { 1, 2, 3, 4, 5 }, HostCalibration.parseTimes("1,2,3,4,5")); //$NON-NLS-1$
+        assertNull(HostCalibration.parseTimes(null));
+        assertNull(HostCalibration.parseTimes("1,2,3")); //$NON-NLS-1$
+        assertNull(HostCalibration.parseTimes("1,2,x,4,5")); //$NON-NLS-1$
+    }
+
+    private static Sample createSample(long speedIndex) {
+        Map<Object, Object> properties = new HashMap<>();
+        if (speedIndex > 0)
+            properties.put(InternalDimensions.HOST_SPEED_INDEX, new Scalar(InternalDimensions.HOST_SPEED_INDEX, speedIndex));
+        DataPoint[] dataPoints = new DataPoint[4];
+        for (int i = 0; i < dataPoints.length; i += 2) {
+            dataPoints[i] = createDataPoint(InternalPerformanceMeter.BEFORE, 0, 0, 0);
+            dataPoints[i + 1] = createDataPoint(InternalPerformanceMeter.AFTER, 100, 200, 7);
+        }
+        // the global performance info shares the map of the run properties, see PerformanceMonitor#collectGlobalPerformanceInfo
+        @SuppressWarnings("unchecked")
+        Map<String, String> runProperties = (Map<String, String>) (Map<?, ?>) properties;
+        return new Sample("scenario", 0, runProperties, dataPoints); //$NON-NLS-1$
+    }
+
+    private static DataPoint createDataPoint(int step, long cpuTime, long elapsed, long heap) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(InternalDimensions.CPU_TIME, new Scalar(InternalDimensions.CPU_TIME, cpuTime));
+        scalars.put(InternalDimensions.ELAPSED_PROCESS, new Scalar(InternalDimensions.ELAPSED_PROCESS, elapsed));
+        scalars.put(InternalDimensions.USED_JAVA_HEAP, new Scalar(InternalDimensions.USED_JAVA_HEAP, heap));
+        return new DataPoint(step, scalars);
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.eclipse.test.internal.performance.db.IdCache;
+import org.junit.jupiter.api.Test;
+
+public class IdCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsed() {
+        IdCache<String> cache = new IdCache<>("test", 2); //$NON-NLS-1$
+        cache.put("a", 1, false); //$NON-NLS-1$
+        cache.put("b", 2, false); //$NON-NLS-1$
+        assertEquals(Integer.valueOf(1), cache.get("a")); //$NON-NLS-1$
+        // evicts b, which was used less recently than a
+        cache.put("c", 3, false); //$NON-NLS-1$
+        assertNull(cache.get("b")); //$NON-NLS-1$
+        assertEquals(Integer.valueOf(1), cache.get("a")); //$NON-NLS-1$
+        assertEquals(Integer.valueOf(3), cache.get("c")); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testHitRate() {
+        IdCache<String> cache = new IdCache<>("test", 10); //$NON-NLS-1$
+        assertEquals(0, cache.getHitRate(), 0);
+        assertNull(cache.get("a")); //$NON-NLS-1$
+        cache.put("a", 1, false); //$NON-NLS-1$
+        cache.get("a"); //$NON-NLS-1$
+        cache.get("a"); //$NON-NLS-1$
+        cache.get("a"); //$NON-NLS-1$
+        assertEquals(0.75, cache.getHitRate(), 0);
+        assertEquals("test ids: 3 of 4 lookups cached (75%)", cache.toString()); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testRollback() {
+        IdCache<String> cache = new IdCache<>("test", 10); //$NON-NLS-1$
+        cache.put("committed", 1, true); //$NON-NLS-1$
+        cache.commit();
+        cache.put("inserted", 2, true); //$NON-NLS-1$
+        cache.put("read", 3, false); //$NON-NLS-1$
+        cache.rollback();
+        assertNull(cache.get("inserted")); //$NON-NLS-1$
+        assertEquals(Integer.valueOf(1), cache.get("committed")); //$NON-NLS-1$
+        assertEquals(Integer.valueOf(3), cache.get("read")); //$NON-NLS-1$
+
+        // nothing to forget after a commit
+        cache.put("inserted", 4, true); //$NON-NLS-1$
+        cache.commit();
+        cache.rollback();
+        assertEquals(Integer.valueOf(4), cache.get("inserted")); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testRollbackAfterEviction() {
+        // an inserted id which was evicted and read again in the same transaction
+        IdCache<String> cache = new IdCache<>("test", 2); //$NON-NLS-1$
+        cache.put("inserted", 1, true); //$NON-NLS-1$
+        cache.put("x", 2, false); //$NON-NLS-1$
+        cache.put("y", 3, false); //$NON-NLS-1$
+        assertNull(cache.get("inserted")); //$NON-NLS-1$
+        cache.put("inserted", 1, false); //$NON-NLS-1$
+        cache.rollback();
+        assertNull(cache.get("inserted")); //$NON-NLS-1$
+        assertEquals(Integer.valueOf(3), cache.get("y")); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.test.internal.performance.LinuxProcReader;
+import org.junit.jupiter.api.Test;
+
+public class LinuxProcReaderTest {
+
+    // the command contains blanks and parentheses
+    private static final String STAT    = "4711 (java (main) x) S 1 4711 4711 0 -1 4194560 5123 17 7 3 250 40 1 2 20 0 31 0 1000 7000000 2500\n"; //$NON-NLS-1$
+    private static final String STATM   = "1750000 2500 800 300 0 40000 0\n"; //$NON-NLS-1$
+    private static final String MEMINFO = "MemTotal:       16000000 kB\n" + //$NON-NLS-1$
+            "MemFree:         4000000 kB\n" + //$NON-NLS-1$
+            "MemAvailable:   11000000 kB\n" + //$NON-NLS-1$
+            "Buffers:          500000 kB\n" + //$NON-NLS-1$
+            "Cached:          3000000 kB\n" + //$NON-NLS-1$
+            "SwapCached:         1000 kB\n" + //$NON-NLS-1$
+            "SReclaimable:     250000 kB\n"; //$NON-NLS-1$
+
+    @Test
+    public void testStat() throws IOException {
+        Path directory = createFiles(STAT, STATM, MEMINFO);
+        try {
+            LinuxProcReader reader = createReader(directory);
+            long[] values = new long[4];
+            assertTrue(reader.readStat(values));
+            assertEquals(5123, values[0]);
+            assertEquals(7, values[1]);
+            assertEquals(250, values[2]);
+            assertEquals(40, values[3]);
+
+            // the file stays open and is read again from the start
+            write(directory.resolve("stat"), STAT.replace(" 250 40 ", " 1250 140 ")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            assertTrue(reader.readStat(values));
+            assertEquals(1250, values[2]);
+            assertEquals(140, values[3]);
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void testStatm() throws IOException {
+        Path directory = createFiles(STAT, STATM, MEMINFO);
+        try {
+            long[] values = new long[4];
+            assertTrue(createReader(directory).readStatm(values));
+            assertEquals(2500, values[0]);
+            assertEquals(300, values[1]);
+            assertEquals(0, values[2]);
+            assertEquals(40000, values[3]);
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void testMeminfo() throws IOException {
+        Path directory = createFiles(STAT, STATM, MEMINFO);
+        try {
+            long[] values = new long[5];
+            assertTrue(createReader(directory).readMeminfo(values));
+            assertEquals(16000000L * 1024, values[0]);
+            assertEquals((16000000L - 4000000 - 500000 - 3250000) * 1024, values[1]);
+            assertEquals(4000000L * 1024, values[2]);
+            assertEquals(500000L * 1024, values[3]);
+            // like free(1), SwapCached is not part of the cache
+            assertEquals(3250000L * 1024, values[4]);
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void testIncompleteMeminfo() throws IOException {
+        Path directory = createFiles(STAT, STATM, "MemTotal:       16000000 kB\n"); //$NON-NLS-1$
+        try {
+            assertTrue(!createReader(directory).readMeminfo(new long[5]));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void testMissingFile() throws IOException {
+        Path directory = createFiles(STAT, STATM, MEMINFO);
+        delete(directory);
+        assertTrue(!createReader(directory).readStat(new long[4]));
+    }
+
+    private static LinuxProcReader createReader(Path directory) {
+        return new LinuxProcReader(directory.resolve("stat"), directory.resolve("statm"), directory.resolve("meminfo")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    private static Path createFiles(String stat, String statm, String meminfo) throws IOException {
+        Path directory = Files.createTempDirectory("proc"); //$NON-NLS-1$
+        write(directory.resolve("stat"), stat); //$NON-NLS-1$
+        write(directory.resolve("statm"), statm); //$NON-NLS-1$
+        write(directory.resolve("meminfo"), meminfo); //$NON-NLS-1$
+        return directory;
+    }
+
+    private static void write(Path file, String contents) throws IOException {
+        Files.write(file, contents.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void delete(Path directory) throws IOException {
+        Files.deleteIfExists(directory.resolve("stat")); //$NON-NLS-1$
+        Files.deleteIfExists(directory.resolve("statm")); //$NON-NLS-1$
+        Files.deleteIfExists(directory.resolve("meminfo")); //$NON-NLS-1$
+        Files.deleteIfExists(directory);
+    }
+}
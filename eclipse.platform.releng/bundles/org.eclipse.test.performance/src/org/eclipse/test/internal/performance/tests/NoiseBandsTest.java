@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.RawDataWriter;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.eclipse.test.internal.performance.eval.AssertChecker;
+import org.eclipse.test.internal.performance.eval.NoiseBandChecker;
+import org.eclipse.test.internal.performance.eval.NoiseBands;
+import org.eclipse.test.internal.performance.eval.NoiseBands.Band;
+import org.eclipse.test.internal.performance.eval.RelativeBandChecker;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+import org.junit.jupiter.api.Test;
+
+public class NoiseBandsTest {
+
+    private static final Dim ELAPSED = InternalDimensions.ELAPSED_PROCESS;
+
+    @Test
+    public void testBand() {
+        NoiseBands bands = new NoiseBands();
+        double[] averages = { 100, 104, 98, 101, 97 };
+        for (int i = 0; i < averages.length; i++)
+            assertTrue(bands.add("scenario", createVariations(i), ELAPSED, averages[i])); //$NON-NLS-1$
+        // the same build again
+        assertTrue(!bands.add("scenario", createVariations(4), ELAPSED, 1000)); //$NON-NLS-1$
+
+        Band band = bands.get("scenario", createVariations(99), ELAPSED); //$NON-NLS-1$
+        assertEquals(5, band.getCount());
+        assertEquals(100, band.getMean(), 1e-9);
+        assertEquals(Math.sqrt(30 / 4.0), band.getStddev(), 1e-9);
+        assertEquals("I20260104", band.getLastBuild()); //$NON-NLS-1$
+        assertNull(bands.get("scenario", new Variations("config=mac"), ELAPSED)); //$NON-NLS-1$ //$NON-NLS-2$
+
+        // after the window the band follows a change of the noise
+        Random random = new Random(5);
+        for (int i = 5; i < 200; i++)
+            bands.add("scenario", createVariations(i), ELAPSED, 100 + random.nextGaussian() * 10); //$NON-NLS-1$
+        assertEquals(10, band.getStddev(), 3);
+        assertEquals(0.1, band.getRelativeStddev(), 0.03);
+    }
+
+    @Test
+    public void testLearnAndSave() throws IOException {
+        Path raw = Files.createTempFile("NoiseBandsTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        Path file = Files.createTempFile("NoiseBandsTest", ".bands"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            try (RawDataWriter writer = new RawDataWriter(new FileOutputStream(raw.toFile()))) {
+                // two samples of the first build are pooled
+                writer.write("scenario", createVariations(0).toExactMatchString(), createSample(90)); //$NON-NLS-1$
+                writer.write("scenario", createVariations(0).toExactMatchString(), createSample(110)); //$NON-NLS-1$
+                writer.write("scenario", createVariations(1).toExactMatchString(), createSample(120)); //$NON-NLS-1$
+            }
+            NoiseBands bands = new NoiseBands();
+            assertEquals(2, bands.learn(raw));
+            // learning the same builds again has no effect
+            assertEquals(0, bands.learn(raw));
+            bands.save(file);
+
+            NoiseBands loaded = NoiseBands.load(file);
+            assertEquals(1, loaded.size());
+            Band band = loaded.get("scenario", createVariations(2), ELAPSED); //$NON-NLS-1$
+            Band original = bands.get("scenario", createVariations(2), ELAPSED); //$NON-NLS-1$
+            assertEquals(original.getCount(), band.getCount());
+            assertEquals(original.getMean(), band.getMean(), 0);
+            assertEquals(original.getStddev(), band.getStddev(), 0);
+            assertEquals(original.getLastBuild(), band.getLastBuild());
+        } finally {
+            Files.delete(raw);
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testChecker() {
+        NoiseBands bands = new NoiseBands();
+        Random random = new Random(6);
+        for (int i = 0; i < 20; i++) {
+            bands.add("stable", createVariations(i), ELAPSED, 100 + random.nextGaussian()); //$NON-NLS-1$
+            bands.add("noisy", createVariations(i), ELAPSED, 100 + random.nextGaussian() * 10); //$NON-NLS-1$
+            if (i < NoiseBandChecker.MIN_BUILDS - 1)
+                bands.add("new", createVariations(i), ELAPSED, 100); //$NON-NLS-1$
+        }
+        NoiseBandChecker checker = new NoiseBandChecker(ELAPSED, NoiseBandChecker.DEFAULT_DEVIATIONS, 0.0, 1.10);
+        StatisticsSession reference = new StatisticsSession(createSample(100).getDataPoints());
+        StatisticsSession slower = new StatisticsSession(createSample(106).getDataPoints());
+        StatisticsSession muchSlower = new StatisticsSession(createSample(120).getDataPoints());
+        StringBuffer message = new StringBuffer();
+
+        // a 6% regression is beyond the noise of a stable scenario, but within the fixed band
+        assertTrue(!checker.getChecker(bands, "stable", createVariations(20)).test(reference, slower, message)); //$NON-NLS-1$
+        assertTrue(checker.test(reference, slower, message));
+        // the band covers the noise of the reference and the measured build: 3 * sqrt(2) standard deviations
+        double relativeStddev = bands.get("stable", createVariations(20), ELAPSED).getRelativeStddev(); //$NON-NLS-1$
+        StatisticsSession base = new StatisticsSession(createSample(10000).getDataPoints());
+        StatisticsSession within = new StatisticsSession(createSample(Math.round(10000 * (1 + 4.1 * relativeStddev))).getDataPoints());
+        StatisticsSession beyond = new StatisticsSession(createSample(Math.round(10000 * (1 + 4.4 * relativeStddev))).getDataPoints());
+        assertTrue(checker.getChecker(bands, "stable", createVariations(20)).test(base, within, message)); //$NON-NLS-1$
+        assertTrue(!checker.getChecker(bands, "stable", createVariations(20)).test(base, beyond, message)); //$NON-NLS-1$
+        // noisy scenarios get a wider band
+        assertTrue(checker.getChecker(bands, "noisy", createVariations(20)).test(reference, muchSlower, message)); //$NON-NLS-1$
+        assertTrue(!checker.test(reference, muchSlower, message));
+        // too few builds or no bands: the fixed band
+        AssertChecker fixed = checker.getChecker(bands, "new", createVariations(20)); //$NON-NLS-1$
+        assertSame(fixed, checker.getChecker(null, "stable", createVariations(20))); //$NON-NLS-1$
+        assertTrue(fixed.test(reference, slower, message));
+    }
+
+    @Test
+    public void testCheckerOfScenario() throws IOException {
+        NoiseBands bands = new NoiseBands();
+        Random random = new Random(7);
+        for (int i = 0; i < 20; i++)
+            bands.add("stable", createVariations(i), ELAPSED, 100 + random.nextGaussian()); //$NON-NLS-1$
+        NoiseBandChecker checker = new NoiseBandChecker(ELAPSED, NoiseBandChecker.DEFAULT_DEVIATIONS, 0.0, 1.10);
+        StatisticsSession reference = new StatisticsSession(createSample(100).getDataPoints());
+        StatisticsSession slower = new StatisticsSession(createSample(106).getDataPoints());
+        StringBuffer message = new StringBuffer();
+
+        // the checker of the scenario uses the default bands
+        Path file = Files.createTempFile("NoiseBandsTest", ".bands"); //$NON-NLS-1$ //$NON-NLS-2$
+        String previous = System.getProperty(NoiseBands.NOISE_BANDS_PROPERTY);
+        try {
+            bands.save(file);
+            System.setProperty(NoiseBands.NOISE_BANDS_PROPERTY, file.toString());
+            assertTrue(!checker.getChecker("stable", createVariations(20)).test(reference, slower, message)); //$NON-NLS-1$
+            assertTrue(checker.getChecker("new", createVariations(20)).test(reference, slower, message)); //$NON-NLS-1$
+        } finally {
+            if (previous != null)
+                System.setProperty(NoiseBands.NOISE_BANDS_PROPERTY, previous);
+            else
+                System.clearProperty(NoiseBands.NOISE_BANDS_PROPERTY);
+            Files.delete(file);
+        }
+
+        // other checkers do not depend on the scenario
+        AssertChecker relative = new RelativeBandChecker(ELAPSED, 0.0, 1.10);
+        assertSame(relative, relative.getChecker("stable", createVariations(20))); //$NON-NLS-1$
+    }
+
+    private static Variations createVariations(int build) {
+        Variations variations = new Variations();
+        variations.put("config", "linux"); //$NON-NLS-1$ //$NON-NLS-2$
+        variations.put("build", String.format("I202601%02d", Integer.valueOf(build))); //$NON-NLS-1$ //$NON-NLS-2$
+        return variations;
+    }
+
+    private static Sample createSample(long elapsed) {
+        return new Sample("scenario", 0, new HashMap<>(), new DataPoint[] { createDataPoint(InternalPerformanceMeter.BEFORE, 0), //$NON-NLS-1$
+                createDataPoint(InternalPerformanceMeter.AFTER, elapsed) });
+    }
+
+    private static DataPoint createDataPoint(int step, long elapsed) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(ELAPSED, new Scalar(ELAPSED, elapsed));
+        return new DataPoint(step, scalars);
+    }
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.NoiseSummary;
+import org.eclipse.test.internal.performance.data.RawDataReader;
+import org.eclipse.test.internal.performance.data.RawDataWriter;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.SampleCodec;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.eval.OutlierFilter;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+import org.junit.jupiter.api.Test;
+
+public class OutlierFilterTest {
+
+    private static final Dim ELAPSED = InternalDimensions.ELAPSED_TIME;
+    private static final Dim CPU     = InternalDimensions.CPU_TIME;
+
+    // nine regular timings and a garbage collection spike
+    private static final long[] TIMINGS = { 100, 102, 98, 101, 99, 100, 103, 97, 100, 900 };
+
+    @Test
+    public void testTukey() {
+        long[] kept = OutlierFilter.tukey(1.5).filter(TIMINGS);
+        assertEquals(9, kept.length);
+        assertTrue(Arrays.stream(kept).allMatch(value -> value < 900));
+        // too few values or no spread: everything is kept
+        assertEquals(3, OutlierFilter.tukey(1.5).filter(new long[] { 1, 2, 1000 }).length);
+        assertEquals(5, OutlierFilter.tukey(1.5).filter(new long[] { 5, 5, 5, 5, 6 }).length);
+    }
+
+    @Test
+    public void testMedianAbsoluteDeviation() {
+        long[] kept = OutlierFilter.mad(3.5).filter(TIMINGS);
+        assertEquals(9, kept.length);
+        assertTrue(Arrays.stream(kept).allMatch(value -> value < 900));
+        assertEquals(TIMINGS.length, OutlierFilter.mad(1000).filter(TIMINGS).length);
+    }
+
+    @Test
+    public void testTrim() {
+        long[] kept = OutlierFilter.trim(0.1).filter(TIMINGS);
+        assertEquals(8, kept.length);
+        assertEquals(98, kept[0]);
+        assertEquals(103, kept[7]);
+        assertEquals(TIMINGS.length, OutlierFilter.trim(0).filter(TIMINGS).length);
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals("tukey:3.0", OutlierFilter.parse(" tukey : 3 ").toString()); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals("mad:3.5", OutlierFilter.parse("mad").toString()); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals("trim:0.2", OutlierFilter.parse("trim:0.2").toString()); //$NON-NLS-1$ //$NON-NLS-2$
+        assertSame(OutlierFilter.NONE, OutlierFilter.parse("none")); //$NON-NLS-1$
+        assertThrows(IllegalArgumentException.class, () -> OutlierFilter.parse("iqr")); //$NON-NLS-1$
+        assertThrows(IllegalArgumentException.class, () -> OutlierFilter.parse("tukey:x")); //$NON-NLS-1$
+        assertThrows(IllegalArgumentException.class, () -> OutlierFilter.parse("trim:0.5")); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testConfiguredFilter() {
+        String previous = System.getProperty(OutlierFilter.OUTLIERS_PROPERTY);
+        try {
+            System.setProperty(OutlierFilter.OUTLIERS_PROPERTY, ELAPSED.getName() + "=mad:3,trim:0.05"); //$NON-NLS-1$
+            assertEquals("mad:3.0", OutlierFilter.getConfiguredFilter(ELAPSED).toString()); //$NON-NLS-1$
+            assertEquals("trim:0.05", OutlierFilter.getConfiguredFilter(CPU).toString()); //$NON-NLS-1$
+
+            System.setProperty(OutlierFilter.OUTLIERS_PROPERTY, CPU.getLabel().toLowerCase() + " = tukey"); //$NON-NLS-1$
+            assertNull(OutlierFilter.getConfiguredFilter(ELAPSED));
+            assertEquals("tukey:1.5", OutlierFilter.getConfiguredFilter(CPU).toString()); //$NON-NLS-1$
+
+            StatisticsSession session = new StatisticsSession(createDataPoints(TIMINGS));
+            assertEquals(180, session.getAverage(ELAPSED), 1e-9);
+            assertNull(session.getNoise(ELAPSED));
+            assertEquals(100, session.getAverage(CPU), 1e-9);
+            assertEquals(1, session.getDiscardedCount(CPU));
+        } finally {
+            if (previous != null)
+                System.setProperty(OutlierFilter.OUTLIERS_PROPERTY, previous);
+            else
+                System.clearProperty(OutlierFilter.OUTLIERS_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testSessionStatistics() {
+        StatisticsSession session = new StatisticsSession(createDataPoints(TIMINGS));
+        session.setOutlierFilter(ELAPSED, OutlierFilter.tukey(1.5));
+        assertEquals(100, session.getAverage(ELAPSED), 1e-9);
+        assertEquals(9, session.getCount(ELAPSED));
+        assertEquals(1, session.getDiscardedCount(ELAPSED));
+
+        NoiseSummary noise = session.getNoise(ELAPSED);
+        assertEquals("tukey:1.5", noise.getFilter()); //$NON-NLS-1$
+        assertEquals(10, noise.getCount());
+        assertEquals(1, noise.getDiscarded());
+        assertEquals(session.getStddev(ELAPSED) / 100, noise.getResidualCV(), 1e-12);
+        assertTrue(noise.getResidualCV() < 0.02);
+
+        session.setOutlierFilter(ELAPSED, null);
+        assertEquals(180, session.getAverage(ELAPSED), 1e-9);
+        assertNull(session.getNoise(ELAPSED));
+    }
+
+    @Test
+    public void testRecordedNoise() throws IOException {
+        Sample sample = new Sample("OutlierFilterTest#testRecordedNoise()", 0, new HashMap<>(), createDataPoints(TIMINGS)); //$NON-NLS-1$
+        sample.setNoise(ELAPSED, new NoiseSummary("mad:3.5", 10, 1, 0.015)); //$NON-NLS-1$
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SampleCodec.write(new DataOutputStream(bytes), sample);
+        assertNoise(SampleCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+
+        Path file = Files.createTempFile("OutlierFilterTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            try (RawDataWriter writer = new RawDataWriter(new FileOutputStream(file.toFile()))) {
+                writer.write("scenario", null, sample); //$NON-NLS-1$
+            }
+            try (RawDataReader reader = new RawDataReader(file)) {
+                assertTrue(reader.next());
+                assertNoise(reader.getSample());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void assertNoise(Sample sample) {
+        NoiseSummary noise = sample.getNoise(ELAPSED);
+        assertEquals("mad:3.5", noise.getFilter()); //$NON-NLS-1$
+        assertEquals(10, noise.getCount());
+        assertEquals(1, noise.getDiscarded());
+        assertEquals(0.015, noise.getResidualCV(), 0);
+        assertNull(sample.getNoise(CPU));
+        // the session evaluates the sample with the filter it was recorded with
+        assertEquals(100, new StatisticsSession(sample).getAverage(ELAPSED), 1e-9);
+    }
+
+    private static DataPoint[] createDataPoints(long[] timings) {
+        DataPoint[] dataPoints = new DataPoint[2 * timings.length];
+        for (int i = 0; i < timings.length; i++) {
+            dataPoints[2 * i] = createDataPoint(InternalPerformanceMeter.BEFORE, 0);
+            dataPoints[2 * i + 1] = createDataPoint(InternalPerformanceMeter.AFTER, timings[i]);
+        }
+        return dataPoints;
+    }
+
+    private static DataPoint createDataPoint(int step, long value) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(ELAPSED, new Scalar(ELAPSED, value));
+        scalars.put(CPU, new Scalar(CPU, value));
+        return new DataPoint(step, scalars);
+    }
+}
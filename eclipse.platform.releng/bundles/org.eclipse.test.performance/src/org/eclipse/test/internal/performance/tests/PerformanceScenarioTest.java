@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.test.internal.performance.AdaptiveIterationPolicy;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.test.performance.PerformanceScenario;
+import org.junit.jupiter.api.Test;
+
+public class PerformanceScenarioTest {
+
+    @PerformanceScenario(warmupIterations = 2, maxWarmupIterations = 4, minIterations = 3, maxIterations = 6)
+    public void testPerformanceScenario(PerformanceMeter meter) {
+        assertNotNull(meter);
+    }
+
+    @Test
+    public void testSteadyScenario() {
+        AdaptiveIterationPolicy policy = new AdaptiveIterationPolicy(2, 20, 3, 0.1, 4, 100, 0.05);
+        int iterations = run(policy, new double[] { 500, 300, 100, 100, 100 }, 100);
+        assertTrue(policy.reachedSteadyState());
+        assertEquals(5, policy.getWarmupCount());
+        // no variance in the measurements: done after the minimum number of iterations
+        assertEquals(4, policy.getCount());
+        assertEquals(9, iterations);
+        assertEquals(100, policy.getMean(), 0);
+    }
+
+    @Test
+    public void testUnsteadyScenario() {
+        AdaptiveIterationPolicy policy = new AdaptiveIterationPolicy(2, 6, 3, 0.1, 4, 10, 0.05);
+        double[] durations = new double[] { 100, 200, 100, 200, 100, 200 };
+        run(policy, durations, durations);
+        assertFalse(policy.reachedSteadyState());
+        assertEquals(6, policy.getWarmupCount());
+        // the variance is too large to detect a 5% effect with 10 iterations
+        assertEquals(10, policy.getCount());
+    }
+
+    @Test
+    public void testRequiredSampleSize() {
+        AdaptiveIterationPolicy policy = new AdaptiveIterationPolicy(0, 0, 2, 0.1, 2, 1000, 0.05);
+        assertFalse(policy.isWarmingUp());
+        double[] durations = new double[] { 99, 101 };
+        run(policy, new double[0], durations);
+        // stdev is about 1.4% of the mean: 16 * 2 / 5^2 rounds to 2 required iterations
+        assertEquals(2, policy.getCount());
+    }
+
+    private static int run(AdaptiveIterationPolicy policy, double[] warmup, double measured) {
+        return run(policy, warmup, new double[] { measured });
+    }
+
+    private static int run(AdaptiveIterationPolicy policy, double[] warmup, double[] measured) {
+        int iterations = 0;
+        while (!policy.isDone()) {
+            if (policy.isWarmingUp())
+                policy.record(warmup[Math.min(policy.getWarmupCount(), warmup.length - 1)]);
+            else
+                policy.record(measured[policy.getCount() % measured.length]);
+            iterations++;
+        }
+        return iterations;
+    }
+}
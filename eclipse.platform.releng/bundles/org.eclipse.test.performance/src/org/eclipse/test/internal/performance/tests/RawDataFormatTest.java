@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.RawDataConverter;
+import org.eclipse.test.internal.performance.data.RawDataReader;
+import org.eclipse.test.internal.performance.data.RawDataWriter;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.junit.jupiter.api.Test;
+
+public class RawDataFormatTest {
+
+    @Test
+    public void testAppendedSegments() throws IOException {
+        Sample sample = SampleFixtures.createSample("RawDataFormatTest#testAppendedSegments()"); //$NON-NLS-1$
+        Variations variations = createVariations();
+        Path file = Files.createTempFile("RawDataFormatTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            // two test runs appending to the same file
+            for (int i = 0; i < 2; i++) {
+                try (RawDataWriter writer = new RawDataWriter(new FileOutputStream(file.toFile(), true))) {
+                    writer.write("scenario1", variations.toExactMatchString(), sample); //$NON-NLS-1$
+                    writer.write("scenario2", variations.toExactMatchString(), sample); //$NON-NLS-1$
+                }
+            }
+            assertTrue(RawDataReader.isRawDataFile(file));
+
+            try (RawDataReader reader = new RawDataReader(file)) {
+                for (int i = 0; i < 2; i++) {
+                    assertTrue(reader.next());
+                    assertEquals("scenario1", reader.getScenarioId()); //$NON-NLS-1$
+                    Variations first = reader.getVariations();
+                    assertEquals("I20260101-0800", first.getProperty("build")); //$NON-NLS-1$ //$NON-NLS-2$
+                    // skips the sample of scenario1
+                    assertTrue(reader.next());
+                    assertEquals("scenario2", reader.getScenarioId()); //$NON-NLS-1$
+                    assertSame(first, reader.getVariations());
+                    SampleFixtures.assertSamples(sample, reader.getSample());
+                }
+                assertTrue(!reader.next());
+                assertNull(reader.getScenarioId());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testConvertLegacyFormat() throws IOException {
+        Sample sample = SampleFixtures.createSample("RawDataFormatTest#testConvertLegacyFormat()"); //$NON-NLS-1$
+        Variations variations = createVariations();
+        Path file = Files.createTempFile("RawDataFormatTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            for (int i = 0; i < 3; i++) {
+                try (OutputStream out = new FileOutputStream(file.toFile(), true);
+                        ObjectOutputStream oos = new ObjectOutputStream(out)) {
+                    oos.writeObject("scenario" + i); //$NON-NLS-1$
+                    oos.writeObject(variations);
+                    oos.writeObject(sample);
+                }
+            }
+            long legacySize = Files.size(file);
+            assertTrue(!RawDataReader.isRawDataFile(file));
+
+            assertEquals(3, RawDataConverter.convertInPlace(file));
+            assertTrue(RawDataReader.isRawDataFile(file));
+            assertTrue(Files.size(file) * 4 < legacySize);
+
+            try (RawDataReader reader = new RawDataReader(file)) {
+                for (int i = 0; i < 3; i++) {
+                    assertTrue(reader.next());
+                    assertEquals("scenario" + i, reader.getScenarioId()); //$NON-NLS-1$
+                    assertEquals(variations, reader.getVariations());
+                    SampleFixtures.assertSamples(sample, reader.getSample());
+                }
+                assertTrue(!reader.next());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testReadEarlierVersions() throws IOException {
+        Map<Dim, Scalar> before = new HashMap<>();
+        before.put(InternalDimensions.ELAPSED_TIME, new Scalar(InternalDimensions.ELAPSED_TIME, 1000));
+        Map<Dim, Scalar> after = new HashMap<>();
+        after.put(InternalDimensions.ELAPSED_TIME, new Scalar(InternalDimensions.ELAPSED_TIME, 1300));
+        Sample sample = new Sample("scenario", 1234, null, new DataPoint[] { new DataPoint(0, before), new DataPoint(1, after) }); //$NON-NLS-1$
+        Path file = Files.createTempFile("RawDataFormatTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            try (RawDataWriter writer = new RawDataWriter(new FileOutputStream(file.toFile()))) {
+                writer.write("scenario", createVariations().toExactMatchString(), sample); //$NON-NLS-1$
+            }
+            byte[] current = Files.readAllBytes(file);
+            // version 1 records end with the comment, version 2 records with the histograms
+            for (int version = 1; version <= 2; version++) {
+                Files.write(file, downgrade(current, version, 3 - version));
+
+                try (RawDataReader reader = new RawDataReader(file)) {
+                    assertTrue(reader.next());
+                    Sample copy = reader.getSample();
+                    assertEquals(1234, copy.getStartTime());
+                    assertEquals(300, copy.getDataPoints()[1].getScalar(InternalDimensions.ELAPSED_TIME).getMagnitude()
+                            - copy.getDataPoints()[0].getScalar(InternalDimensions.ELAPSED_TIME).getMagnitude());
+                    assertNull(copy.getHistogram(InternalDimensions.ELAPSED_TIME));
+                    assertNull(copy.getNoise(InternalDimensions.ELAPSED_TIME));
+                    assertTrue(!reader.next());
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /*
+     * Rewrites a file with one short sample record as an earlier version whose records lack the trailing bytes.
+     */
+    private static byte[] downgrade(byte[] file, int version, int trailingBytes) {
+        int length = file.length;
+        int record = length - 2;
+        while (file[record] != 2 || (file[record + 1] & 0xFF) + record + 2 != length)
+            record--;
+        byte[] downgraded = Arrays.copyOf(file, length - trailingBytes);
+        downgraded[4] = (byte) version;
+        downgraded[record + 1] -= trailingBytes;
+        return downgraded;
+    }
+
+    private static Variations createVariations() {
+        Variations variations = new Variations();
+        variations.setProperty("build", "I20260101-0800"); //$NON-NLS-1$ //$NON-NLS-2$
+        variations.setProperty("config", "linux"); //$NON-NLS-1$ //$NON-NLS-2$
+        return variations;
+    }
+}
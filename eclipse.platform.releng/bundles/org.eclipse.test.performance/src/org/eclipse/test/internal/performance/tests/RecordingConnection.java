@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A JDBC connection without a database for testing the storing of samples: the rows inserted with prepared statements are kept
+ * per table until they are committed or rolled back, DDL is ignored and queries return no rows, except for the ids of the data
+ * points of a sample. Every inserted row gets a generated id.
+ */
+final class RecordingConnection {
+
+    private final Map<String, List<Object[]>> fCommitted   = new HashMap<>();
+    private final List<Object[]>              fUncommitted = new ArrayList<>();
+    private final Connection                  fConnection;
+    private boolean                           fAutoCommit  = true;
+    private int                               fNextId      = 1;
+    private int                               fRollbacks;
+    private String                            fFailingTable;
+
+    RecordingConnection() {
+        fConnection = proxy(Connection.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "createStatement": //$NON-NLS-1$
+                    return createStatement();
+                case "prepareStatement": //$NON-NLS-1$
+                    return prepareStatement((String) args[0]);
+                case "getAutoCommit": //$NON-NLS-1$
+                    return Boolean.valueOf(fAutoCommit);
+                case "setAutoCommit": //$NON-NLS-1$
+                    fAutoCommit = ((Boolean) args[0]).booleanValue();
+                    return null;
+                case "commit": //$NON-NLS-1$
+                    if (fAutoCommit)
+                        throw new SQLException("Cannot commit when autoCommit is enabled.", "XJ012"); //$NON-NLS-1$ //$NON-NLS-2$
+                    for (Object[] row : fUncommitted)
+                        fCommitted.computeIfAbsent((String) row[0], table -> new ArrayList<>()).add(row);
+                    fUncommitted.clear();
+                    return null;
+                case "rollback": //$NON-NLS-1$
+                    fUncommitted.clear();
+                    fRollbacks++;
+                    return null;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    Connection getConnection() {
+        return fConnection;
+    }
+
+    /**
+     * @param table
+     *            the table name
+     * @return the committed rows of the table, each the table name, the generated id and the inserted values
+     */
+    List<Object[]> getRows(String table) {
+        List<Object[]> rows = fCommitted.get(table);
+        return rows != null ? rows : Collections.emptyList();
+    }
+
+    int getRollbacks() {
+        return fRollbacks;
+    }
+
+    /**
+     * Makes inserting into a table fail, e.g. to test rolling back.
+     *
+     * @param table
+     *            the table name, or <code>null</code> to stop failing
+     */
+    void setFailingTable(String table) {
+        fFailingTable = table;
+    }
+
+    private Statement createStatement() {
+        return proxy(Statement.class, (proxy, method, args) -> "executeQuery".equals(method.getName()) //$NON-NLS-1$
+                ? createResultSet(Collections.emptyList())
+                : defaultValue(method.getReturnType()));
+    }
+
+    private PreparedStatement prepareStatement(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        String table = lower.startsWith("insert into ") ? sql.substring(12).split("[ (]")[0] : null; //$NON-NLS-1$ //$NON-NLS-2$
+        Map<Integer, Object> parameters = new HashMap<>();
+        List<Object[]> batch = new ArrayList<>();
+        int[] lastId = new int[1];
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) { //$NON-NLS-1$
+                parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]); //$NON-NLS-1$
+                return null;
+            }
+            switch (name) {
+                case "addBatch": //$NON-NLS-1$
+                    batch.add(values(parameters));
+                    return null;
+                case "executeBatch": //$NON-NLS-1$
+                    int[] counts = new int[batch.size()];
+                    for (Object[] values : batch)
+                        lastId[0] = insert(table, values);
+                    batch.clear();
+                    return counts;
+                case "executeUpdate": //$NON-NLS-1$
+                    if (table != null)
+                        lastId[0] = insert(table, values(parameters));
+                    return Integer.valueOf(1);
+                case "getGeneratedKeys": //$NON-NLS-1$
+                    return createResultSet(Collections.singletonList(new Object[] { BigDecimal.valueOf(lastId[0]) }));
+                case "executeQuery": //$NON-NLS-1$
+                    return createResultSet(query(lower, parameters));
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    private int insert(String table, Object[] values) throws SQLException {
+        if (table == null)
+            return 0;
+        if (table.equals(fFailingTable))
+            throw new SQLException("insert into " + table + " failed"); //$NON-NLS-1$ //$NON-NLS-2$
+        Object[] row = new Object[values.length + 2];
+        row[0] = table;
+        row[1] = Integer.valueOf(fNextId++);
+        System.arraycopy(values, 0, row, 2, values.length);
+        fUncommitted.add(row);
+        return ((Integer) row[1]).intValue();
+    }
+
+    /*
+     * The sequence numbers and ids of the data points of a sample, the other queries find nothing.
+     */
+    private List<Object[]> query(String sql, Map<Integer, Object> parameters) {
+        List<Object[]> rows = new ArrayList<>();
+        if (sql.startsWith("select seq, id from datapoint where sample_id = ?")) { //$NON-NLS-1$
+            for (Object[] row : fUncommitted) {
+                if ("DATAPOINT".equals(row[0]) && row[2].equals(parameters.get(Integer.valueOf(1)))) //$NON-NLS-1$
+                    rows.add(new Object[] { row[3], row[1] });
+            }
+        }
+        return rows;
+    }
+
+    private static Object[] values(Map<Integer, Object> parameters) {
+        Object[] values = new Object[parameters.size()];
+        for (Map.Entry<Integer, Object> entry : parameters.entrySet())
+            values[entry.getKey().intValue() - 1] = entry.getValue();
+        return values;
+    }
+
+    private static ResultSet createResultSet(List<Object[]> rows) {
+        int[] row = { -1 };
+        Object[] last = new Object[1];
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "next": //$NON-NLS-1$
+                    return Boolean.valueOf(++row[0] < rows.size());
+                case "wasNull": //$NON-NLS-1$
+                    return Boolean.valueOf(last[0] == null);
+                case "getInt": //$NON-NLS-1$
+                case "getLong": //$NON-NLS-1$
+                case "getBigDecimal": //$NON-NLS-1$
+                case "getString": //$NON-NLS-1$
+                case "getObject": //$NON-NLS-1$
+                    last[0] = rows.get(row[0])[((Integer) args[0]).intValue() - 1];
+                    if (last[0] == null)
+                        return defaultValue(method.getReturnType());
+                    if (method.getReturnType() == int.class)
+                        return Integer.valueOf(((Number) last[0]).intValue());
+                    if (method.getReturnType() == long.class)
+                        return Long.valueOf(((Number) last[0]).longValue());
+                    if (method.getReturnType() == String.class)
+                        return last[0].toString();
+                    return last[0];
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class)
+            return Boolean.FALSE;
+        if (type == int.class)
+            return Integer.valueOf(0);
+        if (type == long.class)
+            return Long.valueOf(0);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(RecordingConnection.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+}
@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.RawDataWriter;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.SampleCodec;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.db.ReferenceStore;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.eclipse.test.internal.performance.eval.AssertChecker;
+import org.eclipse.test.internal.performance.eval.Evaluator;
+import org.eclipse.test.internal.performance.eval.RelativeBandChecker;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+import org.junit.jupiter.api.Test;
+
+public class ReferenceStoreTest {
+
+    private static final Dim      ELAPSED   = InternalDimensions.ELAPSED_PROCESS;
+    private static final String   REFERENCE = "config=linux;build=R-4.30"; //$NON-NLS-1$
+    private static final String   CURRENT   = "config=linux;build=I20260101-0800"; //$NON-NLS-1$
+
+    @Test
+    public void testLookup() throws IOException {
+        Path store = createStore();
+        try (ReferenceStore references = new ReferenceStore(store, 2)) {
+            assertEquals(4, references.size());
+            Variations reference = new Variations(REFERENCE);
+            // two runs of the reference build
+            Sample[] samples = references.getSamples("scenarioA", reference); //$NON-NLS-1$
+            assertEquals(2, samples.length);
+            assertEquals(100, samples[0].getDataPoints()[1].getScalar(ELAPSED).getMagnitude());
+            assertEquals(110, samples[1].getDataPoints()[1].getScalar(ELAPSED).getMagnitude());
+
+            StatisticsSession session = references.getSession("scenarioA", reference); //$NON-NLS-1$
+            assertEquals(105, session.getAverage(ELAPSED), 1e-9);
+            assertSame(session, references.getSession("scenarioA", reference)); //$NON-NLS-1$
+            assertEquals(50, references.getSession("scenarioB", reference).getAverage(ELAPSED), 1e-9); //$NON-NLS-1$
+            assertEquals(200, references.getSession("scenarioA", new Variations(CURRENT)).getAverage(ELAPSED), 1e-9); //$NON-NLS-1$
+
+            // the keys are exact
+            assertNull(references.getSamples("scenarioB", new Variations(CURRENT))); //$NON-NLS-1$
+            assertNull(references.getSession("scenarioA", new Variations("build=R-4.30"))); //$NON-NLS-1$ //$NON-NLS-2$
+        } finally {
+            Files.delete(store);
+        }
+    }
+
+    @Test
+    public void testNotAStore() throws IOException {
+        Path file = Files.createTempFile("ReferenceStoreTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            Files.write(file, new byte[] { 'E', 'P', 'R', 'D', 1, 0, 0, 0, 0 });
+            assertThrows(IOException.class, () -> new ReferenceStore(file, 2));
+            // samples of a newer codec
+            Files.write(file, new byte[] { 'E', 'P', 'R', 'S', 2, (byte) (SampleCodec.VERSION + 1), 0, 0, 0, 0, 6 });
+            assertThrows(IOException.class, () -> new ReferenceStore(file, 2));
+            Files.write(file, new byte[] { 'E', 'P', 'R', 'S', 2, (byte) SampleCodec.VERSION, 0, 0, 0, 0, 6 });
+            try (ReferenceStore empty = new ReferenceStore(file, 2)) {
+                assertEquals(0, empty.size());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testEvaluator() throws IOException {
+        Path store = createStore();
+        String[] properties = { "eclipse.perf.config", PerformanceTestPlugin.ECLIPSE_PERF_ASSERTAGAINST, //$NON-NLS-1$
+                ReferenceStore.REFERENCES_PROPERTY };
+        String[] previous = new String[properties.length];
+        for (int i = 0; i < properties.length; i++)
+            previous[i] = System.getProperty(properties[i]);
+        try {
+            System.setProperty(properties[0], CURRENT);
+            System.setProperty(properties[1], "build=R-4.30"); //$NON-NLS-1$
+            System.setProperty(properties[2], store.toString());
+
+            Evaluator evaluator = new Evaluator();
+            evaluator.setAssertCheckers(new AssertChecker[] { new RelativeBandChecker(ELAPSED, 0.0, 1.10) });
+            evaluator.evaluate(createMeter("scenarioA", 110)); //$NON-NLS-1$
+            assertThrows(AssertionError.class, () -> evaluator.evaluate(createMeter("scenarioA", 120))); //$NON-NLS-1$
+            assertThrows(AssertionError.class, () -> evaluator.evaluate(createMeter("scenarioB", 60))); //$NON-NLS-1$
+            // no reference
+            evaluator.evaluate(createMeter("scenarioC", 1000)); //$NON-NLS-1$
+            // the reference of the same concurrency
+            evaluator.evaluate(createMeter("scenarioD", 105, "4")); //$NON-NLS-1$ //$NON-NLS-2$
+            assertThrows(AssertionError.class, () -> evaluator.evaluate(createMeter("scenarioD", 120, "4"))); //$NON-NLS-1$ //$NON-NLS-2$
+            evaluator.evaluate(createMeter("scenarioD", 1000, "8")); //$NON-NLS-1$ //$NON-NLS-2$
+        } finally {
+            for (int i = 0; i < properties.length; i++) {
+                if (previous[i] != null)
+                    System.setProperty(properties[i], previous[i]);
+                else
+                    System.clearProperty(properties[i]);
+            }
+            // closes the default store
+            assertNull(ReferenceStore.getDefault());
+            Files.delete(store);
+        }
+    }
+
+    private static Path createStore() throws IOException {
+        Path raw = Files.createTempFile("ReferenceStoreTest", ".dat"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            String reference = new Variations(REFERENCE).toExactMatchString();
+            // two test runs appending to the same file
+            for (long elapsed = 100; elapsed <= 110; elapsed += 10) {
+                try (RawDataWriter writer = new RawDataWriter(new FileOutputStream(raw.toFile(), true))) {
+                    writer.write("scenarioA", reference, createSample("scenarioA", elapsed)); //$NON-NLS-1$ //$NON-NLS-2$
+                    writer.write("scenarioB", reference, createSample("scenarioB", 50)); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+            }
+            try (RawDataWriter writer = new RawDataWriter(new FileOutputStream(raw.toFile(), true))) {
+                writer.write("scenarioA", new Variations(CURRENT).toExactMatchString(), createSample("scenarioA", 200)); //$NON-NLS-1$ //$NON-NLS-2$
+                // a concurrent scenario is committed with its concurrency
+                writer.write("scenarioD", new Variations(REFERENCE + ";concurrency=4").toExactMatchString(), //$NON-NLS-1$ //$NON-NLS-2$
+                        createSample("scenarioD", 100)); //$NON-NLS-1$
+            }
+            Path store = Files.createTempFile("ReferenceStoreTest", ".store"); //$NON-NLS-1$ //$NON-NLS-2$
+            assertEquals(6, ReferenceStore.create(store, Arrays.asList(raw)));
+            return store;
+        } finally {
+            Files.delete(raw);
+        }
+    }
+
+    private static Sample createSample(String scenarioId, long elapsed) {
+        return new Sample(scenarioId, 0, new HashMap<>(), new DataPoint[] { createDataPoint(InternalPerformanceMeter.BEFORE, 0),
+                createDataPoint(InternalPerformanceMeter.AFTER, elapsed) });
+    }
+
+    private static DataPoint createDataPoint(int step, long elapsed) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(ELAPSED, new Scalar(ELAPSED, elapsed));
+        return new DataPoint(step, scalars);
+    }
+
+    private static TestPerformanceMeter createMeter(String scenarioId, long elapsed) {
+        return createMeter(scenarioId, elapsed, null);
+    }
+
+    private static TestPerformanceMeter createMeter(String scenarioId, long elapsed, String concurrency) {
+        TestPerformanceMeter meter = new TestPerformanceMeter(scenarioId) {
+            @Override
+            public Variations getVariations() {
+                Variations variations = super.getVariations();
+                if (concurrency != null)
+                    variations.setProperty(PerformanceTestPlugin.CONCURRENCY, concurrency);
+                return variations;
+            }
+        };
+        meter.addPair(ELAPSED, 0, elapsed);
+        for (int i = 0; i < 3; i++) {
+            meter.start();
+            meter.stop();
+        }
+        return meter;
+    }
+}
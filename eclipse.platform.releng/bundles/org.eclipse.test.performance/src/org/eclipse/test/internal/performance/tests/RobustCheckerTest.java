@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.eval.BootstrapMedianChecker;
+import org.eclipse.test.internal.performance.eval.MannWhitneyChecker;
+import org.eclipse.test.internal.performance.eval.RelativeBandChecker;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+import org.eclipse.test.internal.performance.eval.StatisticsUtil;
+import org.junit.jupiter.api.Test;
+
+public class RobustCheckerTest {
+
+    private static final Dim ELAPSED = InternalDimensions.ELAPSED_TIME;
+
+    @Test
+    public void testMedian() {
+        Random random = new Random(3);
+        for (int n = 1; n < 50; n++) {
+            long[] values = new long[n];
+            for (int i = 0; i < n; i++)
+                values[i] = random.nextInt(20);
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            double expected = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+            assertEquals(expected, StatisticsUtil.median(values), 0);
+        }
+    }
+
+    @Test
+    public void testMannWhitney() {
+        // exact: only 1 of the 20 arrangements has U = 0
+        assertEquals(0.1, MannWhitneyChecker.getPValue(new long[] { 1, 2, 3 }, new long[] { 4, 5, 6 }), 1e-12);
+        assertEquals(1, MannWhitneyChecker.getPValue(new long[] { 1, 4 }, new long[] { 2, 3 }), 1e-12);
+        assertEquals(1, MannWhitneyChecker.getPValue(new long[] { 7, 7, 7 }, new long[] { 7, 7 }), 1e-12);
+
+        long[] reference = createTimings(200, 1000, 0.1, 1);
+        long[] same = createTimings(200, 1000, 0.1, 2);
+        long[] slower = createTimings(200, 1100, 0.1, 3);
+        assertTrue(MannWhitneyChecker.getPValue(reference, same) > 0.05);
+        assertTrue(MannWhitneyChecker.getPValue(reference, slower) < 0.001);
+    }
+
+    @Test
+    public void testBootstrapInterval() {
+        long[] reference = createTimings(300, 1000, 0.1, 4);
+        long[] slower = createTimings(300, 1200, 0.1, 5);
+        double[] interval = BootstrapMedianChecker.getMedianDifferenceInterval(reference, slower, 10000, 0.95, 42);
+        assertTrue(interval[0] <= interval[1]);
+        assertTrue(interval[0] > 100 && interval[1] < 300);
+        // the resamples depend on the seed only
+        double[] again = BootstrapMedianChecker.getMedianDifferenceInterval(reference, slower, 10000, 0.95, 42);
+        assertEquals(interval[0], again[0], 0);
+        assertEquals(interval[1], again[1], 0);
+    }
+
+    @Test
+    public void testGarbageCollectionSpikes() {
+        // the same typical timing, but twice as many iterations hit by a slow garbage collection
+        StatisticsSession reference = new StatisticsSession(createDataPoints(createTimings(200, 1000, 0.1, 6)));
+        StatisticsSession spiky = new StatisticsSession(createDataPoints(createTimings(200, 1000, 0.2, 7)));
+        StatisticsSession slower = new StatisticsSession(createDataPoints(createTimings(200, 1300, 0.1, 8)));
+
+        StringBuffer message = new StringBuffer();
+        assertTrue(!new RelativeBandChecker(ELAPSED, 0.9, 1.1).test(reference, spiky, message));
+
+        BootstrapMedianChecker bootstrap = new BootstrapMedianChecker(ELAPSED, 0.9, 1.1);
+        assertTrue(bootstrap.test(reference, spiky, message));
+        message.setLength(0);
+        assertTrue(!bootstrap.test(reference, slower, message));
+        assertTrue(message.indexOf("median") >= 0); //$NON-NLS-1$
+
+        MannWhitneyChecker rank = new MannWhitneyChecker(ELAPSED, 0.01, 0.05);
+        assertTrue(rank.test(reference, spiky, message));
+        assertTrue(!rank.test(reference, slower, message));
+    }
+
+    @Test
+    public void testAggregatedReference() {
+        // a reference stored as an aggregate has no values of each iteration
+        StatisticsSession aggregated = new StatisticsSession(new DataPoint[] { createDataPoint(InternalPerformanceMeter.AVERAGE, 1000),
+                createDataPoint(InternalPerformanceMeter.STDEV, 10), createDataPoint(InternalPerformanceMeter.SIZE, 100) });
+        StatisticsSession measured = new StatisticsSession(createDataPoints(createTimings(50, 1000, 0, 9)));
+
+        BootstrapMedianChecker bootstrap = new BootstrapMedianChecker(ELAPSED, 0.9, 1.1);
+        assertTrue(!bootstrap.isApplicable(aggregated, measured));
+        assertTrue(bootstrap.isApplicable(measured, measured));
+        StringBuffer message = new StringBuffer();
+        assertTrue(!bootstrap.test(aggregated, measured, message));
+        assertTrue(message.indexOf("reference data provides too few values") >= 0); //$NON-NLS-1$
+
+        MannWhitneyChecker rank = new MannWhitneyChecker(ELAPSED, 0.01);
+        assertTrue(!rank.isApplicable(measured, aggregated));
+        assertTrue(rank.isApplicable(measured, measured));
+        message.setLength(0);
+        assertTrue(!rank.test(measured, aggregated, message));
+        assertTrue(message.indexOf("collected data provides too few values") >= 0); //$NON-NLS-1$
+    }
+
+    /** Timings with 2% noise, a fraction of them with a 5x spike. */
+    private static long[] createTimings(int count, long typical, double spikes, long seed) {
+        Random random = new Random(seed);
+        long[] timings = new long[count];
+        for (int i = 0; i < count; i++) {
+            long timing = typical + Math.round(random.nextGaussian() * typical * 0.02);
+            timings[i] = random.nextDouble() < spikes ? 5 * timing : timing;
+        }
+        return timings;
+    }
+
+    private static DataPoint[] createDataPoints(long[] timings) {
+        DataPoint[] dataPoints = new DataPoint[2 * timings.length];
+        for (int i = 0; i < timings.length; i++) {
+            dataPoints[2 * i] = createDataPoint(InternalPerformanceMeter.BEFORE, 0);
+            dataPoints[2 * i + 1] = createDataPoint(InternalPerformanceMeter.AFTER, timings[i]);
+        }
+        return dataPoints;
+    }
+
+    private static DataPoint createDataPoint(int step, long elapsed) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(ELAPSED, new Scalar(ELAPSED, elapsed));
+        return new DataPoint(step, scalars);
+    }
+}
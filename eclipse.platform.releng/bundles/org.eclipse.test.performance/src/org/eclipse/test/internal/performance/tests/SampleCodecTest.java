@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.SampleCodec;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.junit.jupiter.api.Test;
+
+public class SampleCodecTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Sample sample = SampleFixtures.createSample("SampleCodecTest#testRoundTrip()"); //$NON-NLS-1$
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SampleCodec.write(new DataOutputStream(bytes), sample);
+        Sample copy = SampleCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        SampleFixtures.assertSamples(sample, copy);
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(serialized)) {
+            oos.writeObject(sample);
+        }
+        assertTrue(bytes.size() < serialized.size());
+    }
+
+    @Test
+    public void testReadEarlierVersions() throws IOException {
+        Map<Dim, Scalar> before = new HashMap<>();
+        before.put(InternalDimensions.CPU_TIME, new Scalar(InternalDimensions.CPU_TIME, 500));
+        Map<Dim, Scalar> after = new HashMap<>();
+        after.put(InternalDimensions.CPU_TIME, new Scalar(InternalDimensions.CPU_TIME, 800));
+        Sample sample = new Sample("scenario", 1234, null, new DataPoint[] { new DataPoint(0, before), new DataPoint(1, after) }); //$NON-NLS-1$
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SampleCodec.write(new DataOutputStream(bytes), sample);
+        byte[] current = bytes.toByteArray();
+
+        // version 1 samples end with the comment, version 2 samples with the histograms
+        for (int version = 1; version <= 2; version++) {
+            byte[] earlier = Arrays.copyOf(current, current.length - (3 - version));
+            earlier[0] = (byte) version;
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(earlier));
+            Sample copy = SampleCodec.read(in);
+            assertEquals(0, in.available());
+            assertEquals(1234, copy.getStartTime());
+            assertEquals(800, copy.getDataPoints()[1].getScalar(InternalDimensions.CPU_TIME).getMagnitude());
+            assertEquals(0, copy.getHistogramDimensions().length);
+            assertEquals(0, copy.getNoiseDimensions().length);
+        }
+    }
+
+    @Test
+    public void testVarLong() throws IOException {
+        long[] values = { 0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE };
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (long value : values)
+            SampleCodec.writeVarLong(out, value);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (long value : values)
+            assertEquals(value, SampleCodec.readVarLong(in));
+        assertEquals(0, in.available());
+    }
+}
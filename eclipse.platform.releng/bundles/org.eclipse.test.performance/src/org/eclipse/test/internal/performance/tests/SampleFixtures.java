@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.test.internal.performance.ColumnarPerformanceMeter;
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.NoiseSummary;
+import org.eclipse.test.internal.performance.data.Sample;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Measured summary samples for the tests of the sample encodings, and an assertion that a decoded sample equals the original.
+ */
+final class SampleFixtures {
+
+    private SampleFixtures() {
+        // static only
+    }
+
+    /**
+     * Measures four iterations of nothing, tags the sample as a global summary of the elapsed time and adds its noise.
+     *
+     * @param scenarioId
+     *            the scenario id
+     * @return the sample
+     */
+    static Sample createSample(String scenarioId) {
+        ColumnarPerformanceMeter meter = new ColumnarPerformanceMeter(scenarioId, 4);
+        DataPoint[] dataPoints;
+        try {
+            for (int i = 0; i < 4; i++) {
+                meter.start();
+                meter.stop();
+            }
+            dataPoints = meter.getSample().getDataPoints();
+        } finally {
+            meter.dispose();
+        }
+        Map<String, String> properties = new HashMap<>();
+        properties.put("build", "I20260101-0800"); //$NON-NLS-1$ //$NON-NLS-2$
+        properties.put("host", "perf1"); //$NON-NLS-1$ //$NON-NLS-2$
+        Sample sample = new Sample(scenarioId, 1234, properties, dataPoints);
+        sample.tagAsSummary(true, "fixture", new Dimension[] { InternalDimensions.ELAPSED_TIME }, 1, "comment"); //$NON-NLS-1$ //$NON-NLS-2$
+        sample.setNoise(InternalDimensions.ELAPSED_TIME, new NoiseSummary("fixture", 4, 1, 0.02)); //$NON-NLS-1$
+        return sample;
+    }
+
+    static void assertSamples(Sample expected, Sample actual) {
+        assertEquals(expected.getScenarioID(), actual.getScenarioID());
+        assertEquals(expected.getStartTime(), actual.getStartTime());
+        assertEquals("I20260101-0800", actual.getProperty("build")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals("perf1", actual.getProperty("host")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertTrue(actual.isSummary());
+        assertTrue(actual.isGlobal());
+        assertEquals(expected.getShortname(), actual.getShortname());
+        assertEquals(InternalDimensions.ELAPSED_TIME, actual.getSummaryDimensions()[0]);
+        assertEquals(expected.getCommentType(), actual.getCommentType());
+        assertEquals(expected.getComment(), actual.getComment());
+        NoiseSummary noise = actual.getNoise(InternalDimensions.ELAPSED_TIME);
+        assertNotNull(noise);
+        assertEquals(expected.getNoise(InternalDimensions.ELAPSED_TIME).toString(), noise.toString());
+
+        DataPoint[] expectedDataPoints = expected.getDataPoints();
+        DataPoint[] actualDataPoints = actual.getDataPoints();
+        assertEquals(expectedDataPoints.length, actualDataPoints.length);
+        for (int i = 0; i < expectedDataPoints.length; i++) {
+            assertEquals(expectedDataPoints[i].getStep(), actualDataPoints[i].getStep());
+            for (Dim dimension : expectedDataPoints[i].getDimensions()) {
+                Scalar scalar = actualDataPoints[i].getScalar(dimension);
+                assertNotNull(scalar);
+                assertEquals(expectedDataPoints[i].getScalar(dimension).getMagnitude(), scalar.getMagnitude());
+            }
+        }
+    }
+}
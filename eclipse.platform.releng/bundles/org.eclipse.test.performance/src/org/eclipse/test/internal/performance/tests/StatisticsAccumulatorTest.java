@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.data.DataPoint;
+import org.eclipse.test.internal.performance.data.Dim;
+import org.eclipse.test.internal.performance.data.Scalar;
+import org.eclipse.test.internal.performance.eval.RunningStatistics;
+import org.eclipse.test.internal.performance.eval.StatisticsAccumulator;
+import org.eclipse.test.internal.performance.eval.StatisticsSession;
+import org.junit.jupiter.api.Test;
+
+public class StatisticsAccumulatorTest {
+
+    private static final Dim ELAPSED = InternalDimensions.ELAPSED_TIME;
+    private static final Dim CPU     = InternalDimensions.CPU_TIME;
+
+    @Test
+    public void testRunningStatistics() {
+        long[] values = { 1000000007, 1000000003, 1000000011, 1000000001, 1000000019 };
+        RunningStatistics statistics = new RunningStatistics();
+        for (long value : values)
+            statistics.add(value);
+        assertEquals(values.length, statistics.getCount());
+        assertEquals(5000000041L, statistics.getSum());
+        assertEquals(mean(values), statistics.getMean(), 1e-6);
+        assertEquals(stddev(values), statistics.getStddev(), 1e-6);
+    }
+
+    @Test
+    public void testMerge() {
+        Random random = new Random(42);
+        long[] values = new long[1000];
+        RunningStatistics all = new RunningStatistics();
+        RunningStatistics first = new RunningStatistics();
+        RunningStatistics second = new RunningStatistics();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 5000 + random.nextInt(1000) * (i < 300 ? 1 : 3);
+            all.add(values[i]);
+            (i < 300 ? first : second).add(values[i]);
+        }
+        first.merge(second);
+        assertEquals(all.getCount(), first.getCount());
+        assertEquals(all.getSum(), first.getSum());
+        assertEquals(all.getMean(), first.getMean(), 1e-9);
+        assertEquals(stddev(values), first.getStddev(), 1e-9);
+    }
+
+    @Test
+    public void testRollup() {
+        Random random = new Random(7);
+        long[] values = new long[500];
+        RunningStatistics all = new RunningStatistics();
+        RunningStatistics first = new RunningStatistics();
+        RunningStatistics second = new RunningStatistics();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 20000 + random.nextInt(5000);
+            all.add(values[i]);
+            (i < 200 ? first : second).add(values[i]);
+        }
+        // rebuilt from the columns of the rollup table
+        RunningStatistics rolledUp = new RunningStatistics();
+        rolledUp.addSums(first.getCount(), first.getSum(), first.getSumOfSquares(), first.getMin(), first.getMax());
+        rolledUp.addSums(second.getCount(), second.getSum(), second.getSumOfSquares(), second.getMin(), second.getMax());
+        assertEquals(all.getCount(), rolledUp.getCount());
+        assertEquals(all.getSum(), rolledUp.getSum());
+        assertEquals(all.getMin(), rolledUp.getMin());
+        assertEquals(all.getMax(), rolledUp.getMax());
+        assertEquals(all.getMean(), rolledUp.getMean(), 1e-9);
+        assertEquals(stddev(values), rolledUp.getStddev(), 1e-6);
+    }
+
+    @Test
+    public void testExtremes() {
+        RunningStatistics statistics = new RunningStatistics();
+        assertTrue(!statistics.hasExtremes());
+        statistics.add(5);
+        statistics.add(9);
+        assertTrue(statistics.hasExtremes());
+        assertEquals(5, statistics.getMin());
+        assertEquals(9, statistics.getMax());
+
+        // the values of an aggregate and a rollup stored without extremes are unknown
+        RunningStatistics aggregate = new RunningStatistics();
+        aggregate.addAggregate(4, 100, 5);
+        assertTrue(!aggregate.hasExtremes());
+        RunningStatistics rollup = new RunningStatistics();
+        rollup.addSums(2, 14, 106, Long.MAX_VALUE, Long.MIN_VALUE);
+        assertTrue(!rollup.hasExtremes());
+        statistics.merge(aggregate);
+        assertTrue(!statistics.hasExtremes());
+        rollup.add(3);
+        assertTrue(!rollup.hasExtremes());
+    }
+
+    @Test
+    public void testMeasurements() {
+        long[] elapsed = { 10, 12, 11, 15, 9, 13 };
+        long[] cpu = { 8, 9, 9, 14, 7, 10 };
+        StatisticsSession session = new StatisticsSession(createMeasurements(elapsed, cpu));
+        assertEquals(elapsed.length, session.getCount(ELAPSED));
+        assertEquals(70, session.getSum(ELAPSED));
+        assertEquals(mean(elapsed), session.getAverage(ELAPSED), 1e-12);
+        assertEquals(stddev(elapsed), session.getStddev(ELAPSED), 1e-12);
+        assertEquals(mean(cpu), session.getAverage(CPU), 1e-12);
+        assertEquals(stddev(cpu), session.getStddev(CPU), 1e-12);
+        assertNull(session.getStatistics().get(InternalDimensions.USED_JAVA_HEAP));
+    }
+
+    @Test
+    public void testSingleStep() {
+        // a missing value counts as 0
+        DataPoint[] dataPoints = new DataPoint[3];
+        dataPoints[0] = createDataPoint(InternalPerformanceMeter.AFTER, 30, 6);
+        dataPoints[1] = createDataPoint(InternalPerformanceMeter.AFTER, 60, -1);
+        dataPoints[2] = createDataPoint(InternalPerformanceMeter.AFTER, 90, 3);
+        StatisticsSession session = new StatisticsSession(dataPoints);
+        assertEquals(60, session.getAverage(ELAPSED), 1e-12);
+        assertEquals(30, session.getStddev(ELAPSED), 1e-12);
+        assertEquals(3, session.getCount(CPU));
+        assertEquals(3, session.getAverage(CPU), 1e-12);
+        assertEquals(3, session.getStddev(CPU), 1e-12);
+        // a dimension missing in every data point
+        assertEquals(3, session.getCount(InternalDimensions.USED_JAVA_HEAP));
+        assertEquals(0, session.getAverage(InternalDimensions.USED_JAVA_HEAP), 0);
+    }
+
+    @Test
+    public void testSingleStepSplit() {
+        // more data points than one task handles, CPU is missing in all points of some of the tasks
+        DataPoint[] dataPoints = new DataPoint[10000];
+        long[] cpu = new long[dataPoints.length];
+        for (int i = 0; i < dataPoints.length; i++) {
+            cpu[i] = i < 3000 ? 100 + i % 7 : 0;
+            dataPoints[i] = createDataPoint(InternalPerformanceMeter.AFTER, 1000 + i % 13, i < 3000 ? cpu[i] : -1);
+        }
+        StatisticsAccumulator accumulator = new StatisticsAccumulator();
+        accumulator.accumulate(dataPoints);
+        RunningStatistics statistics = accumulator.get(CPU);
+        assertEquals(dataPoints.length, statistics.getCount());
+        assertEquals(mean(cpu), statistics.getMean(), 1e-9);
+        assertEquals(stddev(cpu), statistics.getStddev(), 1e-9);
+        assertEquals(0, statistics.getMin());
+        assertEquals(dataPoints.length, accumulator.get(ELAPSED).getCount());
+        assertEquals(dataPoints.length, accumulator.get(InternalDimensions.USED_JAVA_HEAP).getCount());
+
+        // the same values in two runs, one of them without CPU
+        DataPoint[] first = new DataPoint[3000];
+        DataPoint[] second = new DataPoint[dataPoints.length - first.length];
+        System.arraycopy(dataPoints, 0, first, 0, first.length);
+        System.arraycopy(dataPoints, first.length, second, 0, second.length);
+        RunningStatistics merged = StatisticsAccumulator.aggregate(new DataPoint[][] { second, first }).get(CPU);
+        assertEquals(dataPoints.length, merged.getCount());
+        assertEquals(mean(cpu), merged.getMean(), 1e-9);
+        assertEquals(stddev(cpu), merged.getStddev(), 1e-9);
+    }
+
+    @Test
+    public void testPooledAggregates() {
+        long[] run1 = { 1, 2, 3 };
+        long[] run2 = { 10, 20, 30, 40, 50 };
+        long[] all = { 1, 2, 3, 10, 20, 30, 40, 50 };
+        DataPoint[] dataPoints = new DataPoint[6];
+        dataPoints[0] = createAggregate(InternalPerformanceMeter.AVERAGE, Math.round(mean(run1)));
+        dataPoints[1] = createAggregate(InternalPerformanceMeter.STDEV, Double.doubleToLongBits(stddev(run1)));
+        dataPoints[2] = createAggregate(InternalPerformanceMeter.SIZE, run1.length);
+        dataPoints[3] = createAggregate(InternalPerformanceMeter.AVERAGE, Math.round(mean(run2)));
+        dataPoints[4] = createAggregate(InternalPerformanceMeter.STDEV, Double.doubleToLongBits(stddev(run2)));
+        dataPoints[5] = createAggregate(InternalPerformanceMeter.SIZE, run2.length);
+
+        StatisticsSession session = new StatisticsSession(dataPoints);
+        assertEquals(all.length, session.getCount(ELAPSED));
+        assertEquals(mean(all), session.getAverage(ELAPSED), 1e-9);
+        assertEquals(stddev(all), session.getStddev(ELAPSED), 1e-9);
+    }
+
+    @Test
+    public void testValidate() {
+        DataPoint[][] valid = {
+                createMeasurements(new long[] { 10, 12 }, new long[] { 8, 9 }),
+                { createDataPoint(InternalPerformanceMeter.AFTER, 30, 6) },
+                { createAggregate(InternalPerformanceMeter.AVERAGE, 100), createAggregate(InternalPerformanceMeter.SIZE, 4) } };
+        for (DataPoint[] dataPoints : valid) {
+            assertNull(StatisticsAccumulator.validate(dataPoints));
+            new StatisticsAccumulator().accumulate(dataPoints);
+        }
+
+        DataPoint[][] malformed = {
+                {},
+                { createDataPoint(InternalPerformanceMeter.BEFORE, 0, 0) },
+                // unpaired
+                { createDataPoint(InternalPerformanceMeter.BEFORE, 0, 0), createDataPoint(InternalPerformanceMeter.BEFORE, 5, 5),
+                        createDataPoint(InternalPerformanceMeter.AFTER, 10, 10), createDataPoint(InternalPerformanceMeter.AFTER, 15, 15) },
+                { createDataPoint(InternalPerformanceMeter.BEFORE, 0, 0), createDataPoint(InternalPerformanceMeter.AFTER, 10, 10),
+                        createDataPoint(2, 20, 20) },
+                { createDataPoint(InternalPerformanceMeter.BEFORE, 0, 0), createDataPoint(InternalPerformanceMeter.AFTER, 10, -1) },
+                { createAggregate(InternalPerformanceMeter.AVERAGE, 100), createAggregate(InternalPerformanceMeter.AFTER, 4) } };
+        for (DataPoint[] dataPoints : malformed) {
+            // accumulate fails on exactly the data points which are not valid
+            assertNotNull(StatisticsAccumulator.validate(dataPoints));
+            assertThrows(AssertionError.class, () -> new StatisticsAccumulator().accumulate(dataPoints));
+        }
+    }
+
+    @Test
+    public void testParallelAggregation() {
+        Random random = new Random(7);
+        DataPoint[][] runs = new DataPoint[20][];
+        long[] allElapsed = new long[20 * 3000];
+        RunningStatistics sequential = new RunningStatistics();
+        for (int r = 0; r < runs.length; r++) {
+            long[] elapsed = new long[3000];
+            long[] cpu = new long[3000];
+            for (int i = 0; i < elapsed.length; i++) {
+                elapsed[i] = 100 + random.nextInt(50) + r;
+                cpu[i] = elapsed[i] / 2;
+                allElapsed[r * 3000 + i] = elapsed[i];
+                sequential.add(elapsed[i]);
+            }
+            runs[r] = createMeasurements(elapsed, cpu);
+        }
+
+        StatisticsAccumulator parallel = StatisticsAccumulator.aggregate(runs);
+        RunningStatistics merged = parallel.get(ELAPSED);
+        assertEquals(allElapsed.length, merged.getCount());
+        assertEquals(sequential.getSum(), merged.getSum());
+        assertEquals(mean(allElapsed), merged.getMean(), 1e-9);
+        assertEquals(stddev(allElapsed), merged.getStddev(), 1e-9);
+        assertEquals(2, parallel.getDimensions().length);
+
+        // a single run large enough to be split
+        DataPoint[] oneRun = new DataPoint[2 * allElapsed.length];
+        for (int r = 0; r < runs.length; r++)
+            System.arraycopy(runs[r], 0, oneRun, r * runs[r].length, runs[r].length);
+        StatisticsAccumulator split = new StatisticsAccumulator();
+        split.accumulate(oneRun);
+        assertEquals(allElapsed.length, split.get(ELAPSED).getCount());
+        assertEquals(stddev(allElapsed), split.get(ELAPSED).getStddev(), 1e-9);
+    }
+
+    private static DataPoint[] createMeasurements(long[] elapsed, long[] cpu) {
+        DataPoint[] dataPoints = new DataPoint[2 * elapsed.length];
+        for (int i = 0; i < elapsed.length; i++) {
+            dataPoints[2 * i] = createDataPoint(InternalPerformanceMeter.BEFORE, 1000 * i, 500 * i);
+            dataPoints[2 * i + 1] = createDataPoint(InternalPerformanceMeter.AFTER, 1000 * i + elapsed[i], 500 * i + cpu[i]);
+        }
+        return dataPoints;
+    }
+
+    private static DataPoint createDataPoint(int step, long elapsed, long cpu) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(ELAPSED, new Scalar(ELAPSED, elapsed));
+        if (cpu >= 0)
+            scalars.put(CPU, new Scalar(CPU, cpu));
+        return new DataPoint(step, scalars);
+    }
+
+    private static DataPoint createAggregate(int step, long magnitude) {
+        Map<Dim, Scalar> scalars = new HashMap<>();
+        scalars.put(ELAPSED, new Scalar(ELAPSED, magnitude));
+        return new DataPoint(step, scalars);
+    }
+
+    private static double mean(long[] values) {
+        double sum = 0;
+        for (long value : values)
+            sum += value;
+        return sum / values.length;
+    }
+
+    private static double stddev(long[] values) {
+        double mean = mean(values);
+        double squares = 0;
+        for (long value : values)
+            squares += (value - mean) * (value - mean);
+        return Math.sqrt(squares / (values.length - 1));
+    }
+}
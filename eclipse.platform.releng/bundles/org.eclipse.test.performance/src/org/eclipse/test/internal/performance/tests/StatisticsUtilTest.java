@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.test.internal.performance.eval.StatisticsUtil;
+import org.junit.jupiter.api.Test;
+
+public class StatisticsUtilTest {
+
+    @Test
+    public void testStudentsT() {
+        // reference values of the two-tailed t-table
+        assertEquals(12.7062, StatisticsUtil.getStudentsT(1, StatisticsUtil.T95), 1e-4);
+        assertEquals(4.3027, StatisticsUtil.getStudentsT(2, StatisticsUtil.T95), 1e-4);
+        assertEquals(2.2281, StatisticsUtil.getStudentsT(10, StatisticsUtil.T95), 1e-4);
+        assertEquals(1.6602, StatisticsUtil.getStudentsT(100, StatisticsUtil.T90), 1e-4);
+        assertEquals(2.6259, StatisticsUtil.getStudentsT(100, StatisticsUtil.T99), 1e-4);
+        assertEquals(2.2757, StatisticsUtil.getStudentsT(100, StatisticsUtil.T97_5), 1e-4);
+        // large samples approach the normal distribution instead of being clamped at df 100
+        assertEquals(1.9600, StatisticsUtil.getStudentsT(100000, StatisticsUtil.T95), 1e-4);
+        assertEquals(3.2905, StatisticsUtil.getStudentsT(1e6, 0.999), 1e-4);
+        // non-integral degrees of freedom lie in between
+        double t = StatisticsUtil.getStudentsT(10.5, 0.95);
+        assertTrue(t < StatisticsUtil.getStudentsT(10, StatisticsUtil.T95) && t > StatisticsUtil.getStudentsT(11, StatisticsUtil.T95));
+        assertTrue(Double.isNaN(StatisticsUtil.getStudentsT(0, StatisticsUtil.T95)));
+    }
+
+    @Test
+    public void testDistribution() {
+        assertEquals(0.5, StatisticsUtil.studentTDistribution(0, 5), 1e-12);
+        assertEquals(0.975, StatisticsUtil.studentTDistribution(2.228138852, 10), 1e-9);
+        assertEquals(0.025, StatisticsUtil.studentTDistribution(-2.228138852, 10), 1e-9);
+        // df 1 is the Cauchy distribution
+        assertEquals(0.5 + Math.atan(3) / Math.PI, StatisticsUtil.studentTDistribution(3, 1), 1e-12);
+        // I_x(1, b) = 1 - (1 - x)^b
+        assertEquals(1 - Math.pow(0.7, 4), StatisticsUtil.regularizedIncompleteBeta(0.3, 1, 4), 1e-12);
+    }
+
+    @Test
+    public void testWelch() {
+        double[] values = { 20.0, 23.0 };
+        double[] stddevs = { 1.0, 4.0 };
+        long[] counts = { 10, 20 };
+        double v1 = 1.0 / 10;
+        double v2 = 16.0 / 20;
+        assertEquals(3 / Math.sqrt(v1 + v2), StatisticsUtil.welchTtest(values, stddevs, counts), 1e-12);
+        double df = (v1 + v2) * (v1 + v2) / (v1 * v1 / 9 + v2 * v2 / 19);
+        assertEquals(df, StatisticsUtil.welchDegreesOfFreedom(stddevs, counts), 1e-12);
+        double p = StatisticsUtil.welchPValue(values, stddevs, counts);
+        assertEquals(2 * (1 - StatisticsUtil.studentTDistribution(3 / Math.sqrt(v1 + v2), df)), p, 1e-12);
+        assertTrue(p < 0.01);
+
+        // equal variances and sizes: the same statistic as the pooled test
+        double[] equal = { 2.0, 2.0 };
+        long[] sizes = { 15, 15 };
+        assertEquals(StatisticsUtil.studentTtest(values, equal, sizes, StatisticsUtil.T95),
+                StatisticsUtil.welchTtest(values, equal, sizes), 1e-12);
+        assertEquals(28, StatisticsUtil.welchDegreesOfFreedom(equal, sizes), 1e-12);
+
+        assertEquals(-1, StatisticsUtil.welchTtest(values, stddevs, new long[] { 1, 20 }), 0);
+        assertTrue(Double.isNaN(StatisticsUtil.welchPValue(values, stddevs, new long[] { 1, 20 })));
+    }
+}
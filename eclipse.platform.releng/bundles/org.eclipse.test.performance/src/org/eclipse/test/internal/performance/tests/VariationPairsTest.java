@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.internal.performance.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.test.internal.performance.db.SQL;
+import org.eclipse.test.internal.performance.db.Variations;
+import org.junit.jupiter.api.Test;
+
+public class VariationPairsTest {
+
+    @Test
+    public void testHash() {
+        // the published FNV-1a test vectors, the hash is stored and must not change
+        assertEquals(0xcbf29ce484222325L, SQL.hash("")); //$NON-NLS-1$
+        assertEquals(0xaf63dc4c8601ec8cL, SQL.hash("a")); //$NON-NLS-1$
+        assertEquals(0x85944171f73967e8L, SQL.hash("foobar")); //$NON-NLS-1$
+
+        Variations v1 = new Variations("config=linux;build=I20260101"); //$NON-NLS-1$
+        Variations v2 = new Variations("config=linux;build=I20260102"); //$NON-NLS-1$
+        assertEquals(SQL.hash(v1.toExactMatchString()), SQL.hash(new Variations("config=linux;build=I20260101").toExactMatchString())); //$NON-NLS-1$
+        assertTrue(SQL.hash(v1.toExactMatchString()) != SQL.hash(v2.toExactMatchString()));
+    }
+
+    @Test
+    public void testParseQueryPattern() {
+        Variations variations = new Variations();
+        variations.put("build", "I%"); //$NON-NLS-1$ //$NON-NLS-2$
+        variations.put("config", "linux"); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals(variations, SQL.parseQueryPattern(variations.toQueryPattern()));
+        assertEquals(variations, SQL.parseQueryPattern("%|build=I%|%|config=linux|%")); //$NON-NLS-1$
+
+        // a value may contain '='
+        Variations jvm = SQL.parseQueryPattern("%|jvm=-Xmx=1g|%"); //$NON-NLS-1$
+        assertEquals("-Xmx=1g", jvm.getProperty("jvm")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals(0, SQL.parseQueryPattern("%").size()); //$NON-NLS-1$
+    }
+
+    @Test
+    public void testAppendPairFilter() {
+        Variations variations = new Variations();
+        variations.put("config", "linux"); //$NON-NLS-1$ //$NON-NLS-2$
+        variations.put("build", "I%"); //$NON-NLS-1$ //$NON-NLS-2$
+        StringBuilder sql = new StringBuilder("select VARIATION.KEYVALPAIRS from VARIATION where 1 = 1"); //$NON-NLS-1$
+        List<Object> parameters = new ArrayList<>();
+        parameters.add("first"); //$NON-NLS-1$
+        SQL.appendPairFilter(sql, "VARIATION.ID", variations, parameters); //$NON-NLS-1$
+
+        // one subselect per pair in the order of the keys, LIKE only for the value with '%'
+        assertEquals("select VARIATION.KEYVALPAIRS from VARIATION where 1 = 1" //$NON-NLS-1$
+                + " and VARIATION.ID in (select VARIATIONPAIR.VARIATION_ID from VARIATIONPAIR where VARIATIONPAIR.KEYNAME = ? and VARIATIONPAIR.VALUE like ?)" //$NON-NLS-1$
+                + " and VARIATION.ID in (select VARIATIONPAIR.VARIATION_ID from VARIATIONPAIR where VARIATIONPAIR.KEYNAME = ? and VARIATIONPAIR.VALUE = ?)", //$NON-NLS-1$
+                sql.toString());
+        assertEquals(Arrays.asList("first", "build", "I%", "config", "linux"), parameters); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+        // no pairs, no condition
+        sql.setLength(0);
+        SQL.appendPairFilter(sql, "SAMPLE.VARIATION_ID", new Variations(), parameters); //$NON-NLS-1$
+        assertEquals(0, sql.length());
+        assertEquals(5, parameters.size());
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Samantha Dawley and others.
+ * Copyright (c) 2022, 2026 Samantha Dawley and others.
  *
  * This program and the accompanying materials are made available under the terms of the Eclipse Public License 2.0 which
  * accompanies this distribution, and is available at https://www.eclipse.org/legal/epl-2.0/
@@ -16,16 +16,25 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.test.internal.performance.HostCalibration;
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.data.Dim;
 import org.eclipse.test.internal.performance.data.ResultsData;
+import org.eclipse.test.internal.performance.eval.BatchEvaluator;
+import org.eclipse.test.internal.performance.eval.BatchEvaluator.Verdict;
 
 /**
  * @since 3.19
@@ -35,6 +44,9 @@ public class BasicResultsTable implements IApplication{
     private static ArrayList<Path> inputFiles = new ArrayList<>();
     private static Path phpTemplateFile = null;
     private static String buildDirectory = "";
+    private static boolean normalize = HostCalibration.isNormalizing();
+    //the dimensions of the table columns, compared with the baseline as one batch
+    private static final Dim[] DIMENSIONS = {InternalDimensions.ELAPSED_PROCESS, InternalDimensions.CPU_TIME};
 
     //String formatting shorthand
     private static String EOL = System.lineSeparator();
@@ -121,7 +133,20 @@ public class BasicResultsTable implements IApplication{
             }
         }
 
-        createResultsTables(results, usedComponents, componentMap);
+        //judge all scenarios at once, so that the noise of thousands of comparisons doesn't show up as regressions
+        BatchEvaluator evaluator = new BatchEvaluator(DIMENSIONS);
+        evaluator.setNormalizing(normalize);
+        List<Verdict> verdicts = evaluator.evaluate(results);
+        Map<String, Verdict[]> scenarioVerdicts = new HashMap<>();
+        for (Verdict verdict : verdicts) {
+            Verdict[] row = scenarioVerdicts.computeIfAbsent(verdict.getScenarioId(), k -> new Verdict[DIMENSIONS.length]);
+            row[verdict.getDimension() == DIMENSIONS[0] ? 0 : 1] = verdict;
+        }
+        List<Verdict> regressions = BatchEvaluator.getRegressions(verdicts);
+        System.out.println("INFO: " + regressions.size() + " of " + verdicts.size() + " comparisons are significant regressions.");
+        createRegressionsFile(regressions);
+
+        createResultsTables(results, usedComponents, componentMap, scenarioVerdicts);
         createIndex(usedComponents);
 
         //copy basicPerformance.php from templatefiles
@@ -142,6 +167,20 @@ public class BasicResultsTable implements IApplication{
 
     }
 
+    /**
+     * Create BasicRegressions.csv file, the significant regressions with the most credible first
+     */
+    private static void createRegressionsFile(List<Verdict> regressions) {
+        File outputFile = new File(buildDirectory + "/BasicRegressions.csv");
+        try (Writer writer = Files.newBufferedWriter(outputFile.toPath(), StandardCharsets.UTF_8)) {
+            BatchEvaluator.writeCsv(writer, regressions);
+        }
+        catch (final IOException ex) {
+            System.err.println("ERROR: IOException writing: " + outputFile.getPath());
+            System.exit(1);
+        }
+    }
+
     /**
      * Create basicResultsIndex.html file
      */
@@ -176,7 +215,7 @@ public class BasicResultsTable implements IApplication{
     /**
      * Create *_BasicResults.html files
      */
-    private static void createResultsTables(ResultsData results, ArrayList<String> usedComponents, HashMap<String, ArrayList<String>> componentMap ) {
+    private static void createResultsTables(ResultsData results, ArrayList<String> usedComponents, HashMap<String, ArrayList<String>> componentMap, Map<String, Verdict[]> scenarioVerdicts) {
         //for checking if a test has a baseline to reference
         Set<String> baselineScenarios = results.getBaselineScenarios();
 
@@ -245,7 +284,7 @@ public class BasicResultsTable implements IApplication{
                     }
                 }
 
-                String scenarioRow = makeTableRow(scenarioClassName, currentData, baselineData);
+                String scenarioRow = makeTableRow(scenarioClassName, currentData, baselineData, scenarioVerdicts.get(scenario));
                 scenarioTable += scenarioRow;
             }
             scenarioTable += "</table>" + EOL;
@@ -254,7 +293,7 @@ public class BasicResultsTable implements IApplication{
             String componentTable = makeHeader(false);
             String componentRow = makeTableRow(new String[]{component, ""},
                 new Double[]{componentEPCurrent, componentCPUCurrent},
-                new Double[]{componentEPBaseline, componentCPUBaseline});
+                new Double[]{componentEPBaseline, componentCPUBaseline}, null);
             componentTable += componentRow + "</table>" + EOL;
 
             String classTable = makeHeader(false);
@@ -263,7 +302,7 @@ public class BasicResultsTable implements IApplication{
                 Double[] classData = classMap.get(className);
                 String classRow = makeTableRow(new String[]{className, ""},
                     new Double[]{classData[0], classData[1]},
-                    new Double[]{classData[2], classData[3]});
+                    new Double[]{classData[2], classData[3]}, null);
                 classTable += classRow;
             }
             classTable += "</table>" + EOL;
@@ -315,7 +354,10 @@ public class BasicResultsTable implements IApplication{
         return htmlString;
     }
 
-    private static String makeTableRow(String[] className, Double[] currentData, Double[] baselineData) {
+    /**
+     * With verdicts, only significant regressions are red; totals without verdicts are red whenever they got slower.
+     */
+    private static String makeTableRow(String[] className, Double[] currentData, Double[] baselineData, Verdict[] verdicts) {
         String elapsedCurrent = String.valueOf(currentData[0]);
         String cpuCurrent = String.valueOf(currentData[1]);
 
@@ -342,10 +384,10 @@ public class BasicResultsTable implements IApplication{
             elapsedPercent = String.format("%.2f", elapsedPercentValue) + "%";
             cpuPercent = String.format("%.2f", cpuPercentValue) + "%";
 
-            if (elapsedDifference < 0) {
+            if (verdicts != null ? verdicts[0] != null && verdicts[0].isRegression() : elapsedDifference < 0) {
                 elapsedColor = "D7191C";
             }
-            if (cpuDifference < 0) {
+            if (verdicts != null ? verdicts[1] != null && verdicts[1].isRegression() : cpuDifference < 0) {
                 cpuColor = "D7191C";
             }
         }
@@ -448,6 +490,11 @@ public class BasicResultsTable implements IApplication{
                 i++;
                 continue;
             }
+            if (arg.equals("-normalize")){
+                normalize = true;
+                i++;
+                continue;
+            }
             if (arg.equals("-inputFiles")){
                 for (int j=1; j < 5; j++) {
                     String inputFile = args[i+j];
@@ -481,7 +528,8 @@ public class BasicResultsTable implements IApplication{
             "-current: Build id for the current build.\n" +
             "-buildDirectory: Directory of performance.php file, usually /home/data/httpd/download.eclipse.org/eclipse/downloads/drops4/${BUILD_ID}/performance.\n" +
             "-phpFile: Location of the basicPerformance.php file, also known as template file.\n" +
-            "-inputFiles: List of the dat files from which to extract performance data (will grab the next 4 args as filenames).\n"
+            "-inputFiles: List of the dat files from which to extract performance data (will grab the next 4 args as filenames).\n" +
+            "-normalize: Compare the times normalized to the speed of the calibrated test machines.\n"
             );
         System.exit(1);
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2005 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,4 +81,80 @@ public interface Dimension extends Serializable {
      * count, not an average over the time interval. Currently this dimension is only available on Windows.
      */
     public Dimension COMITTED         = InternalDimensions.COMITTED;
+
+    // Dimensions collected from the Java virtual machine, available where the VM supports them:
+
+    /**
+     * The amount of CPU time used so far by the thread which takes the measurements. In contrast to CPU_TIME it is not influenced by
+     * other threads of the process, e.g. background jobs or the garbage collector.
+     *
+     * @since 3.21
+     */
+    public Dimension THREAD_CPU_TIME  = InternalDimensions.THREAD_CPU_TIME;
+
+    /**
+     * The number of bytes allocated on the heap by the thread which takes the measurements. Unlike USED_JAVA_HEAP it is not affected
+     * by garbage collections, so it is well suited to track allocation regressions.
+     *
+     * @since 3.21
+     */
+    public Dimension ALLOCATED_BYTES  = InternalDimensions.ALLOCATED_BYTES;
+
+    /**
+     * The number of garbage collections, summed over all garbage collectors of the VM.
+     *
+     * @since 3.21
+     */
+    public Dimension GC_COUNT         = InternalDimensions.GC_COUNT;
+
+    /**
+     * The approximate accumulated garbage collection time, summed over all garbage collectors of the VM.
+     *
+     * @since 3.21
+     */
+    public Dimension GC_TIME          = InternalDimensions.GC_TIME;
+
+    /**
+     * The number of classes loaded by the VM.
+     *
+     * @since 3.21
+     */
+    public Dimension CLASSES_LOADED   = InternalDimensions.CLASSES_LOADED;
+
+    /**
+     * The approximate accumulated time the VM spent in just-in-time compilation.
+     *
+     * @since 3.21
+     */
+    public Dimension JIT_TIME         = InternalDimensions.JIT_TIME;
+
+    // Dimensions of concurrent scenarios, measured by a ConcurrentPerformanceMeter:
+
+    /**
+     * The number of operations completed per second by all worker threads.
+     *
+     * @since 3.21
+     */
+    public Dimension THROUGHPUT       = InternalDimensions.THROUGHPUT;
+
+    /**
+     * The number of operations completed by all worker threads.
+     *
+     * @since 3.21
+     */
+    public Dimension OPERATION_COUNT  = InternalDimensions.OPERATION_COUNT;
+
+    /**
+     * The mean latency of an operation.
+     *
+     * @since 3.21
+     */
+    public Dimension MEAN_LATENCY     = InternalDimensions.MEAN_LATENCY;
+
+    /**
+     * The maximum latency of an operation.
+     *
+     * @since 3.21
+     */
+    public Dimension MAX_LATENCY      = InternalDimensions.MAX_LATENCY;
 }
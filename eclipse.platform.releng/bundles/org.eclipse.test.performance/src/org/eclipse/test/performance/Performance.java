@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import org.eclipse.test.internal.performance.eval.AbsoluteBandChecker;
 import org.eclipse.test.internal.performance.eval.AssertChecker;
 import org.eclipse.test.internal.performance.eval.Evaluator;
 import org.eclipse.test.internal.performance.eval.IEvaluator;
+import org.eclipse.test.internal.performance.eval.NoiseBandChecker;
 import org.eclipse.test.internal.performance.eval.RelativeBandChecker;
 import org.osgi.framework.Bundle;
 
@@ -87,8 +88,9 @@ public class Performance {
     public void assertPerformance(PerformanceMeter performanceMeter) {
         if (fDefaultEvaluator == null) {
             fDefaultEvaluator = new Evaluator();
-            fDefaultEvaluator.setAssertCheckers(new AssertChecker[] { new RelativeBandChecker(InternalDimensions.ELAPSED_PROCESS,
-                    0.0f, 1.10f),
+            // the noise learned from past builds, or 10% until enough builds were learned
+            fDefaultEvaluator.setAssertCheckers(new AssertChecker[] { new NoiseBandChecker(InternalDimensions.ELAPSED_PROCESS,
+                    NoiseBandChecker.DEFAULT_DEVIATIONS, 0.0f, 1.10f),
             // new RelativeBandChecker(InternalDimensions.CPU_TIME, 0.0f, 1.10f),
             // new RelativeBandChecker(InternalDimensions.WORKING_SET, 0.0f, 3.00f),
             // new RelativeBandChecker(InternalDimensions.USED_JAVA_HEAP, 0.0f, 2.00f),
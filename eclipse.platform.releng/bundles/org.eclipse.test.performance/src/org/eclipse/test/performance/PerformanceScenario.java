@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.performance;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Marks a JUnit 5 test method as a performance scenario. The body of the method is one iteration of the scenario: the
+ * {@link PerformanceScenarioExtension} runs it repeatedly, first unmeasured to warm up the VM until the iteration times are steady,
+ * then measured until the confidence in the results is high enough. Finally the measurements are committed.
+ * <p>
+ * A {@link PerformanceMeter} parameter receives the meter of the scenario, e.g. to tag it as summary. The meter is started and
+ * stopped by the extension and must not be started, stopped or committed by the test.
+ * </p>
+ * <p>
+ * Here is an example:
+ * </p>
+ *
+ * <blockquote>
+ *
+ * <pre>
+ * public class MyPerformanceTest {
+ *
+ *     &#64;PerformanceScenario(warmupIterations = 10, maxIterations = 200)
+ *     public void myOperation(PerformanceMeter meter) {
+ *         // my operation
+ *     }
+ * }
+ * </pre>
+ *
+ * </blockquote>
+ *
+ * @since 3.21
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Test
+@ExtendWith(PerformanceScenarioExtension.class)
+public @interface PerformanceScenario {
+
+    /**
+     * The minimum number of unmeasured warm-up iterations.
+     *
+     * @return the minimum number of warm-up iterations
+     */
+    int warmupIterations() default 5;
+
+    /**
+     * The maximum number of warm-up iterations. If the iteration times are not steady by then, the measurement starts anyway.
+     *
+     * @return the maximum number of warm-up iterations
+     */
+    int maxWarmupIterations() default 50;
+
+    /**
+     * The number of most recent warm-up iterations whose coefficient of variation decides about the steady state.
+     *
+     * @return the size of the steady state window
+     */
+    int steadyStateWindow() default 5;
+
+    /**
+     * The coefficient of variation (standard deviation divided by mean) of the iteration times in the steady state window below
+     * which the scenario is considered warmed up.
+     *
+     * @return the maximum coefficient of variation
+     */
+    double maxCoefficientOfVariation() default 0.1;
+
+    /**
+     * The minimum number of measured iterations.
+     *
+     * @return the minimum number of measured iterations
+     */
+    int minIterations() default 5;
+
+    /**
+     * The maximum number of measured iterations, even if the measurements are not yet precise enough.
+     *
+     * @return the maximum number of measured iterations
+     */
+    int maxIterations() default 50;
+
+    /**
+     * The effect, relative to the mean iteration time, that the measurements must be able to detect. The measurement stops as soon
+     * as enough iterations were run for that.
+     *
+     * @return the relative effect size
+     */
+    double relativeEffect() default 0.05;
+
+    /**
+     * Whether {@link Performance#assertPerformance(PerformanceMeter)} is called after committing the measurements.
+     *
+     * @return <code>true</code> to assert the performance
+     */
+    boolean assertPerformance() default false;
+}
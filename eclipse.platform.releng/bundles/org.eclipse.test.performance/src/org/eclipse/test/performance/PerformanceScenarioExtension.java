@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.test.performance;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.eclipse.test.internal.performance.AdaptiveIterationPolicy;
+import org.eclipse.test.internal.performance.ForkedPerformanceMeter;
+import org.eclipse.test.internal.performance.ForkedScenarioExecutor;
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+/**
+ * The JUnit 5 extension behind {@link PerformanceScenario}. It creates the {@link PerformanceMeter} of the scenario, injects it into
+ * the test method, runs the warm-up and measured iterations according to an {@link AdaptiveIterationPolicy}, and commits and
+ * disposes the meter.
+ * <p>
+ * If the meter is a {@link ForkedPerformanceMeter}, i.e. the forked mode is selected through the performance meter factory or the
+ * system property <code>eclipse.perf.fork</code>, the iterations run in a forked VM instead, see {@link ForkedScenarioExecutor}.
+ * </p>
+ *
+ * @since 3.21
+ */
+public class PerformanceScenarioExtension implements ParameterResolver, InvocationInterceptor, AfterEachCallback {
+
+    private static final Namespace NAMESPACE = Namespace.create(PerformanceScenarioExtension.class);
+    private static final String    METER_KEY = "meter"; //$NON-NLS-1$
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
+            throws ParameterResolutionException {
+        return parameterContext.getParameter().getType() == PerformanceMeter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext)
+            throws ParameterResolutionException {
+        return getPerformanceMeter(extensionContext);
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+        Method method = invocationContext.getExecutable();
+        PerformanceScenario scenario = method.getAnnotation(PerformanceScenario.class);
+        if (scenario == null) {
+            invocation.proceed();
+            return;
+        }
+
+        PerformanceMeter meter = getPerformanceMeter(extensionContext);
+        if (meter instanceof ForkedPerformanceMeter) {
+            ForkedPerformanceMeter forkedMeter = (ForkedPerformanceMeter) meter;
+            invocation.skip();
+            forkedMeter.setSample(ForkedScenarioExecutor.getDefault().run(method, forkedMeter.getScenarioName()));
+        } else {
+            AdaptiveIterationPolicy policy = new AdaptiveIterationPolicy(scenario.warmupIterations(),
+                    scenario.maxWarmupIterations(), scenario.steadyStateWindow(), scenario.maxCoefficientOfVariation(),
+                    scenario.minIterations(), scenario.maxIterations(), scenario.relativeEffect());
+            Object target = invocationContext.getTarget().orElse(null);
+            Object[] arguments = invocationContext.getArguments().toArray();
+
+            // the iterations are driven here, the test method is invoked reflectively
+            invocation.skip();
+            method.setAccessible(true);
+            policy.run(meter, () -> invoke(method, target, arguments));
+            if (!policy.reachedSteadyState() && scenario.maxWarmupIterations() > 0)
+                PerformanceTestPlugin.logWarning("Scenario '" + extensionContext.getDisplayName() //$NON-NLS-1$
+                        + "' did not reach a steady state after " + policy.getWarmupCount() + " warm-up iterations"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        meter.commit();
+        if (scenario.assertPerformance())
+            Performance.getDefault().assertPerformance(meter);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) throws Exception {
+        PerformanceMeter meter = context.getStore(NAMESPACE).remove(METER_KEY, PerformanceMeter.class);
+        if (meter != null)
+            meter.dispose();
+    }
+
+    private static PerformanceMeter getPerformanceMeter(ExtensionContext context) {
+        return context.getStore(NAMESPACE).getOrComputeIfAbsent(METER_KEY, key -> {
+            Performance performance = Performance.getDefault();
+            String scenarioId = performance.getDefaultScenarioId(context.getRequiredTestClass(),
+                    context.getRequiredTestMethod().getName());
+            if (ForkedScenarioExecutor.isForkRequested())
+                return new ForkedPerformanceMeter(scenarioId);
+            return performance.createPerformanceMeter(scenarioId);
+        }, PerformanceMeter.class);
+    }
+
+    private static void invoke(Method method, Object target, Object[] arguments) throws Throwable {
+        try {
+            method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}